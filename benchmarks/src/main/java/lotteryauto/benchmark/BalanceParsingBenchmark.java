@@ -0,0 +1,46 @@
+package lotteryauto.benchmark;
+
+import lotteryauto.service.PurchasePageParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예치금 문자열 해석 (숫자 추출 → Long.parseLong → 범위 확인)
+ * legacy는 LottoService.getBalanceFromMyPage가 정규식으로 숫자를 추출하던 방식입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BalanceParsingBenchmark {
+
+    @Param({"12,000", "1,234,567원", "예치금 9,999,999원 (출금가능 5,000원)", "99999999999"})
+    public String raw;
+
+    @Benchmark
+    public int parseBalance() {
+        return PurchasePageParser.parseBalance(raw);
+    }
+
+    @Benchmark
+    public int legacyRegexParse() {
+        String cleaned = raw.replaceAll("[^0-9]", "");
+        if (cleaned.isEmpty()) {
+            return 0;
+        }
+        long balance = Long.parseLong(cleaned);
+        return balance > PurchasePageParser.MAX_REASONABLE_BALANCE ? 0 : (int) balance;
+    }
+}
@@ -0,0 +1,79 @@
+package lotteryauto.benchmark;
+
+import lotteryauto.service.PurchasePageParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * headless Chrome으로 스텁 페이지를 열어 LottoService와 같은 스크립트를 실행하는 단계 측정
+ * 페이지 이동과 executeScript 왕복이 포함되므로 Chrome이 설치된 환경에서만 실행됩니다.
+ * (제외하려면 JMH 실행 시 -e BrowserPhaseBenchmark)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BrowserPhaseBenchmark {
+
+    /** LottoService.getBalanceFromMyPage의 DOM 조회 스크립트 */
+    private static final String BALANCE_SCRIPT =
+            "var el = document.getElementById('totalAmt') || document.getElementById('divCrntEntrsAmt');" +
+            "return el ? (el.textContent || el.innerText).replace(/[^0-9]/g, '') : '0';";
+
+    private static final String INNER_TEXT_SCRIPT = "return document.body.innerText || document.body.textContent;";
+
+    private StubPageServer server;
+    private ChromeDriver driver;
+    private String myPage;
+    private String purchaseSuccess;
+
+    @Setup
+    public void setUp() {
+        server = StubPageServer.start();
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--headless=new", "--no-sandbox", "--disable-dev-shm-usage", "--disable-gpu");
+        driver = new ChromeDriver(options);
+        myPage = server.url("mypage.html");
+        purchaseSuccess = server.url("purchase-success.html");
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (driver != null) {
+            driver.quit();
+        }
+        server.close();
+    }
+
+    /** 마이페이지 이동 → 예치금 스크립트 → 해석 */
+    @Benchmark
+    public int balancePhase() {
+        driver.get(myPage);
+        Object value = ((JavascriptExecutor) driver).executeScript(BALANCE_SCRIPT);
+        return PurchasePageParser.parseBalance(value != null ? value.toString() : "0");
+    }
+
+    /** 구매 결과 화면 이동 → innerText 조회 → 성공 문구 확인 */
+    @Benchmark
+    public boolean purchaseResultPhase() {
+        driver.get(purchaseSuccess);
+        String pageText = (String) ((JavascriptExecutor) driver).executeScript(INNER_TEXT_SCRIPT);
+        return PurchasePageParser.containsSuccessMessage(pageText);
+    }
+}
@@ -0,0 +1,63 @@
+package lotteryauto.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 벤치마크용 페이지 텍스트 생성
+ * 구매 페이지 innerText는 당첨 번호 이력, 안내 문구 등으로 수백 KB까지 커지므로
+ * 실제와 비슷한 줄을 반복해 원하는 크기로 만들고, 찾을 문구는 끝부분(최악의 경우)에 둡니다.
+ */
+final class PageTextFixtures {
+
+    /** 실패 키워드("한도", "불가" 등)가 들어 있지 않은 일반 화면 문구 */
+    private static final String[] FILLER_LINES = {
+            "1150회 당첨번호 03 11 19 27 35 42 + 07 (2024.12.14 추첨)",
+            "1등 당첨금 2,145,678,900원 (12명) · 2등 56,789,000원 (78명)",
+            "로또6/45 인터넷 구매는 1회 5천원까지 가능합니다.",
+            "선택번호 확인 A 자동 01 08 14 22 30 44",
+            "예치금 충전 후 구매하실 수 있습니다. 충전 내역은 마이페이지에서 확인하세요.",
+            "고객센터 1588-6450 (평일 09:00~18:00)"
+    };
+
+    private PageTextFixtures() {
+    }
+
+    /**
+     * 일반 문구로 채운 뒤 마지막 줄에 message를 붙인 innerText
+     *
+     * @param sizeBytes 대략적인 텍스트 크기 (문자 수)
+     * @param message   마지막에 붙일 문구 (null이면 붙이지 않음)
+     */
+    static String innerText(int sizeBytes, String message) {
+        StringBuilder text = new StringBuilder(sizeBytes + 128);
+        int line = 0;
+        while (text.length() < sizeBytes) {
+            text.append(FILLER_LINES[line++ % FILLER_LINES.length]).append('\n');
+        }
+        if (message != null) {
+            text.append("  ").append(message).append("  \n");
+        }
+        return text.toString();
+    }
+
+    /**
+     * 클래스패스의 스텁 페이지 읽기
+     */
+    static byte[] stubPage(String name) {
+        try (InputStream in = PageTextFixtures.class.getResourceAsStream("/stub/" + name)) {
+            if (in == null) {
+                throw new IllegalArgumentException("스텁 페이지가 없습니다: " + name);
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static String stubPageText(String name) {
+        return new String(stubPage(name), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,91 @@
+package lotteryauto.benchmark;
+
+import lotteryauto.service.PurchasePageParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.OptionalInt;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 구매 결과 화면 innerText 검사
+ * checkPurchaseResult(성공 문구), getPurchaseFailureReason(실패 키워드 줄), verifySelectedGameCount("N게임")가
+ * 큰 텍스트에서 얼마나 걸리는지 측정합니다. legacy는 줄 배열 분할/호출마다 정규식 컴파일하던 이전 방식입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageTextScanBenchmark {
+
+    @Param({"4096", "65536", "524288"})
+    public int textSize;
+
+    private String successText;
+    private String failureText;
+    private String neutralText;
+    private String gameCountText;
+
+    @Setup
+    public void setUp() {
+        successText = PageTextFixtures.innerText(textSize, "구매가 완료되었습니다.");
+        failureText = PageTextFixtures.innerText(textSize, "구매한도 5천원을 초과하여 구매하실 수 없습니다.");
+        neutralText = PageTextFixtures.innerText(textSize, null);
+        gameCountText = PageTextFixtures.innerText(textSize, "총 5게임 5,000원");
+    }
+
+    @Benchmark
+    public boolean successMessage() {
+        return PurchasePageParser.containsSuccessMessage(successText);
+    }
+
+    @Benchmark
+    public boolean successMessageMiss() {
+        return PurchasePageParser.containsSuccessMessage(neutralText);
+    }
+
+    @Benchmark
+    public String failureLine() {
+        return PurchasePageParser.findFailureLine(failureText);
+    }
+
+    @Benchmark
+    public String failureLineMiss() {
+        return PurchasePageParser.findFailureLine(neutralText);
+    }
+
+    @Benchmark
+    public String legacyFailureLine() {
+        for (String line : failureText.split("\n")) {
+            if (line.contains("실패") || line.contains("오류") || line.contains("에러") ||
+                    line.contains("불가") || line.contains("부족") || line.contains("한도")) {
+                return line.trim();
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public OptionalInt gameCount() {
+        return PurchasePageParser.parseGameCount(gameCountText);
+    }
+
+    @Benchmark
+    public int legacyGameCount() {
+        Matcher matcher = Pattern.compile("(\\d+)게임").matcher(gameCountText);
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : -1;
+    }
+}
@@ -0,0 +1,105 @@
+package lotteryauto.benchmark;
+
+import lotteryauto.ticket.Rank;
+import lotteryauto.ticket.RankEvaluator;
+import lotteryauto.ticket.Ticket;
+import lotteryauto.ticket.WinningNumbers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 구매한 게임 100만 개를 한 회차 당첨 번호로 채점
+ * bitmask는 RankEvaluator.tally(비트마스크 AND + popcount + 표 조회), legacy는 게임마다 번호 배열 6개를
+ * 당첨 번호 배열과 이중 루프로 비교하던 방식입니다. 결과는 게임 하나당 시간입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RankEvaluationBenchmark {
+
+    private static final int TICKETS = 1_000_000;
+
+    private final long[] counts = new long[Rank.values().length];
+    private long[] masks;
+    private int[][] numbers;
+    private WinningNumbers draw;
+    private int[] drawNumbers;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(645);
+        masks = new long[TICKETS];
+        numbers = new int[TICKETS][];
+        for (int i = 0; i < TICKETS; i++) {
+            masks[i] = randomTicket(random);
+            numbers[i] = Ticket.numbers(masks[i]);
+        }
+        long drawMask = randomTicket(random);
+        int bonus;
+        do {
+            bonus = random.nextInt(Ticket.MIN_NUMBER, Ticket.MAX_NUMBER + 1);
+        } while ((drawMask & Ticket.bit(bonus)) != 0);
+        draw = new WinningNumbers(1151, drawMask, bonus);
+        drawNumbers = Ticket.numbers(drawMask);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TICKETS)
+    public long[] bitmaskTally() {
+        Arrays.fill(counts, 0);
+        RankEvaluator.tally(masks, 0, TICKETS, draw, counts);
+        return counts;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TICKETS)
+    public long[] legacyArrayTally() {
+        Arrays.fill(counts, 0);
+        int bonus = draw.bonus();
+        for (int[] ticket : numbers) {
+            int matches = 0;
+            boolean bonusMatched = false;
+            for (int number : ticket) {
+                for (int winning : drawNumbers) {
+                    if (number == winning) {
+                        matches++;
+                    }
+                }
+                bonusMatched |= number == bonus;
+            }
+            Rank rank = switch (matches) {
+                case 6 -> Rank.FIRST;
+                case 5 -> bonusMatched ? Rank.SECOND : Rank.THIRD;
+                case 4 -> Rank.FOURTH;
+                case 3 -> Rank.FIFTH;
+                default -> Rank.NONE;
+            };
+            counts[rank.ordinal()]++;
+        }
+        return counts;
+    }
+
+    private static long randomTicket(SplittableRandom random) {
+        long mask = 0;
+        while (Long.bitCount(mask) < Ticket.SIZE) {
+            mask |= Ticket.bit(random.nextInt(Ticket.MIN_NUMBER, Ticket.MAX_NUMBER + 1));
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,92 @@
+package lotteryauto.benchmark;
+
+import lotteryauto.service.PurchasePageParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 스텁 페이지를 대상으로 한 단계별 왕복 측정 (브라우저 없음)
+ * 페이지 요청 → 응답 수신 → 텍스트 해석까지를 한 단계로 보고, 해석 비용이 왕복 시간에서 차지하는 비중을 확인합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StubPagePhaseBenchmark {
+
+    private StubPageServer server;
+    private HttpClient client;
+    private URI myPage;
+    private URI purchaseSuccess;
+    private URI purchaseLimit;
+
+    @Setup
+    public void setUp() {
+        server = StubPageServer.start();
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        myPage = URI.create(server.url("mypage.html"));
+        purchaseSuccess = URI.create(server.url("purchase-success.html"));
+        purchaseLimit = URI.create(server.url("purchase-limit.html"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+        server.close();
+    }
+
+    /** 마이페이지 요청 → totalAmt 값 추출 → 예치금 해석 */
+    @Benchmark
+    public int balancePhase() throws IOException, InterruptedException {
+        String html = get(myPage);
+        return PurchasePageParser.parseBalance(elementText(html, "totalAmt"));
+    }
+
+    /** 구매 결과 화면 요청 → 성공 문구 확인 */
+    @Benchmark
+    public boolean purchaseResultPhase() throws IOException, InterruptedException {
+        return PurchasePageParser.containsSuccessMessage(get(purchaseSuccess));
+    }
+
+    /** 구매 한도 화면 요청 → 실패 사유 줄 추출 */
+    @Benchmark
+    public String failureReasonPhase() throws IOException, InterruptedException {
+        return PurchasePageParser.findFailureLine(get(purchaseLimit));
+    }
+
+    private String get(URI uri) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+    }
+
+    /**
+     * id="..." 요소의 텍스트 (스텁 페이지 구조에 맞춘 단순 추출)
+     */
+    private String elementText(String html, String id) {
+        int idIndex = html.indexOf("id=\"" + id + "\"");
+        if (idIndex < 0) {
+            return "";
+        }
+        int start = html.indexOf('>', idIndex) + 1;
+        int end = html.indexOf('<', start);
+        return start > 0 && end > start ? html.substring(start, end) : "";
+    }
+}
@@ -0,0 +1,64 @@
+package lotteryauto.benchmark;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 클래스패스의 스텁 페이지(/stub/*)를 제공하는 로컬 HTTP 서버
+ * 실제 사이트 없이 왕복 시간이 포함된 단계(페이지 요청 → 텍스트 해석)를 측정할 때 사용합니다.
+ */
+final class StubPageServer implements AutoCloseable {
+
+    /** 요청마다 jar를 읽지 않도록 한 번 읽은 페이지는 메모리에 보관 */
+    private static final Map<String, byte[]> PAGES = new ConcurrentHashMap<>();
+
+    private final HttpServer server;
+
+    private StubPageServer(HttpServer server) {
+        this.server = server;
+    }
+
+    static StubPageServer start() {
+        // 헤더와 본문이 따로 전송될 때 Nagle 지연(약 40ms)이 측정값에 섞이지 않도록 함
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+            server.createContext("/stub/", exchange -> {
+                String name = exchange.getRequestURI().getPath().substring("/stub/".length());
+                byte[] body;
+                try {
+                    body = PAGES.computeIfAbsent(name, PageTextFixtures::stubPage);
+                } catch (IllegalArgumentException e) {
+                    exchange.sendResponseHeaders(404, -1);
+                    exchange.close();
+                    return;
+                }
+                exchange.getResponseHeaders().set("Content-Type", "text/html; charset=UTF-8");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            server.start();
+            return new StubPageServer(server);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    String url(String page) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/stub/" + page;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
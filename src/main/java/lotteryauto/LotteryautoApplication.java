@@ -3,27 +3,52 @@ package lotteryauto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lotteryauto.config.LotteryConfig;
-import lotteryauto.service.LottoService;
+import lotteryauto.draw.WinningCheck;
+import lotteryauto.metrics.MetricsSnapshotWriter;
+import lotteryauto.schedule.LaunchDecision;
+import lotteryauto.schedule.LaunchScheduler;
+import lotteryauto.schedule.PurchaseDaemon;
+import lotteryauto.schedule.RunHistory;
+import lotteryauto.service.MultiAccountPurchaseRunner;
+import lotteryauto.service.PurchaseResult;
 import lotteryauto.service.TelegramNotificationService;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
+import java.time.Instant;
+import java.util.List;
+
 /**
  * 로또 자동 구매 시스템 메인 애플리케이션
  * GitHub Actions에서 실행되어 자동으로 로또를 구매합니다.
+ * LOTTO_MODE=daemon이면 종료하지 않고 예약된 시각마다 구매합니다.
  */
 @Slf4j
 @SpringBootApplication
 @RequiredArgsConstructor
 public class LotteryautoApplication implements CommandLineRunner {
 
-	private final LottoService lottoService;
+	/** LOTTO_MODE=check에서 이번 예약 실행을 건너뛸 때의 종료 코드 (구매하면 0) */
+	public static final int EXIT_SKIP = 3;
+
+	private final MultiAccountPurchaseRunner multiAccountPurchaseRunner;
 	private final TelegramNotificationService telegramNotificationService;
 	private final LotteryConfig lotteryConfig;
+	private final MetricsSnapshotWriter metricsSnapshotWriter;
+	private final LaunchScheduler launchScheduler;
+	private final RunHistory runHistory;
+	private final PurchaseDaemon purchaseDaemon;
+	private final WinningCheck winningCheck;
 
 	public static void main(String[] args) {
-		SpringApplication.run(LotteryautoApplication.class, args);
+		SpringApplication application = new SpringApplication(LotteryautoApplication.class);
+		// 1회 실행에는 스크랩할 시점이 없으므로 웹 서버(/actuator)는 상시 실행 모드에서만 띄움
+		if (!LotteryConfig.MODE_DAEMON.equalsIgnoreCase(System.getenv().getOrDefault("LOTTO_MODE", "").trim())) {
+			application.setWebApplicationType(WebApplicationType.NONE);
+		}
+		application.run(args);
 	}
 
 	@Override
@@ -33,49 +58,58 @@ public class LotteryautoApplication implements CommandLineRunner {
 		log.info("========================================");
 
 		try {
+			// 판단 모드: 브라우저 설치와 빌드 전에 이번 예약 실행에서 구매할지만 종료 코드로 알림 (계정 정보 불필요)
+			if (lotteryConfig.isCheckMode()) {
+				LaunchDecision decision = launchScheduler.decide(Instant.now());
+				log.info("이번 예약 실행: {} ({})", decision.launch() ? "구매" : "건너뜀", decision.reason());
+				System.exit(decision.launch() ? 0 : EXIT_SKIP);
+				return;
+			}
+
 			// 환경 변수 유효성 검증
 			if (!lotteryConfig.isValid()) {
 				log.error("환경 변수가 올바르게 설정되지 않았습니다.");
-				log.error("필수 환경 변수: LOTTO_ID (또는 LOTTERY_USERNAME), LOTTO_PW (또는 LOTTERY_PASSWORD), TELEGRAM_TOKEN (또는 TELEGRAM_BOT_TOKEN), TELEGRAM_CHAT_ID");
+				log.error("필수 환경 변수: LOTTO_ID (또는 LOTTERY_USERNAME), LOTTO_PW (또는 LOTTERY_PASSWORD) 또는 LOTTO_ACCOUNTS, TELEGRAM_TOKEN (또는 TELEGRAM_BOT_TOKEN), TELEGRAM_CHAT_ID");
 				System.exit(1);
 				return;
 			}
 
-			// 1. 로그인
-			log.info("[1/3] 로그인 프로세스 시작...");
-			boolean loginSuccess = lottoService.login();
-			if (!loginSuccess) {
-				log.error("로그인 실패로 프로그램을 종료합니다.");
-				System.exit(1);
+			// 상시 실행 모드: 예약 스레드와 웹 서버가 프로세스를 유지하고 구매 시각마다 미리 로그인 후 구매
+			if (lotteryConfig.isDaemonMode()) {
+				purchaseDaemon.start();
+				syncDraws();
 				return;
 			}
-			log.info("[1/3] 로그인 완료");
 
-			// 2. 예치금 확인 및 구매 페이지 진입
-			log.info("[2/3] 예치금 확인 및 구매 페이지 진입...");
-			boolean navigationSuccess = lottoService.checkBalanceAndNavigateToPurchase();
-			if (!navigationSuccess) {
-				log.error("구매 페이지 진입 실패로 프로그램을 종료합니다.");
-				// checkBalanceAndNavigateToPurchase 내부에서 잔액 부족 시 이미 System.exit(1) 호출됨
-				System.exit(1);
+			// 실행 시간대가 설정되어 있으면 기록상 가장 빠른 구간에서만 구매
+			Instant startedAt = Instant.now();
+			LaunchDecision decision = launchScheduler.decide(startedAt);
+			if (!decision.launch()) {
+				log.info("이번 예약 실행은 건너뜁니다: {}", decision.reason());
+				System.exit(0);
 				return;
 			}
-			log.info("[2/3] 구매 페이지 진입 완료");
+			log.info("구매 시작: {}", decision.reason());
+
+			// 계정별 로그인 → 예치금 확인 → 구매 (여러 계정은 동시에 실행)
+			List<PurchaseResult> results = multiAccountPurchaseRunner.runAll(decision.accounts());
+			// 다음 실행 시각 선택에 쓰도록 대기열 대기와 단계별 소요 시간을 기록
+			runHistory.record(startedAt, results);
+			// 스크랩할 시점이 없는 1회 실행이므로 종료 전에 단계별 지표를 파일로 남김
+			metricsSnapshotWriter.write();
+			// 구매가 끝난 뒤에 새 회차의 추첨 결과만 내려받고 지난 구매의 당첨 확인
+			syncDraws();
+			boolean allAcceptable = results.stream().allMatch(PurchaseResult::isAcceptable);
 
-			// 3. 로또 5게임(5,000원) 구매
-			log.info("[3/3] 로또 5게임(5,000원) 구매 시작...");
-			boolean purchaseSuccess = lottoService.purchaseLotto();
-			if (purchaseSuccess) {
-				log.info("[3/3] 로또 구매 완료!");
+			if (allAcceptable) {
 				log.info("========================================");
 				log.info("모든 프로세스가 성공적으로 완료되었습니다.");
 				log.info("========================================");
 				// 작업 완료 후 프로세스 강제 종료 (GitHub Actions가 즉시 완료되도록 함)
 				System.exit(0);
 			} else {
-				log.error("[3/3] 로또 구매 실패");
 				log.error("========================================");
-				log.error("구매 프로세스가 실패했습니다.");
+				log.error("구매 프로세스가 실패한 계정이 있습니다.");
 				log.error("========================================");
 				System.exit(1);
 			}
@@ -85,7 +119,14 @@ public class LotteryautoApplication implements CommandLineRunner {
 			log.error("치명적 오류 발생: {}", e.getMessage(), e);
 			log.error("========================================");
 			telegramNotificationService.notifyError("시스템 오류가 발생했습니다: " + e.getMessage(), e);
+			metricsSnapshotWriter.write();
 			System.exit(1);
 		}
 	}
+
+	private void syncDraws() {
+		if (lotteryConfig.isDrawSync()) {
+			winningCheck.syncAndCheck();
+		}
+	}
 }
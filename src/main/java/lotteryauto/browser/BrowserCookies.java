@@ -0,0 +1,108 @@
+package lotteryauto.browser;
+
+import lotteryauto.http.StoredCookie;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.ChromiumDriver;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 브라우저 쿠키와 저장 형식(StoredCookie) 사이의 변환
+ * Chromium에서는 CDP로 모든 도메인의 쿠키를 한 번에 읽고 쓰므로 페이지 이동이 필요 없습니다.
+ */
+public final class BrowserCookies {
+
+    private BrowserCookies() {
+    }
+
+    /**
+     * 브라우저의 모든 쿠키 내보내기
+     */
+    public static List<StoredCookie> export(WebDriver driver) {
+        List<StoredCookie> cookies = new ArrayList<>();
+        if (driver instanceof ChromiumDriver chromium) {
+            Map<String, Object> result = chromium.executeCdpCommand("Network.getAllCookies", Map.of());
+            if (result.get("cookies") instanceof List<?> items) {
+                for (Object item : items) {
+                    if (item instanceof Map<?, ?> map) {
+                        cookies.add(fromCdp(map));
+                    }
+                }
+            }
+            return cookies;
+        }
+
+        // CDP를 쓸 수 없으면 현재 도메인 쿠키만 내보냄
+        for (Cookie cookie : driver.manage().getCookies()) {
+            String domain = cookie.getDomain() == null ? "" : cookie.getDomain();
+            long expires = cookie.getExpiry() == null ? -1 : cookie.getExpiry().toInstant().getEpochSecond();
+            cookies.add(new StoredCookie(cookie.getName(), cookie.getValue(), stripLeadingDot(domain),
+                    cookie.getPath() == null ? "/" : cookie.getPath(), expires, cookie.isSecure(),
+                    !domain.startsWith(".")));
+        }
+        return cookies;
+    }
+
+    /**
+     * 저장된 쿠키를 브라우저에 복원
+     *
+     * @return 복원 성공 여부 (CDP를 쓸 수 없으면 false)
+     */
+    public static boolean restore(WebDriver driver, List<StoredCookie> cookies) {
+        if (!(driver instanceof ChromiumDriver chromium)) {
+            return false;
+        }
+        for (StoredCookie cookie : cookies) {
+            Map<String, Object> params = new HashMap<>();
+            params.put("name", cookie.name());
+            params.put("value", cookie.value());
+            params.put("path", cookie.path());
+            params.put("secure", cookie.secure());
+            if (cookie.hostOnly()) {
+                // url만 지정하면 Domain 속성 없는(호스트 전용) 쿠키로 설정됨
+                params.put("url", (cookie.secure() ? "https://" : "http://") + cookie.domain() + cookie.path());
+            } else {
+                params.put("domain", "." + cookie.domain());
+            }
+            if (cookie.expiresAtEpochSecond() >= 0) {
+                params.put("expires", cookie.expiresAtEpochSecond());
+            }
+            chromium.executeCdpCommand("Network.setCookie", params);
+        }
+        return true;
+    }
+
+    /**
+     * 브라우저의 모든 도메인 쿠키 삭제
+     */
+    public static void clear(WebDriver driver) {
+        if (driver instanceof ChromiumDriver chromium) {
+            chromium.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+        } else {
+            driver.manage().deleteAllCookies();
+        }
+    }
+
+    private static StoredCookie fromCdp(Map<?, ?> map) {
+        String domain = String.valueOf(map.get("domain"));
+        boolean session = Boolean.TRUE.equals(map.get("session"));
+        long expires = !session && map.get("expires") instanceof Number number ? number.longValue() : -1;
+        Object path = map.get("path");
+        return new StoredCookie(
+                String.valueOf(map.get("name")),
+                String.valueOf(map.get("value")),
+                stripLeadingDot(domain),
+                path == null ? "/" : String.valueOf(path),
+                expires,
+                Boolean.TRUE.equals(map.get("secure")),
+                !domain.startsWith("."));
+    }
+
+    private static String stripLeadingDot(String domain) {
+        return domain.startsWith(".") ? domain.substring(1) : domain;
+    }
+}
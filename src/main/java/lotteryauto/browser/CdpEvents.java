@@ -0,0 +1,113 @@
+package lotteryauto.browser;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 브라우저 하나의 CDP 연결과 이벤트 구독 관리
+ * DevTools에는 리스너를 개별로 해제하는 방법이 없어, 이벤트마다 리스너를 한 번만 등록하고
+ * 여기에 붙은 구독자에게 나눠 줍니다. 풀에서 재사용되는 브라우저에 구독이 쌓이지 않고,
+ * 응답 수신과 요청 차단처럼 서로 다른 기능이 같은 연결을 함께 쓸 수 있습니다.
+ * Chrome 버전별 도메인 클래스에 묶이지 않도록 원시 CDP 메서드 이름을 사용합니다.
+ */
+@Slf4j
+public final class CdpEvents {
+
+    private static final Map<WebDriver, CdpEvents> BY_DRIVER = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final DevTools devTools;
+    private final Map<String, List<Consumer<Map<String, Object>>>> subscribers = new ConcurrentHashMap<>();
+    private volatile boolean networkEnabled;
+
+    private CdpEvents(DevTools devTools) {
+        this.devTools = devTools;
+    }
+
+    /**
+     * 브라우저의 CDP 연결
+     *
+     * @return CDP를 쓸 수 없는 브라우저이거나 연결에 실패하면 빈 값
+     */
+    public static Optional<CdpEvents> of(WebDriver driver) {
+        if (!(driver instanceof HasDevTools hasDevTools)) {
+            return Optional.empty();
+        }
+        synchronized (BY_DRIVER) {
+            CdpEvents existing = BY_DRIVER.get(driver);
+            if (existing != null) {
+                return Optional.of(existing);
+            }
+            try {
+                Optional<DevTools> devTools = hasDevTools.maybeGetDevTools();
+                if (devTools.isEmpty()) {
+                    return Optional.empty();
+                }
+                devTools.get().createSessionIfThereIsNotOne(driver.getWindowHandle());
+                CdpEvents events = new CdpEvents(devTools.get());
+                BY_DRIVER.put(driver, events);
+                return Optional.of(events);
+            } catch (RuntimeException e) {
+                log.warn("CDP 연결을 사용할 수 없습니다: {}", e.getMessage());
+                return Optional.empty();
+            }
+        }
+    }
+
+    /**
+     * 이벤트 구독
+     *
+     * @param method  CDP 이벤트 이름 (예: Network.responseReceived)
+     * @param handler 이벤트 파라미터를 받을 구독자
+     * @return 구독 해제 작업
+     */
+    public Runnable subscribe(String method, Consumer<Map<String, Object>> handler) {
+        List<Consumer<Map<String, Object>>> handlers = subscribers.computeIfAbsent(method, name -> {
+            List<Consumer<Map<String, Object>>> list = new CopyOnWriteArrayList<>();
+            devTools.addListener(new Event<Map<String, Object>>(name, input -> input.read(Json.MAP_TYPE)),
+                    params -> list.forEach(subscriber -> dispatch(name, subscriber, params)));
+            return list;
+        });
+        handlers.add(handler);
+        return () -> handlers.remove(handler);
+    }
+
+    /**
+     * CDP 명령 전송 후 응답 대기
+     */
+    public Map<String, Object> send(String method, Map<String, Object> params) {
+        return devTools.send(new Command<>(method, params, Json.MAP_TYPE));
+    }
+
+    /**
+     * Network 도메인 활성화 (브라우저당 한 번)
+     * 여러 기능이 함께 쓰므로 사용 후에도 끄지 않습니다.
+     */
+    public void enableNetwork() {
+        if (!networkEnabled) {
+            send("Network.enable", Map.of());
+            networkEnabled = true;
+        }
+    }
+
+    private static void dispatch(String method, Consumer<Map<String, Object>> subscriber, Map<String, Object> params) {
+        try {
+            subscriber.accept(params);
+        } catch (RuntimeException e) {
+            log.debug("{} 이벤트 처리 실패 (무시): {}", method, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package lotteryauto.browser;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import lombok.extern.slf4j.Slf4j;
+import lotteryauto.config.LotteryConfig;
+import lotteryauto.metrics.LottoMetrics;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * chromedriver 경로 결정 및 캐시
+ * 로컬 Chrome 버전을 한 번만 확인하고, 맞는 chromedriver 경로를 매니페스트 파일에 고정해
+ * 이후 실행에서는 네트워크 없이 재사용합니다. Chrome 메이저 버전이 바뀔 때만 다시 확인합니다.
+ */
+@Slf4j
+@Component
+public class ChromeDriverResolver {
+
+    private static final String MANIFEST_FILE = "chromedriver.properties";
+    private static final Pattern VERSION = Pattern.compile("(\\d+)\\.(\\d+)\\.(\\d+)\\.(\\d+)");
+
+    /** Chrome 실행 파일 후보 (PATH에서 찾는 이름 또는 절대 경로) */
+    private static final List<String> CHROME_CANDIDATES = List.of(
+            "google-chrome",
+            "google-chrome-stable",
+            "chromium",
+            "chromium-browser",
+            "/Applications/Google Chrome.app/Contents/MacOS/Google Chrome",
+            "C:\\Program Files\\Google\\Chrome\\Application\\chrome.exe",
+            "C:\\Program Files (x86)\\Google\\Chrome\\Application\\chrome.exe"
+    );
+
+    private final String driverPathOverride;
+    private final String chromeBinaryOverride;
+    private final Path manifest;
+    private final LottoMetrics metrics;
+
+    private volatile DriverBootstrap bootstrap;
+
+    /**
+     * 결정된 chromedriver 정보
+     *
+     * @param driverPath    chromedriver 실행 파일 경로
+     * @param chromeVersion 감지한 Chrome 버전 (감지 실패 시 null)
+     * @param source        경로를 얻은 방법
+     * @param elapsedMs     결정에 걸린 시간 (ms)
+     */
+    public record DriverBootstrap(Path driverPath, String chromeVersion, Source source, long elapsedMs) {
+    }
+
+    public enum Source {
+        /** LOTTO_CHROMEDRIVER_PATH로 직접 지정 */
+        OVERRIDE,
+        /** 매니페스트 캐시 재사용 (네트워크 없음) */
+        CACHE,
+        /** WebDriverManager로 새로 확인 */
+        RESOLVED
+    }
+
+    public ChromeDriverResolver(LotteryConfig lotteryConfig, LottoMetrics metrics) {
+        this.metrics = metrics;
+        this.driverPathOverride = lotteryConfig.getChromeDriverPath();
+        this.chromeBinaryOverride = lotteryConfig.getChromeBinary();
+        this.manifest = Paths.get(lotteryConfig.getStateDir(), MANIFEST_FILE);
+    }
+
+    /**
+     * chromedriver 경로 결정 (프로세스당 한 번만 수행)
+     * 결정된 경로는 webdriver.chrome.driver 시스템 속성에도 설정됩니다.
+     */
+    public DriverBootstrap resolve() {
+        DriverBootstrap current = bootstrap;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (bootstrap == null) {
+                long startNanos = System.nanoTime();
+                DriverBootstrap resolved = doResolve(startNanos);
+                System.setProperty("webdriver.chrome.driver", resolved.driverPath().toString());
+                log.info("⏱️ chromedriver 준비 완료: {} (Chrome {}, {}, {}ms)", resolved.driverPath(),
+                        resolved.chromeVersion(), resolved.source(), resolved.elapsedMs());
+                metrics.recordDriverBootstrap(resolved.source().name().toLowerCase(), Duration.ofMillis(resolved.elapsedMs()));
+                bootstrap = resolved;
+            }
+            return bootstrap;
+        }
+    }
+
+    private DriverBootstrap doResolve(long startNanos) {
+        // 1. 직접 지정한 경로 우선
+        if (driverPathOverride != null && !driverPathOverride.isBlank()) {
+            Path path = Paths.get(driverPathOverride);
+            if (Files.isExecutable(path)) {
+                return new DriverBootstrap(path, null, Source.OVERRIDE, elapsedMs(startNanos));
+            }
+            log.warn("LOTTO_CHROMEDRIVER_PATH가 실행 파일이 아닙니다 (무시): {}", path);
+        }
+
+        // 2. 설치된 Chrome 버전과 매니페스트 비교
+        String chromeVersion = detectChromeVersion();
+        String major = majorOf(chromeVersion);
+        Properties cached = readManifest();
+        if (cached != null && major != null && major.equals(cached.getProperty("chromeMajor"))) {
+            Path path = Paths.get(cached.getProperty("driverPath", ""));
+            if (Files.isExecutable(path)) {
+                return new DriverBootstrap(path, chromeVersion, Source.CACHE, elapsedMs(startNanos));
+            }
+            log.info("캐시된 chromedriver가 없어 다시 확인합니다: {}", path);
+        } else if (cached != null) {
+            log.info("Chrome 메이저 버전 변경 감지 ({} → {}), chromedriver를 다시 확인합니다.",
+                    cached.getProperty("chromeMajor"), major);
+        }
+
+        // 3. WebDriverManager로 한 번 확인 후 매니페스트에 고정
+        WebDriverManager manager = WebDriverManager.chromedriver();
+        if (major != null) {
+            manager.browserVersion(major);
+        }
+        manager.setup();
+        String downloaded = manager.getDownloadedDriverPath();
+        if (downloaded == null || downloaded.isBlank()) {
+            throw new IllegalStateException("chromedriver 경로를 확인할 수 없습니다.");
+        }
+        Path path = Paths.get(downloaded);
+        if (major != null) {
+            writeManifest(major, chromeVersion, path);
+        }
+        return new DriverBootstrap(path, chromeVersion, Source.RESOLVED, elapsedMs(startNanos));
+    }
+
+    /**
+     * 로컬 Chrome의 --version 출력에서 버전 추출
+     *
+     * @return 전체 버전 문자열 (예: 131.0.6778.85), 찾지 못하면 null
+     */
+    private String detectChromeVersion() {
+        List<String> candidates = new ArrayList<>();
+        if (chromeBinaryOverride != null && !chromeBinaryOverride.isBlank()) {
+            candidates.add(chromeBinaryOverride);
+        }
+        candidates.addAll(CHROME_CANDIDATES);
+
+        for (String candidate : candidates) {
+            String version = runVersion(candidate);
+            if (version != null) {
+                return version;
+            }
+        }
+        log.warn("설치된 Chrome 버전을 확인하지 못했습니다.");
+        return null;
+    }
+
+    private String runVersion(String binary) {
+        Path output = null;
+        try {
+            // 출력을 파일로 받아 응답 없는 프로세스도 제한 시간 안에 끊을 수 있도록 함 (스트림을 읽으면 종료될 때까지 막힘)
+            output = Files.createTempFile("chrome-version", ".txt");
+            Process process = new ProcessBuilder(binary, "--version")
+                    .redirectErrorStream(true)
+                    .redirectOutput(output.toFile())
+                    .start();
+            if (!process.waitFor(5, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                log.warn("{} --version이 응답하지 않아 중단합니다.", binary);
+                return null;
+            }
+            Matcher matcher = VERSION.matcher(Files.readString(output, StandardCharsets.UTF_8));
+            return matcher.find() ? matcher.group() : null;
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            if (output != null) {
+                try {
+                    Files.deleteIfExists(output);
+                } catch (IOException e) {
+                    log.debug("임시 파일 삭제 실패 (무시): {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private String majorOf(String version) {
+        if (version == null) {
+            return null;
+        }
+        int dot = version.indexOf('.');
+        return dot > 0 ? version.substring(0, dot) : version;
+    }
+
+    private Properties readManifest() {
+        if (!Files.isRegularFile(manifest)) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(manifest)) {
+            properties.load(in);
+            return properties;
+        } catch (IOException e) {
+            log.warn("chromedriver 매니페스트를 읽을 수 없습니다: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeManifest(String major, String chromeVersion, Path driverPath) {
+        Properties properties = new Properties();
+        properties.setProperty("chromeMajor", major);
+        properties.setProperty("chromeVersion", chromeVersion);
+        properties.setProperty("driverPath", driverPath.toAbsolutePath().toString());
+        properties.setProperty("resolvedAt", Instant.now().toString());
+        try {
+            Files.createDirectories(manifest.getParent());
+            try (OutputStream out = Files.newOutputStream(manifest)) {
+                properties.store(out, "lotteryauto chromedriver cache");
+            }
+        } catch (IOException e) {
+            log.warn("chromedriver 매니페스트 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private long elapsedMs(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
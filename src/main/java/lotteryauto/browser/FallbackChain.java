@@ -0,0 +1,91 @@
+package lotteryauto.browser;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 같은 값을 얻는 여러 방법을 지난 실행의 적중률 순서로 시도하는 대체 경로 목록
+ * 대개 첫 번째 시도에서 끝나고, 나머지 방법은 사이트가 바뀌었을 때를 위한 대체 경로로 남습니다.
+ * {@link #last}로 추가한 방법은 부정확할 수 있는 최후 수단이므로 순서를 바꾸지 않고 항상 마지막에 시도합니다.
+ *
+ * @param <T> 얻으려는 값
+ */
+@Slf4j
+public final class FallbackChain<T> {
+
+    private final String name;
+    private final StrategyStats stats;
+    private final Map<String, Supplier<Optional<T>>> ranked = new LinkedHashMap<>();
+    private final Map<String, Supplier<Optional<T>>> lastResorts = new LinkedHashMap<>();
+
+    private FallbackChain(String name, StrategyStats stats) {
+        this.name = name;
+        this.stats = stats;
+    }
+
+    public static <T> FallbackChain<T> of(String name, StrategyStats stats) {
+        return new FallbackChain<>(name, stats);
+    }
+
+    /**
+     * 적중률에 따라 순서를 바꿀 수 있는 방법 추가
+     *
+     * @param strategy 방법 이름 (기록 파일의 키로 쓰이므로 바꾸면 기록이 초기화됨)
+     * @param attempt  값을 찾으면 그 값, 못 찾으면 빈 값
+     */
+    public FallbackChain<T> then(String strategy, Supplier<Optional<T>> attempt) {
+        ranked.put(strategy, attempt);
+        return this;
+    }
+
+    /**
+     * 항상 마지막에 시도할 방법 추가
+     */
+    public FallbackChain<T> last(String strategy, Supplier<Optional<T>> attempt) {
+        lastResorts.put(strategy, attempt);
+        return this;
+    }
+
+    /**
+     * 값을 찾을 때까지 순서대로 시도 (예외는 실패로 기록)
+     *
+     * @return 처음 찾은 값, 모든 방법이 실패하면 빈 값
+     */
+    public Optional<T> run() {
+        List<String> order = new ArrayList<>(stats.order(name, List.copyOf(ranked.keySet())));
+        order.addAll(lastResorts.keySet());
+
+        List<StrategyStats.Attempt> attempts = new ArrayList<>();
+        Optional<T> found = Optional.empty();
+        for (String strategy : order) {
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+            Supplier<Optional<T>> attempt = ranked.containsKey(strategy) ? ranked.get(strategy) : lastResorts.get(strategy);
+            long startNanos = System.nanoTime();
+            try {
+                found = attempt.get();
+            } catch (RuntimeException e) {
+                log.debug("[{}] '{}' 방법 실패: {}", name, strategy, e.getMessage());
+                found = Optional.empty();
+            }
+            attempts.add(new StrategyStats.Attempt(strategy, found.isPresent(), Duration.ofNanos(System.nanoTime() - startNanos)));
+            if (found.isPresent()) {
+                break;
+            }
+        }
+
+        stats.record(name, attempts);
+        if (attempts.size() > 1) {
+            log.debug("[{}] {}번째 방법에서 {}", name, attempts.size(), found.isPresent() ? "확인" : "모두 실패");
+        }
+        return found;
+    }
+}
@@ -0,0 +1,108 @@
+package lotteryauto.browser;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchFrameException;
+import org.openqa.selenium.WebDriver;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 요소가 들어 있는 프레임 경로 탐색 및 전환
+ * 프레임마다 전환하며 findElements를 반복하지 않고, 한 번의 스크립트로 프레임 트리 전체를 훑어 경로를 얻습니다.
+ * 경로의 각 단계는 프레임 id/name이며, 둘 다 없으면 "#인덱스"로 표현합니다.
+ */
+public final class FrameNavigator {
+
+    /** 이 깊이보다 깊은 프레임은 찾지 않음 */
+    private static final int MAX_DEPTH = 3;
+
+    /**
+     * 최상위 문서에서 실행: 후보 경로를 먼저 확인하고, 맞지 않으면 같은 출처의 프레임을 깊이 우선으로 탐색
+     * 반환값: {path: [...], preferred: true/false} 또는 null
+     */
+    private static final String LOCATE_SCRIPT =
+            "var target = arguments[0], preferred = arguments[1], maxDepth = arguments[2];" +
+            "function frames(doc) { return doc.querySelectorAll('iframe, frame'); }" +
+            "function childDoc(frame) { try { return frame.contentDocument; } catch (e) { return null; } }" +
+            "function resolve(path) {" +
+            "  var doc = document;" +
+            "  for (var i = 0; i < path.length && doc; i++) {" +
+            "    var step = path[i], frame = null;" +
+            "    if (step.charAt(0) === '#') { frame = frames(doc)[parseInt(step.substring(1), 10)]; }" +
+            "    else { frame = doc.getElementById(step) || doc.getElementsByName(step)[0]; }" +
+            "    doc = frame ? childDoc(frame) : null;" +
+            "  }" +
+            "  return doc;" +
+            "}" +
+            "function search(doc, path, depth) {" +
+            "  if (doc.getElementById(target)) return path;" +
+            "  if (depth >= maxDepth) return null;" +
+            "  var list = frames(doc);" +
+            "  for (var i = 0; i < list.length; i++) {" +
+            "    var child = childDoc(list[i]);" +
+            "    if (!child) continue;" +
+            "    var found = search(child, path.concat([list[i].id || list[i].name || ('#' + i)]), depth + 1);" +
+            "    if (found) return found;" +
+            "  }" +
+            "  return null;" +
+            "}" +
+            "if (preferred) {" +
+            "  var doc = resolve(preferred);" +
+            "  if (doc && doc.getElementById(target)) return {path: preferred, preferred: true};" +
+            "}" +
+            "var path = search(document, [], 0);" +
+            "return path ? {path: path, preferred: false} : null;";
+
+    private FrameNavigator() {
+    }
+
+    /**
+     * 탐색 결과
+     *
+     * @param path      프레임 경로 (최상위 문서면 빈 목록)
+     * @param preferred 후보 경로가 그대로 맞았는지 여부
+     */
+    public record Location(List<String> path, boolean preferred) {
+    }
+
+    /**
+     * 요소가 들어 있는 프레임 경로 찾기
+     * 최상위 문서가 선택된 상태에서 호출해야 합니다.
+     *
+     * @param elementId 찾을 요소 id
+     * @param preferred 먼저 확인할 경로 (없으면 null)
+     * @return 찾지 못하면 빈 값
+     */
+    public static Optional<Location> locate(WebDriver driver, String elementId, List<String> preferred) {
+        Object result = ((JavascriptExecutor) driver).executeScript(LOCATE_SCRIPT, elementId, preferred, MAX_DEPTH);
+        if (!(result instanceof Map<?, ?> map) || !(map.get("path") instanceof List<?> steps)) {
+            return Optional.empty();
+        }
+        List<String> path = steps.stream().map(String::valueOf).toList();
+        return Optional.of(new Location(path, Boolean.TRUE.equals(map.get("preferred"))));
+    }
+
+    /**
+     * 최상위 문서에서 경로를 따라 프레임 전환
+     *
+     * @return 경로의 프레임이 사라져 전환하지 못하면 false (최상위 문서로 되돌아감)
+     */
+    public static boolean enter(WebDriver driver, List<String> path) {
+        driver.switchTo().defaultContent();
+        try {
+            for (String step : path) {
+                if (step.startsWith("#")) {
+                    driver.switchTo().frame(Integer.parseInt(step.substring(1)));
+                } else {
+                    driver.switchTo().frame(step);
+                }
+            }
+            return true;
+        } catch (NoSuchFrameException | NumberFormatException e) {
+            driver.switchTo().defaultContent();
+            return false;
+        }
+    }
+}
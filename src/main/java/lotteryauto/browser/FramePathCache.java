@@ -0,0 +1,81 @@
+package lotteryauto.browser;
+
+import lombok.extern.slf4j.Slf4j;
+import lotteryauto.config.LotteryConfig;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * 지난번에 요소를 찾은 프레임 경로 저장소
+ * 경로는 프레임 id/name 또는 "#인덱스"를 '/'로 이어 붙여 상태 디렉터리의 파일에 보관하며,
+ * 다음 실행에서 전체 탐색 없이 먼저 시도합니다.
+ */
+@Slf4j
+@Component
+public class FramePathCache {
+
+    private static final String CACHE_FILE = "frame-paths.properties";
+    private static final String SEPARATOR = "/";
+
+    private final Path file;
+    private Properties paths;
+
+    public FramePathCache(LotteryConfig lotteryConfig) {
+        this.file = Paths.get(lotteryConfig.getStateDir(), CACHE_FILE);
+    }
+
+    /**
+     * 저장된 프레임 경로 (최상위 문서에서 찾았으면 빈 목록)
+     */
+    public synchronized Optional<List<String>> load(String key) {
+        String value = paths().getProperty(key);
+        if (value == null) {
+            return Optional.empty();
+        }
+        return Optional.of(value.isEmpty() ? List.of() : Arrays.asList(value.split(SEPARATOR)));
+    }
+
+    /**
+     * 프레임 경로 저장 (이전 값과 같으면 파일을 다시 쓰지 않음)
+     */
+    public synchronized void save(String key, List<String> path) {
+        String value = String.join(SEPARATOR, path);
+        if (value.equals(paths().getProperty(key))) {
+            return;
+        }
+        paths().setProperty(key, value);
+        try {
+            Files.createDirectories(file.getParent());
+            try (OutputStream out = Files.newOutputStream(file)) {
+                paths().store(out, "lotteryauto frame paths");
+            }
+            log.info("프레임 경로 저장 [{}]: {}", key, value.isEmpty() ? "(최상위 문서)" : value);
+        } catch (IOException e) {
+            log.warn("프레임 경로 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private Properties paths() {
+        if (paths == null) {
+            paths = new Properties();
+            if (Files.isRegularFile(file)) {
+                try (InputStream in = Files.newInputStream(file)) {
+                    paths.load(in);
+                } catch (IOException e) {
+                    log.warn("프레임 경로 파일을 읽을 수 없습니다: {}", e.getMessage());
+                }
+            }
+        }
+        return paths;
+    }
+}
@@ -0,0 +1,69 @@
+package lotteryauto.browser;
+
+import lotteryauto.ticket.Ticket;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 구매 화면에 직접 고른 번호 입력
+ * 게임마다 번호 체크박스(check645num1~45) 6개를 누르고 확인 버튼(btnSelectNum)을 누르는 과정을 브라우저 안에서 한 번에 실행하므로,
+ * 5게임 30개 번호를 WebDriver 요청 한 번으로 입력합니다. 클릭 이벤트로 누르기 때문에 사이트의 선택 제한 검사도 그대로 거칩니다.
+ */
+public final class ManualNumberEntry {
+
+    private static final String ENTRY_SCRIPT =
+            "var games = arguments[0], entered = 0;" +
+            "function box(n) { return document.getElementById('check645num' + n); }" +
+            "function checked() {" +
+            "  var picked = [];" +
+            "  for (var n = 1; n <= 45; n++) { var b = box(n); if (b && b.checked) picked.push(n); }" +
+            "  return picked;" +
+            "}" +
+            "var select = document.getElementById('btnSelectNum');" +
+            "if (!select) return { entered: 0, error: 'btnSelectNum 없음' };" +
+            "for (var g = 0; g < games.length; g++) {" +
+            "  var stray = checked();" +
+            "  for (var i = 0; i < stray.length; i++) box(stray[i]).click();" +
+            "  for (var i = 0; i < games[g].length; i++) {" +
+            "    var b = box(games[g][i]);" +
+            "    if (!b) return { entered: entered, error: 'check645num' + games[g][i] + ' 없음' };" +
+            "    if (!b.checked) b.click();" +
+            "  }" +
+            "  var picked = checked();" +
+            "  if (picked.join(',') !== games[g].join(','))" +
+            "    return { entered: entered, error: (entered + 1) + '번째 게임 선택 불일치: ' + picked.join(',') };" +
+            "  select.click();" +
+            "  entered++;" +
+            "}" +
+            "return { entered: entered, error: null };";
+
+    private ManualNumberEntry() {
+    }
+
+    /**
+     * 현재 문서(구매 프레임)에 게임 입력
+     *
+     * @param driver 구매 프레임으로 전환된 WebDriver
+     * @param games  게임별 번호 비트마스크
+     * @return 입력한 게임 수
+     * @throws IllegalStateException 입력 도중 번호를 누르지 못했거나 선택 결과가 다른 경우
+     */
+    public static int enter(WebDriver driver, List<Long> games) {
+        List<List<Integer>> numbers = games.stream()
+                .map(game -> Arrays.stream(Ticket.numbers(game)).boxed().toList())
+                .toList();
+        Object result = ((JavascriptExecutor) driver).executeScript(ENTRY_SCRIPT, numbers);
+        if (!(result instanceof Map<?, ?> map)) {
+            throw new IllegalStateException("번호 입력 결과를 확인할 수 없습니다");
+        }
+        int entered = map.get("entered") instanceof Number number ? number.intValue() : 0;
+        if (map.get("error") != null) {
+            throw new IllegalStateException("번호 입력 실패 (" + entered + "게임 입력): " + map.get("error"));
+        }
+        return entered;
+    }
+}
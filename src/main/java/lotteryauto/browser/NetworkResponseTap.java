@@ -0,0 +1,129 @@
+package lotteryauto.browser;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+
+/**
+ * CDP 네트워크 이벤트로 페이지가 보낸 요청의 응답 본문을 받아오는 도구
+ * 화면에 값이 그려질 때까지 DOM을 폴링하지 않고, 응답이 도착하는 즉시 본문을 얻을 수 있습니다.
+ */
+@Slf4j
+public final class NetworkResponseTap implements AutoCloseable {
+
+    private final CdpEvents cdp;
+    private final List<Runnable> subscriptions = new CopyOnWriteArrayList<>();
+    /** 아직 응답을 만나지 못한 기대 목록 */
+    private final List<Expectation> waiting = new CopyOnWriteArrayList<>();
+    /** 응답 헤더를 받았고 본문 수신 완료를 기다리는 요청 (requestId → 기대) */
+    private final Map<String, Expectation> loading = new ConcurrentHashMap<>();
+
+    private NetworkResponseTap(CdpEvents cdp) {
+        this.cdp = cdp;
+    }
+
+    /**
+     * 브라우저에 네트워크 이벤트 수신 연결
+     *
+     * @return CDP를 쓸 수 없는 브라우저이거나 연결에 실패하면 빈 값
+     */
+    public static Optional<NetworkResponseTap> attach(WebDriver driver) {
+        Optional<CdpEvents> events = CdpEvents.of(driver);
+        if (events.isEmpty()) {
+            return Optional.empty();
+        }
+        NetworkResponseTap tap = new NetworkResponseTap(events.get());
+        try {
+            tap.subscriptions.add(tap.cdp.subscribe("Network.responseReceived", tap::onResponseReceived));
+            tap.subscriptions.add(tap.cdp.subscribe("Network.loadingFinished", tap::onLoadingFinished));
+            tap.subscriptions.add(tap.cdp.subscribe("Network.loadingFailed", tap::onLoadingFailed));
+            tap.cdp.enableNetwork();
+            return Optional.of(tap);
+        } catch (RuntimeException e) {
+            log.warn("CDP 네트워크 이벤트를 사용할 수 없습니다: {}", e.getMessage());
+            tap.close();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * URL 조건에 맞는 다음 응답의 본문
+     * 요청을 일으키는 페이지 이동 전에 호출해야 응답을 놓치지 않습니다.
+     *
+     * @param urlMatcher 응답 URL 조건
+     * @return 본문 수신 시 완료되는 Future (요청 실패 시 예외로 완료)
+     */
+    public CompletableFuture<String> nextBody(Predicate<String> urlMatcher) {
+        Expectation expectation = new Expectation(urlMatcher, new CompletableFuture<>());
+        waiting.add(expectation);
+        return expectation.body();
+    }
+
+    @Override
+    public void close() {
+        waiting.forEach(expectation -> expectation.body().cancel(false));
+        loading.values().forEach(expectation -> expectation.body().cancel(false));
+        waiting.clear();
+        loading.clear();
+        subscriptions.forEach(Runnable::run);
+        subscriptions.clear();
+    }
+
+    private void onResponseReceived(Map<String, Object> params) {
+        if (!(params.get("response") instanceof Map<?, ?> response) || !(response.get("url") instanceof String url)) {
+            return;
+        }
+        for (Expectation expectation : waiting) {
+            if (expectation.urlMatcher().test(url) && waiting.remove(expectation)) {
+                log.debug("네트워크 응답 감지: {}", url);
+                loading.put(String.valueOf(params.get("requestId")), expectation);
+                return;
+            }
+        }
+    }
+
+    private void onLoadingFinished(Map<String, Object> params) {
+        String requestId = String.valueOf(params.get("requestId"));
+        Expectation expectation = loading.remove(requestId);
+        if (expectation == null) {
+            return;
+        }
+        // 이벤트 수신 스레드를 막지 않도록 본문 요청은 별도 스레드에서 보냄
+        CompletableFuture.runAsync(() -> {
+            try {
+                Map<String, Object> reply = cdp.send("Network.getResponseBody", Map.of("requestId", requestId));
+                expectation.body().complete(decodeBody(reply));
+            } catch (RuntimeException e) {
+                expectation.body().completeExceptionally(e);
+            }
+        });
+    }
+
+    private void onLoadingFailed(Map<String, Object> params) {
+        Expectation expectation = loading.remove(String.valueOf(params.get("requestId")));
+        if (expectation != null) {
+            expectation.body().completeExceptionally(
+                    new IllegalStateException("네트워크 요청 실패: " + params.get("errorText")));
+        }
+    }
+
+    private static String decodeBody(Map<String, Object> reply) {
+        String body = String.valueOf(reply.getOrDefault("body", ""));
+        if (Boolean.TRUE.equals(reply.get("base64Encoded"))) {
+            return new String(Base64.getDecoder().decode(body), StandardCharsets.UTF_8);
+        }
+        return body;
+    }
+
+    private record Expectation(Predicate<String> urlMatcher, CompletableFuture<String> body) {
+    }
+}
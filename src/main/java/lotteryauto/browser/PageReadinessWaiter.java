@@ -0,0 +1,174 @@
+package lotteryauto.browser;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 이벤트 기반 페이지 준비 상태 대기 엔진
+ * 고정된 Thread.sleep 대신 MutationObserver와 executeAsyncScript를 사용하여
+ * 조건이 충족되는 즉시 반환하고, 실제 대기 시간을 로그로 남깁니다.
+ */
+@Slf4j
+@Component
+public class PageReadinessWaiter {
+
+    /** 스크립트 타임아웃 여유 시간 (브라우저 측 타이머보다 길게 설정) */
+    private static final Duration SCRIPT_TIMEOUT_MARGIN = Duration.ofSeconds(2);
+
+    /** MutationObserver가 놓치는 변화(JS 변수 등)를 위한 보조 폴링 주기 (ms) */
+    private static final int FALLBACK_POLL_MS = 50;
+
+    private static final String HELPERS =
+            "function visible(el) {" +
+            "  if (!el) return false;" +
+            "  var s = window.getComputedStyle(el);" +
+            "  return s.display !== 'none' && s.visibility !== 'hidden' && el.getClientRects().length > 0;" +
+            "}" +
+            "function textVisible(text) {" +
+            "  return !!(document.body && (document.body.innerText || '').indexOf(text) >= 0);" +
+            "}" +
+            "function findInFrames(id) {" +
+            "  var search = function(doc, depth) {" +
+            "    if (!doc) return false;" +
+            "    if (doc.getElementById(id)) return true;" +
+            "    if (depth >= 3) return false;" +
+            "    var frames = doc.querySelectorAll('iframe, frame');" +
+            "    for (var i = 0; i < frames.length; i++) {" +
+            "      try { if (search(frames[i].contentDocument, depth + 1)) return true; } catch (e) {}" +
+            "    }" +
+            "    return false;" +
+            "  };" +
+            "  return search(document, 0);" +
+            "}";
+
+    private static final String AWAIT_SCRIPT_TEMPLATE =
+            "var done = arguments[arguments.length - 1];" +
+            "var timeoutMs = arguments[0];" +
+            HELPERS +
+            "var start = Date.now(), finished = false, observer = null, poll = null, timer = null;" +
+            "function check() { try { return !!({expr}); } catch (e) { return false; } }" +
+            "function finish(ok) {" +
+            "  if (finished) return;" +
+            "  finished = true;" +
+            "  if (observer) observer.disconnect();" +
+            "  clearInterval(poll); clearTimeout(timer);" +
+            "  done({ ok: ok, elapsed: Date.now() - start });" +
+            "}" +
+            "if (check()) { finish(true); return; }" +
+            "observer = new MutationObserver(function() { if (check()) finish(true); });" +
+            "observer.observe(document.documentElement || document, { childList: true, subtree: true, attributes: true, characterData: true });" +
+            "poll = setInterval(function() { if (check()) finish(true); }, " + FALLBACK_POLL_MS + ");" +
+            "timer = setTimeout(function() { finish(false); }, timeoutMs);";
+
+    private static final String DOM_QUIET_SCRIPT =
+            "var done = arguments[arguments.length - 1];" +
+            "var quietMs = arguments[0], timeoutMs = arguments[1];" +
+            "var start = Date.now(), last = start, finished = false;" +
+            "var observer = new MutationObserver(function() { last = Date.now(); });" +
+            "observer.observe(document.documentElement || document, { childList: true, subtree: true, attributes: true, characterData: true });" +
+            "var poll = setInterval(function() {" +
+            "  var now = Date.now();" +
+            "  var quiet = now - last >= quietMs;" +
+            "  if (!finished && (quiet || now - start >= timeoutMs)) {" +
+            "    finished = true; observer.disconnect(); clearInterval(poll);" +
+            "    done({ ok: quiet, elapsed: now - start });" +
+            "  }" +
+            "}, 25);";
+
+    /**
+     * 조건이 충족될 때까지 대기
+     *
+     * @param driver    대상 WebDriver (현재 선택된 frame 기준으로 평가)
+     * @param condition 대기 조건
+     * @return 최대 대기 시간 안에 조건이 충족되었는지 여부
+     */
+    public boolean await(WebDriver driver, ReadinessCondition condition) {
+        long startNanos = System.nanoTime();
+        try {
+            driver.manage().timeouts().scriptTimeout(condition.timeout().plus(SCRIPT_TIMEOUT_MARGIN));
+            // 조건식에 %(나머지 연산 등)가 있어도 깨지지 않도록 형식 문자열 대신 치환 사용
+            String script = AWAIT_SCRIPT_TEMPLATE.replace("{expr}", condition.expression());
+            Object result = ((JavascriptExecutor) driver).executeAsyncScript(script, condition.timeout().toMillis());
+            boolean satisfied = isOk(result);
+            logResult(condition.name(), satisfied, startNanos, condition.timeout());
+            return satisfied;
+        } catch (Exception e) {
+            // 대기 중 페이지 이동 등으로 스크립트 컨텍스트가 사라진 경우
+            log.debug("조건 '{}' 대기 중 예외 발생: {}", condition.name(), e.getMessage());
+            logResult(condition.name(), false, startNanos, condition.timeout());
+            return false;
+        }
+    }
+
+    /**
+     * DOM 변경이 일정 시간 동안 없을 때까지 대기
+     * 클릭 후 화면 갱신이 끝나기를 기다리는 용도로 사용합니다.
+     *
+     * @param driver  대상 WebDriver
+     * @param quiet   변경이 없어야 하는 시간
+     * @param timeout 최대 대기 시간
+     * @return 최대 대기 시간 안에 DOM이 안정화되었는지 여부
+     */
+    public boolean awaitDomQuiet(WebDriver driver, Duration quiet, Duration timeout) {
+        long startNanos = System.nanoTime();
+        String name = "DOM quiet " + quiet.toMillis() + "ms";
+        try {
+            driver.manage().timeouts().scriptTimeout(timeout.plus(SCRIPT_TIMEOUT_MARGIN));
+            Object result = ((JavascriptExecutor) driver).executeAsyncScript(
+                    DOM_QUIET_SCRIPT, quiet.toMillis(), timeout.toMillis()
+            );
+            boolean satisfied = isOk(result);
+            logResult(name, satisfied, startNanos, timeout);
+            return satisfied;
+        } catch (Exception e) {
+            log.debug("조건 '{}' 대기 중 예외 발생: {}", name, e.getMessage());
+            logResult(name, false, startNanos, timeout);
+            return false;
+        }
+    }
+
+    /**
+     * 현재 URL이 특정 경로를 벗어날 때까지 대기 (폼 전송 후 페이지 이동 확인용)
+     * 페이지 이동 중에는 비동기 스크립트가 유지되지 않으므로 WebDriver 측에서 폴링합니다.
+     *
+     * @param driver   대상 WebDriver
+     * @param fragment 벗어나야 하는 URL 조각 (예: "/login")
+     * @param timeout  최대 대기 시간
+     * @return 최대 대기 시간 안에 URL이 바뀌었는지 여부
+     */
+    public boolean awaitNavigationAway(WebDriver driver, String fragment, Duration timeout) {
+        long startNanos = System.nanoTime();
+        String name = "navigation away from " + fragment;
+        boolean satisfied;
+        try {
+            WebDriverWait wait = new WebDriverWait(driver, timeout, Duration.ofMillis(100));
+            satisfied = wait.until(d -> {
+                String url = d.getCurrentUrl();
+                return url != null && !url.contains(fragment);
+            });
+        } catch (Exception e) {
+            satisfied = false;
+        }
+        logResult(name, satisfied, startNanos, timeout);
+        return satisfied;
+    }
+
+    private boolean isOk(Object result) {
+        return result instanceof Map<?, ?> map && Boolean.TRUE.equals(map.get("ok"));
+    }
+
+    private void logResult(String name, boolean satisfied, long startNanos, Duration timeout) {
+        long elapsedMs = (System.nanoTime() - startNanos) / 1_000_000;
+        if (satisfied) {
+            log.info("⏱️ 조건 '{}' 충족: {}ms", name, elapsedMs);
+        } else {
+            log.warn("⏱️ 조건 '{}' 미충족: {}ms 경과 (최대 {}ms)", name, elapsedMs, timeout.toMillis());
+        }
+    }
+}
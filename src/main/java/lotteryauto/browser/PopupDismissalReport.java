@@ -0,0 +1,28 @@
+package lotteryauto.browser;
+
+import java.util.List;
+
+/**
+ * 팝업 닫기 결과 보고서
+ *
+ * @param closed          닫기 버튼 클릭으로 처리한 요소 목록 ("선택자 -> 요소" 형식)
+ * @param overlays        오버레이 클릭으로 처리한 요소 목록
+ * @param rounds          스크립트 실행 횟수
+ * @param remainingVisible 마지막 실행 후에도 보이는 팝업 후보 요소 수
+ * @param elapsedMs       전체 소요 시간 (ms)
+ */
+public record PopupDismissalReport(
+        List<String> closed,
+        List<String> overlays,
+        int rounds,
+        int remainingVisible,
+        long elapsedMs
+) {
+
+    /**
+     * 닫은 요소 총 개수
+     */
+    public int dismissedCount() {
+        return closed.size() + overlays.size();
+    }
+}
@@ -0,0 +1,185 @@
+package lotteryauto.browser;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lotteryauto.metrics.LottoMetrics;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 레이어 팝업 일괄 닫기
+ * 보이는 팝업, 닫기 버튼, 오버레이를 한 번의 스크립트 주입으로 찾아서 닫고
+ * 무엇을 닫았는지 구조화된 보고서로 반환합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopupDismisser {
+
+    /** 닫기 버튼 및 레이어 팝업 선택자 */
+    public static final List<String> CLOSE_SELECTORS = List.of(
+            // 레이어 팝업
+            ".layer-popup",
+            ".popup-layer",
+            ".modal-popup",
+            ".popup-modal",
+            ".layer",
+            ".popup",
+            ".modal",
+            // 닫기 버튼
+            ".btn-close",
+            ".popup-close",
+            ".layer-close",
+            ".modal-close",
+            "[class*='close']",
+            "[class*='Close']",
+            // 오늘 하루 열지 않기 관련
+            ".btn-today-close",
+            ".today-close",
+            "[data-close='today']",
+            // X 버튼
+            "button[aria-label*='닫기']",
+            "button[aria-label*='close']",
+            ".icon-close",
+            ".btn-x"
+    );
+
+    /** 팝업 배경(오버레이) 선택자 - 닫기 버튼 처리 후에도 남아 있을 때만 클릭 */
+    public static final List<String> OVERLAY_SELECTORS = List.of(
+            ".popup-bg",
+            ".overlay",
+            ".modal-backdrop",
+            ".layer-backdrop",
+            "[class*='overlay']",
+            "[class*='backdrop']"
+    );
+
+    /** DOM이 계속 바뀌는 경우 최대 반복 횟수 */
+    private static final int MAX_ROUNDS = 5;
+
+    /** 클릭 후 DOM 변경을 수집하는 시간 (ms) */
+    private static final int SETTLE_MS = 100;
+
+    private static final String DISMISS_SCRIPT =
+            "var done = arguments[arguments.length - 1];" +
+            "var closeSelectors = arguments[0], overlaySelectors = arguments[1], settleMs = arguments[2];" +
+            "function visible(el) {" +
+            "  var s = window.getComputedStyle(el);" +
+            "  return s.display !== 'none' && s.visibility !== 'hidden' && el.getClientRects().length > 0;" +
+            "}" +
+            "function describe(sel, el) {" +
+            "  return sel + ' -> ' + el.tagName.toLowerCase() + (el.id ? '#' + el.id : '');" +
+            "}" +
+            "function visibleMatches(selectors, fn) {" +
+            "  var count = 0;" +
+            "  selectors.forEach(function(sel) {" +
+            "    var nodes;" +
+            "    try { nodes = document.querySelectorAll(sel); } catch (e) { return; }" +
+            "    for (var i = 0; i < nodes.length; i++) {" +
+            "      if (visible(nodes[i])) { count++; if (fn) fn(sel, nodes[i]); }" +
+            "    }" +
+            "  });" +
+            "  return count;" +
+            "}" +
+            "var report = { closed: [], overlays: [], mutations: 0, remaining: 0 };" +
+            "var observer = new MutationObserver(function(list) { report.mutations += list.length; });" +
+            "observer.observe(document.documentElement, { childList: true, subtree: true, attributes: true });" +
+            "var clicked = new Set();" +
+            "visibleMatches(closeSelectors, function(sel, el) {" +
+            "  if (clicked.has(el) || !visible(el)) return;" +
+            "  clicked.add(el);" +
+            "  try { el.click(); report.closed.push(describe(sel, el)); } catch (e) {}" +
+            "});" +
+            "try {" +
+            "  var target = document.activeElement || document.body;" +
+            "  target.dispatchEvent(new KeyboardEvent('keydown', { key: 'Escape', code: 'Escape', keyCode: 27, bubbles: true }));" +
+            "} catch (e) {}" +
+            "visibleMatches(overlaySelectors, function(sel, el) {" +
+            "  if (clicked.has(el) || !visible(el)) return;" +
+            "  clicked.add(el);" +
+            "  try { el.click(); report.overlays.push(describe(sel, el)); } catch (e) {}" +
+            "});" +
+            "setTimeout(function() {" +
+            "  observer.disconnect();" +
+            "  report.remaining = visibleMatches(closeSelectors.concat(overlaySelectors), null);" +
+            "  done(report);" +
+            "}, settleMs);";
+
+    private final LottoMetrics metrics;
+
+    /**
+     * 현재 문서의 팝업을 모두 닫기
+     * 클릭 후 DOM이 실제로 바뀌었고 여전히 보이는 후보가 남아 있을 때만 다시 실행합니다.
+     *
+     * @param driver 대상 WebDriver
+     * @return 닫은 팝업 보고서
+     */
+    public PopupDismissalReport dismissAll(WebDriver driver) {
+        long startNanos = System.nanoTime();
+        List<String> closed = new ArrayList<>();
+        List<String> overlays = new ArrayList<>();
+        int rounds = 0;
+        int remaining = 0;
+
+        try {
+            driver.manage().timeouts().scriptTimeout(Duration.ofSeconds(5));
+            JavascriptExecutor js = (JavascriptExecutor) driver;
+
+            while (rounds < MAX_ROUNDS) {
+                rounds++;
+                Object result = js.executeAsyncScript(DISMISS_SCRIPT, CLOSE_SELECTORS, OVERLAY_SELECTORS, SETTLE_MS);
+                if (!(result instanceof Map<?, ?> map)) {
+                    break;
+                }
+
+                List<String> roundClosed = toStringList(map.get("closed"));
+                List<String> roundOverlays = toStringList(map.get("overlays"));
+                closed.addAll(roundClosed);
+                overlays.addAll(roundOverlays);
+                remaining = toInt(map.get("remaining"));
+                int mutations = toInt(map.get("mutations"));
+
+                // 아무것도 닫지 않았거나, DOM 변화가 없거나, 남은 후보가 없으면 종료
+                boolean dismissedSomething = !roundClosed.isEmpty() || !roundOverlays.isEmpty();
+                if (!dismissedSomething || mutations == 0 || remaining == 0) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("팝업 닫기 스크립트 실행 중 오류 발생 (무시하고 계속 진행): {}", e.getMessage());
+        }
+
+        long elapsedMs = (System.nanoTime() - startNanos) / 1_000_000;
+        PopupDismissalReport report = new PopupDismissalReport(closed, overlays, rounds, remaining, elapsedMs);
+        metrics.recordPopupDismissal(report);
+        if (report.dismissedCount() > 0) {
+            log.info("팝업 {}개 닫음 ({}회 실행, {}ms): {}", report.dismissedCount(), rounds, elapsedMs, closed);
+            if (!overlays.isEmpty()) {
+                log.debug("오버레이 클릭으로 닫은 요소: {}", overlays);
+            }
+        } else {
+            log.debug("닫을 팝업 없음 ({}ms)", elapsedMs);
+        }
+        return report;
+    }
+
+    private List<String> toStringList(Object value) {
+        List<String> list = new ArrayList<>();
+        if (value instanceof List<?> items) {
+            for (Object item : items) {
+                list.add(String.valueOf(item));
+            }
+        }
+        return list;
+    }
+
+    private int toInt(Object value) {
+        return value instanceof Number number ? number.intValue() : 0;
+    }
+}
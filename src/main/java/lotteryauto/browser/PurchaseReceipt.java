@@ -0,0 +1,46 @@
+package lotteryauto.browser;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 구매 결과 레이어에서 읽은 결과
+ *
+ * @param status    구매 결과 상태
+ * @param round     구매한 회차 (읽지 못했으면 null)
+ * @param games     게임별 번호 (A~E 순서)
+ * @param error     사이트가 표시한 오류 문구 (없으면 null)
+ * @param elapsedMs 결과 레이어가 뜰 때까지 걸린 시간 (ms)
+ */
+public record PurchaseReceipt(Status status, Integer round, List<Game> games, String error, long elapsedMs) {
+
+    /**
+     * 구매 결과 상태
+     */
+    public enum Status {
+        /** 구매 완료 영수증이 표시됨 */
+        SUCCESS,
+        /** 오류 알림 레이어가 표시됨 */
+        FAILED,
+        /** 제한 시간 안에 결과 레이어가 뜨지 않았거나 내용을 해석할 수 없음 */
+        UNKNOWN
+    }
+
+    /**
+     * 게임 하나의 번호
+     *
+     * @param slot    게임 구분 (A~E)
+     * @param numbers 선택된 번호 6개
+     */
+    public record Game(char slot, List<Integer> numbers) {
+
+        @Override
+        public String toString() {
+            return slot + " " + numbers.stream().map(String::valueOf).collect(Collectors.joining(","));
+        }
+    }
+
+    public boolean succeeded() {
+        return status == Status.SUCCESS;
+    }
+}
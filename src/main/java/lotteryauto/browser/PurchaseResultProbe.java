@@ -0,0 +1,167 @@
+package lotteryauto.browser;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 구매 결과 확인
+ * 구매 확인 후 결과 레이어(영수증 또는 오류 알림)가 뜰 때까지 페이지 안에서 기다렸다가,
+ * 상태와 회차, 게임별 번호, 오류 문구만 골라 한 번의 스크립트 실행으로 가져옵니다.
+ * 페이지 전체 소스를 받지 않고 결과 레이어 안의 문구만 보므로 다른 곳의 "성공" 같은 문구로 오판하지 않습니다.
+ */
+@Slf4j
+@Component
+public class PurchaseResultProbe {
+
+    /** 결과 레이어 최대 대기 시간 */
+    public static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    /** 결과 레이어 확인 간격 (ms) */
+    private static final int POLL_MS = 50;
+
+    /** 영수증 레이어에 표시되는 구매 완료 문구 */
+    static final List<String> SUCCESS_MESSAGES = List.of("구매가 완료되었습니다", "구매되었습니다");
+
+    private static final Pattern ROUND = Pattern.compile("(\\d+)\\s*회");
+    private static final int MAX_TEXT = 300;
+
+    private static final String PROBE_SCRIPT =
+            "var done = arguments[arguments.length - 1];" +
+            "var timeoutMs = arguments[0], pollMs = arguments[1], maxText = arguments[2];" +
+            "var started = Date.now();" +
+            "function visible(el) {" +
+            "  if (!el) return false;" +
+            "  var s = window.getComputedStyle(el);" +
+            "  return s.display !== 'none' && s.visibility !== 'hidden' && el.getClientRects().length > 0;" +
+            "}" +
+            "function text(el) {" +
+            "  return el ? (el.innerText || el.textContent || '').replace(/\\s+/g, ' ').trim() : '';" +
+            "}" +
+            "function leaves(row) {" +
+            "  var nodes = row.querySelectorAll('*'), tokens = [];" +
+            "  for (var i = 0; i < nodes.length; i++) {" +
+            "    if (nodes[i].children.length === 0 && text(nodes[i])) tokens.push(text(nodes[i]));" +
+            "  }" +
+            "  return tokens.length ? tokens : [text(row)];" +
+            "}" +
+            "function read() {" +
+            "  var receipt = document.getElementById('popReceipt') || document.getElementById('report');" +
+            "  if (visible(receipt)) {" +
+            "    var rows = receipt.querySelectorAll('li');" +
+            "    var games = [];" +
+            "    for (var i = 0; i < rows.length && games.length < 5; i++) games.push(leaves(rows[i]));" +
+            "    var round = receipt.querySelector('#buyRound');" +
+            "    return { state: 'receipt', round: text(round), games: games, text: text(receipt).slice(0, maxText) };" +
+            "  }" +
+            "  var alert = document.getElementById('popupLayerAlert');" +
+            "  if (visible(alert)) return { state: 'alert', round: '', games: [], text: text(alert).slice(0, maxText) };" +
+            "  return null;" +
+            "}" +
+            "(function poll() {" +
+            "  var result = read();" +
+            "  if (result || Date.now() - started >= timeoutMs) {" +
+            "    result = result || { state: 'timeout', round: '', games: [], text: '' };" +
+            "    result.elapsed = Date.now() - started;" +
+            "    done(result);" +
+            "    return;" +
+            "  }" +
+            "  setTimeout(poll, pollMs);" +
+            "})();";
+
+    /**
+     * 현재 문서(구매 프레임)에서 결과 레이어가 뜰 때까지 기다린 뒤 결과 읽기
+     *
+     * @param driver 구매 프레임으로 전환된 WebDriver
+     * @return 구매 결과 (스크립트 실행에 실패하면 UNKNOWN)
+     */
+    public PurchaseReceipt await(WebDriver driver) {
+        long startNanos = System.nanoTime();
+        try {
+            driver.manage().timeouts().scriptTimeout(TIMEOUT.plusSeconds(2));
+            Object result = ((JavascriptExecutor) driver).executeAsyncScript(PROBE_SCRIPT, TIMEOUT.toMillis(), POLL_MS, MAX_TEXT);
+            if (result instanceof Map<?, ?> map) {
+                return parse(map);
+            }
+        } catch (Exception e) {
+            log.warn("구매 결과 확인 스크립트 실행 실패: {}", e.getMessage());
+        }
+        return new PurchaseReceipt(PurchaseReceipt.Status.UNKNOWN, null, List.of(), null,
+                (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    /**
+     * 스크립트가 돌려준 결과 해석
+     * 영수증은 게임 번호나 구매 완료 문구가 있어야 성공으로 보고, 오류 알림은 표시된 문구를 오류로 남깁니다.
+     */
+    static PurchaseReceipt parse(Map<?, ?> raw) {
+        String state = String.valueOf(raw.get("state"));
+        String text = raw.get("text") == null ? "" : String.valueOf(raw.get("text"));
+        long elapsedMs = raw.get("elapsed") instanceof Number number ? number.longValue() : 0;
+
+        List<PurchaseReceipt.Game> games = new ArrayList<>();
+        if (raw.get("games") instanceof List<?> rows) {
+            for (Object row : rows) {
+                if (row instanceof List<?> tokens) {
+                    parseGame(tokens).ifPresent(games::add);
+                }
+            }
+        }
+        Integer round = parseRound(String.valueOf(raw.get("round")));
+        if (round == null && state.equals("receipt")) {
+            round = parseRound(text);
+        }
+
+        PurchaseReceipt.Status status = switch (state) {
+            case "receipt" -> !games.isEmpty() || SUCCESS_MESSAGES.stream().anyMatch(text::contains)
+                    ? PurchaseReceipt.Status.SUCCESS
+                    : PurchaseReceipt.Status.UNKNOWN;
+            case "alert" -> PurchaseReceipt.Status.FAILED;
+            default -> PurchaseReceipt.Status.UNKNOWN;
+        };
+        String error = status == PurchaseReceipt.Status.FAILED && !text.isBlank() ? text : null;
+        return new PurchaseReceipt(status, round, games, error, elapsedMs);
+    }
+
+    /**
+     * 게임 한 줄 해석: A~E 구분 하나와 1~45 사이 번호 6개가 있어야 게임으로 봄
+     */
+    private static Optional<PurchaseReceipt.Game> parseGame(List<?> tokens) {
+        Character slot = null;
+        List<Integer> numbers = new ArrayList<>();
+        for (Object token : tokens) {
+            for (String part : String.valueOf(token).trim().split("\\s+")) {
+                if (slot == null && part.length() == 1 && part.charAt(0) >= 'A' && part.charAt(0) <= 'E') {
+                    slot = part.charAt(0);
+                } else if (part.matches("\\d{1,2}")) {
+                    int number = Integer.parseInt(part);
+                    if (number >= 1 && number <= 45) {
+                        numbers.add(number);
+                    }
+                }
+            }
+        }
+        if (slot == null || numbers.size() != 6) {
+            return Optional.empty();
+        }
+        return Optional.of(new PurchaseReceipt.Game(slot, List.copyOf(numbers)));
+    }
+
+    private static Integer parseRound(String text) {
+        String trimmed = text.trim();
+        if (trimmed.matches("\\d{1,5}")) {
+            return Integer.valueOf(trimmed);
+        }
+        Matcher matcher = ROUND.matcher(trimmed);
+        return matcher.find() ? Integer.valueOf(matcher.group(1)) : null;
+    }
+}
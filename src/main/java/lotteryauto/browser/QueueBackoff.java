@@ -0,0 +1,56 @@
+package lotteryauto.browser;
+
+import lotteryauto.config.LotteryConfig;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 접속 대기열 대기
+ * 대기열이 사라질 때까지 한 번의 긴 대기로 막혀 있지 않고, 확인 간격을 두 배씩 늘려 가며 확인합니다.
+ * 허용 시간 안에 벗어나지 못하면 포기하고, 다음 예약 실행에서 다시 시도하게 합니다.
+ */
+@Component
+public class QueueBackoff {
+
+    private static final Duration FIRST_DELAY = Duration.ofSeconds(1);
+    private static final Duration MAX_DELAY = Duration.ofSeconds(8);
+
+    private final Duration maxWait;
+
+    public QueueBackoff(LotteryConfig lotteryConfig) {
+        this.maxWait = Duration.ofSeconds(Math.max(0, lotteryConfig.getQueueMaxWaitSeconds()));
+    }
+
+    /**
+     * 대기열이 사라질 때까지 대기
+     *
+     * @param queued 아직 대기열에 있는지 확인
+     * @return 대기열을 벗어났으면 기다린 시간, 허용 시간 안에 벗어나지 못했거나 중단되면 빈 값
+     */
+    public Optional<Duration> awaitClear(BooleanSupplier queued) {
+        long startNanos = System.nanoTime();
+        Duration delay = FIRST_DELAY;
+        while (queued.getAsBoolean()) {
+            Duration waited = Duration.ofNanos(System.nanoTime() - startNanos);
+            Duration left = maxWait.minus(waited);
+            if (!left.isPositive()) {
+                return Optional.empty();
+            }
+            try {
+                Thread.sleep(delay.compareTo(left) < 0 ? delay : left);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Optional.empty();
+            }
+            delay = delay.multipliedBy(2).compareTo(MAX_DELAY) < 0 ? delay.multipliedBy(2) : MAX_DELAY;
+        }
+        return Optional.of(Duration.ofNanos(System.nanoTime() - startNanos));
+    }
+
+    public Duration maxWait() {
+        return maxWait;
+    }
+}
@@ -0,0 +1,68 @@
+package lotteryauto.browser;
+
+import java.time.Duration;
+
+/**
+ * 페이지 준비 상태 조건
+ * 브라우저에서 평가되는 JavaScript 표현식과 최대 대기 시간을 묶어서 관리합니다.
+ * 표현식 안에서는 {@code visible(el)}, {@code textVisible(text)}, {@code findInFrames(id)} 헬퍼를 사용할 수 있습니다.
+ *
+ * @param name       로그에 표시할 조건 이름
+ * @param expression true가 되면 대기를 종료하는 JavaScript 표현식
+ * @param timeout    조건별 최대 대기 시간
+ */
+public record ReadinessCondition(String name, String expression, Duration timeout) {
+
+    /** 문서 파싱 완료 (DOMContentLoaded 이후) */
+    public static final ReadinessCondition DOCUMENT_INTERACTIVE = of(
+            "document interactive",
+            "document.readyState !== 'loading'",
+            Duration.ofSeconds(10));
+
+    /** 문서 및 하위 리소스 로드 완료 */
+    public static final ReadinessCondition DOCUMENT_COMPLETE = of(
+            "document complete",
+            "document.readyState === 'complete'",
+            Duration.ofSeconds(15));
+
+    /** 로그인 페이지의 RSA 모듈러스 로드 완료 */
+    public static final ReadinessCondition RSA_MODULUS_READY = of(
+            "rsaModulus defined",
+            "typeof rsaModulus !== 'undefined' && rsaModulus !== null && String(rsaModulus).length > 0",
+            Duration.ofSeconds(10));
+
+    /** 구매 콘텐츠(num2), 접속 대기열, 구매한도 문구 중 하나가 나타남 */
+    public static final ReadinessCondition PURCHASE_CONTENT_READY = of(
+            "purchase content ready",
+            "findInFrames('num2') || textVisible('서비스연결 대기중') || textVisible('구매한도 5천원을 모두 채우셨습니다')",
+            Duration.ofSeconds(15));
+
+    /** 현재 문서 또는 하위 iframe에 #num2 존재 */
+    public static final ReadinessCondition PURCHASE_FRAME_READY = of(
+            "#num2 present",
+            "findInFrames('num2')",
+            Duration.ofSeconds(5));
+
+    /** 자동선택 버튼(#num2) 활성화 */
+    public static final ReadinessCondition AUTO_SELECT_ENABLED = of(
+            "#num2 enabled",
+            "(function() { var e = document.getElementById('num2'); return !!(e && !e.disabled); })()",
+            Duration.ofSeconds(10));
+
+    /** 구매 확인 레이어 표시 */
+    public static final ReadinessCondition CONFIRM_LAYER_VISIBLE = of(
+            "confirm layer visible",
+            "visible(document.getElementById('popupLayerConfirm'))",
+            Duration.ofSeconds(5));
+
+    public static ReadinessCondition of(String name, String expression, Duration timeout) {
+        return new ReadinessCondition(name, expression, timeout);
+    }
+
+    /**
+     * 최대 대기 시간만 바꾼 조건 생성
+     */
+    public ReadinessCondition withTimeout(Duration newTimeout) {
+        return new ReadinessCondition(name, expression, newTimeout);
+    }
+}
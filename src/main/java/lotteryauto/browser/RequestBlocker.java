@@ -0,0 +1,135 @@
+package lotteryauto.browser;
+
+import lombok.extern.slf4j.Slf4j;
+import lotteryauto.metrics.LottoMetrics;
+import org.openqa.selenium.WebDriver;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * CDP Fetch 가로채기로 허용 목록 밖의 요청을 차단하고 페이지별 요청 수와 전송량을 집계
+ * Network.setBlockedURLs는 URL 패턴으로만 막을 수 있어, 리소스 유형까지 보고 판단하도록 Fetch.requestPaused를 사용합니다.
+ * 브라우저를 대여한 동안만 설치하며, {@link #close()}에서 가로채기를 해제합니다.
+ * 이벤트는 Selenium이 CDP 수신 스레드와 별개의 자체 스레드 풀에서 전달하므로, 구독자 안에서 Fetch.continueRequest/failRequest를
+ * 보내고 응답을 기다려도 이벤트 수신이 멈추지 않습니다. 집계 필드는 여러 이벤트 스레드가 함께 쓰므로 잠금 안에서만 바꿉니다.
+ */
+@Slf4j
+public final class RequestBlocker implements AutoCloseable {
+
+    private final CdpEvents cdp;
+    private final ResourceBlockingProfile profile;
+    private final LottoMetrics metrics;
+    private final List<Runnable> subscriptions = new CopyOnWriteArrayList<>();
+
+    private String page = "start";
+    private final Map<String, Integer> blockedByType = new TreeMap<>();
+    private int loadedRequests;
+    private long loadedBytes;
+
+    private RequestBlocker(CdpEvents cdp, ResourceBlockingProfile profile, LottoMetrics metrics) {
+        this.cdp = cdp;
+        this.profile = profile;
+        this.metrics = metrics;
+    }
+
+    /**
+     * 브라우저에 요청 차단 설치
+     *
+     * @return 차단을 끈 설정이거나 CDP를 쓸 수 없으면 빈 값
+     */
+    public static Optional<RequestBlocker> install(WebDriver driver, ResourceBlockingProfile profile, LottoMetrics metrics) {
+        if (!profile.enabled()) {
+            return Optional.empty();
+        }
+        Optional<CdpEvents> events = CdpEvents.of(driver);
+        if (events.isEmpty()) {
+            return Optional.empty();
+        }
+        RequestBlocker blocker = new RequestBlocker(events.get(), profile, metrics);
+        try {
+            blocker.subscriptions.add(blocker.cdp.subscribe("Fetch.requestPaused", blocker::onRequestPaused));
+            blocker.subscriptions.add(blocker.cdp.subscribe("Network.loadingFinished", blocker::onLoadingFinished));
+            blocker.cdp.enableNetwork();
+            blocker.cdp.send("Fetch.enable", Map.of("patterns", List.of(Map.of("urlPattern", "*", "requestStage", "Request"))));
+            return Optional.of(blocker);
+        } catch (RuntimeException e) {
+            log.warn("요청 차단을 설정하지 못해 모든 리소스를 내려받습니다: {}", e.getMessage());
+            blocker.subscriptions.forEach(Runnable::run);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 새 페이지로 이동하기 전에 호출하여 이전 페이지의 집계를 기록하고 새 집계를 시작
+     *
+     * @param name 지표에 남길 페이지 이름 (main, mypage, purchase 등)
+     */
+    public void startPage(String name) {
+        flush();
+        synchronized (this) {
+            page = name;
+        }
+    }
+
+    @Override
+    public void close() {
+        flush();
+        subscriptions.forEach(Runnable::run);
+        subscriptions.clear();
+        try {
+            cdp.send("Fetch.disable", Map.of());
+        } catch (RuntimeException e) {
+            log.debug("요청 가로채기 해제 실패 (무시): {}", e.getMessage());
+        }
+    }
+
+    private void onRequestPaused(Map<String, Object> params) {
+        String requestId = String.valueOf(params.get("requestId"));
+        String resourceType = String.valueOf(params.get("resourceType"));
+        String url = params.get("request") instanceof Map<?, ?> request ? String.valueOf(request.get("url")) : "";
+
+        if (profile.allows(url, resourceType)) {
+            cdp.send("Fetch.continueRequest", Map.of("requestId", requestId));
+            return;
+        }
+        cdp.send("Fetch.failRequest", Map.of("requestId", requestId, "errorReason", "BlockedByClient"));
+        synchronized (this) {
+            blockedByType.merge(resourceType, 1, Integer::sum);
+        }
+        log.debug("요청 차단 [{}] {}", resourceType, url);
+    }
+
+    private void onLoadingFinished(Map<String, Object> params) {
+        long bytes = params.get("encodedDataLength") instanceof Number length ? length.longValue() : 0;
+        synchronized (this) {
+            loadedRequests++;
+            loadedBytes += bytes;
+        }
+    }
+
+    private void flush() {
+        String currentPage;
+        Map<String, Integer> blocked;
+        int requests;
+        long bytes;
+        synchronized (this) {
+            currentPage = page;
+            blocked = new TreeMap<>(blockedByType);
+            requests = loadedRequests;
+            bytes = loadedBytes;
+            blockedByType.clear();
+            loadedRequests = 0;
+            loadedBytes = 0;
+        }
+        if (blocked.isEmpty() && requests == 0) {
+            return;
+        }
+        int blockedTotal = blocked.values().stream().mapToInt(Integer::intValue).sum();
+        log.info("[{}] 요청 {}건 로드 ({} KB), {}건 차단 {}", currentPage, requests, bytes / 1024, blockedTotal, blocked);
+        metrics.recordPageRequests(currentPage, blocked, requests, bytes);
+    }
+}
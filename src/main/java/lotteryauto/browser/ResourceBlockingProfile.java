@@ -0,0 +1,74 @@
+package lotteryauto.browser;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 브라우저에서 허용할 요청 목록 (그 밖의 요청은 CDP로 차단)
+ * 구매 흐름에 필요한 호스트와 리소스 유형만 허용하여 배너, 글꼴, 외부 분석 스크립트를 내려받지 않습니다.
+ *
+ * @param enabled      차단 사용 여부
+ * @param allowedHosts 허용할 호스트 (하위 도메인 포함)
+ * @param allowedTypes 허용할 CDP 리소스 유형 (소문자, 예: document, script, xhr)
+ */
+public record ResourceBlockingProfile(boolean enabled, Set<String> allowedHosts, Set<String> allowedTypes) {
+
+    /** 기본 허용 리소스 유형 (이미지, 글꼴, 미디어 등은 차단) */
+    public static final String DEFAULT_ALLOWED_TYPES = "Document,Stylesheet,Script,XHR,Fetch,Preflight";
+
+    public static final ResourceBlockingProfile DISABLED = new ResourceBlockingProfile(false, Set.of(), Set.of());
+
+    /**
+     * 호스트 목록과 쉼표로 구분한 리소스 유형으로 프로필 생성
+     */
+    public static ResourceBlockingProfile of(Collection<String> hosts, String typesSpec) {
+        Set<String> allowedHosts = new LinkedHashSet<>();
+        for (String host : hosts) {
+            String trimmed = host.trim().toLowerCase(Locale.ROOT);
+            if (!trimmed.isEmpty()) {
+                allowedHosts.add(trimmed.startsWith("www.") ? trimmed.substring(4) : trimmed);
+            }
+        }
+        Set<String> allowedTypes = new LinkedHashSet<>();
+        Arrays.stream(typesSpec.split(","))
+                .map(type -> type.trim().toLowerCase(Locale.ROOT))
+                .filter(type -> !type.isEmpty())
+                .forEach(allowedTypes::add);
+        return new ResourceBlockingProfile(true, Set.copyOf(allowedHosts), Set.copyOf(allowedTypes));
+    }
+
+    /**
+     * 요청 허용 여부
+     *
+     * @param url          요청 URL
+     * @param resourceType CDP 리소스 유형 (Document, Image, Script 등)
+     */
+    public boolean allows(String url, String resourceType) {
+        if (!enabled || url.startsWith("data:") || url.startsWith("blob:")) {
+            return true;
+        }
+        if (resourceType == null || !allowedTypes.contains(resourceType.toLowerCase(Locale.ROOT))) {
+            return false;
+        }
+        String host;
+        try {
+            host = URI.create(url).getHost();
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return host != null && hostAllowed(host.toLowerCase(Locale.ROOT));
+    }
+
+    private boolean hostAllowed(String host) {
+        for (String allowed : allowedHosts) {
+            if (host.equals(allowed) || host.endsWith("." + allowed)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
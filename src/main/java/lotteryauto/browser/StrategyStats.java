@@ -0,0 +1,154 @@
+package lotteryauto.browser;
+
+import lombok.extern.slf4j.Slf4j;
+import lotteryauto.config.LotteryConfig;
+import lotteryauto.metrics.LottoMetrics;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * 대체 경로 목록({@link FallbackChain})의 방법별 적중 기록 저장소
+ * 방법마다 시도 수, 적중 수, 연속 실패 수, 누적 소요 시간을 상태 디렉터리의 파일에 보관하고
+ * 다음 실행에서 적중률이 높은 방법부터 시도하도록 순서를 정합니다.
+ */
+@Slf4j
+@Component
+public class StrategyStats {
+
+    private static final String STATS_FILE = "strategy-stats.properties";
+
+    private final Path file;
+    private final int demoteAfterMisses;
+    private final LottoMetrics metrics;
+    private Properties tallies;
+
+    public StrategyStats(LotteryConfig lotteryConfig, LottoMetrics metrics) {
+        this.file = Paths.get(lotteryConfig.getStateDir(), STATS_FILE);
+        this.demoteAfterMisses = Math.max(1, lotteryConfig.getStrategyDemoteAfter());
+        this.metrics = metrics;
+    }
+
+    /**
+     * 시도 순서 결정
+     * 최근 연속으로 실패한 방법은 뒤로 미루고, 나머지는 적중률(기록이 없으면 1/2), 평균 소요 시간, 선언 순서로 정렬합니다.
+     *
+     * @param chain    대체 경로 목록 이름
+     * @param declared 코드에 선언된 순서
+     * @return 이번 실행에서 시도할 순서
+     */
+    public synchronized List<String> order(String chain, List<String> declared) {
+        List<String> ordered = new ArrayList<>(declared);
+        ordered.sort(Comparator.comparing((String strategy) -> tally(chain, strategy).missStreak() >= demoteAfterMisses)
+                .thenComparingDouble(strategy -> -tally(chain, strategy).hitRate())
+                .thenComparingDouble(strategy -> tally(chain, strategy).meanMillis())
+                .thenComparingInt(declared::indexOf));
+        if (!ordered.equals(declared)) {
+            log.debug("[{}] 적중 기록에 따른 시도 순서: {}", chain, ordered);
+        }
+        return ordered;
+    }
+
+    /**
+     * 한 번의 실행에서 시도한 결과 기록 후 파일에 저장
+     *
+     * @param chain    대체 경로 목록 이름
+     * @param attempts 시도한 순서대로의 결과
+     */
+    public synchronized void record(String chain, List<Attempt> attempts) {
+        String hit = "none";
+        for (Attempt attempt : attempts) {
+            Tally updated = tally(chain, attempt.strategy()).plus(attempt);
+            tallies().setProperty(key(chain, attempt.strategy()), updated.format());
+            if (updated.missStreak() == demoteAfterMisses) {
+                log.info("[{}] '{}' 방법이 {}회 연속 실패하여 순서를 뒤로 미룹니다.", chain, attempt.strategy(), demoteAfterMisses);
+            }
+            if (attempt.hit()) {
+                hit = attempt.strategy();
+            }
+        }
+        metrics.recordStrategyRun(chain, hit, attempts.size());
+        try {
+            Files.createDirectories(file.getParent());
+            try (OutputStream out = Files.newOutputStream(file)) {
+                tallies().store(out, "lotteryauto strategy stats (attempts,hits,missStreak,totalMillis)");
+            }
+        } catch (IOException e) {
+            log.warn("적중 기록 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private Tally tally(String chain, String strategy) {
+        return Tally.parse(tallies().getProperty(key(chain, strategy)));
+    }
+
+    private static String key(String chain, String strategy) {
+        return chain + "." + strategy;
+    }
+
+    private Properties tallies() {
+        if (tallies == null) {
+            tallies = new Properties();
+            if (Files.isRegularFile(file)) {
+                try (InputStream in = Files.newInputStream(file)) {
+                    tallies.load(in);
+                } catch (IOException e) {
+                    log.warn("적중 기록 파일을 읽을 수 없습니다: {}", e.getMessage());
+                }
+            }
+        }
+        return tallies;
+    }
+
+    /**
+     * 방법 하나를 한 번 시도한 결과
+     */
+    public record Attempt(String strategy, boolean hit, Duration elapsed) {
+    }
+
+    private record Tally(int attempts, int hits, int missStreak, long totalMillis) {
+
+        private static final Tally EMPTY = new Tally(0, 0, 0, 0);
+
+        static Tally parse(String value) {
+            if (value == null) {
+                return EMPTY;
+            }
+            String[] parts = value.split(",");
+            try {
+                return new Tally(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]),
+                        Integer.parseInt(parts[2]), Long.parseLong(parts[3]));
+            } catch (RuntimeException e) {
+                return EMPTY;
+            }
+        }
+
+        Tally plus(Attempt attempt) {
+            return new Tally(attempts + 1, hits + (attempt.hit() ? 1 : 0),
+                    attempt.hit() ? 0 : missStreak + 1, totalMillis + attempt.elapsed().toMillis());
+        }
+
+        /** 기록이 적을 때 한 번의 결과로 순서가 뒤집히지 않도록 보정한 적중률 */
+        double hitRate() {
+            return (hits + 1.0) / (attempts + 2.0);
+        }
+
+        double meanMillis() {
+            return attempts == 0 ? 0 : (double) totalMillis / attempts;
+        }
+
+        String format() {
+            return attempts + "," + hits + "," + missStreak + "," + totalMillis;
+        }
+    }
+}
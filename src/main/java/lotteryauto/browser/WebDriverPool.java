@@ -0,0 +1,272 @@
+package lotteryauto.browser;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 미리 띄워둔 WebDriver 풀
+ * 백그라운드에서 브라우저를 미리 시작해두고, 반납 시 쿠키/스토리지/탭을 정리하여 재사용합니다.
+ * 최대 크기, 유휴 인스턴스 제거, 대여 시 상태 점검(비정상 종료된 인스턴스 폐기)을 지원합니다.
+ */
+@Slf4j
+public class WebDriverPool implements DisposableBean {
+
+    /** 풀에 여유가 없을 때 반납을 기다리는 최대 시간 */
+    private static final Duration BORROW_TIMEOUT = Duration.ofMinutes(5);
+
+    /** 유휴 인스턴스 점검 주기 */
+    private static final Duration EVICTION_INTERVAL = Duration.ofSeconds(30);
+
+    private final Supplier<WebDriver> driverFactory;
+    /** 반납 시 스토리지를 비울 사이트 Origin 목록 */
+    private final List<String> siteOrigins;
+    private final int maxSize;
+    private final Duration idleTimeout;
+
+    private final LinkedBlockingDeque<IdleDriver> idle = new LinkedBlockingDeque<>();
+    private final Set<WebDriver> live = ConcurrentHashMap.newKeySet();
+    private final Semaphore capacity;
+    private final AtomicInteger warming = new AtomicInteger();
+    private final ScheduledExecutorService evictor;
+    private volatile boolean shutdown;
+
+    private record IdleDriver(WebDriver driver, long idleSinceNanos) {
+    }
+
+    /**
+     * @param driverFactory 새 WebDriver 생성 함수
+     * @param maxSize       동시에 존재할 수 있는 최대 브라우저 수
+     * @param idleTimeout   이 시간 이상 사용되지 않은 유휴 브라우저는 종료
+     * @param siteOrigins   반납 시 스토리지를 비울 사이트 Origin 목록
+     */
+    public WebDriverPool(Supplier<WebDriver> driverFactory, int maxSize, Duration idleTimeout, List<String> siteOrigins) {
+        this.driverFactory = driverFactory;
+        this.siteOrigins = List.copyOf(siteOrigins);
+        this.maxSize = Math.max(1, maxSize);
+        this.idleTimeout = idleTimeout;
+        this.capacity = new Semaphore(this.maxSize);
+        this.evictor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("webdriver-pool-evictor").daemon(true).factory());
+        this.evictor.scheduleWithFixedDelay(this::evictIdle,
+                EVICTION_INTERVAL.toMillis(), EVICTION_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 백그라운드에서 브라우저를 미리 시작
+     *
+     * @param count 미리 띄울 브라우저 수 (최대 크기를 넘지 않음)
+     */
+    public void prewarm(int count) {
+        int target = Math.min(count, maxSize);
+        for (int i = 0; i < target; i++) {
+            if (!capacity.tryAcquire()) {
+                return;
+            }
+            warming.incrementAndGet();
+            Thread.ofVirtual().name("webdriver-prewarm-" + i).start(() -> {
+                try {
+                    WebDriver driver = createDriver();
+                    if (shutdown) {
+                        discard(driver);
+                        return;
+                    }
+                    idle.offerFirst(new IdleDriver(driver, System.nanoTime()));
+                    log.info("WebDriver 미리 준비 완료 (유휴 {}개)", idle.size());
+                } catch (Exception e) {
+                    capacity.release();
+                    log.warn("WebDriver 미리 준비 실패: {}", e.getMessage());
+                } finally {
+                    warming.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    /**
+     * 사용할 수 있는 WebDriver 대여
+     * 유휴 인스턴스가 있으면 상태 점검 후 반환하고, 없으면 새로 생성하거나 반납을 기다립니다.
+     *
+     * @return 사용 준비가 끝난 WebDriver
+     */
+    public WebDriver borrow() {
+        long startNanos = System.nanoTime();
+        long deadline = startNanos + BORROW_TIMEOUT.toNanos();
+
+        while (!shutdown) {
+            IdleDriver candidate = idle.pollFirst();
+            if (candidate == null && warming.get() > 0) {
+                // 미리 준비 중인 브라우저가 있으면 새로 띄우지 않고 잠시 기다림
+                candidate = pollIdle(Duration.ofMillis(200));
+            }
+            if (candidate == null && capacity.tryAcquire()) {
+                try {
+                    WebDriver driver = createDriver();
+                    log.info("WebDriver 새로 생성하여 대여 ({}ms)", elapsedMs(startNanos));
+                    return driver;
+                } catch (RuntimeException e) {
+                    capacity.release();
+                    throw e;
+                }
+            }
+            if (candidate == null) {
+                if (System.nanoTime() > deadline) {
+                    throw new IllegalStateException("WebDriver 풀에서 브라우저를 얻지 못했습니다 (최대 " + maxSize + "개 사용 중)");
+                }
+                candidate = pollIdle(Duration.ofSeconds(1));
+            }
+            if (candidate == null) {
+                continue;
+            }
+
+            if (isHealthy(candidate.driver())) {
+                log.info("미리 준비된 WebDriver 대여 ({}ms)", elapsedMs(startNanos));
+                return candidate.driver();
+            }
+            log.warn("비정상 WebDriver 인스턴스를 폐기합니다.");
+            discard(candidate.driver());
+        }
+        throw new IllegalStateException("WebDriver 풀이 종료되었습니다.");
+    }
+
+    /**
+     * WebDriver 반납
+     * 쿠키, 스토리지, 추가 탭을 정리한 뒤 유휴 목록에 넣고, 정리에 실패하면 폐기합니다.
+     *
+     * @param driver 반납할 WebDriver
+     */
+    public void release(WebDriver driver) {
+        if (driver == null || !live.contains(driver)) {
+            return;
+        }
+        if (shutdown) {
+            discard(driver);
+            return;
+        }
+        try {
+            reset(driver);
+            idle.offerFirst(new IdleDriver(driver, System.nanoTime()));
+            log.info("WebDriver 반납 완료 (유휴 {}개)", idle.size());
+        } catch (Exception e) {
+            log.warn("WebDriver 정리 실패로 폐기합니다: {}", e.getMessage());
+            discard(driver);
+        }
+    }
+
+    /**
+     * 현재 유휴 인스턴스 수
+     */
+    public int idleCount() {
+        return idle.size();
+    }
+
+    @Override
+    public void destroy() {
+        shutdown = true;
+        evictor.shutdownNow();
+        for (WebDriver driver : live) {
+            quietlyQuit(driver);
+        }
+        live.clear();
+        idle.clear();
+    }
+
+    private WebDriver createDriver() {
+        WebDriver driver = driverFactory.get();
+        live.add(driver);
+        // 생성 중에 풀이 종료되었으면 destroy()가 보지 못했을 수 있으므로 직접 종료 (용량은 호출한 쪽에서 반환)
+        if (shutdown) {
+            live.remove(driver);
+            quietlyQuit(driver);
+            throw new IllegalStateException("WebDriver 풀이 종료되었습니다.");
+        }
+        return driver;
+    }
+
+    private IdleDriver pollIdle(Duration timeout) {
+        try {
+            return idle.pollFirst(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("WebDriver 대기 중 중단되었습니다.", e);
+        }
+    }
+
+    private boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            Object pong = ((JavascriptExecutor) driver).executeScript("return 1;");
+            return pong != null;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private void reset(WebDriver driver) {
+        // 추가로 열린 탭/창 닫기
+        Set<String> handles = driver.getWindowHandles();
+        String keep = handles.iterator().next();
+        for (String handle : handles) {
+            if (!handle.equals(keep)) {
+                driver.switchTo().window(handle);
+                driver.close();
+            }
+        }
+        driver.switchTo().window(keep);
+        driver.switchTo().defaultContent();
+
+        // 모든 도메인의 쿠키와 사이트 스토리지 정리
+        BrowserCookies.clear(driver);
+        if (driver instanceof ChromiumDriver chromium) {
+            for (String origin : siteOrigins) {
+                chromium.executeCdpCommand("Storage.clearDataForOrigin",
+                        Map.of("origin", origin, "storageTypes", "all"));
+            }
+        }
+        driver.get("about:blank");
+    }
+
+    private void evictIdle() {
+        long now = System.nanoTime();
+        for (IdleDriver candidate : idle) {
+            if (now - candidate.idleSinceNanos() >= idleTimeout.toNanos() && idle.remove(candidate)) {
+                log.info("유휴 시간이 {}초를 넘은 WebDriver를 종료합니다.", idleTimeout.toSeconds());
+                discard(candidate.driver());
+            }
+        }
+    }
+
+    private void discard(WebDriver driver) {
+        if (live.remove(driver)) {
+            capacity.release();
+        }
+        quietlyQuit(driver);
+    }
+
+    private void quietlyQuit(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            log.debug("WebDriver 종료 중 오류 (무시): {}", e.getMessage());
+        }
+    }
+
+    private long elapsedMs(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
@@ -0,0 +1,104 @@
+package lotteryauto.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.URI;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 동행복권 사이트 주소 설정
+ * 기본값은 실제 사이트이며, 테스트 시 환경 변수로 로컬 대체 서버를 지정할 수 있습니다.
+ */
+@Configuration
+@Getter
+public class DhlotteryEndpoints {
+
+    /**
+     * 메인 사이트 주소 (로그인, 마이페이지)
+     * 환경 변수: DHLOTTERY_BASE_URL
+     */
+    @Value("${DHLOTTERY_BASE_URL:https://www.dhlottery.co.kr}")
+    private String baseUrl;
+
+    /**
+     * 온라인 구매 사이트 주소 (로또 6/45 구매)
+     * 환경 변수: DHLOTTERY_OL_BASE_URL
+     */
+    @Value("${DHLOTTERY_OL_BASE_URL:https://ol.dhlottery.co.kr}")
+    private String olBaseUrl;
+
+    public String loginPageUrl() {
+        return baseUrl + "/login";
+    }
+
+    /** 로그인 페이지의 form action을 찾지 못했을 때 사용하는 로그인 처리 주소 */
+    public String loginCheckUrl() {
+        return baseUrl + "/login/securityLoginCheck.do";
+    }
+
+    /** 로그인 페이지에서 RSA 공개키를 찾지 못했을 때 사용하는 조회 주소 */
+    public String rsaModulusUrl() {
+        return baseUrl + "/login/selectRsaModulus.do";
+    }
+
+    public String mainUrl() {
+        return baseUrl + "/main";
+    }
+
+    public String myPageUrl() {
+        return baseUrl + "/mypage/home";
+    }
+
+    /** 예치금 조회 (cmmUtil.getUserMndp가 호출하는 주소) */
+    public String balanceUrl() {
+        return baseUrl + "/mypage/selectUserMndp.do";
+    }
+
+    /**
+     * 저장된 세션을 확인하기 전에 사이트 Origin으로 들어가기 위해 여는 가벼운 주소
+     * 응답 내용과 상관없이(404여도) 같은 Origin의 문서가 되므로 예치금 조회 요청을 보낼 수 있습니다.
+     */
+    public String originEntryUrl() {
+        return baseUrl + "/favicon.ico";
+    }
+
+    /** 회차별 당첨 번호 조회 (JSON) */
+    public String drawResultUrl(int round) {
+        return baseUrl + "/common.do?method=getLottoNumber&drwNo=" + round;
+    }
+
+    public String purchasePageUrl() {
+        return olBaseUrl + "/olotto/game/game645.do";
+    }
+
+    /** 구매 서버 접속 정보 조회 */
+    public String readySocketUrl() {
+        return olBaseUrl + "/olotto/game/egovUserReadySocket.json";
+    }
+
+    /** 로또 6/45 구매 실행 */
+    public String execBuyUrl() {
+        return olBaseUrl + "/olotto/game/execBuy.do";
+    }
+
+    /**
+     * 브라우저 반납 시 스토리지를 비울 사이트 Origin 목록
+     * 메인 사이트가 www로 시작하면 www 없는 주소도 포함합니다.
+     */
+    public List<String> siteOrigins() {
+        Set<String> origins = new LinkedHashSet<>();
+        for (String url : List.of(baseUrl, olBaseUrl)) {
+            URI uri = URI.create(url);
+            String port = uri.getPort() > 0 ? ":" + uri.getPort() : "";
+            origins.add(uri.getScheme() + "://" + uri.getHost() + port);
+            if (uri.getHost().startsWith("www.")) {
+                origins.add(uri.getScheme() + "://" + uri.getHost().substring(4) + port);
+            }
+        }
+        return List.copyOf(origins);
+    }
+}
@@ -0,0 +1,45 @@
+package lotteryauto.config;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+/**
+ * 로또 사이트 계정 정보
+ *
+ * @param username 로그인 아이디
+ * @param password 로그인 비밀번호
+ */
+public record LotteryAccount(String username, String password) {
+
+    /**
+     * 로그에 표시할 마스킹된 아이디 (앞 2글자만 노출)
+     */
+    public String displayName() {
+        if (username == null || username.isEmpty()) {
+            return "(unknown)";
+        }
+        int visible = Math.min(2, username.length());
+        return username.substring(0, visible) + "*".repeat(Math.max(3, username.length() - visible));
+    }
+
+    /**
+     * 상태 파일에 남기는 계정 식별자 (아이디가 드러나지 않도록 SHA-256 해시 앞부분 사용)
+     */
+    public String key() {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(String.valueOf(username).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 12);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        // 비밀번호가 로그에 노출되지 않도록 마스킹
+        return "LotteryAccount[" + displayName() + "]";
+    }
+}
@@ -1,9 +1,13 @@
 package lotteryauto.config;
 
 import lombok.Getter;
+import lotteryauto.browser.ResourceBlockingProfile;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * 로또 자동 구매 시스템 환경 변수 설정
  * GitHub Secrets에서 주입되는 값들을 관리합니다.
@@ -12,6 +16,11 @@ import org.springframework.context.annotation.Configuration;
 @Getter
 public class LotteryConfig {
 
+    /** 상시 실행 모드의 LOTTO_MODE 값 */
+    public static final String MODE_DAEMON = "daemon";
+    /** 구매 여부만 판단하고 종료하는 LOTTO_MODE 값 */
+    public static final String MODE_CHECK = "check";
+
     /**
      * 로또 사이트 로그인 아이디
      * 환경 변수: LOTTO_ID 또는 LOTTERY_USERNAME
@@ -34,17 +43,315 @@ public class LotteryConfig {
     private String telegramBotToken;
 
     /**
-     * Telegram Chat ID (알림을 받을 채팅방 ID)
+     * Telegram Chat ID (알림을 받을 채팅방 ID, 쉼표로 여러 개 지정 가능)
      */
     @Value("${TELEGRAM_CHAT_ID:}")
     private String telegramChatId;
 
+    /**
+     * 여러 계정 목록 (선택)
+     * 환경 변수: LOTTO_ACCOUNTS
+     * 형식: "아이디:비밀번호" 항목을 줄바꿈 또는 세미콜론(;)으로 구분 (비밀번호의 ;는 \;, \는 \\로 입력)
+     * 설정하지 않으면 LOTTO_ID / LOTTO_PW 단일 계정을 사용합니다.
+     */
+    @Value("${LOTTO_ACCOUNTS:}")
+    private String accountsSpec;
+
+    /**
+     * 동시에 실행할 최대 브라우저 수
+     * 환경 변수: LOTTO_MAX_CONCURRENT_BROWSERS (기본값: 2)
+     */
+    @Value("${LOTTO_MAX_CONCURRENT_BROWSERS:2}")
+    private int maxConcurrentBrowsers;
+
+    /**
+     * 구매 엔진 선택
+     * 환경 변수: LOTTO_ENGINE (기본값: selenium)
+     * - selenium: Headless Chrome으로 구매
+     * - http: 브라우저 없이 HTTP 요청으로만 구매
+     * - auto: HTTP로 먼저 시도하고, 구매 요청 전에 실패하면 Selenium으로 전환
+     */
+    @Value("${LOTTO_ENGINE:selenium}")
+    private String engine;
+
+    /**
+     * WebDriver 풀 최대 크기
+     * 환경 변수: LOTTO_WEBDRIVER_POOL_SIZE (기본값: 0 = 동시 브라우저 수와 동일)
+     */
+    @Value("${LOTTO_WEBDRIVER_POOL_SIZE:0}")
+    private int webDriverPoolSize;
+
+    /**
+     * 구매를 시작할 때 미리 띄워둘 브라우저 수 (Selenium 엔진에서만 사용)
+     * 환경 변수: LOTTO_WEBDRIVER_PREWARM (기본값: -1 = 구매할 계정 수만큼)
+     */
+    @Value("${LOTTO_WEBDRIVER_PREWARM:-1}")
+    private int webDriverPrewarm;
+
+    /**
+     * 유휴 브라우저를 종료하기까지의 시간 (초)
+     * 환경 변수: LOTTO_WEBDRIVER_IDLE_SECONDS (기본값: 300)
+     */
+    @Value("${LOTTO_WEBDRIVER_IDLE_SECONDS:300}")
+    private long webDriverIdleSeconds;
+
+    /**
+     * 실행 간 유지할 상태 파일(세션 쿠키 등)을 저장할 디렉터리
+     * 환경 변수: LOTTO_STATE_DIR (기본값: ~/.lotteryauto)
+     */
+    @Value("${LOTTO_STATE_DIR:${user.home}/.lotteryauto}")
+    private String stateDir;
+
+    /**
+     * 사용할 chromedriver 실행 파일 경로 (지정 시 버전 확인 생략)
+     * 환경 변수: LOTTO_CHROMEDRIVER_PATH
+     */
+    @Value("${LOTTO_CHROMEDRIVER_PATH:}")
+    private String chromeDriverPath;
+
+    /**
+     * 버전 확인에 사용할 Chrome 실행 파일 경로
+     * 환경 변수: LOTTO_CHROME_BINARY (미설정 시 일반적인 설치 경로에서 찾음)
+     */
+    @Value("${LOTTO_CHROME_BINARY:}")
+    private String chromeBinary;
+
+    /**
+     * 로그인 세션 쿠키 재사용 여부
+     * 환경 변수: LOTTO_SESSION_CACHE (기본값: true)
+     */
+    @Value("${LOTTO_SESSION_CACHE:true}")
+    private boolean sessionCacheEnabled;
+
+    /**
+     * 저장한 세션 쿠키의 유효 시간 (분)
+     * 환경 변수: LOTTO_SESSION_TTL_MINUTES (기본값: 60)
+     */
+    @Value("${LOTTO_SESSION_TTL_MINUTES:60}")
+    private long sessionTtlMinutes;
+
+    /**
+     * 세션 쿠키 암호화에 사용할 비밀값 (미설정 시 계정 비밀번호로 키를 만듦)
+     * 환경 변수: LOTTO_SESSION_SECRET
+     */
+    @Value("${LOTTO_SESSION_SECRET:}")
+    private String sessionSecret;
+
+    /**
+     * 종료 시 남은 알림을 보내기 위해 기다리는 최대 시간 (초)
+     * 환경 변수: LOTTO_NOTIFY_DRAIN_SECONDS (기본값: 10)
+     */
+    @Value("${LOTTO_NOTIFY_DRAIN_SECONDS:10}")
+    private long notifyDrainSeconds;
+
+    /**
+     * 알림을 추가로 보낼 웹훅 주소 (쉼표로 여러 개 지정)
+     * 환경 변수: NOTIFY_WEBHOOK_URL
+     */
+    @Value("${NOTIFY_WEBHOOK_URL:}")
+    private String notifyWebhookUrls;
+
+    /**
+     * 알림을 추가로 기록할 로컬 파일 경로
+     * 환경 변수: NOTIFY_FILE
+     */
+    @Value("${NOTIFY_FILE:}")
+    private String notifyFile;
+
+    /**
+     * 실행 종료 시 지표 스냅숏을 덧붙일 파일 (JSON Lines)
+     * 환경 변수: LOTTO_METRICS_FILE (기본값: {LOTTO_STATE_DIR}/metrics/runs.jsonl)
+     */
+    @Value("${LOTTO_METRICS_FILE:}")
+    private String metricsFile;
+
+    /**
+     * 구매 흐름에 필요 없는 요청(이미지, 글꼴, 외부 분석 스크립트 등) 차단 여부
+     * 구매 화면의 이미지 버튼과 접속 대기열 페이지가 깨질 수 있어 기본으로는 끕니다.
+     * 환경 변수: LOTTO_BLOCK_RESOURCES (기본값: false)
+     */
+    @Value("${LOTTO_BLOCK_RESOURCES:false}")
+    private boolean blockResources;
+
+    /**
+     * 사이트 주소 외에 추가로 허용할 호스트 (쉼표로 구분, 하위 도메인 포함)
+     * 환경 변수: LOTTO_ALLOWED_HOSTS
+     */
+    @Value("${LOTTO_ALLOWED_HOSTS:}")
+    private String allowedHosts;
+
+    /**
+     * 허용할 리소스 유형 (쉼표로 구분, CDP 리소스 유형 이름)
+     * 환경 변수: LOTTO_ALLOWED_RESOURCE_TYPES (기본값: Document,Stylesheet,Script,XHR,Fetch,Preflight)
+     */
+    @Value("${LOTTO_ALLOWED_RESOURCE_TYPES:" + ResourceBlockingProfile.DEFAULT_ALLOWED_TYPES + "}")
+    private String allowedResourceTypes;
+
+    /**
+     * 같은 값을 얻는 여러 방법 중 이 횟수만큼 연속으로 실패한 방법은 다음 실행부터 뒤로 미룸
+     * 환경 변수: LOTTO_STRATEGY_DEMOTE_AFTER (기본값: 5)
+     */
+    @Value("${LOTTO_STRATEGY_DEMOTE_AFTER:5}")
+    private int strategyDemoteAfter;
+
+    /**
+     * 구매 페이지 접속 대기열에서 기다릴 최대 시간(초), 넘으면 이번 실행은 포기하고 다음 예약 실행에서 다시 시도
+     * 환경 변수: LOTTO_QUEUE_MAX_WAIT_SECONDS (기본값: 120)
+     */
+    @Value("${LOTTO_QUEUE_MAX_WAIT_SECONDS:120}")
+    private long queueMaxWaitSeconds;
+
+    /**
+     * 구매를 시작할 수 있는 시간대 (한국 시간, 예: "SAT 06:00-19:00")
+     * 설정하면 지난 실행 기록에서 대기열이 짧고 구매가 빨랐던 시각에만 실행하고, 나머지 예약 실행은 건너뜁니다.
+     * 환경 변수: LOTTO_LAUNCH_WINDOW (기본값: 없음, 항상 바로 실행)
+     */
+    @Value("${LOTTO_LAUNCH_WINDOW:}")
+    private String launchWindow;
+
+    /**
+     * 시간대 설정과 관계없이 바로 실행 (수동 실행용)
+     * 환경 변수: LOTTO_LAUNCH_FORCE (기본값: false)
+     */
+    @Value("${LOTTO_LAUNCH_FORCE:false}")
+    private boolean launchForce;
+
+    /**
+     * 실행 방식 (cli: 한 번 구매하고 종료, daemon: 상시 실행하며 예약된 시각마다 구매, check: 이번 실행에서 구매할지만 판단)
+     * 환경 변수: LOTTO_MODE (기본값: cli)
+     */
+    @Value("${LOTTO_MODE:cli}")
+    private String mode;
+
+    /**
+     * 상시 실행 모드의 구매 시각 (Spring cron 6자리, 한국 시간)
+     * 환경 변수: LOTTO_DAEMON_CRON (기본값: 매주 토요일 09:00)
+     */
+    @Value("${LOTTO_DAEMON_CRON:0 0 9 * * SAT}")
+    private String daemonCron;
+
+    /**
+     * 계정별 구매 시각 ("아이디=cron"을 줄바꿈 또는 ;로 구분, 없는 계정은 LOTTO_DAEMON_CRON 사용)
+     * 환경 변수: LOTTO_DAEMON_ACCOUNT_CRONS
+     */
+    @Value("${LOTTO_DAEMON_ACCOUNT_CRONS:}")
+    private String daemonAccountCrons;
+
+    /**
+     * 상시 실행 모드에서 구매 시각 몇 분 전에 미리 로그인할지
+     * 환경 변수: LOTTO_DAEMON_PRELOGIN_MINUTES (기본값: 3)
+     */
+    @Value("${LOTTO_DAEMON_PRELOGIN_MINUTES:3}")
+    private long daemonPreloginMinutes;
+
+    /**
+     * 미리 로그인한 세션을 유지하기 위해 예치금을 조회하는 간격(초)
+     * 환경 변수: LOTTO_DAEMON_KEEPALIVE_SECONDS (기본값: 60)
+     */
+    @Value("${LOTTO_DAEMON_KEEPALIVE_SECONDS:60}")
+    private long daemonKeepAliveSeconds;
+
+    /**
+     * 구매 후 역대 추첨 결과를 상태 디렉터리에 내려받을지 (저장된 마지막 회차 이후만 조회)
+     * 환경 변수: LOTTO_DRAW_SYNC (기본값: false)
+     */
+    @Value("${LOTTO_DRAW_SYNC:false}")
+    private boolean drawSync;
+
+    /**
+     * 번호 선택 방식 (auto: 사이트 자동선택, random: 균등 난수, frequency: 출현 빈도 가중, exclude-winners: 직전 당첨 번호 제외, favorites: 고정 번호)
+     * 환경 변수: LOTTO_NUMBER_STRATEGY (기본값: auto)
+     */
+    @Value("${LOTTO_NUMBER_STRATEGY:auto}")
+    private String numberStrategy;
+
+    /**
+     * 번호 생성 난수 시드 (설정하면 매 실행 같은 순서로 번호를 고름)
+     * 환경 변수: LOTTO_NUMBER_SEED (기본값: 없음)
+     */
+    @Value("${LOTTO_NUMBER_SEED:}")
+    private String numberSeed;
+
+    /**
+     * frequency 방식이 빈도를 셀 최근 회차 수 (0이면 전체 회차)
+     * 환경 변수: LOTTO_NUMBER_WINDOW (기본값: 0)
+     */
+    @Value("${LOTTO_NUMBER_WINDOW:0}")
+    private int numberWindow;
+
+    /**
+     * favorites 방식으로 살 게임 ("1,2,3,4,5,6"을 줄바꿈 또는 ;로 구분, 5게임보다 적으면 나머지는 균등 난수)
+     * 환경 변수: LOTTO_FAVORITE_NUMBERS
+     */
+    @Value("${LOTTO_FAVORITE_NUMBERS:}")
+    private String favoriteNumbers;
+
+    /**
+     * 상시 실행 모드 여부
+     */
+    public boolean isDaemonMode() {
+        return MODE_DAEMON.equalsIgnoreCase(mode == null ? "" : mode.trim());
+    }
+
+    /**
+     * 구매 여부 판단 모드 여부
+     */
+    public boolean isCheckMode() {
+        return MODE_CHECK.equalsIgnoreCase(mode == null ? "" : mode.trim());
+    }
+
+    /**
+     * 구매를 진행할 계정 목록
+     * LOTTO_ACCOUNTS가 설정되어 있으면 해당 목록을, 없으면 단일 계정을 반환합니다.
+     */
+    public List<LotteryAccount> getAccounts() {
+        List<LotteryAccount> accounts = new ArrayList<>();
+        if (accountsSpec != null && !accountsSpec.isBlank()) {
+            for (String entry : accountEntries(accountsSpec)) {
+                String trimmed = entry.trim();
+                // 비밀번호에 ':'가 포함될 수 있으므로 첫 번째 ':'만 구분자로 사용
+                int separator = trimmed.indexOf(':');
+                if (separator <= 0 || separator == trimmed.length() - 1) {
+                    continue;
+                }
+                accounts.add(new LotteryAccount(trimmed.substring(0, separator), trimmed.substring(separator + 1)));
+            }
+            return accounts;
+        }
+
+        if (username != null && !username.isEmpty() && password != null && !password.isEmpty()) {
+            accounts.add(new LotteryAccount(username, password));
+        }
+        return accounts;
+    }
+
+    /**
+     * LOTTO_ACCOUNTS를 항목별로 나누기
+     * 줄바꿈과 ;로 나누되, \;는 ;로, \\는 \로 읽습니다.
+     */
+    static List<String> accountEntries(String spec) {
+        List<String> entries = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < spec.length(); i++) {
+            char c = spec.charAt(i);
+            if (c == '\\' && i + 1 < spec.length() && (spec.charAt(i + 1) == ';' || spec.charAt(i + 1) == '\\')) {
+                current.append(spec.charAt(++i));
+            } else if (c == ';' || c == '\r' || c == '\n') {
+                entries.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        entries.add(current.toString());
+        return entries;
+    }
+
     /**
      * 환경 변수 유효성 검증
      */
     public boolean isValid() {
-        return username != null && !username.isEmpty()
-                && password != null && !password.isEmpty()
+        return !getAccounts().isEmpty()
                 && telegramBotToken != null && !telegramBotToken.isEmpty()
                 && telegramChatId != null && !telegramChatId.isEmpty();
     }
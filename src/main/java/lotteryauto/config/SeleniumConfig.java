@@ -1,16 +1,25 @@
 package lotteryauto.config;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import lotteryauto.browser.ChromeDriverResolver;
+import lotteryauto.browser.ResourceBlockingProfile;
+import lotteryauto.browser.WebDriverPool;
+import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
 import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.annotation.Scope;
 
+import java.net.URI;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Selenium WebDriver 설정 클래스
@@ -20,17 +29,76 @@ import java.time.Duration;
 @Configuration
 public class SeleniumConfig {
 
+    /**
+     * 자동화 감지 우회 스크립트
+     * 새 문서가 열릴 때마다 페이지 스크립트보다 먼저 실행되도록 CDP로 등록합니다.
+     */
+    private static final String STEALTH_SCRIPT =
+            // webdriver 속성 숨기기
+            "Object.defineProperty(navigator, 'webdriver', {" +
+            "  get: () => undefined" +
+            "});" +
+            // Chrome 객체 추가
+            "window.chrome = {" +
+            "  runtime: {}" +
+            "};" +
+            // Permissions 객체 추가
+            "const originalQuery = window.navigator.permissions.query;" +
+            "window.navigator.permissions.query = (parameters) => (" +
+            "  parameters.name === 'notifications' ?" +
+            "    Promise.resolve({ state: Notification.permission }) :" +
+            "    originalQuery(parameters)" +
+            ");";
+
+    /**
+     * 미리 띄워둔 브라우저를 재사용하는 WebDriver 풀
+     * 브라우저는 구매를 시작하기로 한 뒤에 {@link lotteryauto.service.MultiAccountPurchaseRunner}가 미리 띄웁니다.
+     */
+    @Bean
+    public WebDriverPool webDriverPool(LotteryConfig lotteryConfig, ChromeDriverResolver chromeDriverResolver,
+                                       DhlotteryEndpoints endpoints, MeterRegistry meterRegistry) {
+        int maxSize = lotteryConfig.getWebDriverPoolSize() > 0
+                ? lotteryConfig.getWebDriverPoolSize()
+                : Math.max(1, lotteryConfig.getMaxConcurrentBrowsers());
+        WebDriverPool pool = new WebDriverPool(() -> createWebDriver(chromeDriverResolver), maxSize,
+                Duration.ofSeconds(lotteryConfig.getWebDriverIdleSeconds()), endpoints.siteOrigins());
+        Gauge.builder("lotto.webdriver.pool.idle", pool, WebDriverPool::idleCount)
+                .description("대여 가능한 유휴 브라우저 수")
+                .register(meterRegistry);
+        log.info("WebDriver 풀 초기화 (최대 {}개)", maxSize);
+        return pool;
+    }
+
+    /**
+     * 브라우저 요청 허용 목록
+     * 사이트 주소의 호스트는 항상 허용하고, LOTTO_ALLOWED_HOSTS로 추가 호스트를 지정할 수 있습니다.
+     */
+    @Bean
+    public ResourceBlockingProfile resourceBlockingProfile(LotteryConfig lotteryConfig, DhlotteryEndpoints endpoints) {
+        if (!lotteryConfig.isBlockResources()) {
+            log.info("요청 차단 비활성화 (LOTTO_BLOCK_RESOURCES=false)");
+            return ResourceBlockingProfile.DISABLED;
+        }
+        List<String> hosts = new ArrayList<>();
+        endpoints.siteOrigins().forEach(origin -> hosts.add(URI.create(origin).getHost()));
+        hosts.addAll(Arrays.asList(lotteryConfig.getAllowedHosts().split(",")));
+        ResourceBlockingProfile profile = ResourceBlockingProfile.of(hosts, lotteryConfig.getAllowedResourceTypes());
+        log.info("요청 차단 활성화 (허용 호스트: {}, 허용 유형: {})", profile.allowedHosts(), profile.allowedTypes());
+        return profile;
+    }
+
     /**
      * Chrome WebDriver를 Headless 모드로 생성
      * GitHub Actions 서버 환경에 최적화된 설정
      */
-    @Bean
-    @Scope("prototype")
-    public WebDriver webDriver() {
-        // WebDriverManager를 사용하여 ChromeDriver 자동 관리
-        WebDriverManager.chromedriver().setup();
+    private WebDriver createWebDriver(ChromeDriverResolver chromeDriverResolver) {
+        long startNanos = System.nanoTime();
+        // 캐시된 chromedriver 경로 사용 (최초 1회만 버전 확인)
+        ChromeDriverResolver.DriverBootstrap bootstrap = chromeDriverResolver.resolve();
 
         ChromeOptions options = new ChromeOptions();
+        // DOMContentLoaded에서 이동을 마치고, 전체 로드가 필요한 페이지(로그인)만 load 이벤트까지 따로 기다림
+        options.setPageLoadStrategy(PageLoadStrategy.EAGER);
         
         // 환경 변수 LOTTO_HEADLESS가 false이면 브라우저를 화면에 띄움
         String headlessEnv = System.getenv("LOTTO_HEADLESS");
@@ -74,48 +142,21 @@ public class SeleniumConfig {
         System.setProperty("webdriver.chrome.verboseLogging", "false");
 
         log.info("Chrome WebDriver를 Headless 모드로 초기화합니다.");
-        ChromeDriver driver = new ChromeDriver(options);
+        ChromeDriverService service = new ChromeDriverService.Builder()
+                .usingDriverExecutable(bootstrap.driverPath().toFile())
+                .build();
+        ChromeDriver driver = new ChromeDriver(service, options);
         
-        // 자동화 감지 우회를 위한 JavaScript 주입
+        // 자동화 감지 우회를 위한 JavaScript 등록 (이후 열리는 모든 문서에 적용)
         try {
-            org.openqa.selenium.JavascriptExecutor js = (org.openqa.selenium.JavascriptExecutor) driver;
-            // webdriver 속성 숨기기
-            js.executeScript(
-                "Object.defineProperty(navigator, 'webdriver', {" +
-                "  get: () => undefined" +
-                "});"
-            );
-            // Chrome 객체 추가
-            js.executeScript(
-                "window.chrome = {" +
-                "  runtime: {}" +
-                "};"
-            );
-            // Permissions 객체 추가
-            js.executeScript(
-                "const originalQuery = window.navigator.permissions.query;" +
-                "window.navigator.permissions.query = (parameters) => (" +
-                "  parameters.name === 'notifications' ?" +
-                "    Promise.resolve({ state: Notification.permission }) :" +
-                "    originalQuery(parameters)" +
-                ");"
-            );
-            log.info("자동화 감지 우회 JavaScript 주입 완료");
+            driver.executeCdpCommand("Page.addScriptToEvaluateOnNewDocument", Map.of("source", STEALTH_SCRIPT));
+            log.info("자동화 감지 우회 JavaScript 등록 완료");
         } catch (Exception e) {
-            log.warn("자동화 감지 우회 JavaScript 주입 실패 (계속 진행): {}", e.getMessage());
+            log.warn("자동화 감지 우회 JavaScript 등록 실패 (계속 진행): {}", e.getMessage());
         }
-        
-        return driver;
-    }
 
-    /**
-     * WebDriverWait 빈 생성
-     * 명시적 대기 시간 설정
-     */
-    @Bean
-    @Scope("prototype")
-    public WebDriverWait webDriverWait(WebDriver webDriver) {
-        return new WebDriverWait(webDriver, Duration.ofSeconds(30));
+        log.info("Chrome WebDriver 준비 완료 ({}ms)", (System.nanoTime() - startNanos) / 1_000_000);
+        return driver;
     }
 }
 
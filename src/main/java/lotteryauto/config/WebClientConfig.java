@@ -2,21 +2,44 @@ package lotteryauto.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+import java.time.Duration;
 
 /**
- * WebClient 설정 (Telegram API 호출용)
+ * WebClient 설정 (Telegram API, 웹훅, HTTP 구매 엔진 호출용)
+ * 모든 호출이 하나의 연결 풀을 공유하며, Netty 자원은 이 설정의 빈으로 관리되어
+ * 이를 사용하는 빈(알림 발신함 등)이 종료 처리를 마친 뒤에 정리됩니다.
  */
 @Configuration
 public class WebClientConfig {
 
+    @Bean(destroyMethod = "dispose")
+    public LoopResources httpLoopResources() {
+        return LoopResources.create("lotto-http", 2, true);
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider httpConnectionProvider() {
+        return ConnectionProvider.builder("lotto-http")
+                .maxConnections(32)
+                .maxIdleTime(Duration.ofSeconds(30))
+                .pendingAcquireTimeout(Duration.ofSeconds(30))
+                .build();
+    }
+
     @Bean
-    public WebClient webClient() {
+    public WebClient webClient(LoopResources httpLoopResources, ConnectionProvider httpConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(httpConnectionProvider).runOn(httpLoopResources);
         return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .codecs(configurer -> configurer
                         .defaultCodecs()
                         .maxInMemorySize(2 * 1024 * 1024)) // 2MB
                 .build();
     }
 }
-
@@ -0,0 +1,140 @@
+package lotteryauto.draw;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * 역대 추첨 결과 통계
+ * 창(최근 N회, 0이면 전체)마다 집계를 하나씩 유지합니다. 처음 요청된 창은 회차를 구간으로 나눠 병렬로 집계하고,
+ * 이후 새 회차가 저장되면 그 회차를 더하고 창에서 밀려난 회차만 빼서 갱신합니다.
+ * 갱신할 때마다 변경 불가 스냅숏({@link DrawStats})을 만들어 두므로 조회는 잠금 없이 바로 돌아갑니다.
+ */
+@Slf4j
+@Component
+public class DrawAnalytics {
+
+    /** 전체 회차 창 */
+    public static final int ALL = 0;
+
+    /** 이보다 적은 회차는 한 스레드로 집계 */
+    static final int PARALLEL_THRESHOLD = 256;
+
+    private final DrawStore drawStore;
+    private final Map<Integer, Window> windows = new ConcurrentHashMap<>();
+
+    public DrawAnalytics(DrawStore drawStore) {
+        this.drawStore = drawStore;
+    }
+
+    /**
+     * 전체 회차 통계
+     */
+    public DrawStats stats() {
+        return stats(ALL);
+    }
+
+    /**
+     * 최근 window회 통계 (저장소에 새 회차가 있으면 먼저 반영)
+     *
+     * @param window 최근 회차 수 (0이면 전체)
+     */
+    public DrawStats stats(int window) {
+        if (window < 0) {
+            throw new IllegalArgumentException("창 크기는 0 이상이어야 합니다: " + window);
+        }
+        Window current = windows.get(window);
+        DrawStats snapshot = current != null ? current.snapshot : null;
+        if (snapshot != null && snapshot.lastRound() == drawStore.latestRound()) {
+            return snapshot;
+        }
+        return refresh(window);
+    }
+
+    private synchronized DrawStats refresh(int size) {
+        int latest = drawStore.latestRound();
+        Window window = windows.get(size);
+        if (window == null) {
+            window = build(size, latest);
+            windows.put(size, window);
+        } else if (window.lastRound < latest) {
+            advance(window, latest);
+        }
+        return window.snapshot;
+    }
+
+    /**
+     * 창을 처음 만들 때 병렬 집계
+     * 회차별 당첨 번호를 기본형 배열로 읽은 뒤 공용 ForkJoinPool 병렬도만큼 구간을 나눠 각자 집계하고 합칩니다.
+     */
+    private Window build(int size, int latest) {
+        long startNanos = System.nanoTime();
+        int first = latest == 0 ? 0 : size == ALL ? 1 : Math.max(1, latest - size + 1);
+        int length = latest == 0 ? 0 : latest - first + 1;
+        long[] masks = new long[length];
+        for (int i = 0; i < length; i++) {
+            masks[i] = drawStore.mask(first + i);
+        }
+
+        int chunks = Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism(), length / PARALLEL_THRESHOLD));
+        DrawCounts counts = IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> {
+                    DrawCounts partial = new DrawCounts();
+                    int from = (int) ((long) length * chunk / chunks);
+                    int to = (int) ((long) length * (chunk + 1) / chunks);
+                    for (int i = from; i < to; i++) {
+                        partial.add(first + i, masks[i]);
+                    }
+                    return partial;
+                })
+                .reduce(DrawCounts::merge)
+                .orElseGet(DrawCounts::new);
+
+        Window window = new Window(size, counts, first, latest);
+        log.debug("추첨 통계 집계 ({}): {}회차, {}개 구간, {}ms", size == ALL ? "전체" : "최근 " + size + "회",
+                length, chunks, (System.nanoTime() - startNanos) / 1_000_000);
+        return window;
+    }
+
+    /**
+     * 새 회차를 더하고 창에서 밀려난 회차를 빼서 갱신
+     */
+    private void advance(Window window, int latest) {
+        for (int round = window.lastRound + 1; round <= latest; round++) {
+            window.counts.add(round, drawStore.mask(round));
+            if (window.firstRound == 0) {
+                window.firstRound = round;
+            }
+            if (window.size != ALL && window.counts.draws > window.size) {
+                window.counts.remove(window.firstRound, drawStore.mask(window.firstRound));
+                window.firstRound++;
+            }
+        }
+        window.lastRound = latest;
+        window.snapshot = new DrawStats(window.size, window.firstRound, latest, window.counts);
+    }
+
+    /**
+     * 창 하나의 집계 상태 (갱신은 refresh 잠금 안에서만)
+     */
+    private static final class Window {
+        private final int size;
+        private final DrawCounts counts;
+        private int firstRound;
+        private int lastRound;
+        private volatile DrawStats snapshot;
+
+        private Window(int size, DrawCounts counts, int firstRound, int lastRound) {
+            this.size = size;
+            this.counts = counts;
+            this.firstRound = firstRound;
+            this.lastRound = lastRound;
+            this.snapshot = new DrawStats(size, firstRound, lastRound, counts);
+        }
+    }
+}
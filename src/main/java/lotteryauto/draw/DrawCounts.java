@@ -0,0 +1,91 @@
+package lotteryauto.draw;
+
+import lotteryauto.ticket.Ticket;
+
+/**
+ * 추첨 결과 집계 (번호별 출현, 쌍·삼중 동시 출현, 마지막 출현 회차, 홀수 개수와 합계 분포)
+ * 모든 값을 번호로 바로 찾는 기본형 배열에 담아, 회차 하나를 더하거나 빼는 비용이 번호 조합 수(6 + 15 + 20)로 일정합니다.
+ * 병렬 집계에서는 구간마다 하나씩 만들어 {@link #merge}로 합칩니다.
+ */
+final class DrawCounts {
+
+    static final int STRIDE = Ticket.MAX_NUMBER + 1;
+    /** 번호 6개 합계의 최댓값 (40 + 41 + ... + 45) */
+    static final int MAX_SUM = 255;
+    /** 홀수 번호의 비트 */
+    private static final long ODD_BITS = 0xAAAA_AAAA_AAAA_AAAAL & Ticket.VALID_BITS;
+
+    int draws;
+    final int[] frequency = new int[STRIDE];
+    /** a < b인 쌍의 출현 수, 위치 a * STRIDE + b */
+    final int[] pairs = new int[STRIDE * STRIDE];
+    /** a < b < c인 삼중의 출현 수, 위치 (a * STRIDE + b) * STRIDE + c */
+    final int[] triples = new int[STRIDE * STRIDE * STRIDE];
+    /** 번호가 마지막으로 나온 회차 (없으면 0) */
+    final int[] lastSeen = new int[STRIDE];
+    /** 홀수 번호가 k개인 추첨 수 */
+    final int[] oddCounts = new int[Ticket.SIZE + 1];
+    /** 번호 합계별 추첨 수 */
+    final int[] sums = new int[MAX_SUM + 1];
+
+    void add(int round, long mask) {
+        apply(mask, 1);
+        for (long rest = mask; rest != 0; rest &= rest - 1) {
+            int number = Long.numberOfTrailingZeros(rest);
+            lastSeen[number] = Math.max(lastSeen[number], round);
+        }
+    }
+
+    /**
+     * 창에서 가장 오래된 회차 제거
+     * 마지막 출현 회차가 제거하는 회차와 같으면 그 번호는 창 안에 더 없으므로 0으로 돌립니다.
+     */
+    void remove(int round, long mask) {
+        apply(mask, -1);
+        for (long rest = mask; rest != 0; rest &= rest - 1) {
+            int number = Long.numberOfTrailingZeros(rest);
+            if (lastSeen[number] == round) {
+                lastSeen[number] = 0;
+            }
+        }
+    }
+
+    DrawCounts merge(DrawCounts other) {
+        draws += other.draws;
+        addAll(frequency, other.frequency);
+        addAll(pairs, other.pairs);
+        addAll(triples, other.triples);
+        addAll(oddCounts, other.oddCounts);
+        addAll(sums, other.sums);
+        for (int i = 0; i < STRIDE; i++) {
+            lastSeen[i] = Math.max(lastSeen[i], other.lastSeen[i]);
+        }
+        return this;
+    }
+
+    private void apply(long mask, int delta) {
+        int[] numbers = Ticket.numbers(mask);
+        int sum = 0;
+        draws += delta;
+        for (int i = 0; i < numbers.length; i++) {
+            int a = numbers[i];
+            sum += a;
+            frequency[a] += delta;
+            for (int j = i + 1; j < numbers.length; j++) {
+                int ab = a * STRIDE + numbers[j];
+                pairs[ab] += delta;
+                for (int k = j + 1; k < numbers.length; k++) {
+                    triples[ab * STRIDE + numbers[k]] += delta;
+                }
+            }
+        }
+        oddCounts[Long.bitCount(mask & ODD_BITS)] += delta;
+        sums[sum] += delta;
+    }
+
+    private static void addAll(int[] target, int[] source) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] += source[i];
+        }
+    }
+}
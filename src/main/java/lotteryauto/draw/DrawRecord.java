@@ -0,0 +1,50 @@
+package lotteryauto.draw;
+
+import lotteryauto.ticket.Rank;
+import lotteryauto.ticket.WinningNumbers;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 한 회차의 추첨 결과
+ *
+ * @param round      회차
+ * @param drawDate   추첨일
+ * @param numbers    당첨 번호와 보너스 번호
+ * @param totalSales 총 판매 금액 (모르면 0)
+ * @param tiers      1~5등 당첨금과 당첨자 수 ({@link Rank} 순서)
+ */
+public record DrawRecord(int round, LocalDate drawDate, WinningNumbers numbers, long totalSales, List<PrizeTier> tiers) {
+
+    /** 저장하는 등수 수 (1~5등) */
+    public static final int TIERS = Rank.values().length - 1;
+
+    public DrawRecord {
+        if (numbers.round() != round) {
+            throw new IllegalArgumentException("회차가 당첨 번호와 다릅니다: " + round + " / " + numbers.round());
+        }
+        if (tiers.size() != TIERS) {
+            throw new IllegalArgumentException("등수별 당첨금은 " + TIERS + "개여야 합니다: " + tiers.size());
+        }
+        tiers = List.copyOf(tiers);
+    }
+
+    /**
+     * 등수별 당첨금 (낙첨이면 0원)
+     */
+    public PrizeTier tier(Rank rank) {
+        return rank.isWinning() ? tiers.get(rank.ordinal()) : PrizeTier.UNKNOWN;
+    }
+
+    /**
+     * 등수별 당첨금
+     *
+     * @param amountPerWinner 1게임당 당첨금 (모르면 0)
+     * @param winners         당첨 게임 수 (모르면 0)
+     */
+    public record PrizeTier(long amountPerWinner, int winners) {
+
+        public static final PrizeTier UNKNOWN = new PrizeTier(0, 0);
+    }
+}
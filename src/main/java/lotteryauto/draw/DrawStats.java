@@ -0,0 +1,172 @@
+package lotteryauto.draw;
+
+import lotteryauto.ticket.Ticket;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+/**
+ * 추첨 결과 통계 스냅숏 (변경 불가)
+ * {@link DrawAnalytics}가 회차가 늘어날 때만 새로 만들어 두므로, 조회는 배열 한 칸을 읽는 비용으로 끝납니다.
+ * 번호 생성기가 게임을 뽑을 때마다 불러도 됩니다.
+ */
+public final class DrawStats {
+
+    private final int window;
+    private final int firstRound;
+    private final int lastRound;
+    private final int draws;
+    private final int[] frequency;
+    private final int[] pairs;
+    private final int[] triples;
+    private final int[] lastSeen;
+    private final int[] oddCounts;
+    private final int[] sums;
+    private final int[] ranking;
+
+    DrawStats(int window, int firstRound, int lastRound, DrawCounts counts) {
+        this.window = window;
+        this.firstRound = firstRound;
+        this.lastRound = lastRound;
+        this.draws = counts.draws;
+        this.frequency = counts.frequency.clone();
+        this.pairs = counts.pairs.clone();
+        this.triples = counts.triples.clone();
+        this.lastSeen = counts.lastSeen.clone();
+        this.oddCounts = counts.oddCounts.clone();
+        this.sums = counts.sums.clone();
+        this.ranking = IntStream.rangeClosed(Ticket.MIN_NUMBER, Ticket.MAX_NUMBER)
+                .boxed()
+                .sorted(Comparator.<Integer>comparingInt(n -> -frequency[n]).thenComparingInt(n -> n))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    /**
+     * 집계한 최근 회차 수 (0이면 전체 회차)
+     */
+    public int window() {
+        return window;
+    }
+
+    /**
+     * 집계 범위의 첫 회차 (집계한 회차가 없으면 0)
+     */
+    public int firstRound() {
+        return firstRound;
+    }
+
+    /**
+     * 집계 범위의 마지막 회차 (집계한 회차가 없으면 0)
+     */
+    public int lastRound() {
+        return lastRound;
+    }
+
+    /**
+     * 집계한 추첨 수
+     */
+    public int draws() {
+        return draws;
+    }
+
+    /**
+     * 번호가 당첨 번호로 나온 횟수
+     */
+    public int frequency(int number) {
+        return frequency[checked(number)];
+    }
+
+    /**
+     * 두 번호가 같은 회차에 함께 나온 횟수 (순서 무관)
+     */
+    public int pair(int a, int b) {
+        int x = checked(Math.min(a, b));
+        int y = checked(Math.max(a, b));
+        return x == y ? frequency[x] : pairs[x * DrawCounts.STRIDE + y];
+    }
+
+    /**
+     * 서로 다른 세 번호가 같은 회차에 함께 나온 횟수 (순서 무관)
+     *
+     * @throws IllegalArgumentException 번호가 겹치거나 범위를 벗어난 경우
+     */
+    public int triple(int a, int b, int c) {
+        int x = checked(Math.min(a, Math.min(b, c)));
+        int z = checked(Math.max(a, Math.max(b, c)));
+        int y = a + b + c - x - z;
+        if (x == y || y == z) {
+            throw new IllegalArgumentException("서로 다른 번호 3개가 필요합니다: " + a + ", " + b + ", " + c);
+        }
+        return triples[(x * DrawCounts.STRIDE + y) * DrawCounts.STRIDE + z];
+    }
+
+    /**
+     * 번호가 마지막으로 나온 뒤 지난 회차 수 (마지막 회차에 나왔으면 0)
+     * 집계 범위 안에서 나오지 않았으면 집계한 추첨 수를 돌려줍니다.
+     */
+    public int gap(int number) {
+        int seen = lastSeen[checked(number)];
+        return seen == 0 ? draws : lastRound - seen;
+    }
+
+    /**
+     * 당첨 번호 6개 중 홀수가 k개인 추첨 수
+     */
+    public int oddCount(int k) {
+        return k >= 0 && k < oddCounts.length ? oddCounts[k] : 0;
+    }
+
+    /**
+     * 당첨 번호 6개의 합계가 sum인 추첨 수
+     */
+    public int sumCount(int sum) {
+        return sum >= 0 && sum < sums.length ? sums[sum] : 0;
+    }
+
+    /**
+     * 합계가 from 이상 to 이하인 추첨 수
+     */
+    public int sumCount(int from, int to) {
+        int total = 0;
+        for (int sum = Math.max(0, from); sum <= Math.min(to, DrawCounts.MAX_SUM); sum++) {
+            total += sums[sum];
+        }
+        return total;
+    }
+
+    /**
+     * 번호별 출현 횟수 (인덱스 = 번호, 0번 칸은 비어 있음)
+     */
+    public int[] frequencies() {
+        return frequency.clone();
+    }
+
+    /**
+     * 많이 나온 순서의 번호 (횟수가 같으면 작은 번호 먼저)
+     */
+    public int[] ranking() {
+        return ranking.clone();
+    }
+
+    /**
+     * 많이 나온 순서로 rank번째(0부터) 번호
+     */
+    public int rankedNumber(int rank) {
+        return ranking[rank];
+    }
+
+    private static int checked(int number) {
+        if (number < Ticket.MIN_NUMBER || number > Ticket.MAX_NUMBER) {
+            throw new IllegalArgumentException("번호는 1~45 사이여야 합니다: " + number);
+        }
+        return number;
+    }
+
+    @Override
+    public String toString() {
+        return "DrawStats{" + (window == 0 ? "전체" : "최근 " + window + "회") + ", " + firstRound + "~" + lastRound
+                + "회, 추첨 " + draws + "회, 최다 " + Arrays.toString(Arrays.copyOf(ranking, Ticket.SIZE)) + "}";
+    }
+}
@@ -0,0 +1,265 @@
+package lotteryauto.draw;
+
+import lombok.extern.slf4j.Slf4j;
+import lotteryauto.config.LotteryConfig;
+import lotteryauto.ticket.WinningNumbers;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 역대 추첨 결과 저장소 (고정 길이 이진 파일, 메모리 매핑)
+ * 1회부터 빠짐없이 회차 순서로 레코드를 쌓으므로 회차 r의 위치는 {@code HEADER_SIZE + (r - 1) * RECORD_SIZE}이고,
+ * 추첨은 매주 토요일이라 날짜로도 회차를 바로 계산합니다. 조회는 매핑된 버퍼에서 필요한 칸만 읽으므로 JSON을 다시 해석하지 않습니다.
+ *
+ * <pre>
+ * 헤더 (32바이트): magic "LDS1" | 버전 | 레코드 길이 | 저장된 마지막 회차
+ * 레코드 (96바이트): 회차(int) | 추첨일 epochDay(int) | 당첨 번호 비트마스크(long) | 보너스(byte) | 예약(7)
+ *                   | 총 판매 금액(long) | 1~5등 × (1게임당 당첨금 long, 당첨 게임 수 int) | 예약(4)
+ * </pre>
+ */
+@Slf4j
+@Component
+public class DrawStore {
+
+    /** 1회 추첨일, 이후 매주 토요일 추첨 */
+    public static final LocalDate FIRST_DRAW_DATE = LocalDate.of(2002, 12, 7);
+
+    static final int MAGIC = 0x4C445331;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final int RECORD_SIZE = 96;
+
+    private static final int HEADER_COUNT = 12;
+    private static final int ROUND = 0;
+    private static final int DATE = 4;
+    private static final int MASK = 8;
+    private static final int BONUS = 16;
+    private static final int TOTAL_SALES = 24;
+    private static final int TIERS = 32;
+    private static final int TIER_SIZE = 12;
+    /** 파일을 늘릴 때 한 번에 확보하는 레코드 수 (약 5년치) */
+    private static final int GROWTH = 260;
+
+    private final Path file;
+    /** 저장된 레코드를 담은 매핑 (없으면 null), 교체 후에 count를 갱신하므로 count 이하 회차는 항상 읽을 수 있음 */
+    private volatile MappedByteBuffer buffer;
+    private volatile int count;
+
+    public DrawStore(LotteryConfig lotteryConfig) {
+        this.file = Paths.get(lotteryConfig.getStateDir(), "draws", "draws.bin");
+        open();
+    }
+
+    /**
+     * 저장된 마지막 회차 (없으면 0)
+     */
+    public int latestRound() {
+        return count;
+    }
+
+    public boolean contains(int round) {
+        return round >= 1 && round <= count;
+    }
+
+    /**
+     * 회차의 추첨 결과
+     */
+    public Optional<DrawRecord> get(int round) {
+        if (!contains(round)) {
+            return Optional.empty();
+        }
+        MappedByteBuffer view = buffer;
+        int base = offset(round);
+        List<DrawRecord.PrizeTier> tiers = new ArrayList<>(DrawRecord.TIERS);
+        for (int i = 0; i < DrawRecord.TIERS; i++) {
+            int tier = base + TIERS + i * TIER_SIZE;
+            tiers.add(new DrawRecord.PrizeTier(view.getLong(tier), view.getInt(tier + 8)));
+        }
+        return Optional.of(new DrawRecord(round, LocalDate.ofEpochDay(view.getInt(base + DATE)),
+                new WinningNumbers(round, view.getLong(base + MASK), view.get(base + BONUS)),
+                view.getLong(base + TOTAL_SALES), tiers));
+    }
+
+    /**
+     * 회차의 당첨 번호 비트마스크 (레코드 객체를 만들지 않는 통계용 조회)
+     *
+     * @throws IllegalArgumentException 저장되지 않은 회차
+     */
+    public long mask(int round) {
+        return buffer(round).getLong(offset(round) + MASK);
+    }
+
+    /**
+     * 회차의 보너스 번호
+     *
+     * @throws IllegalArgumentException 저장되지 않은 회차
+     */
+    public int bonus(int round) {
+        return buffer(round).get(offset(round) + BONUS);
+    }
+
+    /**
+     * 회차의 추첨일
+     *
+     * @throws IllegalArgumentException 저장되지 않은 회차
+     */
+    public LocalDate drawDate(int round) {
+        return LocalDate.ofEpochDay(buffer(round).getInt(offset(round) + DATE));
+    }
+
+    /**
+     * 해당 날짜 이전(당일 포함) 마지막 회차 (없으면 0)
+     * 매주 한 번 추첨하므로 날짜로 회차를 계산한 뒤, 저장된 추첨일과 어긋나면 앞뒤로 맞춥니다.
+     */
+    public int lastRoundOnOrBefore(LocalDate date) {
+        int latest = count;
+        long weeks = Math.floorDiv(date.toEpochDay() - FIRST_DRAW_DATE.toEpochDay(), 7);
+        int round = (int) Math.max(0, Math.min(latest, weeks + 1));
+        while (round < latest && !drawDate(round + 1).isAfter(date)) {
+            round++;
+        }
+        while (round >= 1 && drawDate(round).isAfter(date)) {
+            round--;
+        }
+        return round;
+    }
+
+    /**
+     * 해당 날짜 이후(당일 포함) 첫 회차 (없으면 {@code latestRound() + 1})
+     */
+    public int firstRoundOnOrAfter(LocalDate date) {
+        return lastRoundOnOrBefore(date.minusDays(1)) + 1;
+    }
+
+    /**
+     * 기간 안에 추첨한 회차의 결과 (양 끝 포함, 회차 순)
+     */
+    public List<DrawRecord> between(LocalDate from, LocalDate to) {
+        int first = firstRoundOnOrAfter(from);
+        int last = lastRoundOnOrBefore(to);
+        List<DrawRecord> records = new ArrayList<>(Math.max(0, last - first + 1));
+        for (int round = first; round <= last; round++) {
+            get(round).ifPresent(records::add);
+        }
+        return records;
+    }
+
+    /**
+     * 마지막 회차 다음부터 이어지는 추첨 결과 추가
+     * 레코드를 모두 쓰고 디스크에 반영한 뒤 헤더의 마지막 회차를 갱신하므로, 도중에 중단돼도 이전 상태로 읽힙니다.
+     *
+     * @throws IllegalArgumentException 회차가 마지막 회차 다음부터 이어지지 않는 경우
+     */
+    public synchronized void append(List<DrawRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        int next = count + 1;
+        for (DrawRecord record : records) {
+            if (record.round() != next++) {
+                throw new IllegalArgumentException("회차가 이어지지 않습니다: " + record.round() + " (기대 " + (next - 1) + ")");
+            }
+        }
+        int newCount = next - 1;
+        MappedByteBuffer view = ensureCapacity(newCount);
+        for (DrawRecord record : records) {
+            int base = offset(record.round());
+            view.putInt(base + ROUND, record.round());
+            view.putInt(base + DATE, (int) record.drawDate().toEpochDay());
+            view.putLong(base + MASK, record.numbers().mask());
+            view.put(base + BONUS, (byte) record.numbers().bonus());
+            view.putLong(base + TOTAL_SALES, record.totalSales());
+            for (int i = 0; i < DrawRecord.TIERS; i++) {
+                DrawRecord.PrizeTier tier = record.tiers().get(i);
+                view.putLong(base + TIERS + i * TIER_SIZE, tier.amountPerWinner());
+                view.putInt(base + TIERS + i * TIER_SIZE + 8, tier.winners());
+            }
+        }
+        view.force();
+        view.putInt(HEADER_COUNT, newCount);
+        view.force();
+        count = newCount;
+    }
+
+    private MappedByteBuffer buffer(int round) {
+        if (!contains(round)) {
+            throw new IllegalArgumentException("저장되지 않은 회차입니다: " + round);
+        }
+        return buffer;
+    }
+
+    private static int offset(int round) {
+        return HEADER_SIZE + (round - 1) * RECORD_SIZE;
+    }
+
+    /**
+     * 기존 파일 매핑 (형식이 다르거나 손상된 파일은 비운 상태로 시작해 다음 동기화 때 다시 채움)
+     */
+    private void open() {
+        if (!Files.isRegularFile(file)) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE) {
+                log.warn("추첨 결과 파일이 손상되어 새로 만듭니다: {}", file);
+                return;
+            }
+            MappedByteBuffer view = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            int stored = view.getInt(HEADER_COUNT);
+            if (view.getInt(0) != MAGIC || view.getInt(4) != VERSION || view.getInt(8) != RECORD_SIZE
+                    || stored < 0 || HEADER_SIZE + (long) stored * RECORD_SIZE > size) {
+                log.warn("추첨 결과 파일 형식이 달라 새로 만듭니다: {}", file);
+                return;
+            }
+            buffer = view;
+            count = stored;
+            log.debug("추첨 결과 {}회차까지 불러옴", stored);
+        } catch (IOException e) {
+            log.warn("추첨 결과 파일을 열 수 없습니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 마지막 회차가 들어갈 만큼 파일을 늘려 다시 매핑
+     */
+    private MappedByteBuffer ensureCapacity(int rounds) {
+        MappedByteBuffer current = buffer;
+        if (current != null && current.capacity() >= offset(rounds + 1)) {
+            return current;
+        }
+        int capacity = rounds + GROWTH;
+        try {
+            Files.createDirectories(file.getParent());
+            try (FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                if (current == null) {
+                    channel.truncate(0);
+                }
+                MappedByteBuffer view = channel.map(FileChannel.MapMode.READ_WRITE, 0, offset(capacity + 1));
+                if (current == null) {
+                    view.putInt(0, MAGIC);
+                    view.putInt(4, VERSION);
+                    view.putInt(8, RECORD_SIZE);
+                    view.putInt(HEADER_COUNT, 0);
+                }
+                buffer = view;
+                return view;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("추첨 결과 파일을 늘릴 수 없습니다: " + file, e);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package lotteryauto.draw;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lotteryauto.config.DhlotteryEndpoints;
+import lotteryauto.http.DhlotteryHttpSession;
+import lotteryauto.http.HttpReply;
+import lotteryauto.schedule.LaunchWindow;
+import lotteryauto.ticket.WinningNumbers;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 추첨 결과 동기화
+ * 저장소의 마지막 회차 다음부터 회차별 당첨 번호 API를 묶음 단위로 동시에 조회하고,
+ * 아직 추첨하지 않은 회차(returnValue=fail)를 만나면 멈춥니다. 처음 한 번만 1회부터 모두 받고 이후에는 새 회차만 받습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DrawSync {
+
+    /** 한 번에 동시에 조회하는 회차 수 */
+    static final int BATCH = 8;
+
+    /** 4등, 5등은 당첨금이 고정 금액 */
+    private static final long FOURTH_PRIZE = 50_000;
+    private static final long FIFTH_PRIZE = 5_000;
+
+    private final WebClient webClient;
+    private final DhlotteryEndpoints endpoints;
+    private final DrawStore drawStore;
+
+    /**
+     * 저장된 마지막 회차 이후의 추첨 결과를 받아 저장
+     * 조회에 실패하면 그 전까지 받은 회차만 저장하고, 다음 동기화 때 이어서 받습니다.
+     *
+     * @return 새로 저장한 회차 수
+     */
+    public synchronized int sync() {
+        int before = drawStore.latestRound();
+        DhlotteryHttpSession session = new DhlotteryHttpSession(webClient);
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("lotto-draw-sync-", 1).factory())) {
+            boolean more = true;
+            while (more) {
+                int next = drawStore.latestRound() + 1;
+                List<Future<DrawRecord>> futures = new ArrayList<>(BATCH);
+                for (int round = next; round < next + BATCH; round++) {
+                    int target = round;
+                    futures.add(executor.submit(() -> fetch(session, target)));
+                }
+                List<DrawRecord> fetched = new ArrayList<>(BATCH);
+                more = collect(futures, fetched);
+                // 앞 회차에서 멈췄으면 뒤 회차 조회는 결과를 쓰지 않으므로 취소
+                futures.forEach(future -> future.cancel(true));
+                drawStore.append(fetched);
+            }
+        } catch (RuntimeException e) {
+            log.warn("추첨 결과 동기화 실패 ({}회차까지 저장됨): {}", drawStore.latestRound(), e.getMessage());
+        }
+        int added = drawStore.latestRound() - before;
+        if (added > 0) {
+            log.info("추첨 결과 {}개 회차 저장 (마지막 {}회)", added, drawStore.latestRound());
+        } else {
+            log.info("추첨 결과가 최신입니다 ({}회)", drawStore.latestRound());
+        }
+        return added;
+    }
+
+    /**
+     * 묶음의 조회 결과를 회차 순서대로 모으고, 추첨 전 회차나 실패를 만나면 그 앞까지만 모음
+     *
+     * @return 묶음의 모든 회차를 받아 다음 묶음을 조회해야 하는지 여부
+     */
+    private boolean collect(List<Future<DrawRecord>> futures, List<DrawRecord> fetched) {
+        for (Future<DrawRecord> future : futures) {
+            DrawRecord record;
+            try {
+                record = future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("추첨 결과 동기화가 중단되었습니다");
+                return false;
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                log.warn("추첨 결과 조회 실패 (다음 동기화 때 이어서 받음): {}", cause.getMessage());
+                return false;
+            }
+            if (record == null) {
+                return false;
+            }
+            fetched.add(record);
+        }
+        return true;
+    }
+
+    /**
+     * 저장된 마지막 추첨일로부터 한 주가 지났을 때만 동기화
+     * 추첨은 토요일 저녁이므로 다음 추첨일 당일까지는 새 회차가 없다고 보고 요청하지 않습니다.
+     *
+     * @return 새로 저장한 회차 수
+     */
+    public int syncIfStale() {
+        int latest = drawStore.latestRound();
+        if (latest > 0 && !LocalDate.now(LaunchWindow.ZONE).isAfter(drawStore.drawDate(latest).plusWeeks(1))) {
+            return 0;
+        }
+        return sync();
+    }
+
+    /**
+     * 회차 하나 조회 (아직 추첨하지 않은 회차면 null)
+     */
+    private DrawRecord fetch(DhlotteryHttpSession session, int round) {
+        HttpReply reply = session.get(endpoints.drawResultUrl(round), null);
+        Map<String, Object> json = reply.isSuccessful() ? reply.jsonBody() : null;
+        if (json == null) {
+            throw new IllegalStateException(round + "회 당첨 번호 응답이 올바르지 않습니다 (HTTP " + reply.status() + ")");
+        }
+        return parse(json);
+    }
+
+    /**
+     * 당첨 번호 API 응답 해석
+     * 1등 당첨금과 당첨자 수, 총 판매 금액은 응답 값을, 4·5등은 고정 당첨금을 쓰고, 응답에 없는 2·3등은 0(모름)으로 둡니다.
+     *
+     * @return 추첨 결과 (아직 추첨하지 않은 회차면 null)
+     */
+    static DrawRecord parse(Map<String, Object> json) {
+        if (!"success".equals(json.get("returnValue"))) {
+            return null;
+        }
+        int round = number(json, "drwNo").intValue();
+        int[] numbers = new int[6];
+        for (int i = 0; i < numbers.length; i++) {
+            numbers[i] = number(json, "drwtNo" + (i + 1)).intValue();
+        }
+        WinningNumbers winning = WinningNumbers.of(round, numbers, number(json, "bnusNo").intValue());
+        List<DrawRecord.PrizeTier> tiers = List.of(
+                new DrawRecord.PrizeTier(number(json, "firstWinamnt").longValue(), number(json, "firstPrzwnerCo").intValue()),
+                DrawRecord.PrizeTier.UNKNOWN,
+                DrawRecord.PrizeTier.UNKNOWN,
+                new DrawRecord.PrizeTier(FOURTH_PRIZE, 0),
+                new DrawRecord.PrizeTier(FIFTH_PRIZE, 0));
+        return new DrawRecord(round, LocalDate.parse(String.valueOf(json.get("drwNoDate")).trim()), winning,
+                number(json, "totSellamnt").longValue(), tiers);
+    }
+
+    private static Number number(Map<String, Object> json, String key) {
+        Object value = json.get(key);
+        if (value instanceof Number number) {
+            return number;
+        }
+        if (value == null) {
+            return 0;
+        }
+        return Long.valueOf(String.valueOf(value).trim());
+    }
+}
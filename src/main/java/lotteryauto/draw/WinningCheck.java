@@ -0,0 +1,103 @@
+package lotteryauto.draw;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lotteryauto.service.TelegramNotificationService;
+import lotteryauto.ticket.PurchaseRecordStore;
+import lotteryauto.ticket.Rank;
+import lotteryauto.ticket.TicketBook;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.StringJoiner;
+import java.util.TreeSet;
+import java.util.function.IntSupplier;
+
+/**
+ * 구매한 게임의 당첨 확인
+ * 추첨 결과를 동기화한 뒤 새로 저장한 회차에 산 게임을 {@link TicketBook}으로 한 번에 채점하고,
+ * 당첨된 게임이 있으면 회차마다 알림을 보냅니다. 이미 저장된 회차는 다시 채점하지 않으므로 같은 당첨을 두 번 알리지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WinningCheck {
+
+    private static final Rank[] RANKS = Rank.values();
+
+    private final DrawSync drawSync;
+    private final DrawStore drawStore;
+    private final PurchaseRecordStore purchaseRecordStore;
+    private final TelegramNotificationService telegramNotificationService;
+
+    /**
+     * 새 추첨 결과를 받고 새로 저장한 회차의 당첨 확인
+     */
+    public void syncAndCheck() {
+        syncAndCheck(drawSync::sync);
+    }
+
+    /**
+     * 저장된 마지막 추첨일로부터 한 주가 지났을 때만 추첨 결과를 받고 당첨 확인 (상시 실행 모드의 구매마다 호출)
+     */
+    public void syncIfStaleAndCheck() {
+        syncAndCheck(drawSync::syncIfStale);
+    }
+
+    private synchronized void syncAndCheck(IntSupplier sync) {
+        int before = drawStore.latestRound();
+        sync.getAsInt();
+        check(before + 1, drawStore.latestRound());
+    }
+
+    /**
+     * 회차 범위에 산 게임을 채점하고 당첨이 있으면 알림
+     *
+     * @param fromRound 시작 회차 (포함)
+     * @param toRound   끝 회차 (포함)
+     * @return 게임을 산 회차별 등수 순서별 게임 수 ({@link Rank#ordinal()})
+     */
+    Map<Integer, long[]> check(int fromRound, int toRound) {
+        if (fromRound > toRound) {
+            return Map.of();
+        }
+        TicketBook book = purchaseRecordStore.load();
+        SortedSet<Integer> rounds = new TreeSet<>();
+        for (int i = 0; i < book.size(); i++) {
+            int round = book.round(i);
+            if (round >= fromRound && round <= toRound && drawStore.contains(round)) {
+                rounds.add(round);
+            }
+        }
+
+        Map<Integer, long[]> results = new LinkedHashMap<>();
+        for (int round : rounds) {
+            DrawRecord draw = drawStore.get(round).orElseThrow();
+            long[] counts = new long[RANKS.length];
+            book.tally(draw.numbers(), counts);
+            results.put(round, counts);
+            report(draw, counts);
+        }
+        return results;
+    }
+
+    private void report(DrawRecord draw, long[] counts) {
+        StringJoiner ranks = new StringJoiner(", ");
+        long prize = 0;
+        for (Rank rank : RANKS) {
+            long games = counts[rank.ordinal()];
+            if (rank.isWinning() && games > 0) {
+                ranks.add(rank.label() + " " + games + "게임");
+                prize += draw.tier(rank).amountPerWinner() * games;
+            }
+        }
+        if (ranks.length() == 0) {
+            log.info("{}회 당첨 확인: 당첨된 게임 없음 ({}게임)", draw.round(), counts[Rank.NONE.ordinal()]);
+            return;
+        }
+        log.info("{}회 당첨 확인: {} (당첨금 {}원 이상)", draw.round(), ranks, prize);
+        telegramNotificationService.notifyWinnings(draw.round(), ranks.toString(), prize);
+    }
+}
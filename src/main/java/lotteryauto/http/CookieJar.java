@@ -0,0 +1,104 @@
+package lotteryauto.http;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * WebClient용 쿠키 저장소
+ * 응답의 Set-Cookie를 저장하고, 도메인/경로가 일치하는 요청에 Cookie 헤더를 붙입니다.
+ */
+public class CookieJar implements ExchangeFilterFunction {
+
+    private final Map<String, StoredCookie> cookies = new ConcurrentHashMap<>();
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        URI uri = request.url();
+        String header = cookieHeader(uri);
+        ClientRequest withCookies = header.isEmpty()
+                ? request
+                : ClientRequest.from(request).headers(h -> h.set(HttpHeaders.COOKIE, header)).build();
+        return next.exchange(withCookies)
+                .doOnNext(response -> response.cookies().values().forEach(list -> list.forEach(c -> store(uri, c))));
+    }
+
+    /**
+     * 저장된 모든 쿠키 (만료된 쿠키 제외)
+     */
+    public List<StoredCookie> getAll() {
+        long now = Instant.now().getEpochSecond();
+        return cookies.values().stream().filter(c -> !c.isExpired(now)).toList();
+    }
+
+    /**
+     * 외부에서 복원한 쿠키 추가
+     */
+    public void addAll(Collection<StoredCookie> restored) {
+        for (StoredCookie cookie : restored) {
+            cookies.put(key(cookie), cookie);
+        }
+    }
+
+    public void clear() {
+        cookies.clear();
+    }
+
+    /**
+     * 요청 주소에 보낼 Cookie 헤더 값
+     */
+    public String cookieHeader(URI uri) {
+        String host = uri.getHost();
+        if (host == null) {
+            return "";
+        }
+        long now = Instant.now().getEpochSecond();
+        boolean https = "https".equalsIgnoreCase(uri.getScheme());
+        List<StoredCookie> matched = new ArrayList<>();
+        for (StoredCookie cookie : cookies.values()) {
+            if (!cookie.isExpired(now) && cookie.matches(host, uri.getPath(), https)) {
+                matched.add(cookie);
+            }
+        }
+        return matched.stream()
+                .map(c -> c.name() + "=" + c.value())
+                .collect(Collectors.joining("; "));
+    }
+
+    private void store(URI uri, ResponseCookie cookie) {
+        boolean hostOnly = cookie.getDomain() == null || cookie.getDomain().isBlank();
+        String domain = hostOnly ? uri.getHost() : stripLeadingDot(cookie.getDomain());
+        String path = cookie.getPath() == null || cookie.getPath().isBlank() ? "/" : cookie.getPath();
+        long maxAge = cookie.getMaxAge().getSeconds();
+        long expiresAt = maxAge < 0 ? -1 : Instant.now().getEpochSecond() + maxAge;
+
+        StoredCookie stored = new StoredCookie(cookie.getName(), cookie.getValue(), domain, path,
+                expiresAt, cookie.isSecure(), hostOnly);
+        if (maxAge == 0) {
+            cookies.remove(key(stored));
+        } else {
+            cookies.put(key(stored), stored);
+        }
+    }
+
+    private String key(StoredCookie cookie) {
+        return cookie.domain() + "|" + cookie.path() + "|" + cookie.name();
+    }
+
+    private String stripLeadingDot(String domain) {
+        return domain.startsWith(".") ? domain.substring(1) : domain;
+    }
+}
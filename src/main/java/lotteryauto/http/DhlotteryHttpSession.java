@@ -0,0 +1,98 @@
+package lotteryauto.http;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 브라우저 없이 동행복권 사이트와 통신하는 HTTP 세션
+ * 계정마다 하나씩 생성하며, 쿠키를 보관하고 리다이렉트를 직접 따라가면서 쿠키를 누적합니다.
+ */
+public class DhlotteryHttpSession {
+
+    private static final String USER_AGENT =
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/131.0.0.0 Safari/537.36";
+    private static final int MAX_REDIRECTS = 5;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(20);
+
+    private final CookieJar cookieJar = new CookieJar();
+    private final WebClient client;
+
+    public DhlotteryHttpSession(WebClient webClient) {
+        this.client = webClient.mutate()
+                .filter(cookieJar)
+                .defaultHeader(HttpHeaders.USER_AGENT, USER_AGENT)
+                .defaultHeader(HttpHeaders.ACCEPT_LANGUAGE, "ko-KR,ko;q=0.9")
+                .build();
+    }
+
+    public CookieJar cookieJar() {
+        return cookieJar;
+    }
+
+    /**
+     * GET 요청 (리다이렉트 추적)
+     */
+    public HttpReply get(String url, String referer) {
+        return exchange(HttpMethod.GET, url, null, referer);
+    }
+
+    /**
+     * form-urlencoded POST 요청 (리다이렉트는 GET으로 추적)
+     */
+    public HttpReply postForm(String url, Map<String, String> form, String referer) {
+        MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
+        form.forEach(formData::add);
+        return exchange(HttpMethod.POST, url, formData, referer);
+    }
+
+    private HttpReply exchange(HttpMethod method, String url, MultiValueMap<String, String> form, String referer) {
+        URI uri = URI.create(url);
+        HttpMethod currentMethod = method;
+        MultiValueMap<String, String> currentForm = form;
+
+        for (int hop = 0; hop <= MAX_REDIRECTS; hop++) {
+            WebClient.RequestBodySpec spec = client.method(currentMethod)
+                    .uri(uri)
+                    .header(HttpHeaders.ACCEPT, "text/html,application/json,*/*;q=0.8");
+            if (referer != null) {
+                spec.header(HttpHeaders.REFERER, referer);
+            }
+            WebClient.RequestHeadersSpec<?> request = currentForm != null
+                    ? spec.body(BodyInserters.fromFormData(currentForm))
+                    : spec;
+
+            URI requestUri = uri;
+            HttpReply reply = request.exchangeToMono(response -> response.bodyToMono(String.class)
+                            .defaultIfEmpty("")
+                            .map(body -> {
+                                String location = response.headers().asHttpHeaders().getFirst(HttpHeaders.LOCATION);
+                                String target = response.statusCode().is3xxRedirection() && location != null
+                                        ? requestUri.resolve(location).toString()
+                                        : requestUri.toString();
+                                return new HttpReply(target, response.statusCode().value(), body);
+                            }))
+                    .block(REQUEST_TIMEOUT);
+
+            if (reply == null) {
+                throw new IllegalStateException("응답이 없습니다: " + url);
+            }
+            if (reply.status() < 300 || reply.status() >= 400 || reply.url().equals(requestUri.toString())) {
+                return reply;
+            }
+            // 리다이렉트는 쿠키를 유지한 채 GET으로 따라감
+            referer = requestUri.toString();
+            uri = URI.create(reply.url());
+            currentMethod = HttpMethod.GET;
+            currentForm = null;
+        }
+        throw new IllegalStateException("리다이렉트가 너무 많습니다: " + url);
+    }
+}
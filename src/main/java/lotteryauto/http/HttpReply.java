@@ -0,0 +1,34 @@
+package lotteryauto.http;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.Map;
+
+/**
+ * HTTP 응답 요약 (최종 주소, 상태 코드, 본문)
+ *
+ * @param url    리다이렉트를 따라간 뒤의 최종 주소
+ * @param status HTTP 상태 코드
+ * @param body   응답 본문
+ */
+public record HttpReply(String url, int status, String body) {
+
+    public boolean isSuccessful() {
+        return status >= 200 && status < 300;
+    }
+
+    /**
+     * 본문을 JSON 객체로 해석 (JSON이 아니면 null)
+     */
+    public Map<String, Object> jsonBody() {
+        if (body == null || !body.trim().startsWith("{")) {
+            return null;
+        }
+        try {
+            return JsonMapper.shared().readerForMapOf(Object.class).readValue(body);
+        } catch (JacksonException e) {
+            return null;
+        }
+    }
+}
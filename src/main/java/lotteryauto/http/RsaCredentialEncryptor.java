@@ -0,0 +1,46 @@
+package lotteryauto.http;
+
+import javax.crypto.Cipher;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.HexFormat;
+
+/**
+ * 로그인 자격증명 RSA 암호화
+ * 사이트의 fnRSAencrypt(jsbn RSAKey.encrypt)와 같은 PKCS#1 v1.5 패딩, 16진수 출력 형식을 사용합니다.
+ */
+public final class RsaCredentialEncryptor {
+
+    private final PublicKey publicKey;
+
+    /**
+     * @param modulusHex  RSA 모듈러스 (16진수)
+     * @param exponentHex 공개 지수 (16진수, 보통 "10001")
+     */
+    public RsaCredentialEncryptor(String modulusHex, String exponentHex) {
+        try {
+            RSAPublicKeySpec spec = new RSAPublicKeySpec(new BigInteger(modulusHex, 16), new BigInteger(exponentHex, 16));
+            this.publicKey = KeyFactory.getInstance("RSA").generatePublic(spec);
+        } catch (GeneralSecurityException | NumberFormatException e) {
+            throw new IllegalArgumentException("RSA 공개키 생성 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 평문을 암호화하여 16진수 문자열로 반환
+     */
+    public String encrypt(String plainText) {
+        try {
+            Cipher cipher = Cipher.getInstance("RSA/ECB/PKCS1Padding");
+            cipher.init(Cipher.ENCRYPT_MODE, publicKey);
+            byte[] encrypted = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(encrypted);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("RSA 암호화 실패: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package lotteryauto.http;
+
+/**
+ * 세션 쿠키 저장 형식
+ *
+ * @param name          쿠키 이름
+ * @param value         쿠키 값
+ * @param domain        적용 도메인 (앞의 '.' 제거)
+ * @param path          적용 경로
+ * @param expiresAtEpochSecond 만료 시각 (세션 쿠키는 -1)
+ * @param secure        HTTPS 전용 여부
+ * @param hostOnly      Domain 속성 없이 발급되어 발급한 호스트에만 적용되는지 여부
+ */
+public record StoredCookie(
+        String name,
+        String value,
+        String domain,
+        String path,
+        long expiresAtEpochSecond,
+        boolean secure,
+        boolean hostOnly
+) {
+
+    /**
+     * 요청 호스트와 경로에 이 쿠키를 보내야 하는지 여부
+     */
+    public boolean matches(String host, String requestPath, boolean https) {
+        if (secure && !https) {
+            return false;
+        }
+        boolean domainMatch = hostOnly
+                ? host.equalsIgnoreCase(domain)
+                : host.equalsIgnoreCase(domain) || host.toLowerCase().endsWith("." + domain.toLowerCase());
+        String effectivePath = requestPath == null || requestPath.isEmpty() ? "/" : requestPath;
+        return domainMatch && effectivePath.startsWith(path);
+    }
+
+    public boolean isExpired(long nowEpochSecond) {
+        return expiresAtEpochSecond >= 0 && expiresAtEpochSecond <= nowEpochSecond;
+    }
+}
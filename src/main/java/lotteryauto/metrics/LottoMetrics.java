@@ -0,0 +1,197 @@
+package lotteryauto.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lotteryauto.browser.PopupDismissalReport;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 구매 흐름 측정 지표 (Micrometer)
+ * 단계별 소요 시간, 팝업 닫기, 알림 전송 지연, 페이지별 요청 차단량을 기록합니다.
+ * 단계 타이머는 p50/p95를 함께 계산하여 주간 실행 간 사이트 지연을 비교할 수 있게 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LottoMetrics {
+
+    public static final String PHASE_TIMER = "lotto.phase";
+    public static final String POPUP_TIMER = "lotto.popup.dismiss";
+    public static final String POPUP_DISMISSED = "lotto.popup.dismissed";
+    public static final String NOTIFICATION_ENQUEUE = "lotto.notification.enqueue";
+    public static final String NOTIFICATION_SEND = "lotto.notification.send";
+    public static final String NOTIFICATION_DELAY = "lotto.notification.delay";
+    public static final String PURCHASE_OUTCOME = "lotto.purchase.outcome";
+    public static final String BALANCE_SOURCE = "lotto.balance.source";
+    public static final String REQUEST_BLOCKED = "lotto.request.blocked";
+    public static final String REQUEST_LOADED = "lotto.request.loaded";
+    public static final String REQUEST_BYTES = "lotto.request.bytes";
+    public static final String NAVIGATION_COUNT = "lotto.navigation.count";
+    public static final String NAVIGATION_SAVED = "lotto.navigation.saved";
+    public static final String STRATEGY_ATTEMPTS = "lotto.strategy.attempts";
+    public static final String STRATEGY_HIT = "lotto.strategy.hit";
+    public static final String QUEUE_WAIT = "lotto.queue.wait";
+    public static final String DRIVER_BOOTSTRAP = "lotto.chromedriver.bootstrap";
+
+    private final MeterRegistry registry;
+
+    /**
+     * 구매 흐름 한 단계의 소요 시간 측정
+     *
+     * @param engine 구매 엔진 이름 (selenium, http)
+     * @param phase  단계 이름 (login, verify_login, balance 등)
+     * @param body   측정할 작업
+     * @return 작업 결과
+     */
+    public <T> T timePhase(String engine, String phase, Supplier<T> body) {
+        long startNanos = System.nanoTime();
+        String exception = "none";
+        try {
+            return body.get();
+        } catch (RuntimeException e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            percentileTimer(PHASE_TIMER, "engine", engine, "phase", phase, "exception", exception)
+                    .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 결과가 없는 단계의 소요 시간 측정
+     */
+    public void runPhase(String engine, String phase, Runnable body) {
+        timePhase(engine, phase, () -> {
+            body.run();
+            return null;
+        });
+    }
+
+    /**
+     * 팝업 닫기 한 번의 소요 시간과 닫은 요소 수 기록
+     */
+    public void recordPopupDismissal(PopupDismissalReport report) {
+        percentileTimer(POPUP_TIMER).record(report.elapsedMs(), TimeUnit.MILLISECONDS);
+        Counter.builder(POPUP_DISMISSED).tag("type", "close").register(registry).increment(report.closed().size());
+        Counter.builder(POPUP_DISMISSED).tag("type", "overlay").register(registry).increment(report.overlays().size());
+    }
+
+    /**
+     * 알림 발신함 등록에 걸린 시간 (구매 흐름이 알림 때문에 지연되는지 확인용)
+     */
+    public void recordNotificationEnqueue(Duration latency) {
+        percentileTimer(NOTIFICATION_ENQUEUE).record(latency);
+    }
+
+    /**
+     * 알림 한 건의 실제 전송 시간과 등록부터 전송 완료까지의 지연
+     *
+     * @param sink   싱크 이름
+     * @param result 전송 결과 (sent, rejected, retry)
+     */
+    public void recordNotificationSend(String sink, String result, Duration sendLatency, Duration queueDelay) {
+        percentileTimer(NOTIFICATION_SEND, "sink", sink, "result", result).record(sendLatency);
+        if (queueDelay != null) {
+            percentileTimer(NOTIFICATION_DELAY, "sink", sink).record(queueDelay);
+        }
+    }
+
+    /**
+     * 계정별 구매 결과 집계
+     */
+    public void recordOutcome(String engine, String outcome) {
+        Counter.builder(PURCHASE_OUTCOME).tag("engine", engine).tag("outcome", outcome).register(registry).increment();
+    }
+
+    /**
+     * 계정별 최종 예치금을 읽은 경로 집계 (네트워크 응답 수신 비율 확인용)
+     */
+    public void recordBalanceSource(String source) {
+        Counter.builder(BALANCE_SOURCE).tag("source", source).register(registry).increment();
+    }
+
+    /**
+     * 페이지 하나에서 차단한 요청(유형별)과 실제로 내려받은 요청 수, 전송량
+     */
+    public void recordPageRequests(String page, Map<String, Integer> blockedByType, int loadedRequests, long loadedBytes) {
+        blockedByType.forEach((type, count) ->
+                Counter.builder(REQUEST_BLOCKED).tag("page", page).tag("type", type).register(registry).increment(count));
+        Counter.builder(REQUEST_LOADED).tag("page", page).register(registry).increment(loadedRequests);
+        Counter.builder(REQUEST_BYTES).tag("page", page).baseUnit("bytes").register(registry).increment(loadedBytes);
+    }
+
+    /**
+     * 구매 흐름 한 번의 페이지 이동 수와 고정 경로 대비 줄인 이동 수
+     */
+    public void recordNavigations(String engine, int navigations, int saved) {
+        Counter.builder(NAVIGATION_COUNT).tag("engine", engine).register(registry).increment(navigations);
+        Counter.builder(NAVIGATION_SAVED).tag("engine", engine).register(registry).increment(saved);
+    }
+
+    /**
+     * 대체 경로 목록 한 번 실행의 시도 수와 값을 찾은 방법 (찾지 못했으면 none)
+     */
+    public void recordStrategyRun(String chain, String hit, int attempts) {
+        Counter.builder(STRATEGY_ATTEMPTS).tag("chain", chain).register(registry).increment(attempts);
+        Counter.builder(STRATEGY_HIT).tag("chain", chain).tag("strategy", hit).register(registry).increment();
+    }
+
+    /**
+     * 구매 페이지 접속 대기열에서 기다린 시간 (대기열이 없었으면 기록하지 않음)
+     */
+    public void recordQueueWait(String engine, Duration wait) {
+        percentileTimer(QUEUE_WAIT, "engine", engine).record(wait);
+    }
+
+    /**
+     * 이번 실행에서 대기열에서 기다린 시간 합계
+     */
+    public Duration totalQueueWait() {
+        double millis = registry.find(QUEUE_WAIT).timers().stream()
+                .mapToDouble(timer -> timer.totalTime(TimeUnit.MILLISECONDS))
+                .sum();
+        return Duration.ofMillis(Math.round(millis));
+    }
+
+    /**
+     * 이번 실행의 단계별 평균 소요 시간 (ms, 엔진 구분 없이 단계 이름별)
+     */
+    public Map<String, Long> phaseMeansMillis() {
+        Map<String, double[]> totals = new TreeMap<>();
+        for (Timer timer : registry.find(PHASE_TIMER).timers()) {
+            double[] total = totals.computeIfAbsent(timer.getId().getTag("phase"), phase -> new double[2]);
+            total[0] += timer.totalTime(TimeUnit.MILLISECONDS);
+            total[1] += timer.count();
+        }
+        Map<String, Long> means = new LinkedHashMap<>();
+        totals.forEach((phase, total) -> means.put(phase, total[1] == 0 ? 0 : Math.round(total[0] / total[1])));
+        return means;
+    }
+
+    /**
+     * chromedriver 준비 시간 (캐시 사용 여부 포함)
+     */
+    public void recordDriverBootstrap(String source, Duration elapsed) {
+        Timer.builder(DRIVER_BOOTSTRAP).tag("source", source).register(registry).record(elapsed);
+    }
+
+    public MeterRegistry registry() {
+        return registry;
+    }
+
+    private Timer percentileTimer(String name, String... tags) {
+        return Timer.builder(name)
+                .tags(tags)
+                .publishPercentiles(0.5, 0.95)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
@@ -0,0 +1,116 @@
+package lotteryauto.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+import lotteryauto.config.LotteryConfig;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실행 종료 시 지표 스냅숏 기록
+ * 한 번 실행하고 끝나는 CLI 모드에서는 스크랩할 시점이 없으므로, 종료 직전에 lotto.* 지표를
+ * JSON 한 줄로 파일에 덧붙여 주간 실행 간 단계별 p50/p95 추이를 비교할 수 있게 합니다.
+ */
+@Slf4j
+@Component
+public class MetricsSnapshotWriter {
+
+    private static final String METER_PREFIX = "lotto.";
+
+    private final MeterRegistry registry;
+    private final ObjectMapper objectMapper;
+    private final Path file;
+
+    public MetricsSnapshotWriter(MeterRegistry registry, LotteryConfig lotteryConfig, ObjectMapper objectMapper) {
+        this.registry = registry;
+        this.objectMapper = objectMapper;
+        String configured = lotteryConfig.getMetricsFile();
+        this.file = configured != null && !configured.isBlank()
+                ? Paths.get(configured)
+                : Paths.get(lotteryConfig.getStateDir(), "metrics", "runs.jsonl");
+    }
+
+    /**
+     * 현재 지표를 스냅숏 파일에 한 줄로 추가
+     *
+     * @return 기록한 파일 경로 (실패 시 null)
+     */
+    public Path write() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("timestamp", Instant.now().toString());
+        snapshot.put("meters", collect());
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            String line = objectMapper.writeValueAsString(snapshot) + "\n";
+            Files.writeString(file, line, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            log.info("지표 스냅숏 기록 완료: {}", file);
+            return file;
+        } catch (IOException e) {
+            log.warn("지표 스냅숏 기록 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private List<Map<String, Object>> collect() {
+        List<Map<String, Object>> meters = new ArrayList<>();
+        for (Meter meter : registry.getMeters()) {
+            String name = meter.getId().getName();
+            if (!name.startsWith(METER_PREFIX)) {
+                continue;
+            }
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("name", name);
+            Map<String, String> tags = new LinkedHashMap<>();
+            for (Tag tag : meter.getId().getTags()) {
+                tags.put(tag.getKey(), tag.getValue());
+            }
+            entry.put("tags", tags);
+
+            if (meter instanceof Timer timer) {
+                HistogramSnapshot histogram = timer.takeSnapshot();
+                entry.put("count", histogram.count());
+                entry.put("meanMs", round(histogram.mean(TimeUnit.MILLISECONDS)));
+                entry.put("maxMs", round(histogram.max(TimeUnit.MILLISECONDS)));
+                for (ValueAtPercentile percentile : histogram.percentileValues()) {
+                    String key = "p" + Math.round(percentile.percentile() * 100) + "Ms";
+                    entry.put(key, round(percentile.value(TimeUnit.MILLISECONDS)));
+                }
+            } else if (meter instanceof Counter counter) {
+                entry.put("count", counter.count());
+            } else if (meter instanceof Gauge gauge) {
+                entry.put("value", gauge.value());
+            } else {
+                continue;
+            }
+            meters.add(entry);
+        }
+        return meters;
+    }
+
+    private double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+}
@@ -0,0 +1,35 @@
+package lotteryauto.notification;
+
+import java.time.Duration;
+
+/**
+ * 메시지 한 건의 전송 결과
+ *
+ * @param status     전송 결과
+ * @param retryAfter 서버가 지정한 재시도 대기 시간 (없으면 null)
+ */
+public record DeliveryResult(Status status, Duration retryAfter) {
+
+    public enum Status {
+        SENT,
+        /** 다시 보내도 성공할 수 없는 오류 (토큰/대상 설정 오류 등) */
+        REJECTED,
+        RETRY
+    }
+
+    public static DeliveryResult sent() {
+        return new DeliveryResult(Status.SENT, null);
+    }
+
+    public static DeliveryResult rejected() {
+        return new DeliveryResult(Status.REJECTED, null);
+    }
+
+    public static DeliveryResult retry() {
+        return new DeliveryResult(Status.RETRY, null);
+    }
+
+    public static DeliveryResult retryAfter(Duration retryAfter) {
+        return new DeliveryResult(Status.RETRY, retryAfter);
+    }
+}
@@ -0,0 +1,66 @@
+package lotteryauto.notification;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lotteryauto.config.LotteryConfig;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 로컬 파일 알림 싱크
+ * NOTIFY_FILE로 지정한 파일에 시각과 함께 메시지를 덧붙입니다. (서버 로그 수집이나 디버깅용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FileSink implements NotificationSink {
+
+    private final LotteryConfig lotteryConfig;
+
+    @Override
+    public String name() {
+        return "file";
+    }
+
+    @Override
+    public List<String> targets() {
+        String file = lotteryConfig.getNotifyFile();
+        return file == null || file.isBlank() ? List.of() : List.of(file.trim());
+    }
+
+    @Override
+    public RateLimit targetRateLimit() {
+        return RateLimit.UNLIMITED;
+    }
+
+    @Override
+    public RateLimit sinkRateLimit() {
+        return RateLimit.UNLIMITED;
+    }
+
+    @Override
+    public synchronized DeliveryResult send(String file, String text) {
+        Path path = Paths.get(file);
+        String entry = "[" + ZonedDateTime.now().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME) + "]\n" + text + "\n\n";
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Files.writeString(path, entry, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            return DeliveryResult.sent();
+        } catch (IOException e) {
+            log.warn("알림 파일 기록 실패 (재시도): {}", e.getMessage());
+            return DeliveryResult.retry();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package lotteryauto.notification;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * 한 번의 실행에서 발생한 알림 이벤트 모음
+ * 실행이 끝나면 "계정 7개 구매 완료, 1개 잔액 부족, 1개 오류"처럼 종류별 개수와 계정별 한 줄 요약을 담은 메시지 하나로 만듭니다.
+ */
+public class NotificationDigest {
+
+    /** Telegram 메시지 최대 길이(4096자)보다 여유 있게 자름 */
+    static final int MAX_LENGTH = 3900;
+
+    private final int accountCount;
+    private final List<NotificationEvent> events = new ArrayList<>();
+
+    public NotificationDigest(int accountCount) {
+        this.accountCount = accountCount;
+    }
+
+    public synchronized void add(NotificationEvent event) {
+        events.add(event);
+    }
+
+    public synchronized boolean isEmpty() {
+        return events.isEmpty();
+    }
+
+    /**
+     * 보낼 메시지 생성
+     * 이벤트가 하나뿐이면 요약 없이 원래 메시지를 그대로 사용합니다.
+     *
+     * @return 보낼 메시지 (이벤트가 없으면 null)
+     */
+    public synchronized String render() {
+        if (events.isEmpty()) {
+            return null;
+        }
+        if (events.size() == 1) {
+            return events.getFirst().text();
+        }
+
+        Map<NotificationEvent.Kind, Integer> counts = new EnumMap<>(NotificationEvent.Kind.class);
+        for (NotificationEvent event : events) {
+            if (event.kind() != NotificationEvent.Kind.INFO) {
+                counts.merge(event.kind(), 1, Integer::sum);
+            }
+        }
+        StringJoiner countLine = new StringJoiner(" · ");
+        counts.forEach((kind, count) -> countLine.add(kind.label() + " " + count));
+
+        StringBuilder message = new StringBuilder("📋 로또 자동 구매 결과 (계정 ")
+                .append(accountCount).append("개)\n");
+        if (countLine.length() > 0) {
+            message.append(countLine).append('\n');
+        }
+        message.append('\n');
+
+        for (int i = 0; i < events.size(); i++) {
+            NotificationEvent event = events.get(i);
+            String line = (event.account() != null ? "[" + event.account() + "] " : "") + event.summary() + "\n";
+            if (message.length() + line.length() > MAX_LENGTH) {
+                message.append("… 외 ").append(events.size() - i).append("건");
+                break;
+            }
+            message.append(line);
+        }
+        return message.toString().stripTrailing();
+    }
+}
@@ -0,0 +1,134 @@
+package lotteryauto.notification;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 알림 분배기
+ * 실행 구간({@link #inRun}) 안에서 발생한 이벤트는 모아 두었다가 구간이 끝날 때 대상마다 요약 메시지 하나로 보내고,
+ * 구간 밖의 이벤트는 바로 보냅니다. 실제 전송은 발신함이 싱크별 전송 한도를 지키며 백그라운드에서 수행합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationDispatcher {
+
+    private final List<NotificationSink> sinks;
+    private final NotificationOutbox outbox;
+
+    /** 현재 실행 구간 (계정별 가상 스레드에 상속됨) */
+    private final InheritableThreadLocal<NotificationDigest> currentRun = new InheritableThreadLocal<>();
+
+    /** 현재 스레드가 처리 중인 계정 */
+    private final ThreadLocal<String> currentAccount = new ThreadLocal<>();
+
+    /**
+     * 실행 구간 시작
+     * 이 스레드와 이후 이 스레드에서 만든 스레드의 이벤트가 요약 메시지로 모입니다.
+     *
+     * @param accountCount 이번 실행의 계정 수
+     * @return 닫으면 요약 메시지를 보내는 구간
+     */
+    private Scope openRun(int accountCount) {
+        NotificationDigest digest = new NotificationDigest(accountCount);
+        NotificationDigest previous = currentRun.get();
+        currentRun.set(digest);
+        return () -> {
+            restore(currentRun, previous);
+            String message = digest.render();
+            if (message != null) {
+                deliver(message);
+            }
+        };
+    }
+
+    /**
+     * 이 스레드에서 발생하는 이벤트에 계정 표시 이름을 붙임
+     */
+    private Scope forAccount(String accountName) {
+        String previous = currentAccount.get();
+        currentAccount.set(accountName);
+        return () -> restore(currentAccount, previous);
+    }
+
+    /**
+     * 실행 구간 안에서 작업 실행 (끝나면 요약 메시지 전송)
+     *
+     * @param accountCount 이번 실행의 계정 수
+     * @return 작업 결과
+     */
+    public <T> T inRun(int accountCount, Supplier<T> work) {
+        Scope run = openRun(accountCount);
+        try {
+            return work.get();
+        } finally {
+            run.close();
+        }
+    }
+
+    /**
+     * 작업 중 발생하는 이벤트에 계정 표시 이름을 붙여 실행
+     *
+     * @return 작업 결과
+     */
+    public <T> T asAccount(String accountName, Supplier<T> work) {
+        Scope scope = forAccount(accountName);
+        try {
+            return work.get();
+        } finally {
+            scope.close();
+        }
+    }
+
+    /**
+     * 이벤트 발행
+     *
+     * @return 메시지를 받을 대상이 하나 이상 있으면 true
+     */
+    public boolean publish(NotificationEvent.Kind kind, String text, String summary) {
+        if (!hasTargets()) {
+            log.warn("알림 대상이 설정되지 않아 알림을 전송할 수 없습니다.");
+            return false;
+        }
+        NotificationDigest digest = currentRun.get();
+        if (digest != null) {
+            digest.add(new NotificationEvent(kind, currentAccount.get(), text, summary));
+            return true;
+        }
+        deliver(text);
+        return true;
+    }
+
+    private void deliver(String text) {
+        for (NotificationSink sink : sinks) {
+            for (String target : sink.targets()) {
+                outbox.enqueue(sink.name(), target, text);
+            }
+        }
+    }
+
+    private boolean hasTargets() {
+        return sinks.stream().anyMatch(sink -> !sink.targets().isEmpty());
+    }
+
+    private static <T> void restore(ThreadLocal<T> local, T previous) {
+        if (previous == null) {
+            local.remove();
+        } else {
+            local.set(previous);
+        }
+    }
+
+    /**
+     * 예외 없이 닫을 수 있는 구간
+     */
+    private interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
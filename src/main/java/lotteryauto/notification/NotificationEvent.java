@@ -0,0 +1,34 @@
+package lotteryauto.notification;
+
+/**
+ * 실행 중 발생한 알림 이벤트
+ *
+ * @param kind    이벤트 종류 (요약 집계 기준)
+ * @param account 관련 계정 표시 이름 (계정과 무관하면 null)
+ * @param text    단독으로 보낼 때의 전체 메시지
+ * @param summary 요약 메시지에 들어갈 한 줄 설명
+ */
+public record NotificationEvent(Kind kind, String account, String text, String summary) {
+
+    public enum Kind {
+        PURCHASED("✅ 구매 완료"),
+        LIMIT_REACHED("🔁 구매 한도 도달"),
+        LOW_BALANCE("⚠️ 잔액 부족"),
+        LOGIN_FAILED("🔐 로그인 실패"),
+        PURCHASE_FAILED("🚨 구매 실패"),
+        ERROR("❌ 오류"),
+        WON("🏆 당첨"),
+        /** 집계하지 않는 일반 안내 */
+        INFO("ℹ️ 안내");
+
+        private final String label;
+
+        Kind(String label) {
+            this.label = label;
+        }
+
+        public String label() {
+            return label;
+        }
+    }
+}
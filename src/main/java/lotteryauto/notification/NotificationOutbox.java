@@ -0,0 +1,345 @@
+package lotteryauto.notification;
+
+import io.micrometer.core.instrument.Gauge;
+import lombok.extern.slf4j.Slf4j;
+import lotteryauto.config.LotteryConfig;
+import lotteryauto.metrics.LottoMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 알림 발신함 (durable outbox)
+ * 메시지를 먼저 추가 전용 스풀 파일에 기록한 뒤 싱크마다 하나씩 있는 백그라운드 전송 스레드가 순서대로 보냅니다.
+ * 전송 전에 대상별/싱크별 토큰 버킷 한도를 지키고, 실패하면 지수 백오프로 재시도하며,
+ * 서버가 재시도 시간(429 retry_after 등)을 알려주면 그만큼 기다립니다.
+ * 종료 시에는 정해진 시간 안에서 남은 메시지를 보내고, 보내지 못한 메시지는 다음 실행 시작 시 다시 보냅니다.
+ * 대기 중인 메시지가 모두 전송되면 스풀과 전송 기록 파일을 비우므로, 상시 실행 모드에서도 파일이 계속 커지지 않습니다.
+ */
+@Slf4j
+@Component
+public class NotificationOutbox implements DisposableBean {
+
+    private static final String SPOOL_FILE = "spool.log";
+    private static final String ACK_FILE = "acked.log";
+
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(60);
+
+    private final Path spoolFile;
+    private final Path ackFile;
+    private final Duration drainTimeout;
+    private final Map<String, SinkWorker> workers = new LinkedHashMap<>();
+    private final LottoMetrics metrics;
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Object fileLock = new Object();
+
+    private volatile long drainDeadlineNanos = Long.MAX_VALUE;
+    private volatile boolean stopped;
+
+    public NotificationOutbox(LotteryConfig lotteryConfig, List<NotificationSink> sinks, LottoMetrics metrics) {
+        this.metrics = metrics;
+        Path directory = Paths.get(lotteryConfig.getStateDir(), "outbox");
+        this.spoolFile = directory.resolve(SPOOL_FILE);
+        this.ackFile = directory.resolve(ACK_FILE);
+        this.drainTimeout = Duration.ofSeconds(Math.max(0, lotteryConfig.getNotifyDrainSeconds()));
+
+        for (NotificationSink sink : sinks) {
+            workers.put(sink.name(), new SinkWorker(sink));
+        }
+        recoverPending();
+        Gauge.builder("lotto.notification.pending", pending, AtomicInteger::get)
+                .description("전송 대기 중인 알림 수")
+                .register(metrics.registry());
+        workers.values().forEach(SinkWorker::start);
+    }
+
+    /**
+     * 메시지를 스풀 파일에 기록하고 전송 대기열에 추가 (네트워크 I/O 없음)
+     *
+     * @param sink   싱크 이름
+     * @param target 받을 대상
+     * @param text   메시지 본문
+     * @return 기록 성공 여부 (실패해도 메모리 대기열로는 전송을 시도함)
+     */
+    public boolean enqueue(String sink, String target, String text) {
+        SinkWorker worker = workers.get(sink);
+        if (worker == null) {
+            log.warn("알 수 없는 알림 싱크입니다: {}", sink);
+            return false;
+        }
+        OutboxMessage message = new OutboxMessage(UUID.randomUUID().toString(), sink, target, text,
+                System.currentTimeMillis());
+        // 스풀에 기록하기 전에 대기 수를 늘려, 그 사이에 파일을 비우지 않도록 함
+        pending.incrementAndGet();
+        boolean persisted = true;
+        try {
+            append(spoolFile, message.toSpoolLine());
+        } catch (IOException e) {
+            persisted = false;
+            log.warn("알림 스풀 기록 실패 (메모리에서만 전송): {}", e.getMessage());
+        }
+        worker.queue.offerLast(message);
+        return persisted;
+    }
+
+    /**
+     * 아직 전송되지 않은 메시지 수
+     */
+    public int pendingCount() {
+        return pending.get();
+    }
+
+    /**
+     * 종료 시 남은 메시지 전송 (최대 LOTTO_NOTIFY_DRAIN_SECONDS)
+     * System.exit에서도 Spring 종료 훅을 통해 호출됩니다.
+     */
+    @Override
+    public void destroy() {
+        long startNanos = System.nanoTime();
+        drainDeadlineNanos = startNanos + drainTimeout.toNanos();
+        while (pending.get() > 0 && System.nanoTime() < drainDeadlineNanos) {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        stopped = true;
+        workers.values().forEach(SinkWorker::interrupt);
+
+        long elapsedMs = (System.nanoTime() - startNanos) / 1_000_000;
+        int left = pending.get();
+        if (left > 0) {
+            log.warn("알림 {}개를 {}ms 안에 보내지 못했습니다. 다음 실행 시 다시 전송합니다.", left, elapsedMs);
+        } else {
+            log.info("알림 발신함 비움 완료 ({}ms)", elapsedMs);
+        }
+    }
+
+    /**
+     * 싱크 하나의 대기열과 전송 스레드
+     */
+    private final class SinkWorker {
+
+        private final NotificationSink sink;
+        private final LinkedBlockingDeque<OutboxMessage> queue = new LinkedBlockingDeque<>();
+        private final TokenBucket sinkBucket;
+        private final Map<String, TokenBucket> targetBuckets = new ConcurrentHashMap<>();
+        private Thread thread;
+
+        private SinkWorker(NotificationSink sink) {
+            this.sink = sink;
+            this.sinkBucket = new TokenBucket(sink.sinkRateLimit());
+        }
+
+        private void start() {
+            thread = Thread.ofVirtual().name("notify-" + sink.name()).start(this::run);
+        }
+
+        private void interrupt() {
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+
+        private void run() {
+            while (!stopped) {
+                OutboxMessage message;
+                try {
+                    message = queue.pollFirst(500, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (message == null) {
+                    continue;
+                }
+                if (!deliverWithRetry(message)) {
+                    // 종료 시간 초과로 중단: 스풀에 남겨 다음 실행에서 전송
+                    queue.offerFirst(message);
+                    return;
+                }
+                acknowledge(message);
+            }
+        }
+
+        /**
+         * 성공하거나 재시도할 수 없는 오류가 날 때까지 전송
+         *
+         * @return 더 이상 시도할 필요가 없으면 true, 종료로 중단되었으면 false
+         */
+        private boolean deliverWithRetry(OutboxMessage message) {
+            TokenBucket targetBucket = targetBuckets.computeIfAbsent(message.target(),
+                    target -> new TokenBucket(sink.targetRateLimit()));
+            Duration backoff = INITIAL_BACKOFF;
+            int attempt = 0;
+            while (!stopped) {
+                // 대상별 한도 → 싱크 전체 한도 순서로 토큰 확보
+                if (!acquire(targetBucket) || !acquire(sinkBucket)) {
+                    return false;
+                }
+
+                attempt++;
+                long sendStartNanos = System.nanoTime();
+                DeliveryResult result = sink.send(message.target(), message.text());
+                Duration sendLatency = Duration.ofNanos(System.nanoTime() - sendStartNanos);
+                Duration queueDelay = result.status() == DeliveryResult.Status.RETRY
+                        ? null
+                        : Duration.ofMillis(System.currentTimeMillis() - message.createdAtMillis());
+                metrics.recordNotificationSend(sink.name(), result.status().name().toLowerCase(), sendLatency, queueDelay);
+                if (result.status() == DeliveryResult.Status.SENT) {
+                    log.info("[{}] 알림 전송 성공 ({}번째 시도, 대기 {}ms): {}", sink.name(), attempt,
+                            queueDelay.toMillis(), message.text());
+                    return true;
+                }
+                if (result.status() == DeliveryResult.Status.REJECTED) {
+                    log.error("[{}] 알림을 보낼 수 없어 폐기합니다: {}", sink.name(), message.text());
+                    return true;
+                }
+
+                Duration wait = result.retryAfter() != null ? result.retryAfter() : backoff;
+                log.warn("[{}] 알림 전송 재시도 대기 {}ms ({}번째 시도 실패)", sink.name(), wait.toMillis(), attempt);
+                if (!sleep(wait.toNanos())) {
+                    return false;
+                }
+                Duration doubled = backoff.multipliedBy(2);
+                backoff = doubled.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : doubled;
+            }
+            return false;
+        }
+
+        private boolean acquire(TokenBucket bucket) {
+            long waitNanos;
+            while ((waitNanos = bucket.tryAcquire()) > 0) {
+                if (!sleep(waitNanos)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * @return 종료 마감 전에 대기를 마쳤으면 true
+         */
+        private boolean sleep(long nanos) {
+            if (System.nanoTime() + nanos > drainDeadlineNanos) {
+                return false;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(nanos);
+                return true;
+            } catch (InterruptedException e) {
+                return false;
+            }
+        }
+    }
+
+    private void acknowledge(OutboxMessage message) {
+        try {
+            append(ackFile, message.id());
+        } catch (IOException e) {
+            log.warn("알림 전송 기록 실패 (다음 실행에서 중복 전송될 수 있음): {}", e.getMessage());
+        }
+        if (pending.decrementAndGet() == 0) {
+            compactIfDrained();
+        }
+    }
+
+    /**
+     * 대기 중인 메시지가 없으면 스풀의 모든 메시지가 전송된 것이므로 스풀과 전송 기록 파일을 비움
+     */
+    private void compactIfDrained() {
+        synchronized (fileLock) {
+            if (pending.get() != 0) {
+                return;
+            }
+            try {
+                if (Files.exists(spoolFile)) {
+                    Files.write(spoolFile, new byte[0]);
+                }
+                Files.deleteIfExists(ackFile);
+            } catch (IOException e) {
+                log.debug("알림 스풀 정리 실패 (다음 실행 시 정리): {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 이전 실행에서 보내지 못한 메시지를 대기열에 복구하고 스풀 파일을 정리
+     */
+    private void recoverPending() {
+        synchronized (fileLock) {
+            try {
+                if (!Files.exists(spoolFile)) {
+                    return;
+                }
+                Set<String> acked = Files.exists(ackFile)
+                        ? new HashSet<>(Files.readAllLines(ackFile, StandardCharsets.UTF_8))
+                        : Set.of();
+                Map<String, OutboxMessage> unsent = new LinkedHashMap<>();
+                for (String line : Files.readAllLines(spoolFile, StandardCharsets.UTF_8)) {
+                    OutboxMessage message = OutboxMessage.fromSpoolLine(line);
+                    if (message == null || acked.contains(message.id())) {
+                        continue;
+                    }
+                    if (!workers.containsKey(message.sink())) {
+                        log.warn("알 수 없는 싱크의 미전송 알림을 폐기합니다: {}", message.sink());
+                        continue;
+                    }
+                    unsent.put(message.id(), message);
+                }
+
+                // 보내지 못한 메시지만 남기고 다시 작성
+                List<String> lines = new ArrayList<>();
+                for (OutboxMessage message : unsent.values()) {
+                    lines.add(message.toSpoolLine());
+                }
+                Files.write(spoolFile, lines, StandardCharsets.UTF_8);
+                Files.deleteIfExists(ackFile);
+
+                if (!unsent.isEmpty()) {
+                    log.info("이전 실행에서 보내지 못한 알림 {}개를 다시 전송합니다.", unsent.size());
+                    pending.addAndGet(unsent.size());
+                    for (OutboxMessage message : unsent.values()) {
+                        workers.get(message.sink()).queue.offerLast(message);
+                    }
+                }
+            } catch (IOException e) {
+                log.warn("알림 스풀 복구 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void append(Path file, String line) throws IOException {
+        synchronized (fileLock) {
+            Files.createDirectories(file.getParent());
+            try (FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                channel.write(ByteBuffer.wrap((line + "\n").getBytes(StandardCharsets.UTF_8)));
+                channel.force(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package lotteryauto.notification;
+
+import java.util.List;
+
+/**
+ * 알림 전송 대상 종류 (Telegram, 웹훅, 파일 등)
+ * 발신함은 등록된 모든 싱크의 대상마다 메시지를 보내며, 싱크가 정한 전송 한도를 지킵니다.
+ */
+public interface NotificationSink {
+
+    /**
+     * 스풀 파일에 기록되는 싱크 이름 (바꾸면 이전 실행의 미전송 메시지를 찾지 못함)
+     */
+    String name();
+
+    /**
+     * 메시지를 받을 대상 목록 (설정되지 않았으면 빈 목록)
+     */
+    List<String> targets();
+
+    /**
+     * 대상 하나에 대한 전송 한도
+     */
+    RateLimit targetRateLimit();
+
+    /**
+     * 싱크 전체(예: 봇 하나)에 대한 전송 한도
+     */
+    RateLimit sinkRateLimit();
+
+    /**
+     * 메시지 한 건 전송 (발신함의 전송 스레드에서 호출되므로 블로킹해도 됨)
+     */
+    DeliveryResult send(String target, String text);
+}
@@ -0,0 +1,49 @@
+package lotteryauto.notification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 전송 대기 중인 알림 메시지
+ *
+ * @param id              메시지 식별자 (전송 완료 기록에 사용)
+ * @param sink            전송할 싱크 이름 (telegram, webhook, file)
+ * @param target          싱크 안에서 받을 대상 (채팅방 ID, 웹훅 주소 등)
+ * @param text            메시지 본문
+ * @param createdAtMillis 생성 시각 (epoch ms)
+ */
+public record OutboxMessage(String id, String sink, String target, String text, long createdAtMillis) {
+
+    /**
+     * 스풀 파일 한 줄 형식: id, 생성 시각, 싱크, 대상, Base64 본문을 탭으로 구분
+     */
+    String toSpoolLine() {
+        String encoded = Base64.getEncoder().encodeToString(text.getBytes(StandardCharsets.UTF_8));
+        return id + "\t" + createdAtMillis + "\t" + sink + "\t" + target + "\t" + encoded;
+    }
+
+    /**
+     * 스풀 파일 한 줄 해석
+     * 싱크 구분이 없던 이전 형식(4개 항목)은 Telegram 메시지로 읽습니다.
+     *
+     * @return 해석할 수 없는(기록 도중 중단된) 줄이면 null
+     */
+    static OutboxMessage fromSpoolLine(String line) {
+        String[] parts = line.split("\t", -1);
+        try {
+            if (parts.length == 5) {
+                return new OutboxMessage(parts[0], parts[2], parts[3], decode(parts[4]), Long.parseLong(parts[1]));
+            }
+            if (parts.length == 4) {
+                return new OutboxMessage(parts[0], "telegram", parts[2], decode(parts[3]), Long.parseLong(parts[1]));
+            }
+            return null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String decode(String encoded) {
+        return new String(Base64.getDecoder().decode(encoded), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,24 @@
+package lotteryauto.notification;
+
+/**
+ * 토큰 버킷 전송 한도
+ *
+ * @param burst     연속으로 보낼 수 있는 최대 메시지 수
+ * @param perSecond 초당 보충되는 메시지 수
+ */
+public record RateLimit(int burst, double perSecond) {
+
+    public static final RateLimit UNLIMITED = new RateLimit(Integer.MAX_VALUE, Double.POSITIVE_INFINITY);
+
+    public static RateLimit perSecond(int burst, double perSecond) {
+        return new RateLimit(burst, perSecond);
+    }
+
+    public static RateLimit perMinute(int burst, double perMinute) {
+        return new RateLimit(burst, perMinute / 60.0);
+    }
+
+    public boolean isUnlimited() {
+        return Double.isInfinite(perSecond);
+    }
+}
@@ -0,0 +1,117 @@
+package lotteryauto.notification;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lotteryauto.config.LotteryConfig;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Telegram Bot API 알림 싱크
+ * TELEGRAM_CHAT_ID에 쉼표로 여러 채팅방을 지정할 수 있습니다.
+ * Telegram 권장 한도(채팅방당 초당 1건, 봇 전체 초당 30건)를 지킵니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TelegramSink implements NotificationSink {
+
+    private static final String TELEGRAM_API_BASE_URL = "https://api.telegram.org/bot";
+    private static final Duration SEND_TIMEOUT = Duration.ofSeconds(15);
+    private static final Pattern RETRY_AFTER = Pattern.compile("\"retry_after\"\\s*:\\s*(\\d+)");
+
+    private static final RateLimit PER_CHAT = RateLimit.perSecond(1, 1);
+    private static final RateLimit PER_BOT = RateLimit.perSecond(30, 30);
+
+    private final LotteryConfig lotteryConfig;
+    private final WebClient webClient;
+
+    @Override
+    public String name() {
+        return "telegram";
+    }
+
+    @Override
+    public List<String> targets() {
+        String token = lotteryConfig.getTelegramBotToken();
+        String chatIds = lotteryConfig.getTelegramChatId();
+        if (token == null || token.isEmpty() || chatIds == null || chatIds.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(chatIds.split(","))
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .toList();
+    }
+
+    @Override
+    public RateLimit targetRateLimit() {
+        return PER_CHAT;
+    }
+
+    @Override
+    public RateLimit sinkRateLimit() {
+        return PER_BOT;
+    }
+
+    @Override
+    public DeliveryResult send(String chatId, String text) {
+        String botToken = lotteryConfig.getTelegramBotToken();
+        if (botToken == null || !botToken.contains(":")) {
+            log.error("❌ Telegram 토큰 형식이 올바르지 않습니다. '123456789:ABCDEF...' 형식이어야 합니다.");
+            return DeliveryResult.rejected();
+        }
+
+        // form-urlencoded 형식으로 전송 (자동 인코딩 처리)
+        MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
+        formData.add("chat_id", chatId);
+        formData.add("text", text);
+
+        try {
+            Map.Entry<Integer, String> reply = webClient.post()
+                    .uri(TELEGRAM_API_BASE_URL + botToken + "/sendMessage")
+                    .body(BodyInserters.fromFormData(formData))
+                    .exchangeToMono(response -> response.bodyToMono(String.class)
+                            .defaultIfEmpty("")
+                            .map(body -> Map.entry(response.statusCode().value(), body)))
+                    .block(SEND_TIMEOUT);
+            if (reply == null) {
+                return DeliveryResult.retry();
+            }
+
+            int status = reply.getKey();
+            if (status >= 200 && status < 300) {
+                return DeliveryResult.sent();
+            }
+            if (status == 429) {
+                Matcher matcher = RETRY_AFTER.matcher(reply.getValue());
+                Duration retryAfter = matcher.find() ? Duration.ofSeconds(Long.parseLong(matcher.group(1))) : null;
+                log.warn("Telegram API 429: 전송 한도 초과 (retry_after={})", retryAfter);
+                return DeliveryResult.retryAfter(retryAfter);
+            }
+            if (status >= 400 && status < 500) {
+                if (status == 404) {
+                    log.error("❌ Telegram API 404 오류: 토큰이 올바르지 않거나 봇이 존재하지 않습니다.");
+                } else {
+                    log.error("❌ Telegram API {} 오류: {}", status, reply.getValue());
+                }
+                return DeliveryResult.rejected();
+            }
+            log.warn("Telegram API {} 오류 (재시도): {}", status, reply.getValue());
+            return DeliveryResult.retry();
+        } catch (Exception e) {
+            log.warn("Telegram 메시지 전송 실패 (재시도): {}", e.getMessage());
+            return DeliveryResult.retry();
+        }
+    }
+}
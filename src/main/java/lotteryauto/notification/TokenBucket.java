@@ -0,0 +1,45 @@
+package lotteryauto.notification;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 토큰 버킷 전송 한도 계산기
+ * 토큰을 하나 꺼낼 수 있으면 즉시, 없으면 다음 토큰이 보충될 때까지의 대기 시간을 알려줍니다.
+ */
+public class TokenBucket {
+
+    private final RateLimit limit;
+    private final LongSupplier nanoClock;
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(RateLimit limit) {
+        this(limit, System::nanoTime);
+    }
+
+    TokenBucket(RateLimit limit, LongSupplier nanoClock) {
+        this.limit = limit;
+        this.nanoClock = nanoClock;
+        this.tokens = limit.burst();
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * 토큰 하나를 꺼내기까지 기다려야 하는 시간
+     *
+     * @return 0이면 토큰을 꺼냈음, 양수이면 그만큼 기다린 뒤 다시 시도해야 함 (ns)
+     */
+    public synchronized long tryAcquire() {
+        if (limit.isUnlimited()) {
+            return 0;
+        }
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(limit.burst(), tokens + (now - lastRefillNanos) / 1e9 * limit.perSecond());
+        lastRefillNanos = now;
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / limit.perSecond() * 1e9);
+    }
+}
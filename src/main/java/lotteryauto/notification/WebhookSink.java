@@ -0,0 +1,106 @@
+package lotteryauto.notification;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lotteryauto.config.LotteryConfig;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 웹훅 알림 싱크
+ * NOTIFY_WEBHOOK_URL(쉼표로 여러 개)에 {"text": "..."} 형식의 JSON을 POST합니다.
+ * Slack/Discord 호환 웹훅이나 사내 수집 서버 연동에 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WebhookSink implements NotificationSink {
+
+    private static final Duration SEND_TIMEOUT = Duration.ofSeconds(15);
+    private static final RateLimit PER_URL = RateLimit.perSecond(5, 1);
+
+    private final LotteryConfig lotteryConfig;
+    private final WebClient webClient;
+
+    private record Reply(int status, String retryAfter) {
+    }
+
+    @Override
+    public String name() {
+        return "webhook";
+    }
+
+    @Override
+    public List<String> targets() {
+        String urls = lotteryConfig.getNotifyWebhookUrls();
+        if (urls == null || urls.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(urls.split(","))
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .toList();
+    }
+
+    @Override
+    public RateLimit targetRateLimit() {
+        return PER_URL;
+    }
+
+    @Override
+    public RateLimit sinkRateLimit() {
+        return RateLimit.UNLIMITED;
+    }
+
+    @Override
+    public DeliveryResult send(String url, String text) {
+        try {
+            Reply reply = webClient.post()
+                    .uri(url)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(Map.of("text", text))
+                    .exchangeToMono(response -> response.releaseBody().thenReturn(new Reply(
+                            response.statusCode().value(),
+                            response.headers().asHttpHeaders().getFirst(HttpHeaders.RETRY_AFTER))))
+                    .block(SEND_TIMEOUT);
+            if (reply == null) {
+                return DeliveryResult.retry();
+            }
+
+            int status = reply.status();
+            if (status >= 200 && status < 300) {
+                return DeliveryResult.sent();
+            }
+            if (status == 429) {
+                return DeliveryResult.retryAfter(parseSeconds(reply.retryAfter()));
+            }
+            if (status >= 400 && status < 500) {
+                log.error("❌ 웹훅 {} 오류로 메시지를 보낼 수 없습니다.", status);
+                return DeliveryResult.rejected();
+            }
+            log.warn("웹훅 {} 오류 (재시도)", status);
+            return DeliveryResult.retry();
+        } catch (Exception e) {
+            log.warn("웹훅 전송 실패 (재시도): {}", e.getMessage());
+            return DeliveryResult.retry();
+        }
+    }
+
+    private Duration parseSeconds(String retryAfter) {
+        if (retryAfter == null) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
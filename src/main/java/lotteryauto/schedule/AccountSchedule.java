@@ -0,0 +1,64 @@
+package lotteryauto.schedule;
+
+import lotteryauto.config.LotteryAccount;
+import org.springframework.scheduling.support.CronExpression;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 상시 실행 모드에서 계정 하나의 구매 시각 (한국 시간 기준 cron)
+ *
+ * @param account 구매할 계정
+ * @param cron    구매 시각
+ */
+public record AccountSchedule(LotteryAccount account, CronExpression cron) {
+
+    /**
+     * 계정별 구매 시각 해석
+     *
+     * @param accounts    설정된 계정 목록
+     * @param defaultCron 계정별 설정이 없을 때의 cron (LOTTO_DAEMON_CRON)
+     * @param overrides   "아이디=cron"을 줄바꿈 또는 ;로 구분한 계정별 설정 (LOTTO_DAEMON_ACCOUNT_CRONS)
+     * @throws IllegalArgumentException cron 형식이 맞지 않거나 없는 계정을 지정한 경우
+     */
+    public static List<AccountSchedule> parse(List<LotteryAccount> accounts, String defaultCron, String overrides) {
+        Map<String, CronExpression> byUsername = new HashMap<>();
+        if (overrides != null && !overrides.isBlank()) {
+            for (String entry : overrides.split("[;\\r\\n]+")) {
+                String trimmed = entry.trim();
+                if (trimmed.isEmpty()) {
+                    continue;
+                }
+                int separator = trimmed.indexOf('=');
+                if (separator <= 0) {
+                    throw new IllegalArgumentException("계정별 구매 시각 형식은 \"아이디=cron\"입니다: " + trimmed);
+                }
+                String username = trimmed.substring(0, separator).trim();
+                if (accounts.stream().noneMatch(account -> account.username().equals(username))) {
+                    throw new IllegalArgumentException("설정되지 않은 계정의 구매 시각입니다: " + username);
+                }
+                byUsername.put(username, CronExpression.parse(trimmed.substring(separator + 1).trim()));
+            }
+        }
+
+        CronExpression fallback = CronExpression.parse(defaultCron.trim());
+        List<AccountSchedule> schedules = new ArrayList<>();
+        for (LotteryAccount account : accounts) {
+            schedules.add(new AccountSchedule(account, byUsername.getOrDefault(account.username(), fallback)));
+        }
+        return schedules;
+    }
+
+    /**
+     * 지정한 시각 이후의 다음 구매 시각
+     */
+    public Optional<Instant> next(Instant after) {
+        return Optional.ofNullable(cron.next(after.atZone(LaunchWindow.ZONE))).map(ZonedDateTime::toInstant);
+    }
+}
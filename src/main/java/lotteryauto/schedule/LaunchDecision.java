@@ -0,0 +1,25 @@
+package lotteryauto.schedule;
+
+import java.util.List;
+
+/**
+ * 이번 예약 실행에서 구매를 시작할지 여부
+ *
+ * @param launch   구매 시작 여부
+ * @param reason   로그에 남길 판단 근거
+ * @param accounts 구매할 계정 ({@link lotteryauto.config.LotteryAccount#key()}, 비어 있으면 모든 계정)
+ */
+public record LaunchDecision(boolean launch, String reason, List<String> accounts) {
+
+    static LaunchDecision launch(String reason) {
+        return new LaunchDecision(true, reason, List.of());
+    }
+
+    static LaunchDecision retry(List<String> accounts, String reason) {
+        return new LaunchDecision(true, reason, List.copyOf(accounts));
+    }
+
+    static LaunchDecision skip(String reason) {
+        return new LaunchDecision(false, reason, List.of());
+    }
+}
@@ -0,0 +1,108 @@
+package lotteryauto.schedule;
+
+import lombok.extern.slf4j.Slf4j;
+import lotteryauto.config.LotteryConfig;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+
+/**
+ * 실행 기록을 바탕으로 구매 시작 시각 결정
+ * 예약 실행은 시간대 안에서 1시간마다 시작되고, 기록상 대기열이 짧고 구매가 빨랐던 구간에 도달했을 때만 구매합니다.
+ * 이번 주에 이미 구매를 마쳤으면 건너뛰고, 앞선 실행이 대기열 등으로 끝내지 못했으면 그 계정만 바로 다시 구매하며, 마지막 구간이면 바로 구매합니다.
+ * 로그인 실패나 잔액 부족처럼 다시 시도해도 같은 결과인 계정은 이번 주에 다시 시도하지 않습니다.
+ */
+@Slf4j
+@Component
+public class LaunchScheduler {
+
+    private final LotteryConfig lotteryConfig;
+    private final RunHistory runHistory;
+
+    public LaunchScheduler(LotteryConfig lotteryConfig, RunHistory runHistory) {
+        this.lotteryConfig = lotteryConfig;
+        this.runHistory = runHistory;
+    }
+
+    /**
+     * 지금 구매를 시작할지 결정
+     *
+     * @param now 현재 시각
+     */
+    public LaunchDecision decide(Instant now) {
+        if (lotteryConfig.isLaunchForce()) {
+            return LaunchDecision.launch("수동 실행");
+        }
+        String spec = lotteryConfig.getLaunchWindow();
+        if (spec == null || spec.isBlank()) {
+            return LaunchDecision.launch("실행 시간대 미설정");
+        }
+        LaunchWindow window;
+        try {
+            window = LaunchWindow.parse(spec);
+        } catch (IllegalArgumentException e) {
+            log.warn("LOTTO_LAUNCH_WINDOW 설정을 무시합니다: {}", e.getMessage());
+            return LaunchDecision.launch("실행 시간대 설정 오류");
+        }
+        if (!window.contains(now)) {
+            return LaunchDecision.launch("실행 시간대 밖의 실행");
+        }
+
+        List<RunRecord> history = runHistory.load();
+        List<RunRecord> thisWeek = history.stream()
+                .filter(record -> window.sameOccurrence(record.startedAt(), now))
+                .toList();
+        if (thisWeek.stream().anyMatch(RunRecord::completed)) {
+            return LaunchDecision.skip("이번 주 구매를 이미 마침");
+        }
+        if (!thisWeek.isEmpty()) {
+            List<String> retry = thisWeek.get(thisWeek.size() - 1).retryAccounts();
+            if (retry.isEmpty()) {
+                return LaunchDecision.skip("앞선 실행의 실패는 다시 시도해도 풀리지 않음 (로그인 실패, 잔액 부족 등)");
+            }
+            return LaunchDecision.retry(retry, String.format("앞선 실행이 구매를 마치지 못한 계정 %d개 재시도", retry.size()));
+        }
+
+        LocalTime current = window.slotOf(now);
+        List<LocalTime> slots = window.slots();
+        if (current.equals(slots.get(slots.size() - 1))) {
+            return LaunchDecision.launch("시간대의 마지막 구간");
+        }
+        LocalTime best = bestSlot(window, history);
+        if (!current.isBefore(best)) {
+            return LaunchDecision.launch(String.format("기록상 가장 빠른 구간 %s", best));
+        }
+        return LaunchDecision.skip(String.format("기록상 %s 구간이 가장 빠름 (현재 %s)", best, current));
+    }
+
+    /**
+     * 구간별 평균 비용(대기열 대기 + 소요 시간)이 가장 작은 구간 (같으면 이른 구간)
+     * 기록이 없는 구간은 전체 평균으로 보고, 기록이 전혀 없으면 첫 구간을 고릅니다.
+     */
+    LocalTime bestSlot(LaunchWindow window, List<RunRecord> history) {
+        List<RunRecord> relevant = history.stream()
+                .filter(record -> window.contains(record.startedAt()) && record.reflectsSiteLatency())
+                .toList();
+        OptionalDouble overall = relevant.stream().mapToLong(RunRecord::costMillis).average();
+        Map<LocalTime, Double> costs = new LinkedHashMap<>();
+        for (LocalTime slot : window.slots()) {
+            OptionalDouble mean = relevant.stream()
+                    .filter(record -> window.slotOf(record.startedAt()).equals(slot))
+                    .mapToLong(RunRecord::costMillis)
+                    .average();
+            costs.put(slot, mean.orElse(overall.orElse(0)));
+        }
+        LocalTime best = window.start();
+        for (Map.Entry<LocalTime, Double> entry : costs.entrySet()) {
+            if (entry.getValue() < costs.get(best)) {
+                best = entry.getKey();
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,100 @@
+package lotteryauto.schedule;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 구매를 시작할 수 있는 주간 시간대 (한국 시간)
+ * 시간대는 예약 실행 간격과 같은 1시간 단위 구간으로 나누어 비교합니다.
+ *
+ * @param day   요일
+ * @param start 시작 시각 (포함)
+ * @param end   종료 시각 (제외)
+ */
+public record LaunchWindow(DayOfWeek day, LocalTime start, LocalTime end) {
+
+    public static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    public static final Duration SLOT = Duration.ofHours(1);
+
+    public LaunchWindow {
+        if (!end.isAfter(start)) {
+            throw new IllegalArgumentException("종료 시각이 시작 시각보다 늦어야 합니다: " + start + "-" + end);
+        }
+    }
+
+    /**
+     * "SAT 06:00-19:00" 형식 해석 (요일은 영문 세 글자 또는 전체 이름)
+     *
+     * @throws IllegalArgumentException 형식이 맞지 않는 경우
+     */
+    public static LaunchWindow parse(String spec) {
+        String[] parts = spec.trim().split("\\s+");
+        String[] times = parts.length == 2 ? parts[1].split("-") : new String[0];
+        if (times.length != 2) {
+            throw new IllegalArgumentException("시간대 형식은 \"SAT 06:00-19:00\"입니다: " + spec);
+        }
+        try {
+            return new LaunchWindow(parseDay(parts[0]), LocalTime.parse(times[0]), LocalTime.parse(times[1]));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("시간대 형식은 \"SAT 06:00-19:00\"입니다: " + spec, e);
+        }
+    }
+
+    private static DayOfWeek parseDay(String text) {
+        String upper = text.toUpperCase(Locale.ROOT);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (day.name().equals(upper) || (upper.length() == 3 && day.name().startsWith(upper))) {
+                return day;
+            }
+        }
+        throw new IllegalArgumentException("요일을 알 수 없습니다: " + text);
+    }
+
+    public boolean contains(Instant instant) {
+        ZonedDateTime local = instant.atZone(ZONE);
+        LocalTime time = local.toLocalTime();
+        return local.getDayOfWeek() == day && !time.isBefore(start) && time.isBefore(end);
+    }
+
+    /**
+     * 시간대에 속하는 시각이 어느 구간인지 (구간 시작 시각)
+     */
+    public LocalTime slotOf(Instant instant) {
+        long minutes = Duration.between(start, instant.atZone(ZONE).toLocalTime()).toMinutes();
+        return start.plus(SLOT.multipliedBy(Math.max(0, minutes / SLOT.toMinutes())));
+    }
+
+    /**
+     * 모든 구간의 시작 시각 (이른 순)
+     */
+    public List<LocalTime> slots() {
+        List<LocalTime> slots = new ArrayList<>();
+        LocalTime slot = start;
+        while (true) {
+            slots.add(slot);
+            LocalTime next = slot.plus(SLOT);
+            // 자정을 넘기면 종료
+            if (!next.isAfter(slot) || !next.isBefore(end)) {
+                return slots;
+            }
+            slot = next;
+        }
+    }
+
+    /**
+     * 같은 주의 같은 시간대에 속하는지 (한국 날짜 기준)
+     */
+    public boolean sameOccurrence(Instant a, Instant b) {
+        LocalDate first = a.atZone(ZONE).toLocalDate();
+        return contains(a) && contains(b) && first.equals(b.atZone(ZONE).toLocalDate());
+    }
+}
@@ -0,0 +1,267 @@
+package lotteryauto.schedule;
+
+import lombok.extern.slf4j.Slf4j;
+import lotteryauto.config.LotteryAccount;
+import lotteryauto.config.LotteryConfig;
+import lotteryauto.draw.WinningCheck;
+import lotteryauto.service.HttpLottoEngine;
+import lotteryauto.service.LottoService;
+import lotteryauto.service.MultiAccountPurchaseRunner;
+import lotteryauto.service.PurchaseEngine;
+import lotteryauto.service.PurchaseResult;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 상시 실행 모드의 구매 예약 실행기
+ * 계정마다 cron으로 정한 구매 시각 LOTTO_DAEMON_PRELOGIN_MINUTES분 전에 미리 로그인하고,
+ * 구매 시각까지 예치금 조회로 세션을 유지한 뒤 로그인된 브라우저(또는 HTTP 세션)로 바로 구매합니다.
+ * 미리 로그인한 브라우저도 구매 실행기의 동시 브라우저 허용량(LOTTO_MAX_CONCURRENT_BROWSERS)을 차지하며,
+ * 허용량을 구매 시각까지 확보하지 못하면 미리 로그인하지 않고 구매 시각에 로그인합니다.
+ * 예약 타이머는 스레드 하나로 돌리고, 로그인과 구매처럼 오래 걸리는 작업은 가상 스레드에서 실행합니다.
+ */
+@Slf4j
+@Component
+public class PurchaseDaemon implements DisposableBean {
+
+    private final LotteryConfig lotteryConfig;
+    private final MultiAccountPurchaseRunner runner;
+    private final ObjectProvider<LottoService> lottoServiceProvider;
+    private final HttpLottoEngine httpLottoEngine;
+    private final WinningCheck winningCheck;
+    private final List<Slot> slots = new ArrayList<>();
+
+    private ScheduledExecutorService timer;
+    private ExecutorService workers;
+
+    /**
+     * 계정 하나의 예약 상태
+     */
+    private static final class Slot {
+        private final AccountSchedule schedule;
+        /** 미리 로그인과 세션 유지, 구매가 겹치지 않도록 보호 */
+        private final ReentrantLock lock = new ReentrantLock();
+        /** 미리 로그인한 엔진 (없으면 null) */
+        private PurchaseEngine prepared;
+        /** 미리 로그인한 브라우저가 구매 실행기의 브라우저 허용량을 차지하고 있는지 여부 */
+        private boolean holdsBrowserPermit;
+        private ScheduledFuture<?> keepAlive;
+
+        private Slot(AccountSchedule schedule) {
+            this.schedule = schedule;
+        }
+
+        private LotteryAccount account() {
+            return schedule.account();
+        }
+    }
+
+    public PurchaseDaemon(LotteryConfig lotteryConfig, MultiAccountPurchaseRunner runner,
+                          ObjectProvider<LottoService> lottoServiceProvider, HttpLottoEngine httpLottoEngine,
+                          WinningCheck winningCheck) {
+        this.lotteryConfig = lotteryConfig;
+        this.runner = runner;
+        this.lottoServiceProvider = lottoServiceProvider;
+        this.httpLottoEngine = httpLottoEngine;
+        this.winningCheck = winningCheck;
+    }
+
+    /**
+     * 모든 계정의 다음 구매 예약
+     * 예약 스레드가 프로세스를 유지하므로 호출한 쪽은 바로 반환해도 됩니다.
+     *
+     * @throws IllegalArgumentException 구매 시각 설정이 잘못된 경우
+     */
+    public synchronized void start() {
+        if (timer != null) {
+            return;
+        }
+        List<AccountSchedule> schedules = AccountSchedule.parse(lotteryConfig.getAccounts(),
+                lotteryConfig.getDaemonCron(), lotteryConfig.getDaemonAccountCrons());
+        timer = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("lotto-daemon-timer").factory());
+        workers = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("lotto-daemon-", 1).factory());
+        log.info("상시 실행 모드 시작: 계정 {}개, 구매 {}분 전 미리 로그인", schedules.size(), preloginLead().toMinutes());
+        for (AccountSchedule schedule : schedules) {
+            Slot slot = new Slot(schedule);
+            slots.add(slot);
+            scheduleNext(slot);
+        }
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (timer == null) {
+            return;
+        }
+        timer.shutdownNow();
+        workers.shutdownNow();
+        for (Slot slot : slots) {
+            release(slot);
+        }
+        log.info("상시 실행 모드 종료");
+    }
+
+    private void scheduleNext(Slot slot) {
+        Instant now = Instant.now();
+        Optional<Instant> next = slot.schedule.next(now);
+        if (next.isEmpty()) {
+            log.warn("계정 {}의 다음 구매 시각이 없어 예약을 멈춥니다.", slot.account().displayName());
+            return;
+        }
+        Instant purchaseAt = next.get();
+        Instant preloginAt = purchaseAt.minus(preloginLead());
+        log.info("계정 {} 다음 구매: {} (미리 로그인 {})", slot.account().displayName(),
+                purchaseAt.atZone(LaunchWindow.ZONE).toLocalDateTime(), preloginAt.atZone(LaunchWindow.ZONE).toLocalTime());
+        schedule(() -> prepare(slot, purchaseAt), Duration.between(now, preloginAt));
+        schedule(() -> purchase(slot), Duration.between(now, purchaseAt));
+    }
+
+    private void schedule(Runnable task, Duration delay) {
+        timer.schedule(() -> workers.execute(task), Math.max(0, delay.toMillis()), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 구매 시각 전에 미리 로그인하고 세션 유지 예약
+     */
+    private void prepare(Slot slot, Instant purchaseAt) {
+        slot.lock.lock();
+        try {
+            // 구매 시각이 지났으면 다음 구매까지 브라우저를 붙잡지 않음
+            if (!Instant.now().isBefore(purchaseAt)) {
+                return;
+            }
+            release(slot);
+            PurchaseEngine engine = warmEngine(slot, purchaseAt);
+            if (engine == null) {
+                log.info("계정 {} 브라우저 허용량이 없어 미리 로그인하지 않습니다 (구매 시각에 로그인).", slot.account().displayName());
+                return;
+            }
+            slot.prepared = engine;
+            log.info("계정 {} 미리 로그인 ({} 엔진)", slot.account().displayName(), engine.name());
+            if (!engine.prepare(slot.account())) {
+                log.warn("계정 {} 미리 로그인 실패, 구매 시각에 다시 로그인합니다.", slot.account().displayName());
+                release(slot);
+                return;
+            }
+            long interval = Math.max(1, lotteryConfig.getDaemonKeepAliveSeconds());
+            slot.keepAlive = timer.scheduleAtFixedRate(() -> workers.execute(() -> keepAlive(slot)),
+                    interval, interval, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("계정 {} 미리 로그인 중 오류 (구매 시각에 다시 로그인): {}", slot.account().displayName(), e.getMessage());
+            release(slot);
+        } finally {
+            slot.lock.unlock();
+        }
+    }
+
+    private void keepAlive(Slot slot) {
+        // 구매가 진행 중이면 건너뜀
+        if (!slot.lock.tryLock()) {
+            return;
+        }
+        try {
+            if (slot.prepared != null && !slot.prepared.keepAlive(slot.account())) {
+                log.info("계정 {} 미리 로그인한 세션이 만료되어 다시 로그인합니다.", slot.account().displayName());
+                PurchaseEngine engine = slot.prepared;
+                if (!engine.prepare(slot.account())) {
+                    release(slot);
+                }
+            }
+        } catch (Exception e) {
+            log.debug("세션 유지 요청 실패: {}", e.getMessage());
+        } finally {
+            slot.lock.unlock();
+        }
+    }
+
+    /**
+     * 구매 실행 후 다음 구매 예약
+     */
+    private void purchase(Slot slot) {
+        slot.lock.lock();
+        try {
+            if (slot.keepAlive != null) {
+                slot.keepAlive.cancel(false);
+                slot.keepAlive = null;
+            }
+            LottoService warmBrowser = slot.prepared instanceof LottoService browser ? browser : null;
+            // 미리 로그인한 브라우저는 차지한 허용량과 함께 구매 실행기에 넘기고, 실행기가 사용 후 반납함
+            slot.prepared = null;
+            slot.holdsBrowserPermit = false;
+            PurchaseResult result = runner.runScheduled(slot.account(), warmBrowser);
+            log.info("예약 구매 완료: {}", result.toSummaryLine());
+        } catch (Exception e) {
+            log.error("계정 {} 예약 구매 중 오류 발생: {}", slot.account().displayName(), e.getMessage(), e);
+        } finally {
+            slot.lock.unlock();
+            if (!timer.isShutdown()) {
+                scheduleNext(slot);
+            }
+        }
+        // 프로세스가 계속 떠 있으므로 구매 때마다 새 회차가 나왔는지 확인해 지난 구매의 당첨을 확인
+        if (lotteryConfig.isDrawSync()) {
+            try {
+                winningCheck.syncIfStaleAndCheck();
+            } catch (Exception e) {
+                log.warn("당첨 확인 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 미리 로그인할 엔진 (HTTP 엔진을 쓰면 HTTP 세션, 아니면 브라우저 허용량을 확보한 뒤 풀에서 빌린 브라우저)
+     *
+     * @return 구매 시각까지 브라우저 허용량을 확보하지 못하면 null
+     */
+    private PurchaseEngine warmEngine(Slot slot, Instant purchaseAt) throws InterruptedException {
+        String engine = lotteryConfig.getEngine() == null ? "selenium" : lotteryConfig.getEngine().trim().toLowerCase();
+        if (engine.equals("http") || engine.equals("auto")) {
+            return httpLottoEngine;
+        }
+        if (!runner.acquireBrowser(Duration.between(Instant.now(), purchaseAt))) {
+            return null;
+        }
+        slot.holdsBrowserPermit = true;
+        return lottoServiceProvider.getObject();
+    }
+
+    private Duration preloginLead() {
+        return Duration.ofMinutes(Math.max(0, lotteryConfig.getDaemonPreloginMinutes()));
+    }
+
+    private void release(Slot slot) {
+        if (slot.keepAlive != null) {
+            slot.keepAlive.cancel(false);
+            slot.keepAlive = null;
+        }
+        if (slot.prepared != null) {
+            closeBrowser(slot.prepared);
+            slot.prepared = null;
+        }
+        if (slot.holdsBrowserPermit) {
+            slot.holdsBrowserPermit = false;
+            runner.releaseBrowser();
+        }
+    }
+
+    private static void closeBrowser(PurchaseEngine engine) {
+        if (engine instanceof LottoService browser) {
+            browser.close();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package lotteryauto.schedule;
+
+import lombok.extern.slf4j.Slf4j;
+import lotteryauto.config.LotteryConfig;
+import lotteryauto.metrics.LottoMetrics;
+import lotteryauto.service.PurchaseResult;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 실행 기록 저장소 (JSON Lines)
+ * 실행마다 시작 시각, 대기열 대기 시간, 단계별 소요 시간을 상태 디렉터리에 한 줄씩 남기고,
+ * {@link LaunchScheduler}가 다음 실행 시각을 고를 때 읽습니다.
+ */
+@Slf4j
+@Component
+public class RunHistory {
+
+    /** 시각 선택에 쓰는 최근 기록 수 */
+    private static final int MAX_RECORDS = 200;
+
+    private final Path file;
+    private final LottoMetrics metrics;
+    private final ObjectMapper objectMapper;
+
+    public RunHistory(LotteryConfig lotteryConfig, LottoMetrics metrics, ObjectMapper objectMapper) {
+        this.file = Paths.get(lotteryConfig.getStateDir(), "history", "runs.jsonl");
+        this.metrics = metrics;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 이번 실행의 결과와 지표로 기록 추가
+     *
+     * @param startedAt 실행 시작 시각
+     * @param results   계정별 구매 결과
+     */
+    public RunRecord record(Instant startedAt, List<PurchaseResult> results) {
+        RunRecord record = new RunRecord(startedAt, Duration.between(startedAt, Instant.now()), metrics.totalQueueWait(),
+                !results.isEmpty() && results.stream().allMatch(PurchaseResult::isAcceptable), metrics.phaseMeansMillis(),
+                results.stream()
+                        .filter(result -> result.outcome().isRetryable())
+                        .map(result -> result.account().key())
+                        .toList());
+        append(record);
+        return record;
+    }
+
+    public synchronized void append(RunRecord record) {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("startedAt", record.startedAt().toString());
+        line.put("elapsedMs", record.elapsed().toMillis());
+        line.put("queueWaitMs", record.queueWait().toMillis());
+        line.put("completed", record.completed());
+        line.put("phasesMs", record.phaseMillis());
+        line.put("retryAccounts", record.retryAccounts());
+        try {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, objectMapper.writeValueAsString(line) + "\n", StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            log.warn("실행 기록 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 최근 실행 기록 (오래된 순, 읽을 수 없는 줄은 건너뜀)
+     */
+    public synchronized List<RunRecord> load() {
+        if (!Files.isRegularFile(file)) {
+            return List.of();
+        }
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            log.warn("실행 기록을 읽을 수 없습니다: {}", e.getMessage());
+            return List.of();
+        }
+        List<RunRecord> records = new ArrayList<>();
+        for (String line : lines.subList(Math.max(0, lines.size() - MAX_RECORDS), lines.size())) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                records.add(parse(objectMapper.readerForMapOf(Object.class).readValue(line)));
+            } catch (RuntimeException e) {
+                log.debug("실행 기록 한 줄을 건너뜁니다: {}", e.getMessage());
+            }
+        }
+        return records;
+    }
+
+    private static RunRecord parse(Map<String, Object> line) {
+        Map<String, Long> phases = new LinkedHashMap<>();
+        List<String> retry = new ArrayList<>();
+        if (line.get("retryAccounts") instanceof List<?> keys) {
+            keys.forEach(key -> retry.add(String.valueOf(key)));
+        }
+        if (line.get("phasesMs") instanceof Map<?, ?> map) {
+            map.forEach((phase, millis) -> phases.put(String.valueOf(phase), ((Number) millis).longValue()));
+        }
+        return new RunRecord(
+                Instant.parse(String.valueOf(line.get("startedAt"))),
+                Duration.ofMillis(((Number) line.get("elapsedMs")).longValue()),
+                Duration.ofMillis(((Number) line.get("queueWaitMs")).longValue()),
+                Boolean.TRUE.equals(line.get("completed")),
+                phases,
+                retry);
+    }
+}
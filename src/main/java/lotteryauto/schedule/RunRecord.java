@@ -0,0 +1,41 @@
+package lotteryauto.schedule;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 실행 한 번의 기록
+ *
+ * @param startedAt   시작 시각
+ * @param elapsed     전체 소요 시간
+ * @param queueWait   구매 페이지 접속 대기열에서 기다린 시간 (여러 계정이면 합계)
+ * @param completed   모든 계정이 구매를 마쳤거나 이미 한도를 채웠는지 여부
+ * @param phaseMillis 단계별 평균 소요 시간 (ms)
+ * @param retryAccounts 다음 예약 실행에서 다시 구매할 계정 ({@link lotteryauto.config.LotteryAccount#key()}, 대기열·접속 오류로 끝난 계정)
+ */
+public record RunRecord(
+        Instant startedAt,
+        Duration elapsed,
+        Duration queueWait,
+        boolean completed,
+        Map<String, Long> phaseMillis,
+        List<String> retryAccounts
+) {
+
+    /**
+     * 시작 시각을 고를 때 비교하는 비용 (대기열 대기 + 소요 시간, ms)
+     */
+    public long costMillis() {
+        return queueWait.toMillis() + elapsed.toMillis();
+    }
+
+    /**
+     * 사이트 상태를 반영한 기록인지 (구매까지 마쳤거나 대기열을 만난 실행)
+     * 로그인 실패처럼 일찍 끝난 실행은 빠르게 보이므로 시각 비교에서 제외합니다.
+     */
+    public boolean reflectsSiteLatency() {
+        return completed || queueWait.isPositive();
+    }
+}
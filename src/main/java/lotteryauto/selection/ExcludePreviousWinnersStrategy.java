@@ -0,0 +1,56 @@
+package lotteryauto.selection;
+
+import lotteryauto.draw.DrawStore;
+import lotteryauto.ticket.Ticket;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * 직전 회차 당첨 번호를 빼고 균등하게 고르는 방식
+ * 지난 회차의 1등 번호 조합과 똑같은 게임도 만들지 않습니다. 추첨 결과가 없으면 균등 난수와 같습니다.
+ */
+@Component
+public class ExcludePreviousWinnersStrategy implements NumberStrategy {
+
+    public static final String NAME = "exclude-winners";
+
+    private final DrawStore drawStore;
+
+    public ExcludePreviousWinnersStrategy(DrawStore drawStore) {
+        this.drawStore = drawStore;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public boolean usesDrawHistory() {
+        return true;
+    }
+
+    @Override
+    public List<Long> pick(int count, SplittableRandom random) {
+        int latest = drawStore.latestRound();
+        long pool = latest > 0 ? Ticket.VALID_BITS & ~drawStore.mask(latest) : Ticket.VALID_BITS;
+        Set<Long> winners = new HashSet<>(latest * 2);
+        for (int round = 1; round <= latest; round++) {
+            winners.add(drawStore.mask(round));
+        }
+        Set<Long> games = new LinkedHashSet<>();
+        while (games.size() < count) {
+            long game = UniformRandomStrategy.randomGame(random, pool);
+            if (!winners.contains(game)) {
+                games.add(game);
+            }
+        }
+        return new ArrayList<>(games);
+    }
+}
@@ -0,0 +1,63 @@
+package lotteryauto.selection;
+
+import lotteryauto.config.LotteryConfig;
+import lotteryauto.ticket.Ticket;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * LOTTO_FAVORITE_NUMBERS에 정한 게임을 매번 사는 방식
+ * 정한 게임이 구매 게임 수보다 적으면 나머지는 균등 난수로 채우고, 많으면 앞에서부터 구매 게임 수만큼만 삽니다.
+ */
+@Component
+public class FavoriteNumbersStrategy implements NumberStrategy {
+
+    public static final String NAME = "favorites";
+
+    private final String favoriteNumbers;
+
+    public FavoriteNumbersStrategy(LotteryConfig lotteryConfig) {
+        this.favoriteNumbers = lotteryConfig.getFavoriteNumbers();
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    /**
+     * @throws IllegalArgumentException 정한 게임이 없거나 번호를 해석할 수 없는 경우
+     */
+    @Override
+    public List<Long> pick(int count, SplittableRandom random) {
+        Set<Long> games = new LinkedHashSet<>(favorites());
+        if (games.isEmpty()) {
+            throw new IllegalArgumentException("LOTTO_FAVORITE_NUMBERS에 게임이 없습니다");
+        }
+        while (games.size() < count) {
+            games.add(UniformRandomStrategy.randomGame(random, Ticket.VALID_BITS));
+        }
+        return games.stream().limit(count).toList();
+    }
+
+    /**
+     * 정한 게임 ("1,2,3,4,5,6"을 줄바꿈 또는 ;로 구분)
+     */
+    List<Long> favorites() {
+        List<Long> games = new ArrayList<>();
+        if (favoriteNumbers == null) {
+            return games;
+        }
+        for (String entry : favoriteNumbers.split("[;\\r\\n]+")) {
+            if (!entry.isBlank()) {
+                games.add(Ticket.parse(entry));
+            }
+        }
+        return games;
+    }
+}
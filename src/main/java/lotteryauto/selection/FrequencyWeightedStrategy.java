@@ -0,0 +1,84 @@
+package lotteryauto.selection;
+
+import lotteryauto.config.LotteryConfig;
+import lotteryauto.draw.DrawAnalytics;
+import lotteryauto.draw.DrawStats;
+import lotteryauto.ticket.Ticket;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * 당첨 번호로 많이 나온 번호일수록 자주 고르는 방식
+ * 번호마다 (출현 횟수 + 1)을 가중치로 겹치지 않게 6개를 뽑으며, 빈도는 LOTTO_NUMBER_WINDOW 최근 회차(0이면 전체)에서 셉니다.
+ * 추첨 결과가 없으면 모든 번호의 가중치가 같아 균등 난수와 같습니다.
+ */
+@Component
+public class FrequencyWeightedStrategy implements NumberStrategy {
+
+    public static final String NAME = "frequency";
+
+    private final DrawAnalytics drawAnalytics;
+    private final int window;
+
+    public FrequencyWeightedStrategy(DrawAnalytics drawAnalytics, LotteryConfig lotteryConfig) {
+        this.drawAnalytics = drawAnalytics;
+        this.window = Math.max(0, lotteryConfig.getNumberWindow());
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public boolean usesDrawHistory() {
+        return true;
+    }
+
+    @Override
+    public List<Long> pick(int count, SplittableRandom random) {
+        DrawStats stats = drawAnalytics.stats(window);
+        long[] weights = new long[Ticket.MAX_NUMBER + 1];
+        for (int number = Ticket.MIN_NUMBER; number <= Ticket.MAX_NUMBER; number++) {
+            weights[number] = stats.frequency(number) + 1L;
+        }
+        Set<Long> games = new LinkedHashSet<>();
+        while (games.size() < count) {
+            games.add(weightedGame(random, weights));
+        }
+        return new ArrayList<>(games);
+    }
+
+    /**
+     * 가중치에 비례해 겹치지 않는 번호 6개 선택 (고른 번호는 다음 뽑기에서 제외)
+     */
+    static long weightedGame(SplittableRandom random, long[] weights) {
+        long game = 0;
+        long total = 0;
+        for (long weight : weights) {
+            total += weight;
+        }
+        while (Long.bitCount(game) < Ticket.SIZE) {
+            long target = random.nextLong(total);
+            int chosen = 0;
+            for (int number = Ticket.MIN_NUMBER; number <= Ticket.MAX_NUMBER; number++) {
+                if ((game & Ticket.bit(number)) != 0) {
+                    continue;
+                }
+                chosen = number;
+                target -= weights[number];
+                if (target < 0) {
+                    break;
+                }
+            }
+            game |= Ticket.bit(chosen);
+            total -= weights[chosen];
+        }
+        return game;
+    }
+}
@@ -0,0 +1,34 @@
+package lotteryauto.selection;
+
+import lotteryauto.ticket.Ticket;
+
+import java.util.List;
+
+/**
+ * 이번 구매에 쓸 번호
+ *
+ * @param strategy 번호를 고른 방식 이름
+ * @param games    게임별 번호 비트마스크 (A~E 순서, 비어 있으면 사이트 자동선택)
+ */
+public record GameSelection(String strategy, List<Long> games) {
+
+    public GameSelection {
+        games = List.copyOf(games);
+    }
+
+    /**
+     * 사이트 자동선택
+     */
+    public static GameSelection auto() {
+        return new GameSelection(SiteAutoStrategy.NAME, List.of());
+    }
+
+    public boolean isAuto() {
+        return games.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return isAuto() ? strategy + " (사이트 자동선택)" : strategy + " " + games.stream().map(Ticket::format).toList();
+    }
+}
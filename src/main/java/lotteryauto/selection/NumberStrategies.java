@@ -0,0 +1,99 @@
+package lotteryauto.selection;
+
+import lombok.extern.slf4j.Slf4j;
+import lotteryauto.config.LotteryConfig;
+import lotteryauto.draw.DrawSync;
+import lotteryauto.ticket.Ticket;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+
+/**
+ * 설정된 번호 선택 방식으로 구매할 게임 고르기
+ * 등록된 {@link NumberStrategy} 빈 중 LOTTO_NUMBER_STRATEGY와 이름이 같은 방식을 쓰며,
+ * 방식이 실패하거나 올바르지 않은 게임을 내면 사이트 자동선택으로 구매합니다.
+ */
+@Slf4j
+@Component
+public class NumberStrategies {
+
+    private final NumberStrategy active;
+    private final DrawSync drawSync;
+    /** LOTTO_NUMBER_SEED가 있을 때 선택마다 나눠 쓰는 난수 (없으면 null) */
+    private final SplittableRandom seeded;
+
+    /**
+     * @throws IllegalArgumentException LOTTO_NUMBER_STRATEGY가 등록되지 않은 이름이거나 시드가 숫자가 아닌 경우
+     */
+    public NumberStrategies(LotteryConfig lotteryConfig, List<NumberStrategy> strategies, DrawSync drawSync) {
+        Map<String, NumberStrategy> byName = new TreeMap<>();
+        for (NumberStrategy strategy : strategies) {
+            byName.put(strategy.name(), strategy);
+        }
+        String name = lotteryConfig.getNumberStrategy() == null || lotteryConfig.getNumberStrategy().isBlank()
+                ? SiteAutoStrategy.NAME
+                : lotteryConfig.getNumberStrategy().trim().toLowerCase();
+        this.active = byName.get(name);
+        if (active == null) {
+            throw new IllegalArgumentException("알 수 없는 번호 선택 방식입니다: " + name + " (사용 가능: " + byName.keySet() + ")");
+        }
+        this.drawSync = drawSync;
+        String seed = lotteryConfig.getNumberSeed();
+        try {
+            this.seeded = seed == null || seed.isBlank() ? null : new SplittableRandom(Long.parseLong(seed.trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("LOTTO_NUMBER_SEED는 숫자여야 합니다: " + seed, e);
+        }
+    }
+
+    /**
+     * 사용 중인 번호 선택 방식
+     */
+    public NumberStrategy active() {
+        return active;
+    }
+
+    /**
+     * 구매할 게임 count개 선택
+     * 추첨 결과를 쓰는 방식은 필요하면 먼저 동기화하므로, 세션과 구매 대기열을 잡기 전(로그인 전)에 호출합니다.
+     *
+     * @return 고른 게임 (사이트 자동선택이면 빈 게임 목록)
+     */
+    public GameSelection select(int count) {
+        try {
+            if (active.usesDrawHistory()) {
+                drawSync.syncIfStale();
+            }
+            List<Long> games = active.pick(count, nextRandom());
+            if (!games.isEmpty()) {
+                validate(games, count);
+            }
+            GameSelection selection = new GameSelection(active.name(), games);
+            log.info("번호 선택: {}", selection);
+            return selection;
+        } catch (RuntimeException e) {
+            log.warn("번호 선택 실패 ({}), 사이트 자동선택으로 구매합니다: {}", active.name(), e.getMessage());
+            return GameSelection.auto();
+        }
+    }
+
+    private synchronized SplittableRandom nextRandom() {
+        return seeded != null ? seeded.split() : new SplittableRandom();
+    }
+
+    private static void validate(List<Long> games, int count) {
+        if (games.size() != count) {
+            throw new IllegalStateException("게임 수가 " + count + "개가 아닙니다: " + games.size());
+        }
+        if (!games.stream().allMatch(Ticket::isValid)) {
+            throw new IllegalStateException("올바르지 않은 게임이 있습니다");
+        }
+        if (new HashSet<>(games).size() != games.size()) {
+            throw new IllegalStateException("같은 게임이 중복되었습니다");
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package lotteryauto.selection;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 번호 선택 방식
+ * 구현체를 빈으로 등록하면 LOTTO_NUMBER_STRATEGY에 {@link #name()}을 지정해 사용할 수 있습니다.
+ * 고른 게임은 구매 화면에 스크립트 한 번으로 입력되거나 HTTP 구매 요청에 수동 번호로 실립니다.
+ */
+public interface NumberStrategy {
+
+    /**
+     * LOTTO_NUMBER_STRATEGY에 쓰는 이름
+     */
+    String name();
+
+    /**
+     * 역대 추첨 결과를 쓰는지 (true면 고르기 전에 새 회차를 받음)
+     */
+    default boolean usesDrawHistory() {
+        return false;
+    }
+
+    /**
+     * 서로 다른 게임 count개 생성
+     *
+     * @param count  게임 수
+     * @param random 이번 선택에 쓸 난수 (LOTTO_NUMBER_SEED가 있으면 매 실행 같은 순서)
+     * @return 게임별 번호 비트마스크 ({@link lotteryauto.ticket.Ticket}), 빈 목록이면 사이트 자동선택
+     */
+    List<Long> pick(int count, SplittableRandom random);
+}
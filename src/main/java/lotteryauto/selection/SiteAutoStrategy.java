@@ -0,0 +1,25 @@
+package lotteryauto.selection;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 사이트 자동선택 (번호를 고르지 않고 구매 화면의 자동선택 버튼 사용)
+ */
+@Component
+public class SiteAutoStrategy implements NumberStrategy {
+
+    public static final String NAME = "auto";
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public List<Long> pick(int count, SplittableRandom random) {
+        return List.of();
+    }
+}
@@ -0,0 +1,52 @@
+package lotteryauto.selection;
+
+import lotteryauto.ticket.Ticket;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * 1~45에서 균등하게 번호 6개를 고르는 방식
+ */
+@Component
+public class UniformRandomStrategy implements NumberStrategy {
+
+    public static final String NAME = "random";
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public List<Long> pick(int count, SplittableRandom random) {
+        Set<Long> games = new LinkedHashSet<>();
+        while (games.size() < count) {
+            games.add(randomGame(random, Ticket.VALID_BITS));
+        }
+        return new ArrayList<>(games);
+    }
+
+    /**
+     * pool에 있는 번호 중에서 균등하게 6개 선택
+     *
+     * @param pool 고를 수 있는 번호의 비트 (6개 이상)
+     */
+    static long randomGame(SplittableRandom random, long pool) {
+        if (Long.bitCount(pool & Ticket.VALID_BITS) < Ticket.SIZE) {
+            throw new IllegalArgumentException("고를 수 있는 번호가 6개보다 적습니다: " + Ticket.format(pool));
+        }
+        long game = 0;
+        while (Long.bitCount(game) < Ticket.SIZE) {
+            long bit = Ticket.bit(random.nextInt(Ticket.MIN_NUMBER, Ticket.MAX_NUMBER + 1));
+            if ((pool & bit) != 0) {
+                game |= bit;
+            }
+        }
+        return game;
+    }
+}
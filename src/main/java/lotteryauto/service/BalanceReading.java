@@ -0,0 +1,18 @@
+package lotteryauto.service;
+
+/**
+ * 예치금 확인 결과
+ *
+ * @param amount 예치금 (원, 확인하지 못한 경우 0)
+ * @param source 값을 읽은 경로
+ */
+public record BalanceReading(int amount, BalanceSource source) {
+
+    public static BalanceReading unknown() {
+        return new BalanceReading(0, BalanceSource.UNKNOWN);
+    }
+
+    public boolean isKnown() {
+        return source != BalanceSource.UNKNOWN;
+    }
+}
@@ -0,0 +1,38 @@
+package lotteryauto.service;
+
+/**
+ * 예치금 값을 어디에서 읽었는지 (신뢰도 높은 순)
+ */
+public enum BalanceSource {
+
+    /** 예치금 조회 응답(JSON)을 CDP 네트워크 이벤트로 직접 수신 */
+    NETWORK("네트워크 응답"),
+
+    /** 예치금 조회 API 응답 (HTTP 엔진, 또는 브라우저의 로그인 직후 세션 확인) */
+    API("조회 API"),
+
+    /** 예치금 표시 요소(totalAmt 등)의 텍스트 */
+    ELEMENT("화면 요소"),
+
+    /** 페이지 스크립트 cmmUtil.getUserMndp 직접 호출 */
+    SCRIPT("페이지 스크립트"),
+
+    /** 페이지 전체에서 금액 텍스트 검색 (최후 수단) */
+    PAGE_SCAN("페이지 텍스트 검색"),
+
+    /** 구매 금액을 차감해 계산한 값 */
+    ESTIMATED("추정치"),
+
+    /** 확인하지 못함 */
+    UNKNOWN("확인 불가");
+
+    private final String label;
+
+    BalanceSource(String label) {
+        this.label = label;
+    }
+
+    public String label() {
+        return label;
+    }
+}
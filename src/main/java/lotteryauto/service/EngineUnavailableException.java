@@ -0,0 +1,21 @@
+package lotteryauto.service;
+
+import java.io.Serial;
+
+/**
+ * 구매 요청을 보내기 전에 엔진을 사용할 수 없다고 판단했을 때 발생하는 예외
+ * 이 예외가 발생한 경우에는 중복 구매 위험이 없으므로 다른 엔진으로 다시 시도할 수 있습니다.
+ */
+public class EngineUnavailableException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public EngineUnavailableException(String message) {
+        super(message);
+    }
+
+    public EngineUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,460 @@
+package lotteryauto.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lotteryauto.config.DhlotteryEndpoints;
+import lotteryauto.config.LotteryAccount;
+import lotteryauto.http.DhlotteryHttpSession;
+import lotteryauto.http.HttpReply;
+import lotteryauto.http.RsaCredentialEncryptor;
+import lotteryauto.http.StoredCookie;
+import lotteryauto.metrics.LottoMetrics;
+import lotteryauto.selection.GameSelection;
+import lotteryauto.selection.NumberStrategies;
+import lotteryauto.session.SessionCookieStore;
+import lotteryauto.ticket.PurchasedTickets;
+import lotteryauto.ticket.Ticket;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.Serial;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 브라우저 없이 HTTP만으로 구매하는 엔진
+ * RSA 공개키를 받아 Java에서 자격증명을 암호화해 로그인하고, 세션 쿠키를 유지한 채
+ * 예치금 조회와 로또 6/45 구매 요청(자동번호 또는 번호 선택 방식이 고른 수동번호)을 직접 보냅니다.
+ * 구매 요청을 보내기 전 단계에서 실패하면 {@link EngineUnavailableException}을 던져 Selenium 엔진으로 전환할 수 있게 합니다.
+ * 사이트가 아이디/비밀번호를 거부한 경우는 다른 엔진으로 다시 로그인해도 실패 횟수만 늘어나므로 바로 로그인 실패로 끝냅니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HttpLottoEngine implements PurchaseEngine {
+
+    private final WebClient webClient;
+    private final DhlotteryEndpoints endpoints;
+    private final TelegramNotificationService telegramNotificationService;
+    private final SessionCookieStore sessionCookieStore;
+    private final LottoMetrics metrics;
+    private final NumberStrategies numberStrategies;
+    private final ObjectMapper objectMapper;
+    /** 구매 시각 전에 미리 로그인해 둔 세션 (아이디별, 구매 흐름에서 한 번만 사용) */
+    private final Map<String, DhlotteryHttpSession> preparedSessions = new ConcurrentHashMap<>();
+
+    private static final int MINIMUM_BALANCE = 5000; // 최소 잔액 (원)
+    private static final int FIXED_GAME_COUNT = 5; // 고정 구매 게임 수 (5,000원)
+    private static final String GAME_SLOTS = "ABCDE";
+    private static final String LIMIT_REACHED_TEXT = "구매한도 5천원을 모두 채우셨습니다";
+
+    private static final Pattern RSA_MODULUS = Pattern.compile("rsaModulus\\s*[=:]\\s*['\"]?([0-9a-fA-F]{64,})");
+    private static final Pattern RSA_EXPONENT = Pattern.compile("publicExponent\\s*[=:]\\s*['\"]?([0-9a-fA-F]+)");
+    private static final Pattern LOGIN_FORM = Pattern.compile("<form[^>]*id=[\"']loginForm[\"'][^>]*>", Pattern.CASE_INSENSITIVE);
+    private static final Pattern FORM_ACTION = Pattern.compile("action=[\"']([^\"']+)[\"']", Pattern.CASE_INSENSITIVE);
+    private static final Pattern CURRENT_ROUND = Pattern.compile("id=[\"']curRound[\"'][^>]*>\\s*(\\d+)");
+
+    /**
+     * 구매 페이지에서 얻는 구매 요청 파라미터
+     */
+    private record PurchaseForm(String round, String drawDate, String payLimitDate) {
+    }
+
+    @Override
+    public String name() {
+        return "http";
+    }
+
+    @Override
+    public PurchaseResult runPurchaseFlow(LotteryAccount account) {
+        long startNanos = System.nanoTime();
+        DhlotteryHttpSession prepared = preparedSessions.remove(account.username());
+        DhlotteryHttpSession session = prepared != null ? prepared : new DhlotteryHttpSession(webClient);
+        // 번호 선택 방식이 고른 게임은 수동번호로, 사이트 자동선택이면 자동번호로 요청
+        // (추첨 결과 동기화가 필요하면 로그인 전에 끝냄)
+        GameSelection selection = numberStrategies.select(FIXED_GAME_COUNT);
+
+        int balance;
+        PurchaseForm form;
+        String direct;
+        try {
+            // 1. 미리 로그인한 세션 또는 저장된 세션 복원 시도 (예치금 조회 한 번으로 유효성 확인)
+            log.info("[HTTP 1/3] 로그인 프로세스 시작... (계정: {})", account.displayName());
+            Integer restoredBalance = prepared != null
+                    ? metrics.timePhase(name(), "prepared_session", () -> balanceOrNull(session))
+                    : metrics.timePhase(name(), "restore_session", () -> restoreSession(session, account));
+            if (restoredBalance != null) {
+                balance = restoredBalance;
+                log.info("[HTTP 1/3] {} 세션으로 로그인 확인 완료 (로그인 과정 생략)", prepared != null ? "미리 로그인한" : "저장된");
+            } else {
+                session.cookieJar().clear();
+                metrics.runPhase(name(), "login", () -> login(session, account));
+                log.info("[HTTP 1/3] 로그인 완료");
+                balance = metrics.timePhase(name(), "balance", () -> fetchBalance(session));
+                sessionCookieStore.save(account, session.cookieJar().getAll());
+            }
+
+            // 2. 예치금 확인
+            log.info("[HTTP 2/3] 예치금 확인 및 구매 정보 조회...");
+            log.info("현재 예치금: {}원", balance);
+            if (balance < MINIMUM_BALANCE) {
+                log.error("잔액 부족: 현재 잔액 {}원, 최소 필요 금액 {}원", balance, MINIMUM_BALANCE);
+                telegramNotificationService.notifyInsufficientBalance(MINIMUM_BALANCE, balance);
+                return result(account, PurchaseOutcome.INSUFFICIENT_BALANCE, balance, PurchaseOutcome.INSUFFICIENT_BALANCE.label(), startNanos);
+            }
+
+            // 3. 회차 및 구매 서버 정보 조회
+            HttpReply purchasePage = metrics.timePhase(name(), "purchase_page",
+                    () -> session.get(endpoints.purchasePageUrl(), endpoints.mainUrl()));
+            if (purchasePage.body().contains(LIMIT_REACHED_TEXT)) {
+                return limitReached(account, balance, startNanos);
+            }
+            form = parsePurchaseForm(purchasePage.body());
+            direct = metrics.timePhase(name(), "ready_socket", () -> fetchReadyIp(session));
+            log.info("[HTTP 2/3] 구매 정보 조회 완료 (회차: {})", form.round());
+        } catch (CredentialsRejectedException e) {
+            log.error("❌ 로그인 실패: {}", e.getMessage());
+            telegramNotificationService.notifyLoginFailure();
+            return result(account, PurchaseOutcome.LOGIN_FAILED, new BalanceReading(-1, BalanceSource.UNKNOWN),
+                    PurchaseOutcome.LOGIN_FAILED.label(), startNanos);
+        } catch (EngineUnavailableException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new EngineUnavailableException("HTTP 구매 준비 실패: " + e.getMessage(), e);
+        }
+
+        // 4. 구매 요청 - 이 시점 이후에는 중복 구매 방지를 위해 다른 엔진으로 전환하지 않음
+        log.info("[HTTP 3/3] 로또 {}게임(5,000원) 구매 요청...", FIXED_GAME_COUNT);
+        try {
+            Map<String, String> request = buildPurchaseRequest(form, direct, selection);
+            HttpReply reply = metrics.timePhase(name(), "purchase",
+                    () -> session.postForm(endpoints.execBuyUrl(), request, endpoints.purchasePageUrl()));
+            Map<String, Object> json = reply.jsonBody();
+            Map<String, Object> resultBody = json != null ? asMap(json.get("result")) : null;
+            String resultCode = resultBody != null ? String.valueOf(resultBody.get("resultCode")) : null;
+            String resultMsg = resultBody != null ? String.valueOf(resultBody.get("resultMsg")) : reply.body();
+
+            if ("100".equals(resultCode)) {
+                BalanceReading remaining = metrics.timePhase(name(), "remaining_balance", () -> fetchRemainingBalance(session, balance));
+                log.info("✅ 로또 구매 성공! (잔액: {}원, 번호: {})", remaining.amount(), resultBody.get("arrGameChoiceNum"));
+                telegramNotificationService.notifyPurchase5000WonSuccess(remaining.amount());
+                return new PurchaseResult(account, PurchaseOutcome.SUCCESS, remaining.amount(), remaining.source(),
+                        Duration.ofNanos(System.nanoTime() - startNanos), "로또 5,000원 구매 완료",
+                        purchasedTickets(resultBody, form.round(), selection.strategy()));
+            }
+            if (resultMsg != null && resultMsg.contains("구매한도")) {
+                return limitReached(account, balance, startNanos);
+            }
+
+            log.error("❌ 구매 실패: {}", resultMsg);
+            telegramNotificationService.notifyPurchaseFailure(resultMsg);
+            return result(account, PurchaseOutcome.PURCHASE_FAILED, balance, resultMsg, startNanos);
+        } catch (Exception e) {
+            log.error("❌ 구매 요청 결과 확인 실패: {}", e.getMessage());
+            telegramNotificationService.notifyError("구매 요청 결과를 확인하지 못했습니다. 구매 내역을 직접 확인해주세요.", e);
+            return result(account, PurchaseOutcome.PURCHASE_FAILED, balance, "구매 요청 결과 확인 실패", startNanos);
+        }
+    }
+
+    /**
+     * 구매 시각 전에 로그인해 세션을 만들어 두기 (저장된 세션이 유효하면 그대로 사용)
+     */
+    @Override
+    public boolean prepare(LotteryAccount account) {
+        DhlotteryHttpSession session = new DhlotteryHttpSession(webClient);
+        try {
+            if (restoreSession(session, account) == null) {
+                session.cookieJar().clear();
+                login(session, account);
+                fetchBalance(session);
+                sessionCookieStore.save(account, session.cookieJar().getAll());
+            }
+            preparedSessions.put(account.username(), session);
+            return true;
+        } catch (Exception e) {
+            log.warn("계정 {} 미리 로그인 실패 (구매 시각에 다시 로그인): {}", account.displayName(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 미리 로그인한 세션으로 예치금을 조회해 세션 유지 (거부되면 세션을 버림)
+     */
+    @Override
+    public boolean keepAlive(LotteryAccount account) {
+        DhlotteryHttpSession session = preparedSessions.get(account.username());
+        if (session == null) {
+            return false;
+        }
+        if (balanceOrNull(session) == null) {
+            preparedSessions.remove(account.username(), session);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 예치금 조회 (세션이 거부되거나 응답을 해석할 수 없으면 null)
+     */
+    private Integer balanceOrNull(DhlotteryHttpSession session) {
+        try {
+            return fetchBalance(session);
+        } catch (RuntimeException e) {
+            log.info("미리 로그인한 세션이 거부되었습니다: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 저장된 세션 쿠키를 복원하고 예치금 조회로 세션이 살아 있는지 확인
+     * 서버가 세션을 거부하면 저장된 쿠키를 삭제합니다.
+     *
+     * @return 세션이 유효하면 조회한 예치금, 아니면 null
+     */
+    private Integer restoreSession(DhlotteryHttpSession session, LotteryAccount account) {
+        Optional<List<StoredCookie>> saved = sessionCookieStore.load(account);
+        if (saved.isEmpty()) {
+            return null;
+        }
+        session.cookieJar().addAll(saved.get());
+        try {
+            return fetchBalance(session);
+        } catch (RuntimeException e) {
+            log.info("저장된 세션이 거부되어 다시 로그인합니다: {}", e.getMessage());
+            sessionCookieStore.invalidate(account);
+            return null;
+        }
+    }
+
+    /**
+     * 로그인 페이지에서 RSA 공개키를 얻어 자격증명을 암호화하고 로그인 요청 전송
+     */
+    private void login(DhlotteryHttpSession session, LotteryAccount account) {
+        HttpReply loginPage = session.get(endpoints.loginPageUrl(), endpoints.mainUrl());
+        if (!loginPage.isSuccessful()) {
+            throw new EngineUnavailableException("로그인 페이지 응답 오류: " + loginPage.status());
+        }
+
+        String modulus = find(RSA_MODULUS, loginPage.body());
+        String exponent = find(RSA_EXPONENT, loginPage.body());
+        if (modulus == null) {
+            Map<String, Object> json = session.postForm(endpoints.rsaModulusUrl(), Map.of(), endpoints.loginPageUrl()).jsonBody();
+            Map<String, Object> data = json != null && json.get("data") instanceof Map ? asMap(json.get("data")) : json;
+            if (data != null) {
+                modulus = stringValue(data.get("rsaModulus"));
+                exponent = stringValue(data.get("publicExponent"));
+            }
+        }
+        if (modulus == null) {
+            throw new EngineUnavailableException("RSA 모듈러스를 찾을 수 없습니다.");
+        }
+
+        RsaCredentialEncryptor encryptor = new RsaCredentialEncryptor(modulus, exponent != null ? exponent : "10001");
+        Map<String, String> form = new LinkedHashMap<>();
+        form.put("inpUserId", account.username());
+        form.put("userId", encryptor.encrypt(account.username()));
+        form.put("userPswdEncn", encryptor.encrypt(account.password()));
+
+        // 로그인 성공 여부는 이어지는 예치금 조회(인증 필요)로 최종 확인
+        HttpReply reply = session.postForm(loginActionUrl(loginPage.body()), form, endpoints.loginPageUrl());
+        if (!reply.isSuccessful()) {
+            throw new EngineUnavailableException("로그인 요청 응답 오류: " + reply.status());
+        }
+        if (URI.create(reply.url()).getPath().equals(URI.create(endpoints.loginPageUrl()).getPath())) {
+            throw new CredentialsRejectedException("로그인 요청 후 로그인 페이지로 돌아왔습니다. (아이디/비밀번호 확인 필요)");
+        }
+    }
+
+    /**
+     * 사이트가 아이디/비밀번호를 거부함 (다른 엔진으로 전환하지 않음)
+     */
+    private static final class CredentialsRejectedException extends RuntimeException {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        CredentialsRejectedException(String message) {
+            super(message);
+        }
+    }
+
+    private String loginActionUrl(String loginPageHtml) {
+        Matcher formTag = LOGIN_FORM.matcher(loginPageHtml);
+        if (formTag.find()) {
+            String action = find(FORM_ACTION, formTag.group());
+            if (action != null && !action.isBlank() && !action.startsWith("javascript")) {
+                return URI.create(endpoints.loginPageUrl()).resolve(action).toString();
+            }
+        }
+        return endpoints.loginCheckUrl();
+    }
+
+    /**
+     * 예치금 조회 (로그인 세션 확인 겸용)
+     */
+    private int fetchBalance(DhlotteryHttpSession session) {
+        Map<String, Object> json = session.postForm(endpoints.balanceUrl(), Map.of(), endpoints.mainUrl()).jsonBody();
+        if (json == null) {
+            json = session.get(endpoints.balanceUrl(), endpoints.mainUrl()).jsonBody();
+        }
+        Long amount = json != null ? PurchasePageParser.findBalanceAmount(json) : null;
+        if (amount == null) {
+            throw new EngineUnavailableException("예치금 응답을 해석할 수 없습니다. (로그인 실패 가능)");
+        }
+        return (int) Math.min(amount, Integer.MAX_VALUE);
+    }
+
+    private BalanceReading fetchRemainingBalance(DhlotteryHttpSession session, int balanceBefore) {
+        try {
+            return new BalanceReading(fetchBalance(session), BalanceSource.API);
+        } catch (Exception e) {
+            log.warn("구매 후 잔액 조회 실패, 구매 금액을 차감한 값으로 표시합니다: {}", e.getMessage());
+            return new BalanceReading(balanceBefore - FIXED_GAME_COUNT * 1000, BalanceSource.ESTIMATED);
+        }
+    }
+
+    private PurchaseForm parsePurchaseForm(String html) {
+        String round = find(CURRENT_ROUND, html);
+        if (round == null) {
+            round = hiddenValue(html, "curRound");
+        }
+        String drawDate = hiddenValue(html, "ROUND_DRAW_DATE");
+        String payLimitDate = hiddenValue(html, "WAMT_PAY_TLMT_END_DT");
+        if (round == null || drawDate == null || payLimitDate == null) {
+            throw new EngineUnavailableException("구매 페이지에서 회차 정보를 찾을 수 없습니다.");
+        }
+        return new PurchaseForm(round, drawDate, payLimitDate);
+    }
+
+    private String fetchReadyIp(DhlotteryHttpSession session) {
+        Map<String, Object> json = session.postForm(endpoints.readySocketUrl(), Map.of(), endpoints.purchasePageUrl()).jsonBody();
+        String readyIp = json != null ? stringValue(json.get("ready_ip")) : null;
+        if (readyIp == null) {
+            throw new EngineUnavailableException("구매 서버 접속 정보를 가져올 수 없습니다.");
+        }
+        return readyIp;
+    }
+
+    private Map<String, String> buildPurchaseRequest(PurchaseForm form, String direct, GameSelection selection) {
+        List<Map<String, Object>> games = new ArrayList<>();
+        for (int i = 0; i < FIXED_GAME_COUNT; i++) {
+            Map<String, Object> game = new LinkedHashMap<>();
+            if (selection.isAuto()) {
+                game.put("genType", "0"); // 자동
+                game.put("arrGameChoiceNum", null);
+            } else {
+                game.put("genType", "1"); // 수동
+                game.put("arrGameChoiceNum", Ticket.format(selection.games().get(i)));
+            }
+            game.put("alpabet", String.valueOf(GAME_SLOTS.charAt(i)));
+            games.add(game);
+        }
+
+        Map<String, String> request = new LinkedHashMap<>();
+        request.put("round", form.round());
+        request.put("direct", direct);
+        request.put("nBuyAmount", String.valueOf(FIXED_GAME_COUNT * 1000));
+        request.put("param", objectMapper.writeValueAsString(games));
+        request.put("ROUND_DRAW_DATE", form.drawDate());
+        request.put("WAMT_PAY_TLMT_END_DT", form.payLimitDate());
+        request.put("gameCnt", String.valueOf(FIXED_GAME_COUNT));
+        request.put("saleMdaDcd", "10");
+        return request;
+    }
+
+    /**
+     * 구매 응답의 게임 목록 해석 (해석할 수 없는 게임은 제외)
+     * 구매에 성공했는데 게임을 하나도 읽지 못하면 당첨 확인에서 빠지므로 경고를 남깁니다.
+     */
+    static PurchasedTickets purchasedTickets(Map<String, Object> resultBody, String formRound, String strategy) {
+        String round = resultBody.get("buyRound") != null ? String.valueOf(resultBody.get("buyRound")) : formRound;
+        List<Long> tickets = new ArrayList<>();
+        List<?> games = resultBody.get("arrGameChoiceNum") instanceof List<?> list ? list : List.of();
+        for (Object game : games) {
+            try {
+                tickets.add(receiptGame(String.valueOf(game)));
+            } catch (IllegalArgumentException e) {
+                log.warn("구매한 게임 번호를 해석할 수 없습니다: {}", game);
+            }
+        }
+        if (tickets.isEmpty()) {
+            log.warn("구매는 완료되었지만 구매한 게임 번호를 읽지 못해 당첨 확인에서 빠집니다: {}", resultBody.get("arrGameChoiceNum"));
+        }
+        try {
+            return new PurchasedTickets(Integer.parseInt(round.trim()), tickets, strategy);
+        } catch (NumberFormatException e) {
+            return new PurchasedTickets(0, tickets, strategy);
+        }
+    }
+
+    /**
+     * 구매 응답의 게임 하나 해석
+     * "A|01|05|13|17|29|393"처럼 게임 기호 뒤에 번호 6개를 |로 나누고, 마지막 번호 뒤에 선택 방식(1 수동, 2 반자동, 3 자동)을 붙인 형식입니다.
+     *
+     * @throws IllegalArgumentException 형식이 다르거나 올바른 게임이 아닌 경우
+     */
+    static long receiptGame(String game) {
+        String[] parts = game.trim().split("\\|");
+        if (parts.length != Ticket.SIZE + 1 || parts[Ticket.SIZE].length() < 2) {
+            throw new IllegalArgumentException("게임 형식이 다릅니다: " + game);
+        }
+        int[] numbers = new int[Ticket.SIZE];
+        try {
+            for (int i = 0; i < Ticket.SIZE; i++) {
+                numbers[i] = Integer.parseInt(i < Ticket.SIZE - 1 ? parts[i + 1] : parts[Ticket.SIZE].substring(0, 2));
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("게임 번호를 해석할 수 없습니다: " + game, e);
+        }
+        long mask = Ticket.of(numbers);
+        if (!Ticket.isValid(mask)) {
+            throw new IllegalArgumentException("올바른 게임이 아닙니다: " + game);
+        }
+        return mask;
+    }
+
+    private PurchaseResult limitReached(LotteryAccount account, int balance, long startNanos) {
+        log.error("❌ 이미 이번 주 로또 구매 한도를 초과했습니다.");
+        telegramNotificationService.notifyLimitReached();
+        return result(account, PurchaseOutcome.LIMIT_REACHED, balance, PurchaseOutcome.LIMIT_REACHED.label(), startNanos);
+    }
+
+    private PurchaseResult result(LotteryAccount account, PurchaseOutcome outcome, int balance, String message, long startNanos) {
+        return result(account, outcome, new BalanceReading(balance, BalanceSource.API), message, startNanos);
+    }
+
+    private PurchaseResult result(LotteryAccount account, PurchaseOutcome outcome, BalanceReading balance, String message, long startNanos) {
+        return new PurchaseResult(account, outcome, balance.amount(), balance.source(),
+                Duration.ofNanos(System.nanoTime() - startNanos), message);
+    }
+
+    private String hiddenValue(String html, String id) {
+        Pattern idFirst = Pattern.compile("id=[\"']" + id + "[\"'][^>]*value=[\"']([^\"']*)[\"']");
+        Pattern valueFirst = Pattern.compile("value=[\"']([^\"']*)[\"'][^>]*id=[\"']" + id + "[\"']");
+        String value = find(idFirst, html);
+        return value != null ? value : find(valueFirst, html);
+    }
+
+    private String find(Pattern pattern, String text) {
+        Matcher matcher = pattern.matcher(text);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    private String stringValue(Object value) {
+        return value == null || value.toString().isBlank() ? null : value.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> asMap(Object value) {
+        return value instanceof Map<?, ?> ? (Map<String, Object>) value : null;
+    }
+}
@@ -1,64 +1,324 @@
 package lotteryauto.service;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import lotteryauto.config.LotteryConfig;
+import lotteryauto.browser.BrowserCookies;
+import lotteryauto.browser.FallbackChain;
+import lotteryauto.browser.FrameNavigator;
+import lotteryauto.browser.FramePathCache;
+import lotteryauto.browser.ManualNumberEntry;
+import lotteryauto.browser.NetworkResponseTap;
+import lotteryauto.browser.PageReadinessWaiter;
+import lotteryauto.browser.PopupDismissalReport;
+import lotteryauto.browser.PopupDismisser;
+import lotteryauto.browser.PurchaseReceipt;
+import lotteryauto.browser.PurchaseResultProbe;
+import lotteryauto.browser.QueueBackoff;
+import lotteryauto.browser.RequestBlocker;
+import lotteryauto.browser.ResourceBlockingProfile;
+import lotteryauto.browser.StrategyStats;
+import lotteryauto.browser.WebDriverPool;
+import lotteryauto.browser.ReadinessCondition;
+import lotteryauto.config.DhlotteryEndpoints;
+import lotteryauto.config.LotteryAccount;
+import lotteryauto.http.StoredCookie;
+import lotteryauto.metrics.LottoMetrics;
+import lotteryauto.selection.GameSelection;
+import lotteryauto.selection.NumberStrategies;
+import lotteryauto.session.SessionCookieStore;
+import lotteryauto.ticket.PurchasedTickets;
+import lotteryauto.ticket.Ticket;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Service;
 
+import java.net.URI;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * 로또 자동 구매 서비스
  * 동행복권 사이트에서 자동으로 로또를 구매하는 로직을 담당합니다.
+ * 계정마다 풀에서 독립된 WebDriver를 대여하도록 prototype 스코프로 생성되며, 사용 후 {@link #close()}로 반납합니다.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-public class LottoService {
+@Scope("prototype")
+public class LottoService implements PurchaseEngine, AutoCloseable {
 
-    private final LotteryConfig lotteryConfig;
     private final TelegramNotificationService telegramNotificationService;
+    private final WebDriverPool webDriverPool;
     private final WebDriver webDriver;
     private final WebDriverWait webDriverWait;
+    private final PageReadinessWaiter readinessWaiter;
+    private final PopupDismisser popupDismisser;
+    private final SessionCookieStore sessionCookieStore;
+    private final LottoMetrics metrics;
+    private final DhlotteryEndpoints endpoints;
+    private final FramePathCache framePathCache;
+    private final StrategyStats strategyStats;
+    private final QueueBackoff queueBackoff;
+    private final PurchaseResultProbe purchaseResultProbe;
+    private final NumberStrategies numberStrategies;
+    /** 허용 목록 밖의 요청 차단 (CDP를 쓸 수 없거나 꺼져 있으면 null) */
+    private final RequestBlocker requestBlocker;
+
+    private LotteryAccount account;
+    private PurchaseOutcome failureOutcome;
+    private int lastKnownBalance = -1;
+    private BalanceSource lastBalanceSource = BalanceSource.UNKNOWN;
+    /** 구매 결과 영수증에서 읽은 게임 */
+    private PurchasedTickets purchasedTickets = PurchasedTickets.NONE;
+    private NavigationPlanner planner = new NavigationPlanner(PURCHASE_ROUTE);
+    /** 예치금 조회 응답 구독 (예치금을 제공하는 페이지로 이동할 때 설정) */
+    private NetworkResponseTap balanceTap;
+    private CompletableFuture<String> balanceResponse;
+    /** 로그인 확인 때 세션으로 조회한 예치금 (조회하지 않았으면 null) */
+    private BalanceReading sessionBalance;
+    /** 구매 시각 전에 미리 로그인해 둔 계정 (없으면 null, 구매 흐름에서 한 번만 사용) */
+    private LotteryAccount preparedAccount;
+    private boolean closed;
 
-    private static final String LOGIN_URL = "https://www.dhlottery.co.kr/login";
-    private static final String MAIN_URL = "https://www.dhlottery.co.kr/main";
-    private static final String MY_PAGE_URL = "https://www.dhlottery.co.kr/mypage/home";
-    private static final String LOTTO_PURCHASE_URL = "https://ol.dhlottery.co.kr/olotto/game/game645.do";
     private static final int MINIMUM_BALANCE = 5000; // 최소 잔액 (원)
     private static final int FIXED_GAME_COUNT = 5; // 고정 구매 게임 수 (5,000원)
+    private static final Duration LOGIN_REDIRECT_TIMEOUT = Duration.ofSeconds(5); // 로그인 후 페이지 이동 최대 대기
+    private static final Duration SELECTION_QUIET_PERIOD = Duration.ofMillis(150); // 게임 선택 후 화면 갱신 안정화 기준
+    private static final String BALANCE_RESPONSE_MARKER = "UserMndp"; // 예치금 조회 요청 URL (getUserMndp / selectUserMndp.do)
+    private static final Duration BALANCE_RESPONSE_TIMEOUT = Duration.ofSeconds(5); // 예치금 조회 응답 최대 대기
+    private static final Duration SESSION_CHECK_TIMEOUT = Duration.ofSeconds(3); // 로그인 확인용 예치금 조회 최대 대기
+    private static final String PURCHASE_FRAME_KEY = "purchase"; // 구매 프레임 경로 캐시 키
+    private static final List<SiteFact> PURCHASE_ROUTE = List.of(
+            SiteFact.LOGIN_FORM, SiteFact.LOGIN_STATE, SiteFact.BALANCE, SiteFact.PURCHASE_FRAME, SiteFact.REMAINING_BALANCE);
+
+    public LottoService(TelegramNotificationService telegramNotificationService,
+                        WebDriverPool webDriverPool,
+                        PageReadinessWaiter readinessWaiter,
+                        PopupDismisser popupDismisser,
+                        SessionCookieStore sessionCookieStore,
+                        LottoMetrics metrics,
+                        DhlotteryEndpoints endpoints,
+                        ResourceBlockingProfile blockingProfile,
+                        FramePathCache framePathCache,
+                        StrategyStats strategyStats,
+                        QueueBackoff queueBackoff,
+                        PurchaseResultProbe purchaseResultProbe,
+                        NumberStrategies numberStrategies) {
+        this.telegramNotificationService = telegramNotificationService;
+        this.webDriverPool = webDriverPool;
+        this.webDriver = webDriverPool.borrow();
+        // 이 서비스가 사용하는 WebDriver와 같은 인스턴스로 대기 객체를 생성
+        this.webDriverWait = new WebDriverWait(webDriver, Duration.ofSeconds(30));
+        this.readinessWaiter = readinessWaiter;
+        this.popupDismisser = popupDismisser;
+        this.sessionCookieStore = sessionCookieStore;
+        this.metrics = metrics;
+        this.endpoints = endpoints;
+        this.framePathCache = framePathCache;
+        this.strategyStats = strategyStats;
+        this.queueBackoff = queueBackoff;
+        this.purchaseResultProbe = purchaseResultProbe;
+        this.numberStrategies = numberStrategies;
+        this.requestBlocker = RequestBlocker.install(webDriver, blockingProfile, metrics).orElse(null);
+    }
+
+    @Override
+    public String name() {
+        return "selenium";
+    }
+
+    /**
+     * 한 계정의 전체 구매 흐름 실행 (로그인 → 예치금 확인 → 구매)
+     *
+     * @param account 구매할 계정
+     * @return 구매 결과
+     */
+    @Override
+    public PurchaseResult runPurchaseFlow(LotteryAccount account) {
+        long startNanos = System.nanoTime();
+        planner = new NavigationPlanner(PURCHASE_ROUTE);
+        sessionBalance = null;
+        purchasedTickets = PurchasedTickets.NONE;
+
+        // 0. 번호 선택 (추첨 결과 동기화가 필요하면 로그인과 구매 대기열 진입 전에 끝냄)
+        GameSelection selection = numberStrategies.select(FIXED_GAME_COUNT);
+
+        // 1. 로그인 (미리 로그인해 둔 브라우저면 세션만 확인)
+        log.info("[1/3] 로그인 프로세스 시작...");
+        if (!metrics.timePhase(name(), "login", () -> resumePreparedSession(account) || login(account))) {
+            log.error("로그인 실패로 구매를 진행하지 않습니다.");
+            return buildResult(PurchaseOutcome.LOGIN_FAILED, "로그인 실패", startNanos);
+        }
+        log.info("[1/3] 로그인 완료");
+
+        // 2. 예치금 확인 및 구매 페이지 진입
+        log.info("[2/3] 예치금 확인 및 구매 페이지 진입...");
+        if (!checkBalanceAndNavigateToPurchase()) {
+            PurchaseOutcome outcome = failureOutcome != null ? failureOutcome : PurchaseOutcome.NAVIGATION_FAILED;
+            log.error("구매 페이지 진입 중단: {}", outcome.label());
+            return buildResult(outcome, outcome.label(), startNanos);
+        }
+        log.info("[2/3] 구매 페이지 진입 완료");
+
+        // 3. 로또 5게임(5,000원) 구매
+        log.info("[3/3] 로또 5게임(5,000원) 구매 시작...");
+        if (metrics.timePhase(name(), "purchase", () -> purchaseLotto(selection))) {
+            log.info("[3/3] 로또 구매 완료!");
+            return buildResult(PurchaseOutcome.SUCCESS, "로또 5,000원 구매 완료", startNanos);
+        }
+        log.error("[3/3] 로또 구매 실패");
+        return buildResult(PurchaseOutcome.PURCHASE_FAILED, "구매 결과 확인 실패", startNanos);
+    }
+
+    /**
+     * 구매 시각 전에 미리 로그인해 두고 브라우저를 그대로 유지
+     */
+    @Override
+    public boolean prepare(LotteryAccount account) {
+        planner = new NavigationPlanner(PURCHASE_ROUTE);
+        sessionBalance = null;
+        preparedAccount = login(account) ? account : null;
+        return preparedAccount != null;
+    }
+
+    /**
+     * 미리 로그인한 브라우저에서 예치금 조회를 한 번 요청해 세션 유지
+     */
+    @Override
+    public boolean keepAlive(LotteryAccount account) {
+        return account.equals(preparedAccount) && checkSession().orElse(false);
+    }
+
+    /**
+     * 미리 로그인해 둔 세션이 아직 유효하면 로그인 과정 없이 사용
+     * 세션 확인에서 읽은 예치금은 예치금 확인에 그대로 사용합니다.
+     */
+    private boolean resumePreparedSession(LotteryAccount account) {
+        boolean prepared = account.equals(preparedAccount);
+        preparedAccount = null;
+        if (!prepared || !checkSession().orElse(false)) {
+            return false;
+        }
+        this.account = account;
+        planner.landed(pageAt(webDriver.getCurrentUrl()));
+        planner.confirmed(SiteFact.LOGIN_FORM);
+        planner.confirmed(SiteFact.LOGIN_STATE);
+        log.info("미리 로그인한 세션으로 로그인 확인 완료 (계정: {})", account.displayName());
+        return true;
+    }
+
+    /**
+     * 브라우저를 풀에 반납 (여러 번 호출해도 안전)
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        log.info("브라우저를 풀에 반납합니다.");
+        disarmBalanceTap();
+        if (requestBlocker != null) {
+            requestBlocker.close();
+        }
+        webDriverPool.release(webDriver);
+    }
+
+    /**
+     * 계획된 페이지로 이동
+     * 드라이버는 eager 전략(DOMContentLoaded)으로 반환하므로, 전체 로드가 필요한 페이지만 load 이벤트까지 기다립니다.
+     * 예치금을 제공하는 페이지는 이동 전에 예치금 조회 응답을 구독하고, 요청 차단 집계는 페이지 단위로 나눕니다.
+     */
+    private void loadPage(SitePage page) {
+        String url = urlOf(page);
+        if (page.provides(SiteFact.BALANCE)) {
+            armBalanceTap();
+        }
+        if (requestBlocker != null) {
+            requestBlocker.startPage(page.id());
+        }
+        log.info("페이지 이동 [{}]: {}", page.id(), url);
+        webDriver.get(url);
+        if (page.fullLoadRequired()) {
+            readinessWaiter.await(webDriver, ReadinessCondition.DOCUMENT_COMPLETE);
+        } else {
+            webDriverWait.until(ExpectedConditions.presenceOfElementLocated(By.tagName("body")));
+        }
+        planner.arrived(page);
+    }
+
+    private String urlOf(SitePage page) {
+        return switch (page) {
+            case LOGIN -> endpoints.loginPageUrl();
+            case MAIN -> endpoints.mainUrl();
+            case MY_PAGE -> endpoints.myPageUrl();
+            case PURCHASE -> endpoints.purchasePageUrl();
+        };
+    }
+
+    /**
+     * 리다이렉트로 도착한 URL이 어느 페이지인지 (알 수 없으면 null)
+     */
+    private SitePage pageAt(String url) {
+        if (url == null) {
+            return null;
+        }
+        if (url.contains("/login")) {
+            return SitePage.LOGIN;
+        }
+        if (url.contains("/mypage")) {
+            return SitePage.MY_PAGE;
+        }
+        if (url.contains("game645")) {
+            return SitePage.PURCHASE;
+        }
+        return url.startsWith(endpoints.mainUrl()) ? SitePage.MAIN : null;
+    }
+
+    private PurchaseResult buildResult(PurchaseOutcome outcome, String message, long startNanos) {
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+        log.info("페이지 이동 {}회 (고정 경로 대비 {}회 절약)", planner.navigations(), planner.saved());
+        metrics.recordNavigations(name(), planner.navigations(), planner.saved());
+        return new PurchaseResult(account, outcome, lastKnownBalance, lastBalanceSource, elapsed, message, purchasedTickets);
+    }
 
     /**
      * 로그인 처리
      * 
+     * @param account 로그인할 계정
      * @return 로그인 성공 여부
      */
-    public boolean login() {
+    public boolean login(LotteryAccount account) {
+        this.account = account;
         try {
-            log.info("로그인 프로세스를 시작합니다.");
+            log.info("로그인 프로세스를 시작합니다. (계정: {})", account.displayName());
+
+            // 0. 저장된 세션이 아직 유효하면 로그인 과정을 건너뜀
+            if (restoreSession(account)) {
+                return true;
+            }
+
+            // 1. 로그인 페이지로 이동 (로그인 스크립트 실행을 위해 전체 로드까지 대기)
+            planner.next(SiteFact.LOGIN_FORM).ifPresent(this::loadPage);
 
-            // 1. 로그인 페이지로 이동
-            log.info("로그인 페이지로 이동: {}", LOGIN_URL);
-            webDriver.get(LOGIN_URL);
-            
-            // 페이지 로드 완료 대기 (간단하게)
-            webDriverWait.until(ExpectedConditions.presenceOfElementLocated(By.tagName("body")));
-            Thread.sleep(2000); // 스크립트 로드 대기
-            
             // 2. 팝업 닫기 처리
             closeAllPopups();
             
             // 3. RSA 모듈러스 가져오기 (암호화를 위해 필요)
-            waitForRsaModulus();
+            metrics.runPhase(name(), "rsa_modulus", this::waitForRsaModulus);
 
             // 4. 로그인 정보 확인
-            String userId = lotteryConfig.getUsername();
-            String userPw = lotteryConfig.getPassword();
+            String userId = account.username();
+            String userPw = account.password();
 
             if (userId == null || userId.isEmpty() || userPw == null || userPw.isEmpty()) {
                 log.error("로그인 정보가 설정되지 않았습니다. 환경 변수를 확인해주세요.");
@@ -85,9 +345,9 @@ public class LottoService {
             encryptAndSetCredentials(userId, userPw);
 
             // 7. 로그인 버튼 클릭 (JavaScript로 실제 버튼 클릭 트리거)
+            // hidden 필드는 바로 위 스크립트에서 동기적으로 설정되므로 기다리지 않음
             log.info("로그인 버튼 클릭 시도...");
-            Thread.sleep(1000); // 암호화 완료 및 안정화 대기
-            
+
             // submit() 대신 실제 버튼을 클릭하여 브라우저 세션 처리가 정상적으로 이루어지도록 함
             js.executeScript(
                 "var btn = document.getElementById('btnLogin') || document.querySelector('.btn_login') || document.querySelector('a.btn_common.lrg.blu');" +
@@ -96,14 +356,16 @@ public class LottoService {
             );
             log.info("로그인 액션 실행 완료");
 
-            // 8. 로그인 처리 및 세션 쿠키 저장을 위한 짧은 대기
-            Thread.sleep(2000);
+            // 8. 로그인 처리 후 로그인 페이지를 벗어날 때까지 대기 (세션 쿠키 저장)
+            readinessWaiter.awaitNavigationAway(webDriver, "/login", LOGIN_REDIRECT_TIMEOUT);
+            planner.landed(pageAt(webDriver.getCurrentUrl()));
 
-            // 9. 로그인 성공 여부 확인 (verifyLogin 내부에서 메인 페이지 이동 및 팝업 처리를 수행함)
-            boolean loginSuccess = verifyLogin();
+            // 9. 로그인 성공 여부 확인 (리다이렉트된 페이지에서 확인할 수 없을 때만 이동)
+            boolean loginSuccess = metrics.timePhase(name(), "verify_login", this::verifyLogin);
 
             if (loginSuccess) {
                 log.info("로그인 성공!");
+                sessionCookieStore.save(account, BrowserCookies.export(webDriver));
                 return true;
             } else {
                 log.error("로그인 실패: 로그인 검증에 실패했습니다.");
@@ -119,144 +381,67 @@ public class LottoService {
     }
 
     /**
-     * 모든 레이어 팝업 닫기
-     * '오늘 하루 열지 않기' 등의 팝업을 모두 찾아서 닫습니다.
+     * 저장된 세션 쿠키를 브라우저에 복원하고 로그인 상태인지 확인
+     * 서버가 세션을 거부하면 저장된 쿠키를 삭제하고 브라우저 쿠키도 비웁니다.
+     *
+     * @return 복원한 세션으로 로그인 상태가 확인되었는지 여부
      */
-    private void closeAllPopups() {
+    private boolean restoreSession(LotteryAccount account) {
+        Optional<List<StoredCookie>> saved = sessionCookieStore.load(account);
+        if (saved.isEmpty()) {
+            return false;
+        }
         try {
-            log.info("팝업 닫기 처리 시작...");
-
-            // 일반적인 팝업 선택자들
-            List<String> popupSelectors = List.of(
-                    // 레이어 팝업
-                    ".layer-popup",
-                    ".popup-layer",
-                    ".modal-popup",
-                    ".popup-modal",
-                    ".layer",
-                    ".popup",
-                    ".modal",
-                    // 닫기 버튼
-                    ".btn-close",
-                    ".popup-close",
-                    ".layer-close",
-                    ".modal-close",
-                    "[class*='close']",
-                    "[class*='Close']",
-                    // 오늘 하루 열지 않기 관련
-                    ".btn-today-close",
-                    ".today-close",
-                    "[data-close='today']",
-                    // X 버튼
-                    "button[aria-label*='닫기']",
-                    "button[aria-label*='close']",
-                    ".icon-close",
-                    ".btn-x"
-            );
-
-            // 팝업 배경 클릭으로 닫기 시도
-            List<String> overlaySelectors = List.of(
-                    ".popup-bg",
-                    ".overlay",
-                    ".modal-backdrop",
-                    ".layer-backdrop",
-                    "[class*='overlay']",
-                    "[class*='backdrop']"
-            );
-
-            // 팝업 닫기 시도 (여러 번 시도)
-            for (int attempt = 0; attempt < 5; attempt++) {
-                boolean closed = false;
-
-                // 1. 닫기 버튼 클릭 시도
-                for (String selector : popupSelectors) {
-                    try {
-                        List<WebElement> closeButtons = webDriver.findElements(By.cssSelector(selector));
-                        for (WebElement button : closeButtons) {
-                            if (button.isDisplayed()) {
-                                try {
-                                    button.click();
-                                    log.debug("팝업 닫기 버튼 클릭: {}", selector);
-                                    closed = true;
-                                    Thread.sleep(500);
-                                } catch (Exception e) {
-                                    // 클릭 실패 시 JavaScript로 클릭 시도
-                                    try {
-                                        ((JavascriptExecutor) webDriver).executeScript("arguments[0].click();", button);
-                                        log.debug("JavaScript로 팝업 닫기 버튼 클릭: {}", selector);
-                                        closed = true;
-                                        Thread.sleep(500);
-                                    } catch (Exception jsE) {
-                                        log.debug("팝업 닫기 버튼 클릭 실패: {}", selector);
-                                    }
-                                }
-                            }
-                        }
-                    } catch (Exception e) {
-                        // 선택자로 요소를 찾지 못한 경우 무시
-                    }
-                }
-
-                // 2. ESC 키로 닫기 시도
-                try {
-                    WebElement body = webDriver.findElement(By.tagName("body"));
-                    body.sendKeys(org.openqa.selenium.Keys.ESCAPE);
-                    Thread.sleep(300);
-                } catch (Exception e) {
-                    // ESC 키 전송 실패 무시
-                }
-
-                // 3. 오버레이 클릭으로 닫기 시도 (마지막 수단)
-                for (String selector : overlaySelectors) {
-                    try {
-                        List<WebElement> overlays = webDriver.findElements(By.cssSelector(selector));
-                        for (WebElement overlay : overlays) {
-                            if (overlay.isDisplayed()) {
-                                try {
-                                    overlay.click();
-                                    log.debug("오버레이 클릭으로 팝업 닫기: {}", selector);
-                                    closed = true;
-                                    Thread.sleep(500);
-                                } catch (Exception e) {
-                                    // 오버레이 클릭 실패 무시
-                                }
-                            }
-                        }
-                    } catch (Exception e) {
-                        // 선택자로 요소를 찾지 못한 경우 무시
-                    }
-                }
-
-                if (!closed) {
-                    break; // 더 이상 닫을 팝업이 없으면 종료
-                }
+            if (!BrowserCookies.restore(webDriver, saved.get())) {
+                return false;
             }
-
-            log.info("팝업 닫기 처리 완료");
-
+            enterSiteOrigin();
+            if (metrics.timePhase(name(), "verify_login", this::verifyLogin)) {
+                log.info("저장된 세션으로 로그인 확인 완료 (로그인 과정 생략)");
+                return true;
+            }
+            log.info("저장된 세션이 거부되어 다시 로그인합니다.");
         } catch (Exception e) {
-            log.warn("팝업 닫기 처리 중 오류 발생 (무시하고 계속 진행): {}", e.getMessage());
+            log.warn("세션 복원 중 오류 발생 (다시 로그인): {}", e.getMessage());
         }
+        sessionCookieStore.invalidate(account);
+        BrowserCookies.clear(webDriver);
+        return false;
+    }
+
+    /**
+     * 세션 확인 요청을 보낼 수 있도록 사이트 Origin의 가벼운 주소로 이동
+     * 풀에서 받은 브라우저는 about:blank에 있어 페이지 안에서 예치금 조회를 보낼 수 없으므로,
+     * 마이페이지 대신 스크립트가 없는 주소를 열어 같은 Origin의 문서를 만듭니다.
+     */
+    private void enterSiteOrigin() {
+        if (sameOrigin(webDriver.getCurrentUrl(), endpoints.balanceUrl())) {
+            return;
+        }
+        log.info("세션 확인을 위해 사이트 Origin으로 이동: {}", endpoints.originEntryUrl());
+        webDriver.get(endpoints.originEntryUrl());
+        planner.landed(null);
+    }
+
+    /**
+     * 모든 레이어 팝업 닫기
+     * '오늘 하루 열지 않기' 등의 팝업을 한 번의 스크립트 실행으로 모두 찾아서 닫습니다.
+     */
+    private void closeAllPopups() {
+        log.info("팝업 닫기 처리 시작...");
+        PopupDismissalReport report = popupDismisser.dismissAll(webDriver);
+        log.info("팝업 닫기 처리 완료 ({}개, {}ms)", report.dismissedCount(), report.elapsedMs());
     }
 
     /**
      * RSA 모듈러스가 로드될 때까지 대기
      */
     private void waitForRsaModulus() {
-        try {
-            log.info("RSA 모듈러스 로드 대기 중...");
-            
-            // JavaScript에서 RSA 모듈러스가 설정될 때까지 대기
-            WebDriverWait shortWait = new WebDriverWait(webDriver, Duration.ofSeconds(10));
-            shortWait.until(webDriver -> {
-                JavascriptExecutor js = (JavascriptExecutor) webDriver;
-                Object modulus = js.executeScript("return typeof rsaModulus !== 'undefined' && rsaModulus !== null ? rsaModulus : null;");
-                return modulus != null && !modulus.toString().isEmpty();
-            });
-            
+        log.info("RSA 모듈러스 로드 대기 중...");
+        if (readinessWaiter.await(webDriver, ReadinessCondition.RSA_MODULUS_READY)) {
             log.info("RSA 모듈러스 로드 완료");
-        } catch (Exception e) {
-            log.warn("RSA 모듈러스 로드 대기 중 오류 발생 (계속 진행): {}", e.getMessage());
+        } else {
+            log.warn("RSA 모듈러스 로드 대기 시간 초과 (계속 진행)");
         }
     }
 
@@ -311,89 +496,113 @@ public class LottoService {
 
     /**
      * 로그인 성공 여부 확인
+     * 현재 페이지에서 확인할 수 있으면 이동하지 않고, 이동해야 하면 예치금까지 함께 확인할 수 있는 마이페이지로 이동합니다.
      * 
      * @return 로그인 성공 여부
      */
     private boolean verifyLogin() {
-        try {
-            // 메인 페이지로 이동하여 로그인 상태 확인
-            webDriver.get(MAIN_URL);
-            webDriverWait.until(ExpectedConditions.presenceOfElementLocated(By.tagName("body")));
+        Optional<Boolean> session = checkSession();
+        if (session.isPresent()) {
+            planner.confirmed(SiteFact.LOGIN_STATE);
+            return session.get();
+        }
 
-            // 팝업 닫기 (메인 페이지에도 팝업이 있을 수 있음)
-            closeAllPopups();
+        Optional<SitePage> hop = planner.next(SiteFact.LOGIN_STATE);
+        if (hop.isEmpty()) {
+            log.info("현재 페이지({})에서 로그인 상태 확인 (페이지 이동 생략)", planner.current().id());
+            if (isLoggedInOnCurrentPage()) {
+                return true;
+            }
+            hop = Optional.of(planner.fallback(SitePage.MY_PAGE));
+        }
+        loadPage(hop.get());
 
-            // 여러 방법으로 로그인 상태 확인
-            boolean isLoggedIn = false;
+        // 팝업 닫기 (페이지에 팝업이 있을 수 있음)
+        closeAllPopups();
+        return isLoggedInOnCurrentPage();
+    }
 
-            // 방법 1: 로그아웃 버튼 존재 확인
-            try {
-                List<WebElement> logoutElements = webDriver.findElements(By.xpath(
-                        "//a[contains(text(), '로그아웃')] | " +
-                        "//button[contains(text(), '로그아웃')] | " +
-                        "//*[@id='btnLogout'] | " +
-                        "//*[contains(@class, 'logout')] | " +
-                        "//*[contains(@class, 'btn-logout')]"
-                ));
-                if (!logoutElements.isEmpty() && logoutElements.stream().anyMatch(WebElement::isDisplayed)) {
-                    log.info("로그인 확인: 로그아웃 버튼 발견");
-                    isLoggedIn = true;
-                }
-            } catch (Exception e) {
-                log.debug("로그아웃 버튼 확인 실패: {}", e.getMessage());
+    /**
+     * 페이지 이동 없이 세션으로 로그인 상태 확인
+     * 로그인 응답이 남긴 리다이렉트 주소와 세션 쿠키를 확인한 뒤, 로그인해야만 응답하는 예치금 조회를 한 번 요청합니다.
+     * 응답에서 읽은 예치금은 예치금 확인에 그대로 사용합니다.
+     *
+     * @return 로그인 여부, 판단할 수 없으면(사이트 밖의 페이지, 요청 실패, 알 수 없는 응답) 빈 값
+     */
+    private Optional<Boolean> checkSession() {
+        try {
+            String currentUrl = webDriver.getCurrentUrl();
+            if (!sameOrigin(currentUrl, endpoints.balanceUrl())) {
+                return Optional.empty();
             }
-
-            // 방법 2: 로그인 버튼이 사라졌는지 확인
-            if (!isLoggedIn) {
-                try {
-                    List<WebElement> loginElements = webDriver.findElements(By.xpath(
-                            "//a[contains(@href, '/login') and contains(text(), '로그인')] | " +
-                            "//*[@id='loginBtn'] | " +
-                            "//*[contains(@class, 'btn-login')]"
-                    ));
-                    boolean loginButtonVisible = loginElements.stream()
-                            .anyMatch(WebElement::isDisplayed);
-                    if (!loginButtonVisible) {
-                        log.info("로그인 확인: 로그인 버튼이 보이지 않음 (로그인된 상태로 추정)");
-                        isLoggedIn = true;
-                    }
-                } catch (Exception e) {
-                    log.debug("로그인 버튼 확인 실패: {}", e.getMessage());
-                }
+            if (webDriver.manage().getCookies().isEmpty()) {
+                log.info("로그인 확인: 세션 쿠키 없음 (로그인되지 않은 상태)");
+                return Optional.of(false);
             }
 
-            // 방법 3: 마이페이지 링크 존재 확인
-            if (!isLoggedIn) {
-                try {
-                    List<WebElement> mypageElements = webDriver.findElements(By.xpath(
-                            "//a[contains(@href, '/mypage')] | " +
-                            "//*[@id='mypageBtn'] | " +
-                            "//*[contains(@class, 'mypage')]"
-                    ));
-                    if (!mypageElements.isEmpty() && mypageElements.stream().anyMatch(WebElement::isDisplayed)) {
-                        log.info("로그인 확인: 마이페이지 링크 발견");
-                        isLoggedIn = true;
-                    }
-                } catch (Exception e) {
-                    log.debug("마이페이지 링크 확인 실패: {}", e.getMessage());
-                }
+            webDriver.manage().timeouts().scriptTimeout(SESSION_CHECK_TIMEOUT.plusSeconds(1));
+            Object reply = ((JavascriptExecutor) webDriver).executeAsyncScript(
+                    "var done = arguments[arguments.length - 1];" +
+                    "var xhr = new XMLHttpRequest();" +
+                    "xhr.open('POST', arguments[0]);" +
+                    "xhr.setRequestHeader('Content-Type', 'application/x-www-form-urlencoded');" +
+                    "xhr.timeout = arguments[1];" +
+                    "xhr.onload = function() { done({ url: xhr.responseURL, body: xhr.responseText }); };" +
+                    "xhr.onerror = xhr.ontimeout = function() { done(null); };" +
+                    "xhr.send('');",
+                    endpoints.balanceUrl(), SESSION_CHECK_TIMEOUT.toMillis());
+            if (!(reply instanceof Map<?, ?> response)) {
+                return Optional.empty();
+            }
+            if (String.valueOf(response.get("url")).contains("/login")) {
+                log.info("로그인 확인: 예치금 조회가 로그인 페이지로 이동됨 (로그인되지 않은 상태)");
+                return Optional.of(false);
             }
+            OptionalInt balance = PurchasePageParser.parseBalanceResponse(String.valueOf(response.get("body")));
+            if (balance.isEmpty()) {
+                return Optional.empty();
+            }
+            log.info("로그인 확인: 세션으로 예치금 조회 성공 ({}원, 페이지 이동 생략)", balance.getAsInt());
+            sessionBalance = new BalanceReading(balance.getAsInt(), BalanceSource.API);
+            return Optional.of(true);
+        } catch (Exception e) {
+            log.debug("세션 확인 실패 (페이지에서 확인): {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
 
-            // 방법 4: JavaScript로 isLoggedIn 변수 확인
-            if (!isLoggedIn) {
-                try {
-                    JavascriptExecutor js = (JavascriptExecutor) webDriver;
-                    Object loggedIn = js.executeScript("return typeof isLoggedIn !== 'undefined' ? isLoggedIn : null;");
-                    if (loggedIn != null && Boolean.TRUE.equals(loggedIn)) {
-                        log.info("로그인 확인: JavaScript isLoggedIn 변수 확인");
-                        isLoggedIn = true;
-                    }
-                } catch (Exception e) {
-                    log.debug("JavaScript isLoggedIn 확인 실패: {}", e.getMessage());
-                }
+    private static boolean sameOrigin(String url, String other) {
+        try {
+            URI a = URI.create(url);
+            URI b = URI.create(other);
+            return a.getScheme() != null && a.getScheme().equals(b.getScheme())
+                    && a.getHost() != null && a.getHost().equalsIgnoreCase(b.getHost())
+                    && a.getPort() == b.getPort();
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 현재 페이지에서 로그인 상태 확인
+     */
+    private boolean isLoggedInOnCurrentPage() {
+        try {
+            // 로그인 페이지로 되돌아왔으면 로그인되지 않은 상태
+            String currentUrl = webDriver.getCurrentUrl();
+            if (currentUrl != null && currentUrl.contains("/login")) {
+                log.info("로그인 페이지로 이동됨 (로그인되지 않은 상태)");
+                return false;
             }
 
-            return isLoggedIn;
+            // 여러 방법으로 로그인 상태 확인 (지난 실행에서 자주 확인된 방법부터)
+            return FallbackChain.<Boolean>of("login_state", strategyStats)
+                    .then("logout_button", this::logoutButtonVisible)
+                    .then("login_button_hidden", this::loginButtonHidden)
+                    .then("mypage_link", this::myPageLinkVisible)
+                    .then("script_flag", this::loggedInScriptFlag)
+                    .run()
+                    .isPresent();
 
         } catch (Exception e) {
             log.error("로그인 검증 중 오류 발생: {}", e.getMessage(), e);
@@ -401,59 +610,99 @@ public class LottoService {
         }
     }
 
+    // 방법 1: 로그아웃 버튼 존재 확인
+    private Optional<Boolean> logoutButtonVisible() {
+        List<WebElement> logoutElements = webDriver.findElements(By.xpath(
+                "//a[contains(text(), '로그아웃')] | " +
+                "//button[contains(text(), '로그아웃')] | " +
+                "//*[@id='btnLogout'] | " +
+                "//*[contains(@class, 'logout')] | " +
+                "//*[contains(@class, 'btn-logout')]"
+        ));
+        if (logoutElements.stream().anyMatch(WebElement::isDisplayed)) {
+            log.info("로그인 확인: 로그아웃 버튼 발견");
+            return Optional.of(true);
+        }
+        return Optional.empty();
+    }
+
+    // 방법 2: 로그인 버튼이 사라졌는지 확인
+    private Optional<Boolean> loginButtonHidden() {
+        List<WebElement> loginElements = webDriver.findElements(By.xpath(
+                "//a[contains(@href, '/login') and contains(text(), '로그인')] | " +
+                "//*[@id='loginBtn'] | " +
+                "//*[contains(@class, 'btn-login')]"
+        ));
+        if (loginElements.stream().noneMatch(WebElement::isDisplayed)) {
+            log.info("로그인 확인: 로그인 버튼이 보이지 않음 (로그인된 상태로 추정)");
+            return Optional.of(true);
+        }
+        return Optional.empty();
+    }
+
+    // 방법 3: 마이페이지 링크 존재 확인
+    private Optional<Boolean> myPageLinkVisible() {
+        List<WebElement> mypageElements = webDriver.findElements(By.xpath(
+                "//a[contains(@href, '/mypage')] | " +
+                "//*[@id='mypageBtn'] | " +
+                "//*[contains(@class, 'mypage')]"
+        ));
+        if (mypageElements.stream().anyMatch(WebElement::isDisplayed)) {
+            log.info("로그인 확인: 마이페이지 링크 발견");
+            return Optional.of(true);
+        }
+        return Optional.empty();
+    }
+
+    // 방법 4: JavaScript로 isLoggedIn 변수 확인
+    private Optional<Boolean> loggedInScriptFlag() {
+        Object loggedIn = ((JavascriptExecutor) webDriver).executeScript(
+                "return typeof isLoggedIn !== 'undefined' ? isLoggedIn : null;");
+        if (Boolean.TRUE.equals(loggedIn)) {
+            log.info("로그인 확인: JavaScript isLoggedIn 변수 확인");
+            return Optional.of(true);
+        }
+        return Optional.empty();
+    }
+
     /**
      * 마이페이지에서 예치금 확인 후 메인 페이지로 이동하여 구매 페이지 진입
      * 
-     * @return 구매 페이지 진입 성공 여부
-     * @throws RuntimeException 잔액 부족 시 프로그램 종료
+     * @return 구매 페이지 진입 성공 여부 (잔액 부족 또는 구매 한도 도달 시 false)
      */
     public boolean checkBalanceAndNavigateToPurchase() {
         try {
             log.info("예치금 확인 및 구매 페이지 진입 프로세스를 시작합니다.");
 
-            // 1. 마이페이지로 이동하여 예치금 확인
-            log.info("마이페이지로 이동: {}", MY_PAGE_URL);
-            webDriver.get(MY_PAGE_URL);
-            webDriverWait.until(ExpectedConditions.presenceOfElementLocated(By.tagName("body")));
-            
-            // 팝업 닫기 처리
-            closeAllPopups();
-            
-            // 잔액 확인
-            int balance = getBalanceFromMyPage();
-            log.info("현재 예치금: {}원", balance);
+            // 1. 예치금 확인 (로그인 확인 때 이미 마이페이지를 열었다면 이동하지 않음)
+            BalanceReading reading = metrics.timePhase(name(), "balance", this::readBalance);
+            rememberBalance(reading);
+            int balance = reading.amount();
+            log.info("현재 예치금: {}원 ({})", balance, reading.source().label());
             log.info("최소 필요 금액: {}원", MINIMUM_BALANCE);
             log.info("잔액 비교: {} < {} = {}", balance, MINIMUM_BALANCE, balance < MINIMUM_BALANCE);
 
-            // 2. 잔액이 5,000원 미만이면 알림 보내고 종료
+            // 2. 잔액이 5,000원 미만이면 알림 보내고 중단
             if (balance < MINIMUM_BALANCE) {
                 log.error("잔액 부족: 현재 잔액 {}원, 최소 필요 금액 {}원", balance, MINIMUM_BALANCE);
                 telegramNotificationService.notifyInsufficientBalance(MINIMUM_BALANCE, balance);
-                log.info("프로그램을 종료합니다.");
-                System.exit(1);
-                return false; // 실제로는 도달하지 않음
+                failureOutcome = PurchaseOutcome.INSUFFICIENT_BALANCE;
+                return false;
             }
             
             log.info("잔액 충분: 현재 잔액 {}원 >= 최소 필요 금액 {}원", balance, MINIMUM_BALANCE);
 
-            // 3. 메인 페이지로 이동
-            log.info("메인 페이지로 이동: {}", MAIN_URL);
-            webDriver.get(MAIN_URL);
-            webDriverWait.until(ExpectedConditions.presenceOfElementLocated(By.tagName("body")));
-            
-            // 팝업 닫기 처리
-            closeAllPopups();
-
-            // 4. 로또 6/45 구매 페이지로 이동
-            log.info("로또 6/45 구매 페이지로 이동: {}", LOTTO_PURCHASE_URL);
-            webDriver.get(LOTTO_PURCHASE_URL);
-            webDriverWait.until(ExpectedConditions.presenceOfElementLocated(By.tagName("body")));
+            // 3. 로또 6/45 구매 페이지로 이동 (메인 페이지를 거치지 않음)
+            planner.next(SiteFact.PURCHASE_FRAME).ifPresent(this::loadPage);
 
-            // 5. 팝업 닫기 처리
+            // 4. 팝업 닫기 처리
             closeAllPopups();
 
-            // 6. iframe으로 전환
-            switchToPurchaseIframe();
+            // 5. iframe으로 전환
+            metrics.runPhase(name(), "purchase_iframe", this::switchToPurchaseIframe);
+            if (failureOutcome == PurchaseOutcome.LIMIT_REACHED || failureOutcome == PurchaseOutcome.QUEUE_DEFERRED) {
+                return false;
+            }
 
             log.info("구매 페이지 진입 완료");
             return true;
@@ -466,111 +715,162 @@ public class LottoService {
     }
 
     /**
-     * 마이페이지에서 예치금 금액 파싱
-     * 
-     * @return 예치금 금액 (원, 콤마 제거된 숫자)
+     * 예치금 확인
+     * 로그인 확인 때 세션으로 예치금을 조회했으면 그 값을 사용합니다.
+     * 그렇지 않으면 예치금을 제공하는 페이지로 이동할 때 조회 요청(getUserMndp)의 응답을 미리 구독해 두므로,
+     * 응답이 도착하는 즉시 본문에서 금액을 읽습니다. 응답을 받지 못한 경우에만 화면에서 값을 찾습니다.
      */
-    private int getBalanceFromMyPage() {
+    private BalanceReading readBalance() {
+        if (sessionBalance != null) {
+            planner.confirmed(SiteFact.BALANCE);
+            return sessionBalance;
+        }
+        planner.next(SiteFact.BALANCE).ifPresent(this::loadPage);
+        return balanceOnCurrentPage();
+    }
+
+    private BalanceReading balanceOnCurrentPage() {
+        OptionalInt fromNetwork = awaitBalanceResponse();
+        if (fromNetwork.isPresent()) {
+            log.info("예치금 조회 응답 수신: {}원", fromNetwork.getAsInt());
+            return new BalanceReading(fromNetwork.getAsInt(), BalanceSource.NETWORK);
+        }
+        closeAllPopups();
+        return getBalanceFromMyPage();
+    }
+
+    private void armBalanceTap() {
+        disarmBalanceTap();
+        balanceTap = NetworkResponseTap.attach(webDriver).orElse(null);
+        if (balanceTap != null) {
+            balanceResponse = balanceTap.nextBody(url -> url.contains(BALANCE_RESPONSE_MARKER));
+        }
+    }
+
+    private void disarmBalanceTap() {
+        if (balanceTap != null) {
+            balanceTap.close();
+            balanceTap = null;
+        }
+        balanceResponse = null;
+    }
+
+    /**
+     * 예치금 조회 응답 대기 후 금액 해석 (응답 구독은 해제)
+     *
+     * @return 응답에서 읽은 금액, 구독하지 않았거나 받지 못했거나 해석할 수 없으면 빈 값
+     */
+    private OptionalInt awaitBalanceResponse() {
+        CompletableFuture<String> response = balanceResponse;
+        if (response == null) {
+            return OptionalInt.empty();
+        }
         try {
-            log.info("마이페이지에서 예치금 확인 중...");
+            String body = response.get(BALANCE_RESPONSE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            OptionalInt amount = PurchasePageParser.parseBalanceResponse(body);
+            if (amount.isEmpty()) {
+                log.warn("예치금 조회 응답을 해석할 수 없어 화면에서 확인합니다.");
+            }
+            return amount;
+        } catch (TimeoutException e) {
+            log.warn("예치금 조회 응답을 {}초 안에 받지 못해 화면에서 확인합니다.", BALANCE_RESPONSE_TIMEOUT.toSeconds());
+        } catch (ExecutionException | CancellationException e) {
+            log.warn("예치금 조회 응답 수신 실패, 화면에서 확인합니다: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            disarmBalanceTap();
+        }
+        return OptionalInt.empty();
+    }
 
-            // 1. 현재 URL 및 세션 상태 확인
-            JavascriptExecutor js = (JavascriptExecutor) webDriver;
-            String currentUrl = webDriver.getCurrentUrl();
-            log.info("현재 URL: {}", currentUrl);
-            
-            Object loginCheck = js.executeScript("return typeof isLoggedIn !== 'undefined' ? isLoggedIn : 'unknown';");
-            log.info("로그인 세션 상태(isLoggedIn): {}", loginCheck);
+    private void rememberBalance(BalanceReading reading) {
+        lastKnownBalance = reading.amount();
+        lastBalanceSource = reading.source();
+    }
 
-            // 2. 데이터 로딩 대기 (값이 0에서 다른 숫자로 바뀔 때까지 최대 5초 대기)
-            log.info("예치금 데이터 로딩 대기 중...");
-            String balanceText = "0";
+    /**
+     * 마이페이지 화면에서 예치금 금액 파싱 (네트워크 응답을 받지 못한 경우의 대체 경로)
+     * 표시 요소와 조회 함수 호출은 지난 실행에서 자주 성공한 쪽부터 시도하고, 텍스트 훑기는 항상 마지막에 시도합니다.
+     * 
+     * @return 예치금 금액과 값을 찾은 경로
+     */
+    private BalanceReading getBalanceFromMyPage() {
+        log.info("마이페이지 화면에서 예치금 확인 중...");
+        Optional<BalanceReading> reading = FallbackChain.<BalanceReading>of("mypage_balance", strategyStats)
+                .then("element", this::balanceFromElement)
+                .then("script", this::balanceFromScript)
+                .last("page_scan", this::balanceFromPageScan)
+                .run();
+        if (reading.isEmpty()) {
+            log.warn("예치금을 확인하지 못했습니다.");
+        }
+        return reading.orElseGet(BalanceReading::unknown);
+    }
+
+    // 예치금 표시 요소 (값이 0에서 다른 숫자로 바뀔 때까지 최대 5초 대기)
+    private Optional<BalanceReading> balanceFromElement() {
+        JavascriptExecutor js = (JavascriptExecutor) webDriver;
+        try {
             for (int i = 0; i < 10; i++) {
                 Object val = js.executeScript(
                     "var el = document.getElementById('totalAmt') || document.getElementById('divCrntEntrsAmt');" +
                     "return el ? (el.textContent || el.innerText).replace(/[^0-9]/g, '') : '0';"
                 );
-                balanceText = (val != null) ? val.toString() : "0";
-                
-                if (balanceText != null && !balanceText.isEmpty() && !balanceText.equals("0")) {
+                String balanceText = (val != null) ? val.toString() : "0";
+                if (!balanceText.isEmpty() && !balanceText.equals("0")) {
                     log.info("{}회차 시도만에 잔액 확인 성공: {}원", i + 1, balanceText);
-                    break;
+                    return Optional.of(new BalanceReading(PurchasePageParser.parseBalance(balanceText), BalanceSource.ELEMENT));
                 }
                 Thread.sleep(500); // 0.5초씩 재시도
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return Optional.empty();
+    }
 
-            // 3. 방법 1: 직접 API 호출 (실패 시 무시)
-            if (balanceText.equals("0")) {
-                log.info("방법 1: getUserMndp API 호출 시도...");
-                try {
-                    webDriver.manage().timeouts().scriptTimeout(java.time.Duration.ofSeconds(5));
-                    Object result = js.executeAsyncScript(
-                        "var cb = arguments[arguments.length - 1];" +
-                        "if (typeof cmmUtil !== 'undefined' && typeof cmmUtil.getUserMndp === 'function') {" +
-                        "  cmmUtil.getUserMndp(function(d) {" +
-                        "    if (d) cb((d.totalAmt || d.crntEntrsAmt || 0).toString());" +
-                        "    else cb('0');" +
-                        "  });" +
-                        "} else cb('0');"
-                    );
-                    if (result != null && !result.toString().equals("0")) {
-                        balanceText = result.toString();
-                        log.info("API 호출 결과: {}원", balanceText);
-                    }
-                } catch (Exception e) {
-                    log.warn("API 호출 실패 또는 타임아웃: {}", e.getMessage());
-                }
-            }
-
-            // 4. 방법 2: 모든 가능한 텍스트 훑기 (여전히 0인 경우)
-            if (balanceText.equals("0")) {
-                log.info("방법 2: 페이지 내 '원' 키워드 주변 텍스트 훑기...");
-                Object result = js.executeScript(
-                    "var texts = [];" +
-                    "var elements = document.querySelectorAll('span, div, p, strong, b, em');" +
-                    "for (var i=0; i<elements.length; i++) {" +
-                    "  var t = elements[i].textContent || '';" +
-                    "  if (t.includes('원') && /[0-9,]+/.test(t)) {" +
-                    "    var num = t.replace(/[^0-9]/g, '');" +
-                    "    var val = parseInt(num);" +
-                    "    if (num.length >= 1 && num.length <= 9 && val < 10000000) texts.push(val);" + // 1,000만원 미만의 현실적인 금액만 수집
-                    "  }" +
-                    "}" +
-                    "return texts.length > 0 ? Math.max.apply(null, texts).toString() : '0';"
-                );
-                if (result != null && !result.toString().equals("0")) {
-                    balanceText = result.toString();
-                    log.info("텍스트 검색 결과: {}원", balanceText);
-                }
-            }
-
-            // 최종 정수 변환
-            String cleaned = balanceText.replaceAll("[^0-9]", "");
-            if (cleaned.isEmpty()) cleaned = "0";
-            
-            int balance = 0;
-            try {
-                // Integer 범위를 넘어서는 비정상적인 값은 0으로 처리하거나 롱으로 먼저 파싱
-                long longBalance = Long.parseLong(cleaned);
-                if (longBalance > 10000000) { // 1,000만원 초과는 비정상 데이터로 간주
-                    log.warn("비정상적으로 큰 잔액 감지됨 ({}원), 0원으로 처리합니다.", longBalance);
-                    balance = 0;
-                } else {
-                    balance = (int) longBalance;
-                }
-            } catch (NumberFormatException e) {
-                log.error("잔액 숫자 변환 실패 ({}): {}", cleaned, e.getMessage());
-                balance = 0;
-            }
-            
-            log.info("✅ 예치금 확인 최종 완료: {}원", balance);
-            
-            return balance;
+    // getUserMndp 직접 호출
+    private Optional<BalanceReading> balanceFromScript() {
+        log.info("getUserMndp API 호출 시도...");
+        webDriver.manage().timeouts().scriptTimeout(Duration.ofSeconds(5));
+        Object result = ((JavascriptExecutor) webDriver).executeAsyncScript(
+            "var cb = arguments[arguments.length - 1];" +
+            "if (typeof cmmUtil !== 'undefined' && typeof cmmUtil.getUserMndp === 'function') {" +
+            "  cmmUtil.getUserMndp(function(d) {" +
+            "    if (d) cb((d.totalAmt || d.crntEntrsAmt || 0).toString());" +
+            "    else cb('0');" +
+            "  });" +
+            "} else cb('0');"
+        );
+        if (result != null && !result.toString().equals("0")) {
+            log.info("API 호출 결과: {}원", result);
+            return Optional.of(new BalanceReading(PurchasePageParser.parseBalance(result.toString()), BalanceSource.SCRIPT));
+        }
+        return Optional.empty();
+    }
 
-        } catch (Exception e) {
-            log.error("예치금 확인 중 치명적 오류: {}", e.getMessage());
-            return 0;
+    // 최후 수단: 페이지 내 '원' 키워드 주변 텍스트 훑기
+    private Optional<BalanceReading> balanceFromPageScan() {
+        log.info("페이지 내 '원' 키워드 주변 텍스트 훑기...");
+        Object result = ((JavascriptExecutor) webDriver).executeScript(
+            "var texts = [];" +
+            "var elements = document.querySelectorAll('span, div, p, strong, b, em');" +
+            "for (var i=0; i<elements.length; i++) {" +
+            "  var t = elements[i].textContent || '';" +
+            "  if (t.includes('원') && /[0-9,]+/.test(t)) {" +
+            "    var num = t.replace(/[^0-9]/g, '');" +
+            "    var val = parseInt(num);" +
+            "    if (num.length >= 1 && num.length <= 9 && val < 10000000) texts.push(val);" + // 1,000만원 미만의 현실적인 금액만 수집
+            "  }" +
+            "}" +
+            "return texts.length > 0 ? Math.max.apply(null, texts).toString() : '0';"
+        );
+        if (result != null && !result.toString().equals("0")) {
+            log.warn("텍스트 검색으로 찾은 값을 예치금으로 사용합니다 (정확하지 않을 수 있음): {}원", result);
+            return Optional.of(new BalanceReading(PurchasePageParser.parseBalance(result.toString()), BalanceSource.PAGE_SCAN));
         }
+        return Optional.empty();
     }
 
     /**
@@ -583,16 +883,28 @@ public class LottoService {
 
             // 1. 모든 팝업 다시 한 번 닫기
             closeAllPopups();
-            Thread.sleep(3000); // 페이지 안정화를 위해 대기 연장
+            // 구매 콘텐츠, 대기열, 구매한도 문구 중 하나가 나타날 때까지 대기
+            readinessWaiter.await(webDriver, ReadinessCondition.PURCHASE_CONTENT_READY);
 
-            // 2. 대기열 확인 (실제로 보이는 경우에만)
+            // 2. 대기열 확인 (실제로 보이는 경우에만, 간격을 늘려 가며 확인하고 허용 시간을 넘으면 다음 실행으로 미룸)
             try {
                 List<WebElement> queueElements = webDriver.findElements(By.xpath("//*[contains(text(), '서비스연결 대기중')]"));
                 if (!queueElements.isEmpty() && queueElements.get(0).isDisplayed()) {
-                    log.info("⏳ 접속 대기열 발견... 사라질 때까지 대기합니다.");
-                    webDriverWait.until(ExpectedConditions.invisibilityOf(queueElements.get(0)));
-                    log.info("✅ 대기열 해제됨");
-                    Thread.sleep(1000);
+                    WebElement queue = queueElements.get(0);
+                    log.info("⏳ 접속 대기열 발견... 최대 {}초 동안 확인합니다.", queueBackoff.maxWait().toSeconds());
+                    Optional<Duration> waited = queueBackoff.awaitClear(() -> isStillDisplayed(queue));
+                    if (waited.isEmpty()) {
+                        metrics.recordQueueWait(name(), queueBackoff.maxWait());
+                        log.warn("⏳ 대기열이 {}초 안에 풀리지 않아 이번 실행을 중단합니다 (다음 예약 실행에서 재시도).",
+                                queueBackoff.maxWait().toSeconds());
+                        telegramNotificationService.notifyPurchaseFailure(String.format(
+                                "접속 대기열이 %d초 안에 풀리지 않아 다음 예약 실행으로 미룹니다.", queueBackoff.maxWait().toSeconds()));
+                        failureOutcome = PurchaseOutcome.QUEUE_DEFERRED;
+                        return;
+                    }
+                    metrics.recordQueueWait(name(), waited.get());
+                    log.info("✅ 대기열 해제됨 ({}초)", waited.get().toSeconds());
+                    readinessWaiter.await(webDriver, ReadinessCondition.PURCHASE_FRAME_READY);
                 }
             } catch (Exception e) {
                 log.debug("대기열 확인 중 예외 발생 (무시): {}", e.getMessage());
@@ -603,112 +915,33 @@ public class LottoService {
                 List<WebElement> limitElements = webDriver.findElements(By.xpath("//*[contains(text(), '구매한도 5천원을 모두 채우셨습니다')]"));
                 if (!limitElements.isEmpty() && limitElements.get(0).isDisplayed()) {
                     log.error("❌ 이미 이번 주 로또 구매 한도를 초과했습니다.");
-                    telegramNotificationService.sendMessage("🚨 구매 실패: 이번 주 로또 구매 한도(5,000원)를 이미 초과했습니다.");
-                    System.exit(0);
+                    telegramNotificationService.notifyLimitReached();
+                    failureOutcome = PurchaseOutcome.LIMIT_REACHED;
+                    return;
                 }
             } catch (Exception e) {
                 log.debug("구매한도 확인 중 예외 발생 (무시): {}", e.getMessage());
             }
 
-            // 4. 창 전환 및 iframe 구조 탐색 (더욱 강력한 탐색 로직)
-            log.info("구매 페이지 탐색 시작 (창 전환 및 iframe 전수 조사)...");
-            
+            // 4. 구매 프레임으로 전환 (지난번 경로를 먼저 확인하고, 맞지 않을 때만 프레임 트리 전체를 한 번에 탐색)
             boolean ready = false;
+            List<String> cachedPath = framePathCache.load(PURCHASE_FRAME_KEY).orElse(null);
+            webDriver.switchTo().defaultContent();
             for (int attempt = 1; attempt <= 3; attempt++) {
-                log.info("구매 요소 탐색 시도 {}/3...", attempt);
-                
-                // 4-1. 여러 개의 창이 떴는지 확인 (가끔 팝업으로 구매창이 뜸)
-                Set<String> handles = webDriver.getWindowHandles();
-                if (handles.size() > 1) {
-                    log.info("새 창 감지됨. 구매 페이지 창으로 전환 시도...");
-                    for (String handle : handles) {
-                        try {
-                            webDriver.switchTo().window(handle);
-                            if (webDriver.getCurrentUrl().contains("game645.do") || !webDriver.findElements(By.id("num2")).isEmpty()) {
-                                log.info("✅ 구매 창 발견 및 전환 완료: {}", webDriver.getCurrentUrl());
-                                break;
-                            }
-                        } catch (Exception ignored) {}
-                    }
-                }
-
-                // 4-2. 현재 컨텍스트에서 바로 num2 확인
-                if (!webDriver.findElements(By.id("num2")).isEmpty()) {
-                    log.info("✅ 현재 컨텍스트에서 num2 요소를 발견했습니다.");
+                Optional<FrameNavigator.Location> location = FrameNavigator.locate(webDriver, "num2", cachedPath);
+                if (location.isPresent() && FrameNavigator.enter(webDriver, location.get().path())) {
+                    List<String> path = location.get().path();
+                    log.info("✅ 구매 프레임 진입 ({}): {}", location.get().preferred() ? "저장된 경로" : "탐색",
+                            path.isEmpty() ? "최상위 문서" : String.join(" > ", path));
+                    framePathCache.save(PURCHASE_FRAME_KEY, path);
                     ready = true;
                     break;
                 }
 
-                // 4-3. 알려진 iframe(ifrm_tab -> ifrm_answer) 순차 탐색
-                try {
-                    webDriver.switchTo().defaultContent();
-                    List<WebElement> tabFrames = webDriver.findElements(By.id("ifrm_tab"));
-                    if (!tabFrames.isEmpty()) {
-                        webDriver.switchTo().frame(tabFrames.get(0));
-                        log.info("ℹ️ ifrm_tab 진입 성공");
-                        if (!webDriver.findElements(By.id("num2")).isEmpty()) {
-                            ready = true;
-                            break;
-                        }
-                        // 중첩된 ifrm_answer 확인
-                        List<WebElement> ansFrames = webDriver.findElements(By.id("ifrm_answer"));
-                        if (!ansFrames.isEmpty()) {
-                            webDriver.switchTo().frame(ansFrames.get(0));
-                            log.info("ℹ️ ifrm_answer 진입 성공");
-                            if (!webDriver.findElements(By.id("num2")).isEmpty()) {
-                                ready = true;
-                                break;
-                            }
-                        }
-                    }
-                } catch (Exception ignored) {}
-
-                // 4-4. 모든 iframe 전수 조사 (재귀적 탐색 대용)
-                if (!ready) {
-                    webDriver.switchTo().defaultContent();
-                    List<WebElement> allIframes = webDriver.findElements(By.tagName("iframe"));
-                    log.info("전수 조사: 현재 레벨에서 {}개의 iframe 발견", allIframes.size());
-                    
-                    for (int i = 0; i < allIframes.size(); i++) {
-                        try {
-                            webDriver.switchTo().defaultContent();
-                            webDriver.switchTo().frame(i);
-                            if (!webDriver.findElements(By.id("num2")).isEmpty()) {
-                                log.info("✅ {}번째 iframe에서 num2 요소를 발견했습니다.", i);
-                                ready = true;
-                                break;
-                            }
-                            // 한 단계 더 깊이
-                            List<WebElement> nested = webDriver.findElements(By.tagName("iframe"));
-                            for (int j = 0; j < nested.size(); j++) {
-                                webDriver.switchTo().frame(j);
-                                if (!webDriver.findElements(By.id("num2")).isEmpty()) {
-                                    log.info("✅ {}번째 프레임의 {}번째 중첩 프레임에서 num2 발견.", i, j);
-                                    ready = true;
-                                    break;
-                                }
-                                webDriver.switchTo().parentFrame();
-                            }
-                            if (ready) break;
-                        } catch (Exception ignored) {}
-                    }
-                }
-
-                if (ready) break;
-                log.info("탐색 실패, 2초 후 재시도...");
-                Thread.sleep(2000);
-            }
-
-            if (!ready) {
-                log.info("표준 방식으로 찾지 못함. JavaScript로 강제 확인 시도...");
-                try {
-                    JavascriptExecutor js = (JavascriptExecutor) webDriver;
-                    Object exists = js.executeScript("return document.getElementById('num2') !== null;");
-                    if (exists != null && (Boolean) exists) {
-                        log.info("✅ JavaScript로 num2 요소 확인 성공!");
-                        ready = true;
-                    }
-                } catch (Exception ignored) {}
+                log.info("구매 프레임 탐색 실패 ({}/3), 구매 프레임 로드를 기다린 후 재시도...", attempt);
+                switchToPurchaseWindow();
+                webDriver.switchTo().defaultContent();
+                readinessWaiter.await(webDriver, ReadinessCondition.PURCHASE_FRAME_READY);
             }
 
             if (!ready) {
@@ -721,38 +954,51 @@ public class LottoService {
         }
     }
 
+    private boolean isStillDisplayed(WebElement element) {
+        try {
+            return element.isDisplayed();
+        } catch (StaleElementReferenceException e) {
+            return false;
+        }
+    }
+
     /**
-     * 실제 로또 5게임 자동 선택 및 구매
-     * 
+     * 구매 페이지가 새 창으로 열린 경우 그 창으로 전환 (가끔 팝업으로 구매창이 뜸)
+     */
+    private void switchToPurchaseWindow() {
+        Set<String> handles = webDriver.getWindowHandles();
+        if (handles.size() <= 1) {
+            return;
+        }
+        log.info("새 창 감지됨. 구매 페이지 창으로 전환 시도...");
+        for (String handle : handles) {
+            try {
+                webDriver.switchTo().window(handle);
+                if (webDriver.getCurrentUrl().contains("game645.do")) {
+                    log.info("✅ 구매 창 발견 및 전환 완료: {}", webDriver.getCurrentUrl());
+                    return;
+                }
+            } catch (Exception ignored) {}
+        }
+    }
+
+    /**
+     * 실제 로또 5게임 선택 및 구매
+     * 번호 선택 방식이 번호를 고르면 스크립트 한 번으로 입력하고, 사이트 자동선택이면 자동선택·확인 버튼을 누릅니다.
+     *
+     * @param selection 로그인 전에 고른 게임
      * @return 구매 성공 여부
      */
-    public boolean purchaseLotto() {
+    public boolean purchaseLotto(GameSelection selection) {
         try {
-            log.info("로또 {}게임(5,000원) 자동 구매 프로세스 시작...", FIXED_GAME_COUNT);
+            log.info("로또 {}게임(5,000원) 구매 프로세스 시작... (번호 선택: {})", FIXED_GAME_COUNT, selection.strategy());
             JavascriptExecutor js = (JavascriptExecutor) webDriver;
 
-            // 1. 자동선택 버튼 클릭 (num2)
-            log.info("1단계: '자동선택' 버튼 클릭 중...");
-            try {
-                js.executeScript("document.getElementById('num2').click();");
-                log.info(" - 자동선택 버튼 클릭 완료 (JS)");
-            } catch (Exception e) {
-                log.error("자동선택 버튼 클릭 실패: {}", e.getMessage());
+            // 1~2. 게임 선택
+            readinessWaiter.await(webDriver, ReadinessCondition.AUTO_SELECT_ENABLED);
+            if (!(selection.isAuto() ? selectAutoGames(js) : enterGames(selection))) {
                 return false;
             }
-            Thread.sleep(1000);
-
-            // 2. 확인 버튼 5번 클릭 (btnSelectNum)
-            log.info("2단계: '확인' 버튼 {}회 클릭 중 (게임 선택)...", FIXED_GAME_COUNT);
-            for (int i = 1; i <= FIXED_GAME_COUNT; i++) {
-                try {
-                    js.executeScript("document.getElementById('btnSelectNum').click();");
-                    log.info(" - {}번째 게임 선택 완료", i);
-                } catch (Exception e) {
-                    log.warn(" - {}번째 게임 선택 중 오류 (무시하고 재시도): {}", i, e.getMessage());
-                }
-                Thread.sleep(800);
-            }
 
             // 3. 구매하기 버튼 클릭 (btnBuy)
             log.info("3단계: '구매하기' 버튼 클릭 중...");
@@ -762,7 +1008,7 @@ public class LottoService {
                 log.error("구매하기 버튼 클릭 실패: {}", e.getMessage());
                 return false;
             }
-            Thread.sleep(1500);
+            readinessWaiter.await(webDriver, ReadinessCondition.CONFIRM_LAYER_VISIBLE);
 
             // 4. 구매 확인 레이어 팝업 처리
             log.info("4단계: 구매 확인 팝업 승인 중...");
@@ -777,32 +1023,83 @@ public class LottoService {
                     js.executeScript("window.confirm = function() { return true; };");
                 } catch (Exception ignored) {}
             }
-            Thread.sleep(3000); // 구매 처리 완료를 위해 충분히 대기
-
-            // 5. 최종 결과 확인
-            log.info("4단계: 구매 완료 여부 확인 중...");
-            String pageSource = webDriver.getPageSource();
-            if (pageSource.contains("구매가 완료되었습니다") || pageSource.contains("성공")) {
-                int remainingBalance = getRemainingBalanceAfterPurchase();
-                log.info("✅ 로또 구매 성공! (잔액: {}원)", remainingBalance);
-                telegramNotificationService.sendMessage(String.format("✅ 로또 5,000원 구매 완료! (잔액: %,d원)", remainingBalance));
+
+            // 5. 결과 레이어가 뜨면 상태, 회차, 게임별 번호, 오류 문구만 한 번에 읽음
+            log.info("5단계: 구매 완료 여부 확인 중...");
+            PurchaseReceipt receipt = metrics.timePhase(name(), "purchase_result", () -> purchaseResultProbe.await(webDriver));
+            if (receipt.succeeded()) {
+                List<Long> bought = receipt.games().stream().map(game -> Ticket.of(game.numbers())).toList();
+                if (!selection.isAuto() && !bought.isEmpty() && !bought.equals(selection.games())) {
+                    log.warn("영수증 번호가 고른 번호와 다릅니다: 고른 번호 {}, 영수증 {}", selection, receipt.games());
+                }
+                purchasedTickets = new PurchasedTickets(receipt.round() != null ? receipt.round() : 0,
+                        bought.isEmpty() ? selection.games() : bought, selection.strategy());
+                BalanceReading remaining = metrics.timePhase(name(), "remaining_balance", this::getRemainingBalanceAfterPurchase);
+                rememberBalance(remaining);
+                log.info("✅ 로또 구매 성공! (회차: {}, 잔액: {}원, {}, 번호: {})",
+                        receipt.round(), remaining.amount(), remaining.source().label(), receipt.games());
+                telegramNotificationService.notifyPurchase5000WonSuccess(remaining.amount());
                 return true;
+            }
+            if (receipt.error() != null) {
+                log.error("❌ 구매 실패: {}", receipt.error());
+                telegramNotificationService.notifyPurchaseFailure(receipt.error());
             } else {
-                log.error("❌ 구매 결과 확인 실패. 페이지에 '구매 완료' 문구가 없습니다.");
-                telegramNotificationService.sendMessage("🚨 구매 완료 확인 실패: 결과 페이지 문구를 찾을 수 없습니다.");
-                return false;
+                log.error("❌ 구매 결과 확인 실패. {}ms 동안 구매 완료 영수증을 확인하지 못했습니다.", receipt.elapsedMs());
+                telegramNotificationService.notifyPurchaseFailure("구매 완료 확인 실패 - 구매 결과를 찾을 수 없습니다.");
             }
+            return false;
 
         } catch (Exception e) {
             log.error("❌ 로또 구매 과정 중 치명적 오류 발생: {}", e.getMessage());
             telegramNotificationService.notifyError("로또 구매 과정 중 오류가 발생했습니다", e);
             return false;
-        } finally {
-            if (webDriver != null) {
-                log.info("브라우저를 종료합니다.");
-                webDriver.quit();
+        }
+    }
+
+    /**
+     * 사이트 자동선택: 자동선택 버튼(num2)을 누른 뒤 확인 버튼(btnSelectNum)을 5번 클릭
+     */
+    private boolean selectAutoGames(JavascriptExecutor js) {
+        // 1. 자동선택 버튼 클릭 (num2)
+        log.info("1단계: '자동선택' 버튼 클릭 중...");
+        try {
+            js.executeScript("document.getElementById('num2').click();");
+            log.info(" - 자동선택 버튼 클릭 완료 (JS)");
+        } catch (Exception e) {
+            log.error("자동선택 버튼 클릭 실패: {}", e.getMessage());
+            return false;
+        }
+        readinessWaiter.awaitDomQuiet(webDriver, SELECTION_QUIET_PERIOD, Duration.ofSeconds(1));
+
+        // 2. 확인 버튼 5번 클릭 (btnSelectNum)
+        log.info("2단계: '확인' 버튼 {}회 클릭 중 (게임 선택)...", FIXED_GAME_COUNT);
+        for (int i = 1; i <= FIXED_GAME_COUNT; i++) {
+            try {
+                js.executeScript("document.getElementById('btnSelectNum').click();");
+                log.info(" - {}번째 게임 선택 완료", i);
+            } catch (Exception e) {
+                log.warn(" - {}번째 게임 선택 중 오류 (무시하고 재시도): {}", i, e.getMessage());
             }
+            readinessWaiter.awaitDomQuiet(webDriver, SELECTION_QUIET_PERIOD, Duration.ofMillis(800));
+        }
+        return true;
+    }
+
+    /**
+     * 직접 고른 번호 입력: 5게임 30개 번호를 스크립트 한 번으로 체크하고 게임마다 확인 버튼 클릭
+     */
+    private boolean enterGames(GameSelection selection) {
+        log.info("1단계: 고른 번호 {}게임 입력 중... ({})", selection.games().size(), selection);
+        try {
+            int entered = metrics.timePhase(name(), "number_entry", () -> ManualNumberEntry.enter(webDriver, selection.games()));
+            log.info("2단계: {}게임 입력 완료", entered);
+        } catch (Exception e) {
+            log.error("번호 입력 실패: {}", e.getMessage());
+            return false;
         }
+        readinessWaiter.awaitDomQuiet(webDriver, SELECTION_QUIET_PERIOD, Duration.ofSeconds(1));
+        return true;
     }
 
     /**
@@ -937,12 +1234,10 @@ public class LottoService {
             try {
                 String pageText = webDriver.findElement(By.tagName("body")).getText();
                 // "1게임", "2게임" 등의 패턴 찾기
-                java.util.regex.Pattern pattern = java.util.regex.Pattern.compile("(\\d+)게임");
-                java.util.regex.Matcher matcher = pattern.matcher(pageText);
-                if (matcher.find()) {
-                    int count = Integer.parseInt(matcher.group(1));
-                    log.debug("페이지 텍스트로 게임 수 확인: {}게임", count);
-                    return count;
+                OptionalInt count = PurchasePageParser.parseGameCount(pageText);
+                if (count.isPresent()) {
+                    log.debug("페이지 텍스트로 게임 수 확인: {}게임", count.getAsInt());
+                    return count.getAsInt();
                 }
             } catch (Exception e) {
                 log.debug("페이지 텍스트 확인 실패: {}", e.getMessage());
@@ -1001,11 +1296,7 @@ public class LottoService {
                     JavascriptExecutor js = (JavascriptExecutor) webDriver;
                     String pageText = (String) js.executeScript("return document.body.innerText || document.body.textContent;");
                     
-                    if (pageText != null && (
-                            pageText.contains("구매가 완료되었습니다") ||
-                            pageText.contains("구매 완료") ||
-                            pageText.contains("구매되었습니다")
-                    )) {
+                    if (PurchasePageParser.containsSuccessMessage(pageText)) {
                         log.info("JavaScript로 구매 성공 확인");
                         success = true;
                     }
@@ -1099,15 +1390,10 @@ public class LottoService {
                 JavascriptExecutor js = (JavascriptExecutor) webDriver;
                 String pageText = (String) js.executeScript("return document.body.innerText || document.body.textContent;");
                 
-                if (pageText != null) {
-                    // 실패 관련 키워드가 포함된 문장 찾기
-                    String[] lines = pageText.split("\n");
-                    for (String line : lines) {
-                        if (line.contains("실패") || line.contains("오류") || line.contains("에러") || 
-                            line.contains("불가") || line.contains("부족") || line.contains("한도")) {
-                            return line.trim();
-                        }
-                    }
+                // 실패 관련 키워드가 포함된 문장 찾기
+                String failureLine = PurchasePageParser.findFailureLine(pageText);
+                if (failureLine != null) {
+                    return failureLine;
                 }
             } catch (Exception e) {
                 log.debug("JavaScript로 실패 사유 확인 실패: {}", e.getMessage());
@@ -1124,50 +1410,55 @@ public class LottoService {
     /**
      * 구매 후 잔액 확인
      * 
-     * @return 현재 잔액
+     * @return 현재 잔액과 값을 읽은 경로
      */
-    private int getRemainingBalanceAfterPurchase() {
+    private BalanceReading getRemainingBalanceAfterPurchase() {
         try {
             log.info("구매 후 잔액 확인 중...");
+            // 구매 화면에 잔액이 표시되므로 이동하지 않음
+            planner.next(SiteFact.REMAINING_BALANCE).ifPresent(this::loadPage);
 
             // iframe 밖으로 나가기
             webDriver.switchTo().defaultContent();
 
-            // 잔액 정보가 표시되는 요소 찾기
-            // 구매 페이지의 예치금 잔액 표시 영역 확인
-            try {
-                WebElement balanceElement = webDriverWait.until(
-                        ExpectedConditions.presenceOfElementLocated(By.id("crntEntrsAmt"))
-                );
-                String balanceText = balanceElement.getText();
-                String balanceNumber = balanceText.replaceAll("[^0-9]", "");
-                if (!balanceNumber.isEmpty()) {
-                    int balance = Integer.parseInt(balanceNumber);
-                    log.info("구매 후 잔액: {}원", balance);
-                    return balance;
-                }
-            } catch (Exception e) {
-                log.debug("crntEntrsAmt에서 잔액 확인 실패: {}", e.getMessage());
-            }
-
-            // 마이페이지로 이동하여 잔액 확인
-            try {
-                webDriver.get(MY_PAGE_URL);
-                webDriverWait.until(ExpectedConditions.presenceOfElementLocated(By.tagName("body")));
-                closeAllPopups();
-                return getBalanceFromMyPage();
-            } catch (Exception e) {
-                log.warn("마이페이지에서 잔액 확인 실패: {}", e.getMessage());
+            // 구매 화면의 잔액 표시 영역과 마이페이지 중 지난 실행에서 자주 성공한 쪽부터 확인
+            Optional<BalanceReading> reading = FallbackChain.<BalanceReading>of("remaining_balance", strategyStats)
+                    .then("purchase_page", this::remainingBalanceOnPurchasePage)
+                    .then("mypage", this::remainingBalanceOnMyPage)
+                    .run();
+            if (reading.isPresent()) {
+                return reading.get();
             }
 
             // 잔액을 확인할 수 없는 경우 0 반환
             log.warn("잔액을 확인할 수 없어 0원으로 표시합니다.");
-            return 0;
+            return BalanceReading.unknown();
 
         } catch (Exception e) {
             log.error("구매 후 잔액 확인 중 오류: {}", e.getMessage(), e);
-            return 0;
+            return BalanceReading.unknown();
         }
     }
-}
 
+    // 구매 페이지의 예치금 잔액 표시 영역 확인 (없으면 기다리지 않고 다음 방법으로 넘어감)
+    private Optional<BalanceReading> remainingBalanceOnPurchasePage() {
+        List<WebElement> balanceElements = webDriver.findElements(By.id("crntEntrsAmt"));
+        if (balanceElements.isEmpty()) {
+            return Optional.empty();
+        }
+        String balanceText = balanceElements.get(0).getText();
+        if (PurchasePageParser.digitsOnly(balanceText).isEmpty()) {
+            return Optional.empty();
+        }
+        int balance = PurchasePageParser.parseBalance(balanceText);
+        log.info("구매 후 잔액: {}원", balance);
+        return Optional.of(new BalanceReading(balance, BalanceSource.ELEMENT));
+    }
+
+    // 마이페이지로 이동하여 잔액 확인
+    private Optional<BalanceReading> remainingBalanceOnMyPage() {
+        loadPage(planner.fallback(SitePage.MY_PAGE));
+        BalanceReading reading = balanceOnCurrentPage();
+        return reading.isKnown() ? Optional.of(reading) : Optional.empty();
+    }
+}
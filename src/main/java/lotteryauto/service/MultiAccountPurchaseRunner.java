@@ -0,0 +1,223 @@
+package lotteryauto.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lotteryauto.browser.WebDriverPool;
+import lotteryauto.config.LotteryAccount;
+import lotteryauto.config.LotteryConfig;
+import lotteryauto.metrics.LottoMetrics;
+import lotteryauto.notification.NotificationDispatcher;
+import lotteryauto.ticket.PurchaseRecordStore;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 계정 동시 구매 실행기
+ * 계정마다 가상 스레드 하나에서 독립된 LottoService(WebDriver 포함)로 구매 흐름을 실행하고,
+ * 동시에 띄우는 브라우저 수는 LOTTO_MAX_CONCURRENT_BROWSERS로 제한합니다.
+ * 허용량은 실행기 하나가 공유하므로 상시 실행 모드에서 여러 계정의 예약 구매와 미리 로그인이 겹쳐도 함께 제한됩니다.
+ * LOTTO_ENGINE이 http 또는 auto이면 HTTP 엔진을 먼저 사용합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MultiAccountPurchaseRunner {
+
+    private final LotteryConfig lotteryConfig;
+    private final ObjectProvider<LottoService> lottoServiceProvider;
+    private final HttpLottoEngine httpLottoEngine;
+    private final TelegramNotificationService telegramNotificationService;
+    private final NotificationDispatcher notificationDispatcher;
+    private final LottoMetrics metrics;
+    private final PurchaseRecordStore purchaseRecordStore;
+    private final WebDriverPool webDriverPool;
+
+    /** 동시에 띄울 수 있는 브라우저 허용량 (모든 실행이 공유, 처음 사용할 때 생성) */
+    private Semaphore browserPermits;
+
+    /**
+     * 설정된 계정의 구매 흐름 실행
+     *
+     * @param accountKeys 구매할 계정의 {@link LotteryAccount#key()} (비어 있으면 모든 계정)
+     * @return 계정별 구매 결과 (설정된 계정 순서)
+     */
+    public List<PurchaseResult> runAll(Collection<String> accountKeys) {
+        List<LotteryAccount> accounts = accountKeys.isEmpty()
+                ? lotteryConfig.getAccounts()
+                : lotteryConfig.getAccounts().stream().filter(account -> accountKeys.contains(account.key())).toList();
+        int maxBrowsers = Math.max(1, lotteryConfig.getMaxConcurrentBrowsers());
+        log.info("계정 {}개 구매 시작 (동시 브라우저 최대 {}개)", accounts.size(), maxBrowsers);
+        // 브라우저로 구매할 때만 미리 띄움 (건너뛰는 실행과 HTTP 엔진에서는 브라우저를 시작하지 않음)
+        if (engine().equals("selenium")) {
+            webDriverPool.prewarm(lotteryConfig.getWebDriverPrewarm() >= 0 ? lotteryConfig.getWebDriverPrewarm() : accounts.size());
+        }
+
+        long startNanos = System.nanoTime();
+        List<Future<PurchaseResult>> futures = new ArrayList<>();
+        // 계정마다 제출한 시각 (중단·실패한 계정의 소요 시간 계산용)
+        long[] submittedNanos = new long[accounts.size()];
+
+        // 실행 중 발생한 알림은 대상마다 요약 메시지 하나로 묶어 실행이 끝날 때 전송
+        List<PurchaseResult> results = notificationDispatcher.inRun(accounts.size(), () -> {
+            try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("lotto-account-", 1).factory())) {
+                for (int i = 0; i < accounts.size(); i++) {
+                    LotteryAccount account = accounts.get(i);
+                    submittedNanos[i] = System.nanoTime();
+                    futures.add(executor.submit(() -> runAccount(account, null)));
+                }
+            }
+
+            List<PurchaseResult> collected = new ArrayList<>();
+            for (int i = 0; i < futures.size(); i++) {
+                collected.add(awaitResult(futures.get(i), accounts.get(i), submittedNanos[i]));
+            }
+            return collected;
+        });
+
+        Duration total = Duration.ofNanos(System.nanoTime() - startNanos);
+        logSummary(results, total);
+        return results;
+    }
+
+    /**
+     * 상시 실행 모드에서 예약된 계정 하나의 구매 흐름 실행
+     *
+     * @param account     구매할 계정
+     * @param warmBrowser 미리 로그인해 둔 브라우저 (없으면 null, {@link #acquireBrowser}로 확보한 허용량과 함께 넘기며 사용 후 둘 다 반납)
+     * @return 구매 결과
+     */
+    public PurchaseResult runScheduled(LotteryAccount account, LottoService warmBrowser) {
+        long startNanos = System.nanoTime();
+        PurchaseResult result = notificationDispatcher.inRun(1, () -> runAccount(account, warmBrowser));
+        logSummary(List.of(result), Duration.ofNanos(System.nanoTime() - startNanos));
+        return result;
+    }
+
+    /**
+     * 실행 밖에서 브라우저를 띄우기 전에 허용량 하나를 확보 (상시 실행 모드의 미리 로그인용)
+     * 확보한 허용량은 브라우저를 {@link #runScheduled}에 넘기거나 {@link #releaseBrowser}로 반납합니다.
+     *
+     * @param timeout 허용량을 기다릴 최대 시간
+     * @return 확보 여부
+     */
+    public boolean acquireBrowser(Duration timeout) throws InterruptedException {
+        return browserPermits().tryAcquire(Math.max(0, timeout.toMillis()), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * {@link #acquireBrowser}로 확보한 허용량 반납
+     */
+    public void releaseBrowser() {
+        browserPermits().release();
+    }
+
+    private synchronized Semaphore browserPermits() {
+        if (browserPermits == null) {
+            browserPermits = new Semaphore(Math.max(1, lotteryConfig.getMaxConcurrentBrowsers()));
+        }
+        return browserPermits;
+    }
+
+    private PurchaseResult runAccount(LotteryAccount account, LottoService warmBrowser) {
+        return notificationDispatcher.asAccount(account.displayName(), () -> {
+            PurchaseResult result = runAccountWithEngine(account, warmBrowser);
+            metrics.recordOutcome(lotteryConfig.getEngine(), result.outcome().name());
+            metrics.recordBalanceSource(result.balanceSource().name());
+            // 당첨 확인에 쓰도록 구매한 게임 번호를 남김
+            purchaseRecordStore.append(account, result.tickets());
+            return result;
+        });
+    }
+
+    private PurchaseResult runAccountWithEngine(LotteryAccount account, LottoService warmBrowser) {
+        String engine = engine();
+        if (engine.equals("http") || engine.equals("auto")) {
+            long startNanos = System.nanoTime();
+            try {
+                return httpLottoEngine.runPurchaseFlow(account);
+            } catch (EngineUnavailableException e) {
+                if (engine.equals("http")) {
+                    log.error("계정 {} HTTP 구매 실패: {}", account.displayName(), e.getMessage());
+                    telegramNotificationService.notifyError("HTTP 구매 엔진을 사용할 수 없습니다", e);
+                    return errorResult(account, e.getMessage(), startNanos);
+                }
+                log.warn("계정 {} HTTP 엔진 사용 불가 ({}), Selenium 엔진으로 전환합니다.", account.displayName(), e.getMessage());
+            }
+        }
+        return runWithBrowser(account, warmBrowser);
+    }
+
+    private String engine() {
+        return lotteryConfig.getEngine() == null ? "selenium" : lotteryConfig.getEngine().trim().toLowerCase();
+    }
+
+    private PurchaseResult runWithBrowser(LotteryAccount account, LottoService warmBrowser) {
+        long startNanos = System.nanoTime();
+        Semaphore browserPermits = browserPermits();
+        // 미리 로그인해 둔 브라우저는 허용량을 확보한 채로 넘어오므로 기다리지 않음 (사용 후 함께 반납)
+        if (warmBrowser == null) {
+            try {
+                browserPermits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return errorResult(account, "브라우저 대기 중 중단됨", startNanos);
+            }
+        }
+
+        // 브라우저 생성은 허용량을 확보한 뒤에 수행
+        LottoService lottoService = warmBrowser;
+        try {
+            if (lottoService == null) {
+                lottoService = lottoServiceProvider.getObject();
+            }
+            return lottoService.runPurchaseFlow(account);
+        } catch (Exception e) {
+            log.error("계정 {} 구매 흐름 중 오류 발생: {}", account.displayName(), e.getMessage(), e);
+            telegramNotificationService.notifyError("계정 " + account.displayName() + " 처리 중 오류가 발생했습니다", e);
+            return errorResult(account, e.getMessage(), startNanos);
+        } finally {
+            if (lottoService != null) {
+                lottoService.close();
+            }
+            browserPermits.release();
+        }
+    }
+
+    private PurchaseResult awaitResult(Future<PurchaseResult> future, LotteryAccount account, long startNanos) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return errorResult(account, "결과 대기 중 중단됨", startNanos);
+        } catch (ExecutionException e) {
+            return errorResult(account, e.getCause().getMessage(), startNanos);
+        }
+    }
+
+    private PurchaseResult errorResult(LotteryAccount account, String message, long startNanos) {
+        return new PurchaseResult(account, PurchaseOutcome.ERROR, -1, BalanceSource.UNKNOWN,
+                Duration.ofNanos(System.nanoTime() - startNanos), message);
+    }
+
+    private void logSummary(List<PurchaseResult> results, Duration total) {
+        long acceptable = results.stream().filter(PurchaseResult::isAcceptable).count();
+        log.info("========================================");
+        log.info("구매 결과 요약: {}/{}개 계정 정상 처리 (총 {}ms)", acceptable, results.size(), total.toMillis());
+        for (PurchaseResult result : results) {
+            log.info(" - {}", result.toSummaryLine());
+        }
+        log.info("========================================");
+    }
+}
@@ -0,0 +1,116 @@
+package lotteryauto.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 필요한 정보를 가장 적은 페이지 이동으로 모으기 위한 경로 계획 (구매 흐름 한 번 단위)
+ * 현재 페이지가 이미 제공하는 정보는 이동 없이 확인하고, 이동해야 할 때는 뒤이어 필요한 정보까지
+ * 함께 제공하는 페이지를 고릅니다. 예를 들어 로그인 상태 확인은 마이페이지에서 하여 예치금 확인까지 한 번에 처리합니다.
+ */
+public final class NavigationPlanner {
+
+    private final List<SiteFact> remaining;
+    private SitePage current;
+    private int navigations;
+    private int legacyNavigations;
+
+    /**
+     * @param route 이번 흐름에서 확인할 정보 (확인 순서대로)
+     */
+    public NavigationPlanner(List<SiteFact> route) {
+        this.remaining = new ArrayList<>(route);
+    }
+
+    /**
+     * 정보를 확인하기 위해 이동할 페이지
+     *
+     * @return 현재 페이지에서 확인할 수 있으면 빈 값
+     */
+    public Optional<SitePage> next(SiteFact fact) {
+        legacyNavigations += fact.legacyNavigations();
+        int index = remaining.indexOf(fact);
+        List<SiteFact> upcoming = index >= 0 ? remaining.subList(index + 1, remaining.size()) : List.of();
+        SitePage choice = null;
+        if (current == null || !current.provides(fact)) {
+            choice = bestPageFor(fact, upcoming);
+        }
+        if (index >= 0) {
+            remaining.remove(index);
+        }
+        return Optional.ofNullable(choice);
+    }
+
+    /**
+     * 페이지 이동 없이 다른 방법(세션 요청 등)으로 정보를 확인함
+     */
+    public void confirmed(SiteFact fact) {
+        legacyNavigations += fact.legacyNavigations();
+        remaining.remove(fact);
+    }
+
+    /**
+     * 계획에 따라 페이지로 이동함
+     */
+    public void arrived(SitePage page) {
+        current = page;
+        navigations++;
+    }
+
+    /**
+     * 사이트의 리다이렉트 등으로 이동 없이 페이지에 도착함 (현재 페이지를 알 수 없으면 null)
+     */
+    public void landed(SitePage page) {
+        current = page;
+    }
+
+    /**
+     * 현재 페이지에서 확인에 실패해 계획에 없던 이동을 함
+     * 고정 경로에서도 같은 대체 이동이 필요하므로 절약 횟수에는 영향이 없습니다.
+     */
+    public SitePage fallback(SitePage page) {
+        legacyNavigations++;
+        return page;
+    }
+
+    public SitePage current() {
+        return current;
+    }
+
+    public int navigations() {
+        return navigations;
+    }
+
+    /**
+     * 고정 경로 대비 줄인 페이지 이동 수
+     */
+    public int saved() {
+        return Math.max(0, legacyNavigations - navigations);
+    }
+
+    /**
+     * 정보를 제공하는 페이지 중 뒤이어 필요한 정보를 연속으로 가장 많이 제공하는 페이지 (같으면 선언 순서)
+     */
+    private SitePage bestPageFor(SiteFact fact, List<SiteFact> upcoming) {
+        SitePage best = null;
+        int bestCoverage = -1;
+        for (SitePage page : SitePage.values()) {
+            if (!page.provides(fact)) {
+                continue;
+            }
+            int coverage = 0;
+            while (coverage < upcoming.size() && page.provides(upcoming.get(coverage))) {
+                coverage++;
+            }
+            if (coverage > bestCoverage) {
+                best = page;
+                bestCoverage = coverage;
+            }
+        }
+        if (best == null) {
+            throw new IllegalStateException("정보를 제공하는 페이지가 없습니다: " + fact);
+        }
+        return best;
+    }
+}
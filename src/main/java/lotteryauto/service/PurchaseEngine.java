@@ -0,0 +1,43 @@
+package lotteryauto.service;
+
+import lotteryauto.config.LotteryAccount;
+
+/**
+ * 계정 하나의 구매 흐름(로그인 → 예치금 확인 → 구매)을 실행하는 엔진
+ */
+public interface PurchaseEngine {
+
+    /**
+     * 로그에 표시할 엔진 이름
+     */
+    String name();
+
+    /**
+     * 구매 흐름 실행
+     *
+     * @param account 구매할 계정
+     * @return 구매 결과
+     */
+    PurchaseResult runPurchaseFlow(LotteryAccount account);
+
+    /**
+     * 구매 시각 전에 미리 로그인 (상시 실행 모드)
+     * 이후 같은 계정의 {@link #runPurchaseFlow(LotteryAccount)}는 로그인 과정 없이 세션 확인만 합니다.
+     *
+     * @param account 로그인할 계정
+     * @return 미리 로그인했으면 true, 지원하지 않거나 실패하면 false
+     */
+    default boolean prepare(LotteryAccount account) {
+        return false;
+    }
+
+    /**
+     * 미리 로그인한 세션이 만료되지 않도록 한 번 요청
+     *
+     * @param account 미리 로그인한 계정
+     * @return 세션이 아직 유효하면 true
+     */
+    default boolean keepAlive(LotteryAccount account) {
+        return false;
+    }
+}
@@ -0,0 +1,63 @@
+package lotteryauto.service;
+
+/**
+ * 계정별 구매 프로세스 결과 유형
+ */
+public enum PurchaseOutcome {
+
+    /** 구매 완료 */
+    SUCCESS("구매 완료", true, false),
+
+    /** 이번 주 구매 한도(5,000원)를 이미 채움 */
+    LIMIT_REACHED("구매 한도 도달", true, false),
+
+    /** 예치금 부족 */
+    INSUFFICIENT_BALANCE("잔액 부족", false, false),
+
+    /** 로그인 실패 */
+    LOGIN_FAILED("로그인 실패", false, false),
+
+    /** 예치금 확인 또는 구매 페이지 진입 실패 */
+    NAVIGATION_FAILED("구매 페이지 진입 실패", false, true),
+
+    /** 접속 대기열이 허용 시간 안에 풀리지 않아 다음 예약 실행으로 미룸 */
+    QUEUE_DEFERRED("대기열로 연기", false, true),
+
+    /** 구매 실패 */
+    PURCHASE_FAILED("구매 실패", false, false),
+
+    /** 예기치 못한 오류 */
+    ERROR("오류", false, true);
+
+    private final String label;
+    private final boolean acceptable;
+    private final boolean retryable;
+
+    PurchaseOutcome(String label, boolean acceptable, boolean retryable) {
+        this.label = label;
+        this.acceptable = acceptable;
+        this.retryable = retryable;
+    }
+
+    /**
+     * 알림 및 로그에 표시할 이름
+     */
+    public String label() {
+        return label;
+    }
+
+    /**
+     * 프로그램을 정상 종료(exit 0)해도 되는 결과인지 여부
+     */
+    public boolean isAcceptable() {
+        return acceptable;
+    }
+
+    /**
+     * 다음 예약 실행에서 다시 시도하면 풀릴 수 있는 결과인지 여부 (대기열, 접속 오류 등)
+     * 로그인 실패나 잔액 부족은 다시 시도해도 같은 결과이고 계정 잠금이나 반복 알림만 남기므로 재시도하지 않습니다.
+     */
+    public boolean isRetryable() {
+        return retryable;
+    }
+}
@@ -0,0 +1,199 @@
+package lotteryauto.service;
+
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+
+/**
+ * 구매 흐름에서 읽어 온 페이지 텍스트 해석
+ * 브라우저와 무관한 순수 문자열 처리만 모아 두어 단위 테스트와 JMH 벤치마크에서 직접 호출할 수 있습니다.
+ */
+@Slf4j
+public final class PurchasePageParser {
+
+    /** 1,000만원 초과 잔액은 비정상 데이터로 간주 */
+    public static final long MAX_REASONABLE_BALANCE = 10_000_000L;
+
+    /** 구매 성공으로 판단하는 문구 */
+    static final List<String> SUCCESS_MESSAGES = List.of("구매가 완료되었습니다", "구매 완료", "구매되었습니다");
+
+    /** 실패 사유 줄을 찾을 때 사용하는 키워드 */
+    static final List<String> FAILURE_KEYWORDS = List.of("실패", "오류", "에러", "불가", "부족", "한도");
+
+    /** 예치금 조회 응답에서 금액으로 보는 키 (우선순위 순) */
+    static final List<String> BALANCE_KEYS = List.of("totalAmt", "crntEntrsAmt");
+
+    private static final String GAME_SUFFIX = "게임";
+
+    private PurchasePageParser() {
+    }
+
+    /**
+     * 예치금 문자열을 금액으로 변환
+     * 숫자 이외의 문자(콤마, "원" 등)는 제거하며, 변환할 수 없거나 비정상적으로 큰 값은 0으로 처리합니다.
+     *
+     * @param raw 화면 또는 응답에서 읽은 예치금 문자열
+     * @return 예치금 금액 (원)
+     */
+    public static int parseBalance(String raw) {
+        String cleaned = digitsOnly(raw);
+        if (cleaned.isEmpty()) {
+            return 0;
+        }
+        try {
+            long balance = Long.parseLong(cleaned);
+            if (balance > MAX_REASONABLE_BALANCE) {
+                log.warn("비정상적으로 큰 잔액 감지됨 ({}원), 0원으로 처리합니다.", balance);
+                return 0;
+            }
+            return (int) balance;
+        } catch (NumberFormatException e) {
+            log.error("잔액 숫자 변환 실패 ({}): {}", cleaned, e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * 예치금 조회 응답(JSON 본문)에서 금액 추출
+     *
+     * @param body getUserMndp/selectUserMndp 응답 본문
+     * @return 예치금 금액, JSON이 아니거나 금액 키가 없거나 비정상적으로 큰 값이면 빈 값
+     */
+    public static OptionalInt parseBalanceResponse(String body) {
+        if (body == null || !body.trim().startsWith("{")) {
+            return OptionalInt.empty();
+        }
+        try {
+            Long amount = findBalanceAmount(JsonMapper.shared().readerForMapOf(Object.class).readValue(body));
+            return amount != null && amount <= MAX_REASONABLE_BALANCE ? OptionalInt.of(amount.intValue()) : OptionalInt.empty();
+        } catch (JacksonException e) {
+            return OptionalInt.empty();
+        }
+    }
+
+    /**
+     * 예치금 조회 응답 객체에서 금액 찾기 (중첩 객체까지 탐색)
+     *
+     * @return 금액, 없으면 null
+     */
+    public static Long findBalanceAmount(Map<?, ?> json) {
+        for (String key : BALANCE_KEYS) {
+            Long value = parseAmount(json.get(key));
+            if (value != null) {
+                return value;
+            }
+        }
+        for (Object nested : json.values()) {
+            if (nested instanceof Map<?, ?> map) {
+                Long value = findBalanceAmount(map);
+                if (value != null) {
+                    return value;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 문자열에서 숫자만 추출 (replaceAll("[^0-9]", "")와 같은 결과, 정규식 없이 처리)
+     */
+    public static String digitsOnly(String raw) {
+        if (raw == null || raw.isEmpty()) {
+            return "";
+        }
+        StringBuilder digits = new StringBuilder(raw.length());
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (isDigit(c)) {
+                digits.append(c);
+            }
+        }
+        return digits.toString();
+    }
+
+    /**
+     * 페이지 텍스트에 구매 성공 문구가 있는지 확인
+     */
+    public static boolean containsSuccessMessage(String pageText) {
+        if (pageText == null) {
+            return false;
+        }
+        for (String message : SUCCESS_MESSAGES) {
+            if (pageText.contains(message)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 페이지 텍스트에서 실패 키워드가 포함된 첫 줄 찾기
+     * 줄 단위 배열로 나누지 않고, 가장 먼저 등장하는 키워드 위치에서 그 줄의 경계만 찾습니다.
+     *
+     * @return 앞뒤 공백을 제거한 줄, 없으면 null
+     */
+    public static String findFailureLine(String pageText) {
+        if (pageText == null) {
+            return null;
+        }
+        int first = Integer.MAX_VALUE;
+        for (String keyword : FAILURE_KEYWORDS) {
+            int index = pageText.indexOf(keyword);
+            if (index >= 0 && index < first) {
+                first = index;
+            }
+        }
+        if (first == Integer.MAX_VALUE) {
+            return null;
+        }
+        int start = pageText.lastIndexOf('\n', first) + 1;
+        int end = pageText.indexOf('\n', first);
+        return pageText.substring(start, end < 0 ? pageText.length() : end).trim();
+    }
+
+    /**
+     * 페이지 텍스트에서 "N게임" 표기를 찾아 선택된 게임 수 추출
+     * 정규식 (\\d+)게임 과 같은 결과를 내지만, "게임" 위치를 먼저 찾고 앞쪽 숫자만 확인해
+     * 숫자가 많은 긴 텍스트에서도 되돌아가기(backtracking) 없이 처리합니다.
+     */
+    public static OptionalInt parseGameCount(String pageText) {
+        if (pageText == null) {
+            return OptionalInt.empty();
+        }
+        int index = pageText.indexOf(GAME_SUFFIX);
+        while (index >= 0) {
+            int start = index;
+            while (start > 0 && isDigit(pageText.charAt(start - 1))) {
+                start--;
+            }
+            if (start < index) {
+                try {
+                    return OptionalInt.of(Integer.parseInt(pageText, start, index, 10));
+                } catch (NumberFormatException e) {
+                    return OptionalInt.empty();
+                }
+            }
+            index = pageText.indexOf(GAME_SUFFIX, index + GAME_SUFFIX.length());
+        }
+        return OptionalInt.empty();
+    }
+
+    private static Long parseAmount(Object value) {
+        if (value == null) {
+            return null;
+        }
+        String digits = digitsOnly(value.toString());
+        if (digits.isEmpty() || digits.length() > 12) {
+            return null;
+        }
+        return Long.parseLong(digits);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,50 @@
+package lotteryauto.service;
+
+import lotteryauto.config.LotteryAccount;
+import lotteryauto.ticket.PurchasedTickets;
+
+import java.time.Duration;
+
+/**
+ * 계정별 구매 프로세스 결과
+ *
+ * @param account 대상 계정
+ * @param outcome 결과 유형
+ * @param balance 마지막으로 확인한 예치금 (확인하지 못한 경우 -1)
+ * @param balanceSource 예치금을 읽은 경로
+ * @param elapsed 소요 시간
+ * @param message 상세 메시지
+ * @param tickets 구매한 게임 (구매하지 않았거나 번호를 확인하지 못하면 {@link PurchasedTickets#NONE})
+ */
+public record PurchaseResult(
+        LotteryAccount account,
+        PurchaseOutcome outcome,
+        int balance,
+        BalanceSource balanceSource,
+        Duration elapsed,
+        String message,
+        PurchasedTickets tickets
+) {
+
+    public PurchaseResult(LotteryAccount account, PurchaseOutcome outcome, int balance, BalanceSource balanceSource,
+                          Duration elapsed, String message) {
+        this(account, outcome, balance, balanceSource, elapsed, message, PurchasedTickets.NONE);
+    }
+
+    public boolean isAcceptable() {
+        return outcome.isAcceptable();
+    }
+
+    /**
+     * 요약 알림용 한 줄 표현
+     */
+    public String toSummaryLine() {
+        String balanceText = balance >= 0 ? String.format("%,d원", balance) : "확인 불가";
+        return String.format("%s %s: %s (잔액: %s, %.1f초)",
+                isAcceptable() ? "✅" : "❌",
+                account.displayName(),
+                outcome.label(),
+                balanceText,
+                elapsed.toMillis() / 1000.0);
+    }
+}
@@ -0,0 +1,35 @@
+package lotteryauto.service;
+
+/**
+ * 구매 흐름이 사이트에서 확인해야 하는 정보
+ */
+public enum SiteFact {
+
+    /** 로그인 입력 화면 (RSA 공개키 포함) */
+    LOGIN_FORM(1),
+
+    /** 로그인 상태 */
+    LOGIN_STATE(1),
+
+    /** 구매 전 예치금 */
+    BALANCE(1),
+
+    /** 번호 선택/구매 화면 (기존 경로는 메인 페이지를 거쳐 진입) */
+    PURCHASE_FRAME(2),
+
+    /** 구매 후 잔액 (구매 화면에 표시됨) */
+    REMAINING_BALANCE(0);
+
+    private final int legacyNavigations;
+
+    SiteFact(int legacyNavigations) {
+        this.legacyNavigations = legacyNavigations;
+    }
+
+    /**
+     * 고정 경로(메인 → 마이페이지 → 메인 → 구매)에서 이 정보를 얻기 위해 하던 페이지 이동 수
+     */
+    public int legacyNavigations() {
+        return legacyNavigations;
+    }
+}
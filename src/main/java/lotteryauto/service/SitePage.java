@@ -0,0 +1,51 @@
+package lotteryauto.service;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 구매 흐름에서 이동하는 페이지와 각 페이지에서 확인할 수 있는 정보
+ * WebDriver의 페이지 이동은 Referer를 보내지 않고 로그인 세션은 로그인 응답에서 쿠키로 설정되므로,
+ * 구매 페이지 진입 전에 메인 페이지를 거칠 필요가 없습니다.
+ */
+public enum SitePage {
+
+    /** 로그인 스크립트(RSA 암호화)가 모두 실행되어야 하므로 전체 로드를 기다림 */
+    LOGIN("login", EnumSet.of(SiteFact.LOGIN_FORM), true),
+
+    MAIN("main", EnumSet.of(SiteFact.LOGIN_STATE), false),
+
+    /** 로그인하지 않았으면 로그인 버튼이 보이고, 예치금 조회 요청을 스스로 보냄 */
+    MY_PAGE("mypage", EnumSet.of(SiteFact.LOGIN_STATE, SiteFact.BALANCE, SiteFact.REMAINING_BALANCE), false),
+
+    /** 구매 iframe 준비는 PageReadinessWaiter가 따로 기다림 */
+    PURCHASE("purchase", EnumSet.of(SiteFact.PURCHASE_FRAME, SiteFact.REMAINING_BALANCE), false);
+
+    private final String id;
+    private final Set<SiteFact> provides;
+    private final boolean fullLoadRequired;
+
+    SitePage(String id, Set<SiteFact> provides, boolean fullLoadRequired) {
+        this.id = id;
+        this.provides = provides;
+        this.fullLoadRequired = fullLoadRequired;
+    }
+
+    /**
+     * 로그와 지표에 남길 페이지 이름
+     */
+    public String id() {
+        return id;
+    }
+
+    public boolean provides(SiteFact fact) {
+        return provides.contains(fact);
+    }
+
+    /**
+     * DOMContentLoaded(eager) 이후 load 이벤트까지 기다려야 하는지 여부
+     */
+    public boolean fullLoadRequired() {
+        return fullLoadRequired;
+    }
+}
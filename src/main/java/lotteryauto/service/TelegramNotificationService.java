@@ -2,77 +2,35 @@ package lotteryauto.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import lotteryauto.config.LotteryConfig;
+import lotteryauto.metrics.LottoMetrics;
+import lotteryauto.notification.NotificationDispatcher;
+import lotteryauto.notification.NotificationEvent.Kind;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.reactive.function.BodyInserters;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
+
+import java.time.Duration;
 
 /**
- * Telegram Bot API를 사용한 알림 서비스
+ * 알림 서비스
  * 구매 성공, 잔액 부족, 에러 발생 시 사용자에게 알림을 전송합니다.
+ * 이벤트는 종류와 함께 알림 분배기로 전달되어, 여러 계정 실행에서는 실행 단위 요약 메시지 하나로 묶여 Telegram 등 설정된 모든 대상에 전송됩니다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TelegramNotificationService {
 
-    private final LotteryConfig lotteryConfig;
-    private final WebClient webClient;
-
-    private static final String TELEGRAM_API_BASE_URL = "https://api.telegram.org/bot";
+    private final NotificationDispatcher notificationDispatcher;
+    private final LottoMetrics metrics;
 
     /**
-     * Telegram 메시지 전송
+     * 일반 안내 메시지 전송
+     * 메시지는 알림 분배기를 거쳐 발신함(스풀 파일)에 기록되고 백그라운드에서 전송되므로 네트워크 대기 없이 바로 반환합니다.
      * 
      * @param message 전송할 메시지
-     * @return 전송 성공 여부
+     * @return 전송 대기열 등록 성공 여부
      */
     public boolean sendMessage(String message) {
-        if (!isConfigured()) {
-            log.warn("Telegram 설정이 완료되지 않아 알림을 전송할 수 없습니다.");
-            return false;
-        }
-
-        try {
-            String botToken = lotteryConfig.getTelegramBotToken();
-            String chatId = lotteryConfig.getTelegramChatId();
-            
-            // 토큰 형식 체크 (숫자:문자열 형식이어야 함)
-            if (!botToken.contains(":")) {
-                log.error("❌ Telegram 토큰 형식이 올바르지 않습니다. '123456789:ABCDEF...' 형식이어야 합니다.");
-                log.error("현재 입력된 토큰: {} (ID 부분이 누락된 것으로 보입니다.)", botToken);
-                return false;
-            }
-            
-            // POST 요청으로 변경하여 URL 인코딩 문제 해결
-            String url = String.format("%s%s/sendMessage", TELEGRAM_API_BASE_URL, botToken);
-            
-            // form-urlencoded 형식으로 전송 (자동 인코딩 처리)
-            MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
-            formData.add("chat_id", chatId);
-            formData.add("text", message);
-
-            webClient.post()
-                    .uri(url)
-                    .body(BodyInserters.fromFormData(formData))
-                    .retrieve()
-                    .onStatus(status -> status.is4xxClientError(), response -> {
-                        if (response.statusCode().value() == 404) {
-                            log.error("❌ Telegram API 404 오류: 토큰이 올바르지 않거나 봇이 존재하지 않습니다.");
-                        }
-                        return response.createException();
-                    })
-                    .bodyToMono(String.class)
-                    .block();
-
-            log.info("Telegram 메시지 전송 성공: {}", message);
-            return true;
-        } catch (Exception e) {
-            log.error("Telegram 메시지 전송 실패: {}", e.getMessage());
-            return false;
-        }
+        return publish(Kind.INFO, message, firstLine(message));
     }
 
     /**
@@ -89,7 +47,7 @@ public class TelegramNotificationService {
                 "행운을 빕니다! 🍀",
                 gameCount, gameNumbers
         );
-        sendMessage(message);
+        publish(Kind.PURCHASED, message, String.format("🎉 구매 완료 (%d게임)", gameCount));
     }
 
     /**
@@ -102,7 +60,7 @@ public class TelegramNotificationService {
                 "✅ 로또 구매 성공! (잔액: %,d원)",
                 balance
         );
-        sendMessage(message);
+        publish(Kind.PURCHASED, message, message);
     }
 
     /**
@@ -115,7 +73,7 @@ public class TelegramNotificationService {
                 "✅ 로또 5,000원 구매 완료! (잔액: %,d원)",
                 balance
         );
-        sendMessage(message);
+        publish(Kind.PURCHASED, message, message);
     }
 
     /**
@@ -128,7 +86,7 @@ public class TelegramNotificationService {
                 "🚨 구매 실패: %s",
                 reason
         );
-        sendMessage(message);
+        publish(Kind.PURCHASE_FAILED, message, message);
     }
 
     /**
@@ -146,7 +104,7 @@ public class TelegramNotificationService {
                 "잔액을 충전해주세요.",
                 requiredAmount, currentBalance, (requiredAmount - currentBalance)
         );
-        sendMessage(message);
+        publish(Kind.LOW_BALANCE, message, String.format("⚠️ 잔액 부족 (현재 %,d원 / 필요 %,d원)", currentBalance, requiredAmount));
     }
 
     /**
@@ -167,7 +125,15 @@ public class TelegramNotificationService {
             message += "\n예외 정보: " + exceptionInfo;
         }
         
-        sendMessage(message);
+        publish(Kind.ERROR, message, "❌ 오류: " + errorMessage);
+    }
+
+    /**
+     * 이번 주 구매 한도 도달 알림
+     */
+    public void notifyLimitReached() {
+        String message = "🚨 구매 실패: 이번 주 로또 구매 한도(5,000원)를 이미 초과했습니다.";
+        publish(Kind.LIMIT_REACHED, message, "🔁 이번 주 구매 한도 도달");
     }
 
     /**
@@ -176,7 +142,24 @@ public class TelegramNotificationService {
     public void notifyLoginFailure() {
         String message = "🔐 로그인 실패\n\n" +
                 "아이디 또는 비밀번호를 확인해주세요.";
-        sendMessage(message);
+        publish(Kind.LOGIN_FAILED, message, "🔐 로그인 실패");
+    }
+
+    /**
+     * 당첨 확인 알림
+     *
+     * @param round   추첨 회차
+     * @param ranks   등수별 당첨 게임 수 (예: "5등 2게임, 4등 1게임")
+     * @param prize   알려진 당첨금 합계 (2·3등처럼 모르는 당첨금은 제외)
+     */
+    public void notifyWinnings(int round, String ranks, long prize) {
+        String message = String.format(
+                "🏆 %d회 당첨 확인\n\n" +
+                "%s\n" +
+                "당첨금: %,d원 이상",
+                round, ranks, prize
+        );
+        publish(Kind.WON, message, String.format("🏆 %d회 %s", round, ranks));
     }
 
     /**
@@ -185,17 +168,20 @@ public class TelegramNotificationService {
     public void notifySystemStart() {
         String message = "🚀 로또 자동 구매 시스템 시작\n\n" +
                 "구매 프로세스를 시작합니다...";
-        sendMessage(message);
+        publish(Kind.INFO, message, "🚀 시스템 시작");
     }
 
-    /**
-     * Telegram 설정 확인
-     */
-    private boolean isConfigured() {
-        return lotteryConfig.getTelegramBotToken() != null 
-                && !lotteryConfig.getTelegramBotToken().isEmpty()
-                && lotteryConfig.getTelegramChatId() != null 
-                && !lotteryConfig.getTelegramChatId().isEmpty();
+    private boolean publish(Kind kind, String message, String summary) {
+        long startNanos = System.nanoTime();
+        try {
+            return notificationDispatcher.publish(kind, message, summary);
+        } finally {
+            metrics.recordNotificationEnqueue(Duration.ofNanos(System.nanoTime() - startNanos));
+        }
     }
-}
 
+    private String firstLine(String message) {
+        int newline = message.indexOf('\n');
+        return newline < 0 ? message : message.substring(0, newline);
+    }
+}
@@ -0,0 +1,242 @@
+package lotteryauto.session;
+
+import lombok.extern.slf4j.Slf4j;
+import lotteryauto.config.LotteryAccount;
+import lotteryauto.config.LotteryConfig;
+import lotteryauto.http.StoredCookie;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 로그인 세션 쿠키의 암호화 디스크 저장소
+ * 로그인에 성공한 쿠키를 계정별 키(AES-GCM, PBKDF2 유도)로 암호화하여 저장하고,
+ * 다음 실행에서 만료 전이면 복원하여 로그인 과정을 건너뛸 수 있게 합니다.
+ */
+@Slf4j
+@Component
+public class SessionCookieStore {
+
+    private static final byte[] MAGIC = "LAS1".getBytes(StandardCharsets.US_ASCII);
+    private static final int SALT_LENGTH = 16;
+    private static final int IV_LENGTH = 12;
+    private static final int GCM_TAG_BITS = 128;
+    private static final int PBKDF2_ITERATIONS = 120_000;
+    private static final int KEY_BITS = 256;
+
+    private final SecureRandom random = new SecureRandom();
+    private final boolean enabled;
+    private final Duration ttl;
+    private final String sharedSecret;
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+
+    public SessionCookieStore(LotteryConfig lotteryConfig, ObjectMapper objectMapper) {
+        this.enabled = lotteryConfig.isSessionCacheEnabled();
+        this.ttl = Duration.ofMinutes(Math.max(1, lotteryConfig.getSessionTtlMinutes()));
+        this.sharedSecret = lotteryConfig.getSessionSecret();
+        this.directory = Paths.get(lotteryConfig.getStateDir(), "sessions");
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 세션 쿠키 저장
+     *
+     * @param account 계정
+     * @param cookies 로그인 직후의 쿠키 목록
+     */
+    public void save(LotteryAccount account, List<StoredCookie> cookies) {
+        if (!enabled || cookies.isEmpty()) {
+            return;
+        }
+        try {
+            Instant now = Instant.now();
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("savedAt", now.getEpochSecond());
+            payload.put("expiresAt", now.plus(ttl).getEpochSecond());
+            payload.put("cookies", cookies.stream().map(this::toMap).toList());
+
+            byte[] plain = objectMapper.writeValueAsBytes(payload);
+            byte[] salt = randomBytes(SALT_LENGTH);
+            byte[] iv = randomBytes(IV_LENGTH);
+            Cipher cipher = cipher(Cipher.ENCRYPT_MODE, account, salt, iv);
+            byte[] encrypted = cipher.doFinal(plain);
+
+            ByteBuffer buffer = ByteBuffer.allocate(MAGIC.length + SALT_LENGTH + IV_LENGTH + encrypted.length);
+            buffer.put(MAGIC).put(salt).put(iv).put(encrypted);
+            writeAtomically(fileFor(account), buffer.array());
+            log.info("[{}] 세션 쿠키 {}개 저장 (유효 {}분)", account.displayName(), cookies.size(), ttl.toMinutes());
+        } catch (IOException | GeneralSecurityException e) {
+            log.warn("[{}] 세션 쿠키 저장 실패: {}", account.displayName(), e.getMessage());
+        }
+    }
+
+    /**
+     * 저장된 세션 쿠키 복원
+     * 파일이 없거나, 만료되었거나, 복호화에 실패하면 비어 있는 값을 반환하고 파일을 삭제합니다.
+     *
+     * @param account 계정
+     * @return 만료되지 않은 쿠키 목록
+     */
+    public Optional<List<StoredCookie>> load(LotteryAccount account) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Path file = fileFor(account);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try {
+            byte[] data = Files.readAllBytes(file);
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            byte[] magic = new byte[MAGIC.length];
+            byte[] salt = new byte[SALT_LENGTH];
+            byte[] iv = new byte[IV_LENGTH];
+            if (data.length <= magic.length + salt.length + iv.length) {
+                throw new GeneralSecurityException("파일 길이가 너무 짧습니다");
+            }
+            buffer.get(magic).get(salt).get(iv);
+            if (!MessageDigest.isEqual(MAGIC, magic)) {
+                throw new GeneralSecurityException("알 수 없는 파일 형식");
+            }
+            byte[] encrypted = new byte[buffer.remaining()];
+            buffer.get(encrypted);
+            byte[] plain = cipher(Cipher.DECRYPT_MODE, account, salt, iv).doFinal(encrypted);
+
+            Map<String, Object> payload = objectMapper.readerForMapOf(Object.class).readValue(plain);
+            long now = Instant.now().getEpochSecond();
+            if (toLong(payload.get("expiresAt")) <= now) {
+                log.info("[{}] 저장된 세션이 만료되어 삭제합니다.", account.displayName());
+                delete(file);
+                return Optional.empty();
+            }
+
+            List<StoredCookie> cookies = new ArrayList<>();
+            if (payload.get("cookies") instanceof List<?> items) {
+                for (Object item : items) {
+                    if (item instanceof Map<?, ?> map) {
+                        StoredCookie cookie = fromMap(map);
+                        if (!cookie.isExpired(now)) {
+                            cookies.add(cookie);
+                        }
+                    }
+                }
+            }
+            if (cookies.isEmpty()) {
+                delete(file);
+                return Optional.empty();
+            }
+            log.info("[{}] 저장된 세션 쿠키 {}개 복원", account.displayName(), cookies.size());
+            return Optional.of(cookies);
+        } catch (IOException | GeneralSecurityException | RuntimeException e) {
+            // 비밀번호(키)가 바뀌었거나 파일이 손상된 경우
+            log.warn("[{}] 세션 쿠키를 읽을 수 없어 삭제합니다: {}", account.displayName(), e.getMessage());
+            delete(file);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 서버가 세션을 거부했을 때 저장된 쿠키 삭제
+     */
+    public void invalidate(LotteryAccount account) {
+        Path file = fileFor(account);
+        if (Files.exists(file)) {
+            delete(file);
+            log.info("[{}] 거부된 세션 쿠키를 삭제했습니다.", account.displayName());
+        }
+    }
+
+    private Cipher cipher(int mode, LotteryAccount account, byte[] salt, byte[] iv) throws GeneralSecurityException {
+        // 계정마다 다른 키: 비밀값 + 아이디로 PBKDF2 유도, 아이디는 AAD로도 묶어 다른 계정 파일과 바꿔치기 방지
+        String secret = sharedSecret != null && !sharedSecret.isBlank() ? sharedSecret : account.password();
+        char[] material = (secret + "\u0000" + account.username()).toCharArray();
+        SecretKeyFactory factory = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256");
+        byte[] key = factory.generateSecret(new PBEKeySpec(material, salt, PBKDF2_ITERATIONS, KEY_BITS)).getEncoded();
+
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(mode, new SecretKeySpec(key, "AES"), new GCMParameterSpec(GCM_TAG_BITS, iv));
+        cipher.updateAAD(account.username().getBytes(StandardCharsets.UTF_8));
+        return cipher;
+    }
+
+    private Path fileFor(LotteryAccount account) {
+        // 다른 상태 파일과 같은 계정 식별자 사용 (아이디가 드러나지 않음)
+        return directory.resolve(account.key() + ".session");
+    }
+
+    private void writeAtomically(Path file, byte[] data) throws IOException {
+        Files.createDirectories(file.getParent());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temp, data);
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debug("세션 파일 삭제 실패 (무시): {}", e.getMessage());
+        }
+    }
+
+    private byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+
+    private Map<String, Object> toMap(StoredCookie cookie) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("name", cookie.name());
+        map.put("value", cookie.value());
+        map.put("domain", cookie.domain());
+        map.put("path", cookie.path());
+        map.put("expires", cookie.expiresAtEpochSecond());
+        map.put("secure", cookie.secure());
+        map.put("hostOnly", cookie.hostOnly());
+        return map;
+    }
+
+    private StoredCookie fromMap(Map<?, ?> map) {
+        return new StoredCookie(
+                String.valueOf(map.get("name")),
+                String.valueOf(map.get("value")),
+                String.valueOf(map.get("domain")),
+                String.valueOf(map.get("path")),
+                toLong(map.get("expires")),
+                Boolean.TRUE.equals(map.get("secure")),
+                Boolean.TRUE.equals(map.get("hostOnly")));
+    }
+
+    private long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : -1;
+    }
+}
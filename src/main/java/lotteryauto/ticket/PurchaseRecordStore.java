@@ -0,0 +1,95 @@
+package lotteryauto.ticket;
+
+import lombok.extern.slf4j.Slf4j;
+import lotteryauto.config.LotteryAccount;
+import lotteryauto.config.LotteryConfig;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 구매한 게임 기록 (JSON Lines)
+ * 구매마다 회차와 번호 선택 방식, 게임 번호를 상태 디렉터리에 한 줄씩 남기고, 당첨 확인 때 {@link TicketBook}으로 읽어 한 번에 채점합니다.
+ */
+@Slf4j
+@Component
+public class PurchaseRecordStore {
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    public PurchaseRecordStore(LotteryConfig lotteryConfig, ObjectMapper objectMapper) {
+        this.file = Paths.get(lotteryConfig.getStateDir(), "tickets", "purchases.jsonl");
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 구매한 게임 기록 추가 (게임이 없으면 무시)
+     *
+     * @param account 구매한 계정
+     * @param tickets 구매한 게임
+     */
+    public synchronized void append(LotteryAccount account, PurchasedTickets tickets) {
+        if (tickets.isEmpty()) {
+            return;
+        }
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("purchasedAt", Instant.now().toString());
+        line.put("account", account.key());
+        line.put("round", tickets.round());
+        line.put("strategy", tickets.strategy());
+        line.put("games", tickets.tickets().stream().map(Ticket::format).toList());
+        try {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, objectMapper.writeValueAsString(line) + "\n", StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            log.info("구매한 게임 {}개 기록 ({}회, {})", tickets.tickets().size(), tickets.round(), tickets.strategy());
+        } catch (IOException e) {
+            log.warn("구매 기록 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 기록된 모든 게임 (읽을 수 없는 줄은 건너뜀)
+     */
+    public synchronized TicketBook load() {
+        TicketBook book = new TicketBook();
+        if (!Files.isRegularFile(file)) {
+            return book;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    Map<String, Object> record = objectMapper.readerForMapOf(Object.class).readValue(line);
+                    int round = ((Number) record.get("round")).intValue();
+                    long[] games = ((List<?>) record.get("games")).stream()
+                            .mapToLong(game -> Ticket.parse(String.valueOf(game)))
+                            .toArray();
+                    for (long game : games) {
+                        book.add(round, game);
+                    }
+                } catch (RuntimeException e) {
+                    log.debug("구매 기록 한 줄을 건너뜁니다: {}", e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            log.warn("구매 기록을 읽을 수 없습니다: {}", e.getMessage());
+        }
+        return book;
+    }
+}
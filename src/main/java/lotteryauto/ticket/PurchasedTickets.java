@@ -0,0 +1,36 @@
+package lotteryauto.ticket;
+
+import java.util.List;
+
+/**
+ * 한 번의 구매로 산 게임
+ *
+ * @param round    구매한 회차 (알 수 없으면 0)
+ * @param tickets  게임별 번호 비트마스크 (A~E 순서, {@link Ticket})
+ * @param strategy 번호를 고른 방식 (사이트 자동선택이면 "auto")
+ */
+public record PurchasedTickets(int round, List<Long> tickets, String strategy) {
+
+    /** 구매하지 않았거나 번호를 확인하지 못함 */
+    public static final PurchasedTickets NONE = new PurchasedTickets(0, List.of());
+
+    public PurchasedTickets {
+        tickets = List.copyOf(tickets);
+    }
+
+    /**
+     * 사이트 자동선택으로 산 게임
+     */
+    public PurchasedTickets(int round, List<Long> tickets) {
+        this(round, tickets, "auto");
+    }
+
+    public boolean isEmpty() {
+        return tickets.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return round + "회 " + tickets.stream().map(Ticket::format).toList();
+    }
+}
@@ -0,0 +1,37 @@
+package lotteryauto.ticket;
+
+/**
+ * 로또 6/45 당첨 등수
+ */
+public enum Rank {
+
+    FIRST("1등", 6),
+    SECOND("2등", 5),
+    THIRD("3등", 5),
+    FOURTH("4등", 4),
+    FIFTH("5등", 3),
+    NONE("낙첨", 0);
+
+    private final String label;
+    private final int matches;
+
+    Rank(String label, int matches) {
+        this.label = label;
+        this.matches = matches;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    /**
+     * 이 등수에 필요한 당첨 번호 일치 개수 (2등은 보너스 번호도 일치해야 함)
+     */
+    public int matches() {
+        return matches;
+    }
+
+    public boolean isWinning() {
+        return this != NONE;
+    }
+}
@@ -0,0 +1,81 @@
+package lotteryauto.ticket;
+
+/**
+ * 당첨 등수 판정
+ * 일치 개수는 {@code Long.bitCount(ticket & draw)}, 보너스 일치는 {@code Long.bitCount(ticket & bonusBit)}로 구하고,
+ * (일치 개수 * 2 + 보너스 일치)를 색인으로 하는 표에서 등수를 찾으므로 분기와 할당 없이 판정합니다.
+ */
+public final class RankEvaluator {
+
+    private static final Rank[] RANKS = Rank.values();
+    /** (일치 개수 * 2 + 보너스 일치) → 등수 순서 */
+    private static final byte[] TABLE = new byte[(Ticket.SIZE + 1) * 2];
+
+    static {
+        for (int matches = 0; matches <= Ticket.SIZE; matches++) {
+            for (int bonus = 0; bonus <= 1; bonus++) {
+                TABLE[matches << 1 | bonus] = (byte) rankOf(matches, bonus == 1).ordinal();
+            }
+        }
+    }
+
+    private RankEvaluator() {
+    }
+
+    /**
+     * 일치 개수와 보너스 일치 여부로 등수 결정 (표를 만들 때만 사용)
+     */
+    static Rank rankOf(int matches, boolean bonusMatched) {
+        return switch (matches) {
+            case 6 -> Rank.FIRST;
+            case 5 -> bonusMatched ? Rank.SECOND : Rank.THIRD;
+            case 4 -> Rank.FOURTH;
+            case 3 -> Rank.FIFTH;
+            default -> Rank.NONE;
+        };
+    }
+
+    /**
+     * 게임 하나의 등수
+     */
+    public static Rank rank(long ticket, WinningNumbers draw) {
+        return RANKS[rankIndex(ticket, draw.mask(), draw.bonusBit())];
+    }
+
+    /**
+     * 게임 하나의 등수 순서 ({@link Rank#ordinal()})
+     */
+    public static int rankIndex(long ticket, long drawMask, long bonusBit) {
+        return TABLE[Long.bitCount(ticket & drawMask) << 1 | Long.bitCount(ticket & bonusBit)];
+    }
+
+    /**
+     * 여러 게임을 채점해 등수별 개수를 누적 (할당 없음)
+     *
+     * @param tickets 게임 비트마스크 배열
+     * @param from    시작 위치 (포함)
+     * @param to      끝 위치 (제외)
+     * @param draw    당첨 번호
+     * @param counts  등수 순서별 개수를 더할 배열 (길이 {@code Rank.values().length} 이상)
+     */
+    public static void tally(long[] tickets, int from, int to, WinningNumbers draw, long[] counts) {
+        long drawMask = draw.mask();
+        long bonusBit = draw.bonusBit();
+        for (int i = from; i < to; i++) {
+            counts[TABLE[Long.bitCount(tickets[i] & drawMask) << 1 | Long.bitCount(tickets[i] & bonusBit)]]++;
+        }
+    }
+
+    /**
+     * 여러 게임의 등수 순서를 배열에 기록 (할당 없음)
+     *
+     * @param out 게임별 등수 순서를 기록할 배열 ({@code out[i - from]})
+     */
+    public static void rankAll(long[] tickets, int from, int to, WinningNumbers draw, byte[] out) {
+        long drawMask = draw.mask();
+        long bonusBit = draw.bonusBit();
+        for (int i = from; i < to; i++) {
+            out[i - from] = TABLE[Long.bitCount(tickets[i] & drawMask) << 1 | Long.bitCount(tickets[i] & bonusBit)];
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package lotteryauto.ticket;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * 로또 6/45 한 게임의 번호를 64비트 비트마스크 하나로 다루는 도구
+ * 번호 n(1~45)은 n번째 비트에 대응하므로, 당첨 번호와 겹치는 개수는 {@code Long.bitCount(ticket & draw)} 한 번으로 구합니다.
+ * 대량 채점에서 객체를 만들지 않도록 게임은 long 값 그대로 다룹니다.
+ */
+public final class Ticket {
+
+    public static final int MIN_NUMBER = 1;
+    public static final int MAX_NUMBER = 45;
+    /** 한 게임의 번호 개수 */
+    public static final int SIZE = 6;
+    /** 번호로 쓸 수 있는 비트 (1~45번 비트) */
+    public static final long VALID_BITS = ((1L << (MAX_NUMBER + 1)) - 1) & ~1L;
+
+    private Ticket() {
+    }
+
+    /**
+     * 번호 하나의 비트
+     *
+     * @throws IllegalArgumentException 1~45 밖의 번호
+     */
+    public static long bit(int number) {
+        if (number < MIN_NUMBER || number > MAX_NUMBER) {
+            throw new IllegalArgumentException("번호는 1~45 사이여야 합니다: " + number);
+        }
+        return 1L << number;
+    }
+
+    /**
+     * 서로 다른 번호 6개로 게임 생성
+     *
+     * @throws IllegalArgumentException 번호가 6개가 아니거나 범위를 벗어나거나 중복된 경우
+     */
+    public static long of(int... numbers) {
+        long mask = 0;
+        for (int number : numbers) {
+            mask |= bit(number);
+        }
+        if (numbers.length != SIZE || Long.bitCount(mask) != SIZE) {
+            throw new IllegalArgumentException("서로 다른 번호 6개가 필요합니다: " + Arrays.toString(numbers));
+        }
+        return mask;
+    }
+
+    public static long of(List<Integer> numbers) {
+        return of(numbers.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * "3,11,18,21,28,37"처럼 구분자로 나눈 번호 또는 구매 응답의 "031118212837"처럼 두 자리씩 붙인 번호 해석
+     *
+     * @throws IllegalArgumentException 게임으로 해석할 수 없는 경우
+     */
+    public static long parse(String text) {
+        String trimmed = text.trim();
+        if (trimmed.matches("\\d{" + SIZE * 2 + "}")) {
+            int[] numbers = new int[SIZE];
+            for (int i = 0; i < SIZE; i++) {
+                numbers[i] = Integer.parseInt(trimmed.substring(i * 2, i * 2 + 2));
+            }
+            return of(numbers);
+        }
+        String[] parts = trimmed.split("\\D+");
+        try {
+            return of(Arrays.stream(parts).filter(part -> !part.isEmpty()).mapToInt(Integer::parseInt).toArray());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("게임 번호를 해석할 수 없습니다: " + text, e);
+        }
+    }
+
+    /**
+     * 번호 6개가 1~45 범위에 있는 올바른 게임인지
+     */
+    public static boolean isValid(long mask) {
+        return (mask & ~VALID_BITS) == 0 && Long.bitCount(mask) == SIZE;
+    }
+
+    /**
+     * 게임의 번호 (작은 순)
+     */
+    public static int[] numbers(long mask) {
+        int[] numbers = new int[Long.bitCount(mask)];
+        long rest = mask;
+        for (int i = 0; rest != 0; i++) {
+            numbers[i] = Long.numberOfTrailingZeros(rest);
+            rest &= rest - 1;
+        }
+        return numbers;
+    }
+
+    /**
+     * "3,11,18,21,28,37" 형식 (저장과 로그용)
+     */
+    public static String format(long mask) {
+        StringJoiner joiner = new StringJoiner(",");
+        for (int number : numbers(mask)) {
+            joiner.add(String.valueOf(number));
+        }
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,61 @@
+package lotteryauto.ticket;
+
+import java.util.Arrays;
+
+/**
+ * 저장된 모든 게임을 회차와 함께 기본형 배열로 모은 장부
+ * 채점은 {@link RankEvaluator}로 배열을 그대로 훑으므로 게임 수가 수백만이어도 객체를 만들지 않습니다.
+ */
+public final class TicketBook {
+
+    private long[] tickets;
+    private int[] rounds;
+    private int size;
+
+    public TicketBook() {
+        this(64);
+    }
+
+    public TicketBook(int initialCapacity) {
+        this.tickets = new long[Math.max(1, initialCapacity)];
+        this.rounds = new int[tickets.length];
+    }
+
+    public void add(int round, long ticket) {
+        if (size == tickets.length) {
+            tickets = Arrays.copyOf(tickets, size * 2);
+            rounds = Arrays.copyOf(rounds, size * 2);
+        }
+        tickets[size] = ticket;
+        rounds[size] = round;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long ticket(int index) {
+        return tickets[index];
+    }
+
+    public int round(int index) {
+        return rounds[index];
+    }
+
+    /**
+     * 해당 회차에 산 게임만 채점해 등수별 개수 누적
+     *
+     * @param counts 등수 순서별 개수를 더할 배열 (길이 {@code Rank.values().length} 이상)
+     */
+    public void tally(WinningNumbers draw, long[] counts) {
+        long drawMask = draw.mask();
+        long bonusBit = draw.bonusBit();
+        int round = draw.round();
+        for (int i = 0; i < size; i++) {
+            if (rounds[i] == round) {
+                counts[RankEvaluator.rankIndex(tickets[i], drawMask, bonusBit)]++;
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package lotteryauto.ticket;
+
+/**
+ * 한 회차의 당첨 번호
+ *
+ * @param round 회차
+ * @param mask  당첨 번호 6개의 비트마스크 ({@link Ticket})
+ * @param bonus 보너스 번호
+ */
+public record WinningNumbers(int round, long mask, int bonus) {
+
+    public WinningNumbers {
+        if (!Ticket.isValid(mask)) {
+            throw new IllegalArgumentException("당첨 번호는 1~45 사이의 서로 다른 번호 6개여야 합니다");
+        }
+        if ((mask & Ticket.bit(bonus)) != 0) {
+            throw new IllegalArgumentException("보너스 번호가 당첨 번호와 겹칩니다: " + bonus);
+        }
+    }
+
+    public static WinningNumbers of(int round, int[] numbers, int bonus) {
+        return new WinningNumbers(round, Ticket.of(numbers), bonus);
+    }
+
+    /**
+     * 보너스 번호의 비트
+     */
+    public long bonusBit() {
+        return 1L << bonus;
+    }
+
+    @Override
+    public String toString() {
+        return round + "회 " + Ticket.format(mask) + " + " + bonus;
+    }
+}
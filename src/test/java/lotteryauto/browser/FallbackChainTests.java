@@ -0,0 +1,78 @@
+package lotteryauto.browser;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lotteryauto.config.LotteryConfig;
+import lotteryauto.metrics.LottoMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FallbackChainTests {
+
+	@TempDir
+	Path stateDir;
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final List<String> tried = new ArrayList<>();
+	private LotteryConfig config;
+
+	@BeforeEach
+	void setUp() {
+		config = new LotteryConfig();
+		ReflectionTestUtils.setField(config, "stateDir", stateDir.toString());
+		ReflectionTestUtils.setField(config, "strategyDemoteAfter", 2);
+	}
+
+	@Test
+	void strategyThatHitsMovesToFrontAndSurvivesRestart() {
+		StrategyStats stats = new StrategyStats(config, new LottoMetrics(registry));
+
+		assertThat(balanceChain(stats).run()).contains(5_000);
+		assertThat(tried).containsExactly("element", "script");
+
+		tried.clear();
+		StrategyStats restarted = new StrategyStats(config, new LottoMetrics(registry));
+		assertThat(balanceChain(restarted).run()).contains(5_000);
+		assertThat(tried).containsExactly("script");
+		assertThat(registry.get(LottoMetrics.STRATEGY_HIT).tag("strategy", "script").counter().count()).isEqualTo(2);
+	}
+
+	@Test
+	void strategyThatKeepsMissingIsDemotedDespiteGoodHistory() {
+		StrategyStats stats = new StrategyStats(config, new LottoMetrics(registry));
+		for (int i = 0; i < 10; i++) {
+			stats.record("login_state", List.of(new StrategyStats.Attempt("logout_button", true, Duration.ofMillis(20))));
+		}
+		assertThat(stats.order("login_state", List.of("logout_button", "mypage_link")))
+				.containsExactly("logout_button", "mypage_link");
+
+		for (int i = 0; i < 2; i++) {
+			stats.record("login_state", List.of(
+					new StrategyStats.Attempt("logout_button", false, Duration.ofMillis(20)),
+					new StrategyStats.Attempt("mypage_link", true, Duration.ofMillis(20))));
+		}
+		assertThat(stats.order("login_state", List.of("logout_button", "mypage_link")))
+				.containsExactly("mypage_link", "logout_button");
+	}
+
+	private FallbackChain<Integer> balanceChain(StrategyStats stats) {
+		return FallbackChain.<Integer>of("mypage_balance", stats)
+				.then("element", () -> attempt("element", Optional.empty()))
+				.then("script", () -> attempt("script", Optional.of(5_000)))
+				.last("page_scan", () -> attempt("page_scan", Optional.of(1)));
+	}
+
+	private Optional<Integer> attempt(String strategy, Optional<Integer> result) {
+		tried.add(strategy);
+		return result;
+	}
+}
@@ -0,0 +1,32 @@
+package lotteryauto.browser;
+
+import lotteryauto.config.LotteryConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FramePathCacheTests {
+
+	@TempDir
+	Path stateDir;
+
+	@Test
+	void savedPathsSurviveRestart() {
+		LotteryConfig config = new LotteryConfig();
+		ReflectionTestUtils.setField(config, "stateDir", stateDir.toString());
+
+		FramePathCache cache = new FramePathCache(config);
+		assertThat(cache.load("purchase")).isEmpty();
+		cache.save("purchase", List.of("ifrm_tab", "#0"));
+		cache.save("top", List.of());
+
+		FramePathCache restarted = new FramePathCache(config);
+		assertThat(restarted.load("purchase")).contains(List.of("ifrm_tab", "#0"));
+		assertThat(restarted.load("top")).contains(List.of());
+	}
+}
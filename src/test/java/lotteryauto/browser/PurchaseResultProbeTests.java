@@ -0,0 +1,47 @@
+package lotteryauto.browser;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PurchaseResultProbeTests {
+
+	@Test
+	void readsRoundAndGamesFromReceipt() {
+		PurchaseReceipt receipt = PurchaseResultProbe.parse(Map.of(
+				"state", "receipt",
+				"round", "제 1151회",
+				"games", List.of(
+						List.of("A", "자동", "3", "11", "18", "21", "28", "37"),
+						List.of("B 자동 13 22 25 28 38 42"),
+						List.of("수령 안내")),
+				"text", "구매가 완료되었습니다. 제 1151회",
+				"elapsed", 420L));
+
+		assertThat(receipt.status()).isEqualTo(PurchaseReceipt.Status.SUCCESS);
+		assertThat(receipt.round()).isEqualTo(1151);
+		assertThat(receipt.games()).extracting(PurchaseReceipt.Game::slot).containsExactly('A', 'B');
+		assertThat(receipt.games().get(0).numbers()).containsExactly(3, 11, 18, 21, 28, 37);
+		assertThat(receipt.error()).isNull();
+		assertThat(receipt.elapsedMs()).isEqualTo(420L);
+	}
+
+	@Test
+	void reportsAlertTextAndDoesNotTrustUnrelatedSuccessWords() {
+		PurchaseReceipt failed = PurchaseResultProbe.parse(Map.of(
+				"state", "alert", "round", "", "games", List.of(), "text", "예치금이 부족합니다.", "elapsed", 80L));
+		PurchaseReceipt unclear = PurchaseResultProbe.parse(Map.of(
+				"state", "receipt", "round", "", "games", List.of(), "text", "본인인증 성공", "elapsed", 80L));
+		PurchaseReceipt timedOut = PurchaseResultProbe.parse(Map.of(
+				"state", "timeout", "round", "", "games", List.of(), "text", "", "elapsed", 10_000L));
+
+		assertThat(failed.status()).isEqualTo(PurchaseReceipt.Status.FAILED);
+		assertThat(failed.error()).isEqualTo("예치금이 부족합니다.");
+		assertThat(unclear.status()).isEqualTo(PurchaseReceipt.Status.UNKNOWN);
+		assertThat(timedOut.succeeded()).isFalse();
+		assertThat(timedOut.error()).isNull();
+	}
+}
@@ -0,0 +1,29 @@
+package lotteryauto.browser;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResourceBlockingProfileTests {
+
+	private final ResourceBlockingProfile profile = ResourceBlockingProfile.of(
+			List.of("www.dhlottery.co.kr", " cdn.example.com "), ResourceBlockingProfile.DEFAULT_ALLOWED_TYPES);
+
+	@Test
+	void allowsOnlyListedHostsAndResourceTypes() {
+		assertThat(profile.allows("https://ol.dhlottery.co.kr/olotto/game/game645.do", "Document")).isTrue();
+		assertThat(profile.allows("https://dhlottery.co.kr/js/common.js", "Script")).isTrue();
+		assertThat(profile.allows("https://cdn.example.com/lib.js", "script")).isTrue();
+		assertThat(profile.allows("https://www.dhlottery.co.kr/images/banner.jpg", "Image")).isFalse();
+		assertThat(profile.allows("https://www.google-analytics.com/analytics.js", "Script")).isFalse();
+		assertThat(profile.allows("https://evildhlottery.co.kr/x.js", "Script")).isFalse();
+		assertThat(profile.allows("data:image/png;base64,AAAA", "Image")).isTrue();
+	}
+
+	@Test
+	void disabledProfileAllowsEverything() {
+		assertThat(ResourceBlockingProfile.DISABLED.allows("https://fonts.gstatic.com/a.woff2", "Font")).isTrue();
+	}
+}
@@ -0,0 +1,20 @@
+package lotteryauto.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LotteryConfigTests {
+
+	@Test
+	void accountsKeepEscapedSemicolonsAndColonsInPasswords() {
+		LotteryConfig config = new LotteryConfig();
+		ReflectionTestUtils.setField(config, "accountsSpec", "user1:pa\\;ss:word;user2:back\\\\slash\nuser3:plain\n\n");
+
+		assertThat(config.getAccounts()).containsExactly(
+				new LotteryAccount("user1", "pa;ss:word"),
+				new LotteryAccount("user2", "back\\slash"),
+				new LotteryAccount("user3", "plain"));
+	}
+}
@@ -0,0 +1,101 @@
+package lotteryauto.draw;
+
+import lotteryauto.config.LotteryConfig;
+import lotteryauto.stub.DhlotteryStubServer;
+import lotteryauto.ticket.Ticket;
+import lotteryauto.ticket.WinningNumbers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DrawAnalyticsTests {
+
+	@TempDir
+	Path stateDir;
+
+	private DrawStore store;
+
+	@BeforeEach
+	void setUp() {
+		LotteryConfig config = new LotteryConfig();
+		ReflectionTestUtils.setField(config, "stateDir", stateDir.toString());
+		store = new DrawStore(config);
+	}
+
+	@Test
+	void countsFrequencyCoOccurrenceGapsAndDistributions() {
+		store.append(List.of(
+				draw(1, new int[]{1, 2, 3, 4, 5, 6}, 7),
+				draw(2, new int[]{1, 2, 3, 10, 20, 30}, 45),
+				draw(3, new int[]{2, 11, 13, 15, 17, 19}, 1)));
+
+		DrawStats stats = new DrawAnalytics(store).stats();
+
+		assertThat(stats.draws()).isEqualTo(3);
+		assertThat(stats.frequency(1)).isEqualTo(2);
+		assertThat(stats.frequency(2)).isEqualTo(3);
+		assertThat(stats.pair(2, 1)).isEqualTo(2);
+		assertThat(stats.pair(4, 10)).isZero();
+		assertThat(stats.triple(3, 1, 2)).isEqualTo(2);
+		assertThat(stats.gap(1)).isEqualTo(1);
+		assertThat(stats.gap(2)).isZero();
+		assertThat(stats.gap(45)).isEqualTo(3);
+		assertThat(stats.oddCount(3)).isEqualTo(1);
+		assertThat(stats.oddCount(5)).isEqualTo(1);
+		assertThat(stats.sumCount(66)).isEqualTo(1);
+		assertThat(stats.sumCount(21, 77)).isEqualTo(3);
+		assertThat(stats.rankedNumber(0)).isEqualTo(2);
+	}
+
+	@Test
+	void rollingWindowUpdatedIncrementallyMatchesFullRecount() {
+		store.append(draws(1, 600));
+		DrawAnalytics analytics = new DrawAnalytics(store);
+		assertThat(analytics.stats(50).firstRound()).isEqualTo(551);
+		assertThat(analytics.stats().draws()).isEqualTo(600);
+
+		store.append(draws(601, 630));
+		DrawStats rolled = analytics.stats(50);
+		DrawStats recounted = new DrawAnalytics(store).stats(50);
+
+		assertThat(rolled.firstRound()).isEqualTo(581);
+		assertThat(rolled.lastRound()).isEqualTo(630);
+		assertThat(rolled.draws()).isEqualTo(50);
+		assertThat(rolled.frequencies()).containsExactly(recounted.frequencies());
+		assertThat(rolled.ranking()).containsExactly(recounted.ranking());
+		for (int a = Ticket.MIN_NUMBER; a <= Ticket.MAX_NUMBER; a++) {
+			assertThat(rolled.gap(a)).isEqualTo(recounted.gap(a));
+			for (int b = a + 1; b <= Ticket.MAX_NUMBER; b++) {
+				assertThat(rolled.pair(a, b)).isEqualTo(recounted.pair(a, b));
+			}
+		}
+		for (int k = 0; k <= Ticket.SIZE; k++) {
+			assertThat(rolled.oddCount(k)).isEqualTo(recounted.oddCount(k));
+		}
+		assertThat(rolled.sumCount(0, 255)).isEqualTo(50);
+		assertThat(Arrays.stream(analytics.stats().frequencies()).sum()).isEqualTo(630 * Ticket.SIZE);
+	}
+
+	private static List<DrawRecord> draws(int from, int to) {
+		List<DrawRecord> records = new ArrayList<>();
+		for (int round = from; round <= to; round++) {
+			int[] numbers = DhlotteryStubServer.drawNumbers(round);
+			records.add(draw(round, Arrays.copyOf(numbers, 6), numbers[6]));
+		}
+		return records;
+	}
+
+	private static DrawRecord draw(int round, int[] numbers, int bonus) {
+		return new DrawRecord(round, DrawStore.FIRST_DRAW_DATE.plusWeeks(round - 1), WinningNumbers.of(round, numbers, bonus),
+				0, Collections.nCopies(DrawRecord.TIERS, DrawRecord.PrizeTier.UNKNOWN));
+	}
+}
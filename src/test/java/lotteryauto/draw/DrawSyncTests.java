@@ -0,0 +1,104 @@
+package lotteryauto.draw;
+
+import lotteryauto.config.DhlotteryEndpoints;
+import lotteryauto.config.LotteryConfig;
+import lotteryauto.stub.DhlotteryStubServer;
+import lotteryauto.ticket.Rank;
+import lotteryauto.ticket.Ticket;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DrawSyncTests {
+
+	@TempDir
+	Path stateDir;
+
+	private DhlotteryStubServer server;
+	private DhlotteryEndpoints endpoints;
+	private LotteryConfig config;
+
+	@BeforeEach
+	void setUp() {
+		server = DhlotteryStubServer.start();
+		endpoints = new DhlotteryEndpoints();
+		ReflectionTestUtils.setField(endpoints, "baseUrl", server.baseUrl());
+		config = new LotteryConfig();
+		ReflectionTestUtils.setField(config, "stateDir", stateDir.toString());
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.close();
+	}
+
+	@Test
+	void fetchesOnlyRoundsNewerThanStoredAndReadsThemBackByRoundAndDate() {
+		server.draws(20);
+		DrawStore store = new DrawStore(config);
+		DrawSync sync = new DrawSync(WebClient.create(), endpoints, store);
+
+		assertThat(sync.sync()).isEqualTo(20);
+		int firstSyncRequests = server.requestCount(DhlotteryStubServer.DRAW_RESULT);
+
+		server.draws(23);
+		DrawStore reopened = new DrawStore(config);
+		assertThat(reopened.latestRound()).isEqualTo(20);
+		assertThat(new DrawSync(WebClient.create(), endpoints, reopened).sync()).isEqualTo(3);
+
+		assertThat(server.requestCount(DhlotteryStubServer.DRAW_RESULT) - firstSyncRequests).isEqualTo(DrawSync.BATCH);
+		DrawRecord record = reopened.get(21).orElseThrow();
+		int[] expected = DhlotteryStubServer.drawNumbers(21);
+		assertThat(Ticket.numbers(record.numbers().mask())).containsExactly(Arrays.copyOf(expected, 6));
+		assertThat(record.numbers().bonus()).isEqualTo(expected[6]);
+		assertThat(record.drawDate()).isEqualTo(DrawStore.FIRST_DRAW_DATE.plusWeeks(20));
+		assertThat(record.tier(Rank.FIRST).amountPerWinner()).isEqualTo(2_000_000_021L);
+		assertThat(reopened.mask(21)).isEqualTo(record.numbers().mask());
+
+		LocalDate tenth = reopened.drawDate(10);
+		assertThat(reopened.lastRoundOnOrBefore(tenth.plusDays(3))).isEqualTo(10);
+		assertThat(reopened.firstRoundOnOrAfter(tenth.minusDays(3))).isEqualTo(10);
+		assertThat(reopened.between(tenth, tenth.plusWeeks(3))).extracting(DrawRecord::round).containsExactly(10, 11, 12, 13);
+		assertThat(reopened.lastRoundOnOrBefore(DrawStore.FIRST_DRAW_DATE.minusDays(1))).isZero();
+		assertThat(reopened.firstRoundOnOrAfter(LocalDate.of(2100, 1, 1))).isEqualTo(24);
+	}
+
+	@Test
+	void keepsRoundsFetchedBeforeFailureInTheSameBatch() {
+		server.draws(6).failingDraw(4);
+		DrawStore store = new DrawStore(config);
+		DrawSync sync = new DrawSync(WebClient.create(), endpoints, store);
+
+		assertThat(sync.sync()).isEqualTo(3);
+		assertThat(store.latestRound()).isEqualTo(3);
+
+		server.failingDraw(0);
+		assertThat(sync.sync()).isEqualTo(3);
+		assertThat(store.latestRound()).isEqualTo(6);
+	}
+
+	@Test
+	void unreadableFileIsRebuiltOnNextSync() throws IOException {
+		Path file = stateDir.resolve("draws").resolve("draws.bin");
+		Files.createDirectories(file.getParent());
+		Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24,
+				25, 26, 27, 28, 29, 30, 31, 32});
+		server.draws(3);
+
+		DrawStore store = new DrawStore(config);
+		assertThat(store.latestRound()).isZero();
+		assertThat(new DrawSync(WebClient.create(), endpoints, store).sync()).isEqualTo(3);
+		assertThat(new DrawStore(config).latestRound()).isEqualTo(3);
+	}
+}
@@ -0,0 +1,101 @@
+package lotteryauto.draw;
+
+import lotteryauto.config.DhlotteryEndpoints;
+import lotteryauto.config.LotteryAccount;
+import lotteryauto.config.LotteryConfig;
+import lotteryauto.service.TelegramNotificationService;
+import lotteryauto.stub.DhlotteryStubServer;
+import lotteryauto.ticket.PurchaseRecordStore;
+import lotteryauto.ticket.PurchasedTickets;
+import lotteryauto.ticket.Rank;
+import lotteryauto.ticket.Ticket;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class WinningCheckTests {
+
+	@TempDir
+	Path stateDir;
+
+	private DhlotteryStubServer server;
+	private LotteryConfig config;
+	private DrawStore store;
+	private PurchaseRecordStore records;
+	private TelegramNotificationService notifications;
+	private WinningCheck check;
+
+	@BeforeEach
+	void setUp() {
+		server = DhlotteryStubServer.start();
+		DhlotteryEndpoints endpoints = new DhlotteryEndpoints();
+		ReflectionTestUtils.setField(endpoints, "baseUrl", server.baseUrl());
+		config = new LotteryConfig();
+		ReflectionTestUtils.setField(config, "stateDir", stateDir.toString());
+		store = new DrawStore(config);
+		records = new PurchaseRecordStore(config, JsonMapper.shared());
+		notifications = mock(TelegramNotificationService.class);
+		check = new WinningCheck(new DrawSync(WebClient.create(), endpoints, store), store, records, notifications);
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.close();
+	}
+
+	@Test
+	void scoresTicketsOfNewlySyncedRoundsOnce() {
+		server.draws(3);
+		check.syncAndCheck();
+
+		int[] fifth = DhlotteryStubServer.drawNumbers(5);
+		int[] others = numbersNotIn(fifth, 2);
+		long winning = Ticket.of(Arrays.copyOf(fifth, 6));
+		long fourMatches = Ticket.of(fifth[0], fifth[1], fifth[2], fifth[3], others[0], others[1]);
+		records.append(new LotteryAccount("user1", "pw"), new PurchasedTickets(5, List.of(winning, fourMatches)));
+
+		server.draws(6);
+		check.syncAndCheck();
+		verify(notifications).notifyWinnings(eq(5), anyString(), anyLong());
+
+		long[] counts = check.check(4, 6).get(5);
+		assertThat(counts[Rank.FIRST.ordinal()]).isEqualTo(1);
+		assertThat(counts[Rank.FOURTH.ordinal()]).isEqualTo(1);
+		assertThat(counts[Rank.NONE.ordinal()]).isZero();
+	}
+
+	@Test
+	void roundsWithoutTicketsAreNotNotified() {
+		records.append(new LotteryAccount("user1", "pw"), new PurchasedTickets(2, List.of(Ticket.of(1, 2, 3, 4, 5, 6))));
+		server.draws(1);
+		check.syncAndCheck();
+
+		assertThat(check.check(1, store.latestRound())).isEmpty();
+		verify(notifications, never()).notifyWinnings(anyInt(), anyString(), anyLong());
+	}
+
+	private static int[] numbersNotIn(int[] drawn, int count) {
+		return IntStream.rangeClosed(1, 45)
+				.filter(number -> Arrays.stream(drawn).noneMatch(d -> d == number))
+				.limit(count)
+				.toArray();
+	}
+}
@@ -0,0 +1,41 @@
+package lotteryauto.http;
+
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Cipher;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RsaCredentialEncryptorTests {
+
+	@Test
+	void encryptsWithPkcs1PaddingAsHex() throws Exception {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(1024);
+		KeyPair keyPair = generator.generateKeyPair();
+		RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+
+		RsaCredentialEncryptor encryptor = new RsaCredentialEncryptor(
+				publicKey.getModulus().toString(16), publicKey.getPublicExponent().toString(16));
+		String encrypted = encryptor.encrypt("my_password123");
+
+		assertThat(encrypted).matches("[0-9a-f]+");
+		Cipher cipher = Cipher.getInstance("RSA/ECB/PKCS1Padding");
+		cipher.init(Cipher.DECRYPT_MODE, keyPair.getPrivate());
+		byte[] decrypted = cipher.doFinal(HexFormat.of().parseHex(encrypted));
+		assertThat(new String(decrypted, StandardCharsets.UTF_8)).isEqualTo("my_password123");
+	}
+
+	@Test
+	void rejectsInvalidModulus() {
+		assertThatThrownBy(() -> new RsaCredentialEncryptor("not-hex", "10001"))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+}
@@ -0,0 +1,45 @@
+package lotteryauto.notification;
+
+import lotteryauto.notification.NotificationEvent.Kind;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationDigestTests {
+
+	@Test
+	void singleEventIsSentAsIs() {
+		NotificationDigest digest = new NotificationDigest(1);
+		digest.add(new NotificationEvent(Kind.PURCHASED, "ab***", "✅ 로또 5,000원 구매 완료! (잔액: 10,000원)", "요약"));
+
+		assertThat(digest.render()).isEqualTo("✅ 로또 5,000원 구매 완료! (잔액: 10,000원)");
+	}
+
+	@Test
+	void countsEventsByKindAndListsAccounts() {
+		NotificationDigest digest = new NotificationDigest(3);
+		digest.add(new NotificationEvent(Kind.PURCHASED, "ab***", "full", "✅ 구매 완료"));
+		digest.add(new NotificationEvent(Kind.ERROR, "cd***", "full", "❌ 오류: 시간 초과"));
+		digest.add(new NotificationEvent(Kind.PURCHASED, "ef***", "full", "✅ 구매 완료"));
+		digest.add(new NotificationEvent(Kind.INFO, null, "full", "안내"));
+
+		String message = digest.render();
+
+		assertThat(message).startsWith("📋 로또 자동 구매 결과 (계정 3개)\n✅ 구매 완료 2 · ❌ 오류 1\n");
+		assertThat(message).contains("[cd***] ❌ 오류: 시간 초과");
+		assertThat(message).endsWith("안내");
+	}
+
+	@Test
+	void truncatesToTelegramLimit() {
+		NotificationDigest digest = new NotificationDigest(500);
+		for (int i = 0; i < 500; i++) {
+			digest.add(new NotificationEvent(Kind.PURCHASED, "user" + i, "full", "✅ 로또 5,000원 구매 완료! (잔액: 10,000원)"));
+		}
+
+		String message = digest.render();
+
+		assertThat(message.length()).isLessThanOrEqualTo(NotificationDigest.MAX_LENGTH + 20);
+		assertThat(message).containsPattern("… 외 \\d+건$");
+	}
+}
@@ -0,0 +1,75 @@
+package lotteryauto.notification;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lotteryauto.config.LotteryConfig;
+import lotteryauto.metrics.LottoMetrics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationOutboxTests {
+
+	@TempDir
+	Path stateDir;
+
+	@Test
+	void emptiesSpoolAndAckFilesOnceEverythingIsSent() throws Exception {
+		LotteryConfig config = new LotteryConfig();
+		ReflectionTestUtils.setField(config, "stateDir", stateDir.toString());
+		ReflectionTestUtils.setField(config, "notifyDrainSeconds", 5L);
+		List<String> delivered = new CopyOnWriteArrayList<>();
+		NotificationSink sink = new NotificationSink() {
+			@Override
+			public String name() {
+				return "test";
+			}
+
+			@Override
+			public List<String> targets() {
+				return List.of("chat");
+			}
+
+			@Override
+			public RateLimit targetRateLimit() {
+				return RateLimit.UNLIMITED;
+			}
+
+			@Override
+			public RateLimit sinkRateLimit() {
+				return RateLimit.UNLIMITED;
+			}
+
+			@Override
+			public DeliveryResult send(String target, String text) {
+				delivered.add(text);
+				return DeliveryResult.sent();
+			}
+		};
+		NotificationOutbox outbox = new NotificationOutbox(config, List.of(sink), new LottoMetrics(new SimpleMeterRegistry()));
+		try {
+			for (int i = 0; i < 3; i++) {
+				outbox.enqueue("test", "chat", "message " + i);
+			}
+			Path directory = stateDir.resolve("outbox");
+			// 마지막 전송 기록 직후에 파일을 비우므로 전송 기록 파일이 사라질 때까지 기다림
+			long deadline = System.nanoTime() + 5_000_000_000L;
+			while ((outbox.pendingCount() > 0 || Files.exists(directory.resolve("acked.log")))
+					&& System.nanoTime() < deadline) {
+				Thread.sleep(10);
+			}
+
+			assertThat(delivered).containsExactly("message 0", "message 1", "message 2");
+			assertThat(Files.size(directory.resolve("spool.log"))).isZero();
+			assertThat(directory.resolve("acked.log")).doesNotExist();
+		} finally {
+			outbox.destroy();
+		}
+	}
+}
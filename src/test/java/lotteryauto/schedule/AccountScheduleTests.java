@@ -0,0 +1,42 @@
+package lotteryauto.schedule;
+
+import lotteryauto.config.LotteryAccount;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AccountScheduleTests {
+
+	private static final List<LotteryAccount> ACCOUNTS = List.of(
+			new LotteryAccount("alice", "pw1"), new LotteryAccount("bob", "pw2"));
+
+	@Test
+	void usesAccountOverridesAndDefaultCronInKoreanTime() {
+		List<AccountSchedule> schedules = AccountSchedule.parse(ACCOUNTS, "0 0 9 * * SAT", "bob=0 30 13 * * SAT");
+
+		// 2024-12-20(금) 23:00 KST 기준
+		Instant now = kst(20, 23, 0);
+		assertThat(schedules.get(0).next(now)).contains(kst(21, 9, 0));
+		assertThat(schedules.get(1).next(now)).contains(kst(21, 13, 30));
+		assertThat(schedules.get(0).next(kst(21, 9, 0))).contains(kst(28, 9, 0));
+	}
+
+	@Test
+	void rejectsUnknownAccountsAndMalformedEntries() {
+		assertThatThrownBy(() -> AccountSchedule.parse(ACCOUNTS, "0 0 9 * * SAT", "carol=0 0 9 * * SAT"))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> AccountSchedule.parse(ACCOUNTS, "0 0 9 * * SAT", "alice 0 0 9 * * SAT"))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> AccountSchedule.parse(ACCOUNTS, "every saturday", ""))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static Instant kst(int dayOfDecember, int hour, int minute) {
+		return ZonedDateTime.of(2024, 12, dayOfDecember, hour, minute, 0, 0, LaunchWindow.ZONE).toInstant();
+	}
+}
@@ -0,0 +1,86 @@
+package lotteryauto.schedule;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lotteryauto.config.LotteryConfig;
+import lotteryauto.metrics.LottoMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LaunchSchedulerTests {
+
+	@TempDir
+	Path stateDir;
+
+	private RunHistory history;
+	private LaunchScheduler scheduler;
+
+	@BeforeEach
+	void setUp() {
+		LotteryConfig config = new LotteryConfig();
+		ReflectionTestUtils.setField(config, "stateDir", stateDir.toString());
+		ReflectionTestUtils.setField(config, "launchWindow", "SAT 06:00-19:00");
+		history = new RunHistory(config, new LottoMetrics(new SimpleMeterRegistry()), JsonMapper.shared());
+		scheduler = new LaunchScheduler(config, history);
+	}
+
+	@Test
+	void launchesInHistoricallyFastestSlotAndOncePerWeek() {
+		history.append(run(kst(14, 6, 5), Duration.ofMinutes(10), true));
+		history.append(run(kst(14, 9, 5), Duration.ZERO, true));
+		history.append(run(kst(14, 12, 5), Duration.ofMinutes(1), true));
+		history.append(run(kst(14, 7, 5), Duration.ZERO, false)); // 로그인 실패처럼 일찍 끝난 실행은 비교에서 제외
+
+		assertThat(scheduler.decide(kst(21, 7, 0)).launch()).isFalse();
+		assertThat(scheduler.decide(kst(21, 9, 0)).launch()).isTrue();
+
+		history.append(run(kst(21, 9, 0), Duration.ZERO, true));
+		assertThat(scheduler.decide(kst(21, 10, 0)).launch()).isFalse();
+	}
+
+	@Test
+	void retriesAfterDeferredRunAndAlwaysLaunchesInLastSlot() {
+		history.append(run(kst(14, 9, 5), Duration.ZERO, true));
+		history.append(run(kst(14, 6, 5), Duration.ofMinutes(10), true));
+
+		assertThat(scheduler.decide(kst(21, 18, 0)).launch()).isTrue();
+		assertThat(scheduler.decide(kst(21, 6, 0)).launch()).isFalse();
+
+		history.append(run(kst(21, 9, 0), Duration.ofMinutes(2), false, List.of("deferred")));
+		LaunchDecision retry = scheduler.decide(kst(21, 10, 0));
+		assertThat(retry.launch()).isTrue();
+		assertThat(retry.accounts()).containsExactly("deferred");
+		assertThat(scheduler.decide(kst(22, 10, 0)).launch()).isTrue(); // 시간대 밖의 수동 실행
+	}
+
+	@Test
+	void doesNotRetryFailuresThatWouldRepeat() {
+		history.append(run(kst(21, 6, 0), Duration.ZERO, false)); // 로그인 실패, 잔액 부족만 남은 실행
+
+		assertThat(scheduler.decide(kst(21, 7, 0)).launch()).isFalse();
+		assertThat(scheduler.decide(kst(21, 18, 0)).launch()).isFalse();
+	}
+
+	private static RunRecord run(Instant startedAt, Duration queueWait, boolean completed) {
+		return run(startedAt, queueWait, completed, List.of());
+	}
+
+	private static RunRecord run(Instant startedAt, Duration queueWait, boolean completed, List<String> retryAccounts) {
+		return new RunRecord(startedAt, Duration.ofSeconds(20), queueWait, completed, Map.of("login", 1200L), retryAccounts);
+	}
+
+	private static Instant kst(int dayOfDecember, int hour, int minute) {
+		return ZonedDateTime.of(2024, 12, dayOfDecember, hour, minute, 0, 0, LaunchWindow.ZONE).toInstant();
+	}
+}
@@ -0,0 +1,94 @@
+package lotteryauto.selection;
+
+import lotteryauto.config.DhlotteryEndpoints;
+import lotteryauto.config.LotteryConfig;
+import lotteryauto.draw.DrawAnalytics;
+import lotteryauto.draw.DrawRecord;
+import lotteryauto.draw.DrawStore;
+import lotteryauto.draw.DrawSync;
+import lotteryauto.schedule.LaunchWindow;
+import lotteryauto.ticket.Ticket;
+import lotteryauto.ticket.WinningNumbers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NumberStrategiesTests {
+
+	@TempDir
+	Path stateDir;
+
+	private LotteryConfig config;
+	private DrawStore store;
+
+	@BeforeEach
+	void setUp() {
+		config = new LotteryConfig();
+		ReflectionTestUtils.setField(config, "stateDir", stateDir.toString());
+		ReflectionTestUtils.setField(config, "numberStrategy", SiteAutoStrategy.NAME);
+		store = new DrawStore(config);
+	}
+
+	@Test
+	void seededSelectionsAreRepeatableAndValid() {
+		ReflectionTestUtils.setField(config, "numberStrategy", UniformRandomStrategy.NAME);
+		ReflectionTestUtils.setField(config, "numberSeed", "20021207");
+
+		GameSelection first = strategies().select(5);
+		GameSelection second = strategies().select(5);
+
+		assertThat(first.strategy()).isEqualTo(UniformRandomStrategy.NAME);
+		assertThat(first.games()).hasSize(5).doesNotHaveDuplicates().allMatch(Ticket::isValid);
+		assertThat(second.games()).isEqualTo(first.games());
+	}
+
+	@Test
+	void favoritesComeFirstAndFailuresFallBackToSiteAuto() {
+		ReflectionTestUtils.setField(config, "numberStrategy", FavoriteNumbersStrategy.NAME);
+		ReflectionTestUtils.setField(config, "favoriteNumbers", "1,2,3,4,5,6\n7,14,21,28,35,42");
+
+		GameSelection favorites = strategies().select(3);
+
+		assertThat(favorites.games()).hasSize(3).allMatch(Ticket::isValid)
+				.startsWith(Ticket.parse("1,2,3,4,5,6"), Ticket.parse("7,14,21,28,35,42"));
+
+		ReflectionTestUtils.setField(config, "favoriteNumbers", "");
+
+		assertThat(strategies().select(3).isAuto()).isTrue();
+
+		ReflectionTestUtils.setField(config, "numberStrategy", "hot-numbers");
+
+		assertThatThrownBy(this::strategies).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void excludeWinnersAvoidsLatestDrawNumbers() {
+		ReflectionTestUtils.setField(config, "numberStrategy", ExcludePreviousWinnersStrategy.NAME);
+		WinningNumbers latest = WinningNumbers.of(1, new int[]{3, 9, 17, 26, 33, 41}, 12);
+		// 오늘 추첨한 회차가 있으므로 선택 전에 추첨 결과를 받으러 가지 않음
+		store.append(List.of(new DrawRecord(1, LocalDate.now(LaunchWindow.ZONE), latest, 0,
+				Collections.nCopies(DrawRecord.TIERS, DrawRecord.PrizeTier.UNKNOWN))));
+
+		GameSelection selection = strategies().select(5);
+
+		assertThat(selection.strategy()).isEqualTo(ExcludePreviousWinnersStrategy.NAME);
+		assertThat(selection.games()).hasSize(5).allMatch(game -> (game & store.mask(1)) == 0);
+	}
+
+	private NumberStrategies strategies() {
+		List<NumberStrategy> all = List.of(new SiteAutoStrategy(), new UniformRandomStrategy(),
+				new FrequencyWeightedStrategy(new DrawAnalytics(store), config), new ExcludePreviousWinnersStrategy(store),
+				new FavoriteNumbersStrategy(config));
+		return new NumberStrategies(config, all, new DrawSync(WebClient.create(), new DhlotteryEndpoints(), store));
+	}
+}
@@ -0,0 +1,171 @@
+package lotteryauto.service;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lotteryauto.config.DhlotteryEndpoints;
+import lotteryauto.config.LotteryAccount;
+import lotteryauto.config.LotteryConfig;
+import lotteryauto.draw.DrawStore;
+import lotteryauto.draw.DrawSync;
+import lotteryauto.metrics.LottoMetrics;
+import lotteryauto.selection.FavoriteNumbersStrategy;
+import lotteryauto.selection.NumberStrategies;
+import lotteryauto.selection.SiteAutoStrategy;
+import lotteryauto.session.SessionCookieStore;
+import lotteryauto.stub.DhlotteryStubServer;
+import lotteryauto.stub.FaultProfile;
+import lotteryauto.ticket.PurchasedTickets;
+import lotteryauto.ticket.Ticket;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class HttpLottoEngineTests {
+
+	@TempDir
+	Path stateDir;
+
+	private final LotteryAccount account = new LotteryAccount("user1", "pw1");
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private DhlotteryStubServer server;
+	private DhlotteryEndpoints endpoints;
+	private LotteryConfig config;
+	private HttpLottoEngine engine;
+
+	@BeforeEach
+	void setUp() {
+		server = DhlotteryStubServer.start();
+
+		endpoints = new DhlotteryEndpoints();
+		ReflectionTestUtils.setField(endpoints, "baseUrl", server.baseUrl());
+		ReflectionTestUtils.setField(endpoints, "olBaseUrl", server.baseUrl());
+
+		config = new LotteryConfig();
+		ReflectionTestUtils.setField(config, "stateDir", stateDir.toString());
+		ReflectionTestUtils.setField(config, "sessionCacheEnabled", true);
+		ReflectionTestUtils.setField(config, "sessionTtlMinutes", 60L);
+		ReflectionTestUtils.setField(config, "sessionSecret", "");
+
+		engine = newEngine();
+	}
+
+	private HttpLottoEngine newEngine() {
+		NumberStrategies strategies = new NumberStrategies(config,
+				List.of(new SiteAutoStrategy(), new FavoriteNumbersStrategy(config)),
+				new DrawSync(WebClient.create(), endpoints, new DrawStore(config)));
+		return new HttpLottoEngine(WebClient.create(), endpoints, mock(TelegramNotificationService.class),
+				new SessionCookieStore(config, JsonMapper.shared()), new LottoMetrics(registry), strategies,
+				JsonMapper.shared());
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.close();
+	}
+
+	@Test
+	void purchasesAndReusesSavedSessionOnNextRun() {
+		server.account("user1", "pw1", 20_000);
+
+		PurchaseResult first = engine.runPurchaseFlow(account);
+		PurchaseResult second = engine.runPurchaseFlow(account);
+
+		assertThat(first.outcome()).isEqualTo(PurchaseOutcome.SUCCESS);
+		assertThat(first.balance()).isEqualTo(15_000);
+		assertThat(first.balanceSource()).isEqualTo(BalanceSource.API);
+		assertThat(first.tickets().round()).isEqualTo(1151);
+		assertThat(first.tickets().tickets()).hasSize(5).allMatch(Ticket::isValid);
+		assertThat(server.balanceOf("user1")).isEqualTo(15_000);
+		assertThat(second.outcome()).isEqualTo(PurchaseOutcome.LIMIT_REACHED);
+		assertThat(server.requestCount(DhlotteryStubServer.LOGIN_CHECK)).isEqualTo(1);
+	}
+
+	@Test
+	void favoriteGamesAreSentAsManualGames() {
+		server.account("user1", "pw1", 20_000);
+		ReflectionTestUtils.setField(config, "numberStrategy", FavoriteNumbersStrategy.NAME);
+		ReflectionTestUtils.setField(config, "favoriteNumbers", "1,2,3,4,5,6;7,14,21,28,35,42");
+		engine = newEngine();
+
+		PurchaseResult result = engine.runPurchaseFlow(account);
+
+		assertThat(result.outcome()).isEqualTo(PurchaseOutcome.SUCCESS);
+		assertThat(result.tickets().strategy()).isEqualTo(FavoriteNumbersStrategy.NAME);
+		assertThat(result.tickets().tickets()).hasSize(5).allMatch(Ticket::isValid)
+				.startsWith(Ticket.parse("1,2,3,4,5,6"), Ticket.parse("7,14,21,28,35,42"));
+	}
+
+	@Test
+	void readsGamesFromCapturedPurchaseResponse() {
+		PurchasedTickets tickets = HttpLottoEngine.purchasedTickets(DhlotteryStubServer.execBuySuccess(), "0", "auto");
+
+		assertThat(tickets.round()).isEqualTo(1151);
+		assertThat(tickets.tickets()).containsExactly(
+				Ticket.parse("1,5,13,17,29,39"), Ticket.parse("3,11,18,21,28,37"), Ticket.parse("7,14,21,28,35,42"),
+				Ticket.parse("2,9,16,30,41,45"), Ticket.parse("6,12,19,24,33,40"));
+		assertThat(HttpLottoEngine.purchasedTickets(Map.of("arrGameChoiceNum", List.of("A|3|031118212837")), "1151", "auto")
+				.tickets()).isEmpty();
+	}
+
+	@Test
+	void preparedSessionIsKeptAliveAndUsedWithoutLoggingInAgain() {
+		server.account("user1", "pw1", 20_000);
+
+		assertThat(engine.prepare(account)).isTrue();
+		assertThat(engine.keepAlive(account)).isTrue();
+		PurchaseResult result = engine.runPurchaseFlow(account);
+
+		assertThat(result.outcome()).isEqualTo(PurchaseOutcome.SUCCESS);
+		assertThat(server.requestCount(DhlotteryStubServer.LOGIN_CHECK)).isEqualTo(1);
+		assertThat(server.requestCount(DhlotteryStubServer.EXEC_BUY)).isEqualTo(1);
+		assertThat(engine.keepAlive(account)).isFalse();
+	}
+
+	@Test
+	void stopsBeforePurchaseWhenBalanceIsLow() {
+		server.account("user1", "pw1", 3_000);
+
+		PurchaseResult result = engine.runPurchaseFlow(account);
+
+		assertThat(result.outcome()).isEqualTo(PurchaseOutcome.INSUFFICIENT_BALANCE);
+		assertThat(server.requestCount(DhlotteryStubServer.EXEC_BUY)).isZero();
+	}
+
+	@Test
+	void rejectedCredentialsFailLoginWithoutFallingBack() {
+		server.account("user1", "other", 20_000);
+
+		PurchaseResult result = engine.runPurchaseFlow(account);
+
+		assertThat(result.outcome()).isEqualTo(PurchaseOutcome.LOGIN_FAILED);
+		assertThat(server.requestCount(DhlotteryStubServer.LOGIN_CHECK)).isEqualTo(1);
+		assertThat(server.requestCount(DhlotteryStubServer.EXEC_BUY)).isZero();
+	}
+
+	@Test
+	void injectedFaultsSurfaceAsUnavailableAndLatencyIsTimed() {
+		server.account("user1", "pw1", 20_000)
+				.faults(DhlotteryStubServer.PURCHASE_PAGE, FaultProfile.latency(Duration.ofMillis(300)))
+				.faults(DhlotteryStubServer.READY_SOCKET, FaultProfile.failing(1.0));
+
+		assertThatThrownBy(() -> engine.runPurchaseFlow(account)).isInstanceOf(EngineUnavailableException.class);
+
+		Timer purchasePage = registry.get(LottoMetrics.PHASE_TIMER).tag("phase", "purchase_page").timer();
+		assertThat(purchasePage.max(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(300);
+		assertThat(server.requestCount(DhlotteryStubServer.EXEC_BUY)).isZero();
+	}
+}
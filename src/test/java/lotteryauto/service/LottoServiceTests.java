@@ -0,0 +1,144 @@
+package lotteryauto.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lotteryauto.browser.FramePathCache;
+import lotteryauto.browser.PageReadinessWaiter;
+import lotteryauto.browser.PopupDismisser;
+import lotteryauto.browser.PurchaseResultProbe;
+import lotteryauto.browser.QueueBackoff;
+import lotteryauto.browser.ResourceBlockingProfile;
+import lotteryauto.browser.StrategyStats;
+import lotteryauto.browser.WebDriverPool;
+import lotteryauto.config.DhlotteryEndpoints;
+import lotteryauto.config.LotteryAccount;
+import lotteryauto.config.LotteryConfig;
+import lotteryauto.draw.DrawStore;
+import lotteryauto.draw.DrawSync;
+import lotteryauto.metrics.LottoMetrics;
+import lotteryauto.selection.NumberStrategies;
+import lotteryauto.selection.SiteAutoStrategy;
+import lotteryauto.session.SessionCookieStore;
+import lotteryauto.stub.DhlotteryStubServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 로컬 대체 서버를 상대로 한 브라우저 구매 흐름 테스트
+ * Chrome을 실행할 수 없는 환경에서는 건너뜁니다.
+ */
+class LottoServiceTests {
+
+	private static boolean chromeAvailable;
+
+	@TempDir
+	Path stateDir;
+
+	private final LotteryAccount account = new LotteryAccount("user1", "pw1");
+	private DhlotteryStubServer server;
+	private WebDriverPool pool;
+	private LottoService service;
+
+	@BeforeAll
+	static void checkChrome() {
+		try {
+			newHeadlessChrome().quit();
+			chromeAvailable = true;
+		} catch (RuntimeException e) {
+			chromeAvailable = false;
+		}
+	}
+
+	@BeforeEach
+	void setUp() {
+		assumeTrue(chromeAvailable, "Chrome을 실행할 수 없어 브라우저 흐름 테스트를 건너뜁니다");
+		server = DhlotteryStubServer.start();
+
+		DhlotteryEndpoints endpoints = new DhlotteryEndpoints();
+		ReflectionTestUtils.setField(endpoints, "baseUrl", server.baseUrl());
+		ReflectionTestUtils.setField(endpoints, "olBaseUrl", server.baseUrl());
+
+		LotteryConfig config = new LotteryConfig();
+		ReflectionTestUtils.setField(config, "stateDir", stateDir.toString());
+		ReflectionTestUtils.setField(config, "sessionCacheEnabled", true);
+		ReflectionTestUtils.setField(config, "sessionTtlMinutes", 60L);
+		ReflectionTestUtils.setField(config, "sessionSecret", "");
+		ReflectionTestUtils.setField(config, "queueMaxWaitSeconds", 30L);
+
+		LottoMetrics metrics = new LottoMetrics(new SimpleMeterRegistry());
+		pool = new WebDriverPool(LottoServiceTests::newHeadlessChrome, 1, Duration.ofMinutes(1), endpoints.siteOrigins());
+		service = new LottoService(mock(TelegramNotificationService.class), pool, new PageReadinessWaiter(),
+				new PopupDismisser(metrics), new SessionCookieStore(config, JsonMapper.shared()), metrics, endpoints,
+				ResourceBlockingProfile.of(List.of("127.0.0.1"), ResourceBlockingProfile.DEFAULT_ALLOWED_TYPES),
+				new FramePathCache(config), new StrategyStats(config, metrics), new QueueBackoff(config),
+				new PurchaseResultProbe(), new NumberStrategies(config, List.of(new SiteAutoStrategy()),
+						new DrawSync(WebClient.create(), endpoints, new DrawStore(config))));
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (pool != null) {
+			pool.destroy();
+		}
+		if (server != null) {
+			server.close();
+		}
+	}
+
+	@AfterAll
+	static void reset() {
+		chromeAvailable = false;
+	}
+
+	@Test
+	void purchasesThroughPopupsQueueAndSlowBalance() {
+		server.account("user1", "pw1", 20_000)
+				.popups(2)
+				.queue(Duration.ofMillis(500))
+				.balanceLoadDelay(Duration.ofMillis(300));
+
+		PurchaseResult result = service.runPurchaseFlow(account);
+
+		assertThat(result.outcome()).isEqualTo(PurchaseOutcome.SUCCESS);
+		assertThat(server.balanceOf("user1")).isEqualTo(15_000);
+	}
+
+	@Test
+	void reportsLimitReachedWithoutBuying() {
+		server.account("user1", "pw1", 20_000).limitReached("user1");
+
+		PurchaseResult result = service.runPurchaseFlow(account);
+
+		assertThat(result.outcome()).isEqualTo(PurchaseOutcome.LIMIT_REACHED);
+		assertThat(result.balance()).isEqualTo(20_000);
+		assertThat(result.balanceSource()).isEqualTo(BalanceSource.API);
+		assertThat(server.requestCount(DhlotteryStubServer.EXEC_BUY)).isZero();
+		assertThat(server.requestCount(DhlotteryStubServer.MAIN)).isEqualTo(1);
+		assertThat(server.requestCount(DhlotteryStubServer.MY_PAGE)).isZero();
+	}
+
+	private static WebDriver newHeadlessChrome() {
+		ChromeOptions options = new ChromeOptions();
+		options.setPageLoadStrategy(PageLoadStrategy.EAGER);
+		options.addArguments("--headless=new", "--no-sandbox", "--disable-dev-shm-usage", "--window-size=1920,1080");
+		return new ChromeDriver(options);
+	}
+}
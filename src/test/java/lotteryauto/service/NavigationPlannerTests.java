@@ -0,0 +1,64 @@
+package lotteryauto.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NavigationPlannerTests {
+
+	private final NavigationPlanner planner = new NavigationPlanner(List.of(SiteFact.LOGIN_FORM, SiteFact.LOGIN_STATE,
+			SiteFact.BALANCE, SiteFact.PURCHASE_FRAME, SiteFact.REMAINING_BALANCE));
+
+	@Test
+	void restoredSessionChecksLoginAndBalanceOnOneMyPageLoad() {
+		assertThat(planner.next(SiteFact.LOGIN_STATE)).contains(SitePage.MY_PAGE);
+		planner.arrived(SitePage.MY_PAGE);
+		assertThat(planner.next(SiteFact.BALANCE)).isEmpty();
+		assertThat(planner.next(SiteFact.PURCHASE_FRAME)).contains(SitePage.PURCHASE);
+		planner.arrived(SitePage.PURCHASE);
+		assertThat(planner.next(SiteFact.REMAINING_BALANCE)).isEmpty();
+
+		assertThat(planner.navigations()).isEqualTo(2);
+		assertThat(planner.saved()).isEqualTo(2);
+	}
+
+	@Test
+	void loginRedirectPageIsUsedForLoginCheckWithoutReloading() {
+		assertThat(planner.next(SiteFact.LOGIN_FORM)).contains(SitePage.LOGIN);
+		planner.arrived(SitePage.LOGIN);
+		planner.landed(SitePage.MAIN);
+		assertThat(planner.next(SiteFact.LOGIN_STATE)).isEmpty();
+		assertThat(planner.next(SiteFact.BALANCE)).contains(SitePage.MY_PAGE);
+		planner.arrived(SitePage.MY_PAGE);
+		assertThat(planner.next(SiteFact.PURCHASE_FRAME)).contains(SitePage.PURCHASE);
+		planner.arrived(SitePage.PURCHASE);
+
+		assertThat(planner.navigations()).isEqualTo(3);
+		assertThat(planner.saved()).isEqualTo(2);
+	}
+
+	@Test
+	void sessionCheckConfirmsLoginAndBalanceWithoutPageLoads() {
+		assertThat(planner.next(SiteFact.LOGIN_FORM)).contains(SitePage.LOGIN);
+		planner.arrived(SitePage.LOGIN);
+		planner.landed(SitePage.MAIN);
+		planner.confirmed(SiteFact.LOGIN_STATE);
+		planner.confirmed(SiteFact.BALANCE);
+		assertThat(planner.next(SiteFact.PURCHASE_FRAME)).contains(SitePage.PURCHASE);
+		planner.arrived(SitePage.PURCHASE);
+
+		assertThat(planner.navigations()).isEqualTo(2);
+		assertThat(planner.saved()).isEqualTo(3);
+	}
+
+	@Test
+	void unknownLandingPageFallsBackToPlannedPage() {
+		planner.landed(null);
+		assertThat(planner.next(SiteFact.LOGIN_STATE)).contains(SitePage.MY_PAGE);
+		planner.arrived(planner.fallback(SitePage.MY_PAGE));
+
+		assertThat(planner.saved()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,44 @@
+package lotteryauto.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PurchasePageParserTests {
+
+	@Test
+	void parseBalanceStripsFormattingAndRejectsUnrealisticAmounts() {
+		assertThat(PurchasePageParser.parseBalance("12,000원")).isEqualTo(12000);
+		assertThat(PurchasePageParser.parseBalance("")).isZero();
+		assertThat(PurchasePageParser.parseBalance(null)).isZero();
+		assertThat(PurchasePageParser.parseBalance("10,000,001")).isZero();
+		assertThat(PurchasePageParser.parseBalance("99999999999999999999")).isZero();
+	}
+
+	@Test
+	void parseBalanceResponseReadsAmountFromJsonBody() {
+		assertThat(PurchasePageParser.parseBalanceResponse("{\"totalAmt\":\"15,000\",\"crntEntrsAmt\":0}")).hasValue(15000);
+		assertThat(PurchasePageParser.parseBalanceResponse("{\"data\":{\"crntEntrsAmt\":7000}}")).hasValue(7000);
+		assertThat(PurchasePageParser.parseBalanceResponse("{\"totalAmt\":\"20000000\"}")).isEmpty();
+		assertThat(PurchasePageParser.parseBalanceResponse("<html>로그인</html>")).isEmpty();
+		assertThat(PurchasePageParser.parseBalanceResponse("{broken")).isEmpty();
+	}
+
+	@Test
+	void findFailureLineReturnsFirstLineWithKeyword() {
+		String pageText = "로또 6/45\n  구매 진행 중  \n  구매한도 5천원을 초과하였습니다.  \n예치금이 부족합니다";
+
+		assertThat(PurchasePageParser.findFailureLine(pageText)).isEqualTo("구매한도 5천원을 초과하였습니다.");
+		assertThat(PurchasePageParser.findFailureLine("예치금 부족")).isEqualTo("예치금 부족");
+		assertThat(PurchasePageParser.findFailureLine("정상 화면\n안내")).isNull();
+	}
+
+	@Test
+	void successMessageAndGameCountAreDetected() {
+		assertThat(PurchasePageParser.containsSuccessMessage("안내\n구매가 완료되었습니다.")).isTrue();
+		assertThat(PurchasePageParser.containsSuccessMessage("구매 대기")).isFalse();
+		assertThat(PurchasePageParser.parseGameCount("선택번호 확인 총 5게임 5,000원")).hasValue(5);
+		assertThat(PurchasePageParser.parseGameCount("게임 안내 1150회 (12게임)")).hasValue(12);
+		assertThat(PurchasePageParser.parseGameCount("선택한 번호 없음 게임")).isEmpty();
+	}
+}
@@ -0,0 +1,70 @@
+package lotteryauto.session;
+
+import lotteryauto.config.LotteryAccount;
+import lotteryauto.config.LotteryConfig;
+import lotteryauto.http.StoredCookie;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SessionCookieStoreTests {
+
+	@TempDir
+	Path stateDir;
+
+	private final List<StoredCookie> cookies = List.of(
+			new StoredCookie("JSESSIONID", "abc123", "www.dhlottery.co.kr", "/", -1, true, true),
+			new StoredCookie("WMONID", "xyz", "dhlottery.co.kr", "/", 4_102_444_800L, false, false));
+
+	@Test
+	void restoresEncryptedCookiesForSameAccount() throws Exception {
+		SessionCookieStore store = new SessionCookieStore(config(60), JsonMapper.shared());
+		LotteryAccount account = new LotteryAccount("user1", "pw1");
+
+		store.save(account, cookies);
+
+		assertThat(store.load(account)).contains(cookies);
+		try (Stream<Path> files = Files.list(stateDir.resolve("sessions"))) {
+			byte[] raw = Files.readAllBytes(files.findFirst().orElseThrow());
+			assertThat(new String(raw, StandardCharsets.ISO_8859_1)).doesNotContain("abc123");
+		}
+	}
+
+	@Test
+	void discardsJarWhenKeyDoesNotMatch() {
+		SessionCookieStore store = new SessionCookieStore(config(60), JsonMapper.shared());
+		store.save(new LotteryAccount("user1", "pw1"), cookies);
+
+		assertThat(store.load(new LotteryAccount("user1", "changed"))).isEmpty();
+		assertThat(store.load(new LotteryAccount("user1", "pw1"))).isEmpty();
+	}
+
+	@Test
+	void invalidateRemovesSavedSession() {
+		SessionCookieStore store = new SessionCookieStore(config(60), JsonMapper.shared());
+		LotteryAccount account = new LotteryAccount("user1", "pw1");
+		store.save(account, cookies);
+
+		store.invalidate(account);
+
+		assertThat(store.load(account)).isEmpty();
+	}
+
+	private LotteryConfig config(long ttlMinutes) {
+		LotteryConfig config = new LotteryConfig();
+		ReflectionTestUtils.setField(config, "stateDir", stateDir.toString());
+		ReflectionTestUtils.setField(config, "sessionCacheEnabled", true);
+		ReflectionTestUtils.setField(config, "sessionTtlMinutes", ttlMinutes);
+		ReflectionTestUtils.setField(config, "sessionSecret", "");
+		return config;
+	}
+}
@@ -0,0 +1,586 @@
+package lotteryauto.stub;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.crypto.Cipher;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 동행복권 사이트 대체 서버 (테스트용)
+ * 로그인, 메인, 마이페이지, 로또 6/45 구매 페이지와 HTTP 엔진·추첨 결과 동기화가 호출하는 API를 같은 요소 ID·응답 형식으로 제공합니다.
+ * 실제 사이트처럼 RSA 공개키로 암호화된 자격증명을 복호화해 확인하고, 레이어 팝업·접속 대기열·구매한도 문구를 재현하며,
+ * 엔드포인트마다 지연, 지터, 실패 응답을 주입할 수 있습니다.
+ * 메인 사이트와 구매 사이트를 같은 주소로 제공하므로 DHLOTTERY_BASE_URL, DHLOTTERY_OL_BASE_URL 모두 {@link #baseUrl()}로 지정합니다.
+ */
+public class DhlotteryStubServer implements AutoCloseable {
+
+	public static final String LOGIN = "/login";
+	public static final String LOGIN_CHECK = "/login/securityLoginCheck.do";
+	public static final String RSA_MODULUS = "/login/selectRsaModulus.do";
+	public static final String MAIN = "/main";
+	public static final String MY_PAGE = "/mypage/home";
+	public static final String BALANCE = "/mypage/selectUserMndp.do";
+	public static final String PURCHASE_PAGE = "/olotto/game/game645.do";
+	public static final String PURCHASE_TAB = "/olotto/game/game645Tab.do";
+	public static final String READY_SOCKET = "/olotto/game/egovUserReadySocket.json";
+	public static final String EXEC_BUY = "/olotto/game/execBuy.do";
+	public static final String DRAW_RESULT = "/common.do";
+
+	public static final String LIMIT_REACHED_TEXT = "구매한도 5천원을 모두 채우셨습니다";
+	public static final String QUEUE_TEXT = "서비스연결 대기중";
+
+	private static final String SESSION_COOKIE = "JSESSIONID";
+	private static final int GAME_PRICE = 1000;
+	private static final int WEEKLY_LIMIT = 5000;
+	private static final String ROUND = "1151";
+	private static final JsonMapper JSON = JsonMapper.shared();
+
+	private final HttpServer server;
+	private final KeyPair keyPair;
+
+	private final Map<String, StubAccount> accounts = new ConcurrentHashMap<>();
+	/** 세션 ID → 로그인한 아이디 (로그인 전 세션은 빈 문자열) */
+	private final Map<String, String> sessions = new ConcurrentHashMap<>();
+	private final Map<String, FaultProfile> faults = new ConcurrentHashMap<>();
+	private final Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+
+	private volatile FaultProfile defaultFaults = FaultProfile.NONE;
+	private volatile int popupCount;
+	private volatile Duration queueDuration = Duration.ZERO;
+	private volatile Duration balanceLoadDelay = Duration.ZERO;
+	private volatile int latestDraw;
+	private volatile int failingDraw;
+
+	/**
+	 * 계정 상태
+	 */
+	private static final class StubAccount {
+		private final String password;
+		private int balance;
+		private int purchasedThisRound;
+
+		private StubAccount(String password, int balance) {
+			this.password = password;
+			this.balance = balance;
+		}
+	}
+
+	private DhlotteryStubServer(HttpServer server, KeyPair keyPair) {
+		this.server = server;
+		this.keyPair = keyPair;
+	}
+
+	/**
+	 * 임의의 빈 포트로 서버 시작
+	 */
+	public static DhlotteryStubServer start() {
+		try {
+			KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+			generator.initialize(1024);
+			HttpServer httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+			httpServer.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+			DhlotteryStubServer stub = new DhlotteryStubServer(httpServer, generator.generateKeyPair());
+			httpServer.createContext("/", stub::handle);
+			httpServer.start();
+			return stub;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	public String baseUrl() {
+		return "http://127.0.0.1:" + server.getAddress().getPort();
+	}
+
+	// ---------------------------------------------------------------- 시나리오 설정
+
+	/**
+	 * 로그인 가능한 계정 추가
+	 */
+	public DhlotteryStubServer account(String username, String password, int balance) {
+		accounts.put(username, new StubAccount(password, balance));
+		return this;
+	}
+
+	/**
+	 * 이번 회차 구매 한도를 이미 채운 상태로 설정
+	 */
+	public DhlotteryStubServer limitReached(String username) {
+		StubAccount account = accounts.get(username);
+		synchronized (account) {
+			account.purchasedThisRound = WEEKLY_LIMIT;
+		}
+		return this;
+	}
+
+	public int balanceOf(String username) {
+		StubAccount account = accounts.get(username);
+		synchronized (account) {
+			return account.balance;
+		}
+	}
+
+	/**
+	 * 모든 페이지에 띄울 레이어 팝업 수
+	 */
+	public DhlotteryStubServer popups(int count) {
+		this.popupCount = count;
+		return this;
+	}
+
+	/**
+	 * 구매 페이지에서 "서비스연결 대기중" 대기열을 보여줄 시간
+	 */
+	public DhlotteryStubServer queue(Duration duration) {
+		this.queueDuration = duration;
+		return this;
+	}
+
+	/**
+	 * 마이페이지 로드 후 예치금 요청을 보내기까지의 지연
+	 */
+	public DhlotteryStubServer balanceLoadDelay(Duration delay) {
+		this.balanceLoadDelay = delay;
+		return this;
+	}
+
+	/**
+	 * 당첨 번호 API가 결과를 돌려줄 마지막 회차 (이후 회차는 returnValue=fail)
+	 * 회차별 번호는 회차를 시드로 정해지므로 같은 회차는 항상 같은 결과입니다.
+	 */
+	public DhlotteryStubServer draws(int latestRound) {
+		this.latestDraw = latestRound;
+		return this;
+	}
+
+	/**
+	 * 당첨 번호 API가 이 회차에만 503을 돌려줌 (0이면 해제)
+	 */
+	public DhlotteryStubServer failingDraw(int round) {
+		this.failingDraw = round;
+		return this;
+	}
+
+	/**
+	 * 당첨 번호 API가 돌려주는 회차의 번호 6개 (작은 순)와 보너스 번호
+	 */
+	public static int[] drawNumbers(int round) {
+		SplittableRandom random = new SplittableRandom(round);
+		Set<Integer> picked = new TreeSet<>();
+		while (picked.size() < 7) {
+			picked.add(random.nextInt(1, 46));
+		}
+		List<Integer> numbers = new ArrayList<>(picked);
+		int bonus = numbers.remove(random.nextInt(numbers.size()));
+		numbers.add(bonus);
+		return numbers.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	/**
+	 * 특정 경로의 지연/실패 주입 설정
+	 */
+	public DhlotteryStubServer faults(String path, FaultProfile profile) {
+		faults.put(path, profile);
+		return this;
+	}
+
+	/**
+	 * 별도 설정이 없는 모든 경로에 적용할 지연/실패 주입 설정
+	 */
+	public DhlotteryStubServer defaultFaults(FaultProfile profile) {
+		this.defaultFaults = profile;
+		return this;
+	}
+
+	/**
+	 * 경로별 요청 수 (실패 주입된 요청 포함)
+	 */
+	public int requestCount(String path) {
+		AtomicInteger count = requestCounts.get(path);
+		return count != null ? count.get() : 0;
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+	}
+
+	// ---------------------------------------------------------------- 요청 처리
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try (exchange) {
+			String path = exchange.getRequestURI().getPath();
+			requestCounts.computeIfAbsent(path, p -> new AtomicInteger()).incrementAndGet();
+
+			FaultProfile profile = faults.getOrDefault(path, defaultFaults);
+			sleep(profile.delay(ThreadLocalRandom.current()));
+			if (profile.shouldFail(ThreadLocalRandom.current())) {
+				send(exchange, profile.failureStatus(), "text/html", "<html><body>Service Unavailable</body></html>");
+				return;
+			}
+
+			String sessionId = session(exchange);
+			String user = sessions.getOrDefault(sessionId, "");
+			Map<String, String> form = readForm(exchange);
+
+			switch (path) {
+				case LOGIN -> sendPage(exchange, "login.html", Map.of(
+						"rsaModulus", modulusHex(),
+						"publicExponent", ((RSAPublicKey) keyPair.getPublic()).getPublicExponent().toString(16)));
+				case RSA_MODULUS -> sendJson(exchange, Map.of("data", Map.of(
+						"rsaModulus", modulusHex(),
+						"publicExponent", ((RSAPublicKey) keyPair.getPublic()).getPublicExponent().toString(16))));
+				case LOGIN_CHECK -> loginCheck(exchange, sessionId, form);
+				case MAIN -> sendPage(exchange, "main.html", Map.of(
+						"loggedIn", String.valueOf(!user.isEmpty()),
+						"userMenu", userMenu(user)));
+				case MY_PAGE -> sendPage(exchange, "mypage.html", Map.of(
+						"loggedIn", String.valueOf(!user.isEmpty()),
+						"userMenu", userMenu(user),
+						"balanceDelayMs", String.valueOf(balanceLoadDelay.toMillis())));
+				case BALANCE -> balance(exchange, user);
+				case PURCHASE_PAGE -> purchasePage(exchange, user);
+				case PURCHASE_TAB -> sendPage(exchange, "game645-tab.html", Map.of());
+				case READY_SOCKET -> sendJson(exchange, Map.of("ready_ip", "127.0.0.1"));
+				case EXEC_BUY -> execBuy(exchange, user, form);
+				case DRAW_RESULT -> drawResult(exchange, form);
+				default -> send(exchange, 404, "text/html", "<html><body>Not Found</body></html>");
+			}
+		}
+	}
+
+	private void loginCheck(HttpExchange exchange, String sessionId, Map<String, String> form) throws IOException {
+		String username = decrypt(form.get("userId"));
+		String password = decrypt(form.get("userPswdEncn"));
+		StubAccount account = username != null ? accounts.get(username) : null;
+		if (account == null || !account.password.equals(password)) {
+			redirect(exchange, LOGIN + "?error=1");
+			return;
+		}
+		// 로그인 성공 시 세션 ID를 새로 발급 (session fixation 방지, 실제 사이트와 동일)
+		sessions.remove(sessionId);
+		String newSessionId = UUID.randomUUID().toString().replace("-", "");
+		sessions.put(newSessionId, username);
+		exchange.getResponseHeaders().add("Set-Cookie", SESSION_COOKIE + "=" + newSessionId + "; Path=/; HttpOnly");
+		redirect(exchange, MAIN);
+	}
+
+	private void balance(HttpExchange exchange, String user) throws IOException {
+		if (user.isEmpty()) {
+			redirect(exchange, LOGIN);
+			return;
+		}
+		StubAccount account = accounts.get(user);
+		int balance;
+		synchronized (account) {
+			balance = account.balance;
+		}
+		sendJson(exchange, Map.of("totalAmt", balance, "crntEntrsAmt", balance));
+	}
+
+	private void purchasePage(HttpExchange exchange, String user) throws IOException {
+		if (user.isEmpty()) {
+			redirect(exchange, LOGIN);
+			return;
+		}
+		StubAccount account = accounts.get(user);
+		int balance;
+		boolean limited;
+		synchronized (account) {
+			balance = account.balance;
+			limited = account.purchasedThisRound >= WEEKLY_LIMIT;
+		}
+
+		String content;
+		String frame = "<iframe id=\"ifrm_tab\" name=\"ifrm_tab\" src=\"" + PURCHASE_TAB + "\" width=\"100%\" height=\"800\"></iframe>";
+		if (limited) {
+			content = "<div id=\"limitLayer\"><p>" + LIMIT_REACHED_TEXT + ".</p></div>";
+		} else if (queueDuration.isPositive()) {
+			content = "<div id=\"waitLayer\"><p>" + QUEUE_TEXT + "입니다. 잠시만 기다려 주세요.</p></div>"
+					+ "<div id=\"tabArea\"></div>"
+					+ "<script>setTimeout(function () {"
+					+ "document.getElementById('waitLayer').style.display = 'none';"
+					+ "document.getElementById('tabArea').innerHTML = '" + frame.replace("'", "\\'") + "';"
+					+ "}, " + queueDuration.toMillis() + ");</script>";
+		} else {
+			content = frame;
+		}
+		sendPage(exchange, "game645.html", Map.of(
+				"round", ROUND,
+				"drawDate", "2024/12/21",
+				"payLimitDate", "2025/12/22",
+				"balance", String.format("%,d", balance),
+				"content", content));
+	}
+
+	private void execBuy(HttpExchange exchange, String user, Map<String, String> form) throws IOException {
+		if (user.isEmpty()) {
+			sendJson(exchange, Map.of("result", Map.of("resultCode", "-9", "resultMsg", "로그인이 필요합니다.")));
+			return;
+		}
+		int gameCount = parseInt(form.get("gameCnt"), 0);
+		int amount = gameCount * GAME_PRICE;
+		StubAccount account = accounts.get(user);
+		Map<String, Object> result = new LinkedHashMap<>();
+		synchronized (account) {
+			if (gameCount <= 0) {
+				result.put("resultCode", "-1");
+				result.put("resultMsg", "선택된 번호가 없습니다.");
+			} else if (account.purchasedThisRound + amount > WEEKLY_LIMIT) {
+				result.put("resultCode", "-7");
+				result.put("resultMsg", LIMIT_REACHED_TEXT + ".");
+			} else if (account.balance < amount) {
+				result.put("resultCode", "-2");
+				result.put("resultMsg", "예치금이 부족합니다.");
+			} else {
+				account.balance -= amount;
+				account.purchasedThisRound += amount;
+				List<String> chosen = manualGames(form.get("param"));
+				List<String> numbers = new ArrayList<>();
+				for (int i = 0; i < gameCount; i++) {
+					String manual = i < chosen.size() ? chosen.get(i) : null;
+					numbers.add("ABCDE".charAt(i) + "|" + (manual != null ? manual + "1" : randomGame() + "3"));
+				}
+				// 실제 구매 응답의 형식을 그대로 쓰고 회차, 게임 번호만 바꿈
+				result.putAll(execBuySuccess());
+				result.put("buyRound", ROUND);
+				result.put("arrGameChoiceNum", numbers);
+				result.put("balance", account.balance);
+			}
+		}
+		sendJson(exchange, Map.of("result", result));
+	}
+
+	private void drawResult(HttpExchange exchange, Map<String, String> form) throws IOException {
+		int round = parseInt(form.get("drwNo"), 0);
+		if (round == failingDraw) {
+			send(exchange, 503, "text/html", "<html><body>Service Unavailable</body></html>");
+			return;
+		}
+		if (!"getLottoNumber".equals(form.get("method")) || round < 1 || round > latestDraw) {
+			sendJson(exchange, Map.of("returnValue", "fail"));
+			return;
+		}
+		int[] numbers = drawNumbers(round);
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("returnValue", "success");
+		result.put("drwNo", round);
+		result.put("drwNoDate", LocalDate.of(2002, 12, 7).plusWeeks(round - 1).toString());
+		for (int i = 0; i < 6; i++) {
+			result.put("drwtNo" + (i + 1), numbers[i]);
+		}
+		result.put("bnusNo", numbers[6]);
+		result.put("totSellamnt", 100_000_000L + round);
+		result.put("firstWinamnt", 2_000_000_000L + round);
+		result.put("firstPrzwnerCo", round % 20);
+		result.put("firstAccumamnt", (2_000_000_000L + round) * (round % 20));
+		sendJson(exchange, result);
+	}
+
+	// ---------------------------------------------------------------- 보조 기능
+
+	private String session(HttpExchange exchange) {
+		String cookieHeader = exchange.getRequestHeaders().getFirst("Cookie");
+		if (cookieHeader != null) {
+			for (String part : cookieHeader.split(";")) {
+				String[] pair = part.trim().split("=", 2);
+				if (pair.length == 2 && pair[0].equals(SESSION_COOKIE) && sessions.containsKey(pair[1])) {
+					return pair[1];
+				}
+			}
+		}
+		// 처음 방문한 클라이언트에는 로그인 전 세션 발급
+		String sessionId = UUID.randomUUID().toString().replace("-", "");
+		sessions.put(sessionId, "");
+		exchange.getResponseHeaders().add("Set-Cookie", SESSION_COOKIE + "=" + sessionId + "; Path=/; HttpOnly");
+		return sessionId;
+	}
+
+	private String userMenu(String user) {
+		return user.isEmpty()
+				? "<a href=\"" + LOGIN + "\" class=\"btn-login\">로그인</a>"
+				: "<span class=\"user\">" + user + " 님</span> <a href=\"/logout\" id=\"btnLogout\">로그아웃</a>"
+				+ " <a href=\"" + MY_PAGE + "\">마이페이지</a>";
+	}
+
+	private String popupsHtml() {
+		StringBuilder html = new StringBuilder();
+		for (int i = 1; i <= popupCount; i++) {
+			html.append("<div class=\"layer-popup\" id=\"noticePopup").append(i).append("\">")
+					.append("<p>공지사항 ").append(i).append("</p>")
+					.append("<a href=\"javascript:void(0);\" class=\"btn-close\" onclick=\"this.parentNode.style.display='none'\">닫기</a>")
+					.append("</div>");
+		}
+		return html.toString();
+	}
+
+	private String modulusHex() {
+		return ((RSAPublicKey) keyPair.getPublic()).getModulus().toString(16);
+	}
+
+	private String decrypt(String hex) {
+		if (hex == null || hex.isBlank()) {
+			return null;
+		}
+		try {
+			Cipher cipher = Cipher.getInstance("RSA/ECB/PKCS1Padding");
+			cipher.init(Cipher.DECRYPT_MODE, keyPair.getPrivate());
+			return new String(cipher.doFinal(HexFormat.of().parseHex(hex)), StandardCharsets.UTF_8);
+		} catch (GeneralSecurityException | IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * 저장해 둔 실제 구매 성공 응답의 result
+	 */
+	@SuppressWarnings("unchecked")
+	public static Map<String, Object> execBuySuccess() {
+		Map<String, Object> response = JSON.readerForMapOf(Object.class).readValue(resource("exec-buy-success.json"));
+		return new LinkedHashMap<>((Map<String, Object>) response.get("result"));
+	}
+
+	/**
+	 * 구매 요청 param의 게임별 수동 번호 ("03|11|18|21|28|37" 형식, 자동 게임은 null)
+	 */
+	private List<String> manualGames(String param) {
+		List<String> games = new ArrayList<>();
+		if (param == null || param.isBlank()) {
+			return games;
+		}
+		List<?> entries = JSON.readValue(param, List.class);
+		for (Object entry : entries) {
+			Map<?, ?> game = (Map<?, ?>) entry;
+			Object numbers = game.get("arrGameChoiceNum");
+			games.add("1".equals(game.get("genType")) && numbers != null
+					? Arrays.stream(String.valueOf(numbers).split(","))
+							.map(n -> String.format("%02d", Integer.parseInt(n.trim())))
+							.collect(Collectors.joining("|"))
+					: null);
+		}
+		return games;
+	}
+
+	private String randomGame() {
+		Set<Integer> picked = new TreeSet<>();
+		while (picked.size() < 6) {
+			picked.add(ThreadLocalRandom.current().nextInt(1, 46));
+		}
+		return picked.stream().map(n -> String.format("%02d", n)).collect(Collectors.joining("|"));
+	}
+
+	private Map<String, String> readForm(HttpExchange exchange) throws IOException {
+		Map<String, String> form = new HashMap<>();
+		String query = exchange.getRequestURI().getRawQuery();
+		String body;
+		try (InputStream in = exchange.getRequestBody()) {
+			body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+		for (String source : new String[]{query, body}) {
+			if (source == null || source.isBlank()) {
+				continue;
+			}
+			for (String pair : source.split("&")) {
+				String[] kv = pair.split("=", 2);
+				form.put(URLDecoder.decode(kv[0], StandardCharsets.UTF_8),
+						kv.length > 1 ? URLDecoder.decode(kv[1], StandardCharsets.UTF_8) : "");
+			}
+		}
+		return form;
+	}
+
+	private void sendPage(HttpExchange exchange, String template, Map<String, String> values) throws IOException {
+		String html = template(template);
+		Map<String, String> all = new HashMap<>(values);
+		all.put("popups", popupsHtml());
+		for (Map.Entry<String, String> entry : all.entrySet()) {
+			html = html.replace("{{" + entry.getKey() + "}}", entry.getValue());
+		}
+		send(exchange, 200, "text/html", html);
+	}
+
+	private String template(String name) {
+		return resource(name);
+	}
+
+	private static String resource(String name) {
+		try (InputStream in = DhlotteryStubServer.class.getResourceAsStream("/stub/dhlottery/" + name)) {
+			if (in == null) {
+				throw new IllegalStateException("템플릿이 없습니다: " + name);
+			}
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void sendJson(HttpExchange exchange, Map<String, ?> body) throws IOException {
+		send(exchange, 200, "application/json", JSON.writeValueAsString(body));
+	}
+
+	private void redirect(HttpExchange exchange, String location) throws IOException {
+		exchange.getResponseHeaders().set("Location", location);
+		exchange.sendResponseHeaders(302, -1);
+	}
+
+	private void send(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", contentType + "; charset=UTF-8");
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	private int parseInt(String value, int defaultValue) {
+		try {
+			return value != null ? Integer.parseInt(value.trim()) : defaultValue;
+		} catch (NumberFormatException e) {
+			return defaultValue;
+		}
+	}
+
+	private void sleep(Duration delay) {
+		if (!delay.isPositive()) {
+			return;
+		}
+		try {
+			Thread.sleep(delay);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
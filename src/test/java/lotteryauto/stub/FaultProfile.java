@@ -0,0 +1,56 @@
+package lotteryauto.stub;
+
+import java.time.Duration;
+import java.util.random.RandomGenerator;
+
+/**
+ * 대체 서버 엔드포인트의 지연/실패 주입 설정
+ *
+ * @param latency       모든 응답에 더할 고정 지연
+ * @param jitter        0 ~ jitter 사이에서 무작위로 더할 지연
+ * @param failureRate   실패 응답을 돌려줄 확률 (0.0 ~ 1.0)
+ * @param failureStatus 실패 시 HTTP 상태 코드
+ */
+public record FaultProfile(Duration latency, Duration jitter, double failureRate, int failureStatus) {
+
+	public static final FaultProfile NONE = new FaultProfile(Duration.ZERO, Duration.ZERO, 0.0, 503);
+
+	public static FaultProfile latency(Duration latency) {
+		return NONE.withLatency(latency);
+	}
+
+	public static FaultProfile failing(double failureRate) {
+		return NONE.withFailureRate(failureRate);
+	}
+
+	public FaultProfile withLatency(Duration newLatency) {
+		return new FaultProfile(newLatency, jitter, failureRate, failureStatus);
+	}
+
+	public FaultProfile withJitter(Duration newJitter) {
+		return new FaultProfile(latency, newJitter, failureRate, failureStatus);
+	}
+
+	public FaultProfile withFailureRate(double newFailureRate) {
+		return new FaultProfile(latency, jitter, newFailureRate, failureStatus);
+	}
+
+	public FaultProfile withFailureStatus(int newFailureStatus) {
+		return new FaultProfile(latency, jitter, failureRate, newFailureStatus);
+	}
+
+	/**
+	 * 이번 요청에 적용할 지연 시간
+	 */
+	Duration delay(RandomGenerator random) {
+		long jitterNanos = jitter.toNanos();
+		return jitterNanos > 0 ? latency.plusNanos(random.nextLong(jitterNanos + 1)) : latency;
+	}
+
+	/**
+	 * 이번 요청을 실패시킬지 여부
+	 */
+	boolean shouldFail(RandomGenerator random) {
+		return failureRate > 0 && random.nextDouble() < failureRate;
+	}
+}
@@ -0,0 +1,78 @@
+package lotteryauto.ticket;
+
+import lotteryauto.config.LotteryAccount;
+import lotteryauto.config.LotteryConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RankEvaluatorTests {
+
+	private static final WinningNumbers DRAW = WinningNumbers.of(1151, new int[] {2, 3, 9, 15, 27, 29}, 8);
+
+	@TempDir
+	Path stateDir;
+
+	@Test
+	void packsNumbersIntoBitmask() {
+		long ticket = Ticket.parse("031118212837");
+
+		assertThat(ticket).isEqualTo(Ticket.of(3, 11, 18, 21, 28, 37));
+		assertThat(Ticket.numbers(ticket)).containsExactly(3, 11, 18, 21, 28, 37);
+		assertThat(Ticket.format(ticket)).isEqualTo("3,11,18,21,28,37");
+		assertThat(Ticket.isValid(ticket)).isTrue();
+		assertThat(Ticket.isValid(ticket | 1L)).isFalse();
+		assertThatThrownBy(() -> Ticket.of(1, 2, 3, 4, 5, 5)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> Ticket.of(1, 2, 3, 4, 5, 46)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void ranksEveryTierAndTalliesInBulk() {
+		long[] tickets = {
+				Ticket.of(2, 3, 9, 15, 27, 29),
+				Ticket.of(2, 3, 9, 15, 27, 8),
+				Ticket.of(2, 3, 9, 15, 27, 45),
+				Ticket.of(2, 3, 9, 15, 44, 45),
+				Ticket.of(2, 3, 9, 8, 44, 45),
+				Ticket.of(2, 3, 8, 43, 44, 45),
+		};
+
+		assertThat(List.of(Rank.FIRST, Rank.SECOND, Rank.THIRD, Rank.FOURTH, Rank.FIFTH, Rank.NONE))
+				.containsExactly(RankEvaluator.rank(tickets[0], DRAW), RankEvaluator.rank(tickets[1], DRAW),
+						RankEvaluator.rank(tickets[2], DRAW), RankEvaluator.rank(tickets[3], DRAW),
+						RankEvaluator.rank(tickets[4], DRAW), RankEvaluator.rank(tickets[5], DRAW));
+
+		long[] counts = new long[Rank.values().length];
+		RankEvaluator.tally(tickets, 0, tickets.length, DRAW, counts);
+		RankEvaluator.tally(tickets, 1, 3, DRAW, counts);
+		assertThat(counts).containsExactly(1, 2, 2, 1, 1, 1);
+	}
+
+	@Test
+	void storedPurchasesAreScoredAgainstTheirRound() {
+		LotteryConfig config = new LotteryConfig();
+		ReflectionTestUtils.setField(config, "stateDir", stateDir.toString());
+		PurchaseRecordStore store = new PurchaseRecordStore(config, JsonMapper.shared());
+		LotteryAccount account = new LotteryAccount("user1", "pw1");
+
+		store.append(account, new PurchasedTickets(1150, List.of(Ticket.of(2, 3, 9, 15, 27, 29))));
+		store.append(account, new PurchasedTickets(1151, List.of(Ticket.of(2, 3, 9, 15, 27, 8), Ticket.of(1, 4, 5, 6, 7, 10))));
+		store.append(account, PurchasedTickets.NONE);
+
+		TicketBook book = store.load();
+		long[] counts = new long[Rank.values().length];
+		book.tally(DRAW, counts);
+
+		assertThat(book.size()).isEqualTo(3);
+		assertThat(counts[Rank.SECOND.ordinal()]).isEqualTo(1);
+		assertThat(counts[Rank.NONE.ordinal()]).isEqualTo(1);
+		assertThat(counts[Rank.FIRST.ordinal()]).isZero();
+	}
+}